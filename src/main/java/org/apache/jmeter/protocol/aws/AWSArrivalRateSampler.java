@@ -0,0 +1,362 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Arrival Rate Sampler class that drives another AWS Sampler with an open workload model: sends are scheduled at a
+ * target arrival rate (constant, step or Poisson) no matter how long AWS takes to reply, each send runs on its own
+ * virtual thread, and latency is measured from the intended start time to avoid coordinated omission.
+ * Every JMeter sample covers a time window and carries as sub-results the sends completed during it.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class AWSArrivalRateSampler extends AWSVirtualThreadSampler {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(AWSArrivalRateSampler.class);
+
+    /**
+     * Arrival model: constant, step or poisson.
+     */
+    private static final String ARRIVAL_MODEL = "arrival_model";
+
+    /**
+     * Constant arrival model, sends evenly spaced.
+     */
+    private static final String ARRIVAL_MODEL_CONSTANT = "constant";
+
+    /**
+     * Step arrival model, rate increased every step duration.
+     */
+    private static final String ARRIVAL_MODEL_STEP = "step";
+
+    /**
+     * Poisson arrival model, exponential inter-arrival times.
+     */
+    private static final String ARRIVAL_MODEL_POISSON = "poisson";
+
+    /**
+     * Target arrival rate, sends per second.
+     */
+    private static final String ARRIVAL_RATE = "arrival_rate";
+
+    /**
+     * Sends per second added every step (step model).
+     */
+    private static final String ARRIVAL_STEP_RATE = "arrival_step_rate";
+
+    /**
+     * Step duration in seconds (step model).
+     */
+    private static final String ARRIVAL_STEP_SECONDS = "arrival_step_seconds";
+
+    /**
+     * Duration of the window covered by each JMeter sample, milliseconds.
+     */
+    private static final String ARRIVAL_WINDOW_MS = "arrival_window_ms";
+
+    /**
+     * Maximum sends in flight, arrivals beyond it are dropped and reported.
+     */
+    private static final String ARRIVAL_MAX_IN_FLIGHT = "arrival_max_in_flight";
+
+    /**
+     * Delay between intended and actual start beyond which a send is reported late, milliseconds.
+     */
+    private static final String ARRIVAL_LATE_MS = "arrival_late_ms";
+
+    /**
+     * Operation name of latency recorded from intended start.
+     */
+    private static final String INTENDED_START = "IntendedStart";
+
+    /**
+     * Set Arrival Rate parameters.
+     */
+    private static final List<Argument> ARRIVAL_PARAMETERS = Stream.of(
+            new Argument(AWS_SAMPLER_CLASS, EMPTY),
+            new Argument(ARRIVAL_MODEL, ARRIVAL_MODEL_CONSTANT),
+            new Argument(ARRIVAL_RATE, "100"),
+            new Argument(ARRIVAL_STEP_RATE, "0"),
+            new Argument(ARRIVAL_STEP_SECONDS, "60"),
+            new Argument(ARRIVAL_WINDOW_MS, "1000"),
+            new Argument(ARRIVAL_MAX_IN_FLIGHT, "10000"),
+            new Argument(ARRIVAL_LATE_MS, "10"))
+            .collect(Collectors.toList());
+
+    /**
+     * Sends completed and not reported yet.
+     */
+    private final Queue<SampleResult> completed = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Label of the JMeter sampler, used to record latency from intended start of sends run on virtual threads.
+     */
+    private volatile String label;
+
+    /**
+     * Sends in flight.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Sends started later than the late threshold, on current window.
+     */
+    private final LongAdder late = new LongAdder();
+
+    /**
+     * Max delay between intended and actual start, on current window, nanoseconds.
+     */
+    private final LongAccumulator maxLag = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Epoch milliseconds matching {@link #originNanos}, to convert intended start to sample timestamps.
+     */
+    private long originMillis;
+
+    /**
+     * Nano time of the first scheduled send.
+     */
+    private long originNanos;
+
+    /**
+     * Intended start of the next send, nano time.
+     */
+    private long nextNanos;
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and Arrival Rate parameters, add the parameters of the driven sampler to the list.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, ARRIVAL_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Maximum sends in flight size the connection pool of the driven sampler.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Maximum concurrent sends.
+     */
+    @Override
+    protected String getMaxConcurrency(JavaSamplerContext context) {
+        return context.getParameter(ARRIVAL_MAX_IN_FLIGHT, "10000");
+    }
+
+    /**
+     * Main method to execute the test on single thread. Dispatch the sends scheduled on the window, without waiting
+     * for replies, and report the sends completed so far.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Sampler: %s \nArrival model: %s \nArrival rate: %s " +
+                        "\nStep rate: %s \nStep sec: %s \nWindow ms: %s",
+                context.getParameter(AWS_SAMPLER_CLASS),
+                context.getParameter(ARRIVAL_MODEL),
+                context.getParameter(ARRIVAL_RATE),
+                context.getParameter(ARRIVAL_STEP_RATE),
+                context.getParameter(ARRIVAL_STEP_SECONDS),
+                context.getParameter(ARRIVAL_WINDOW_MS)));
+
+        if (sampler == null) {
+            sampleResultFail(result, FAIL_CODE, "AWS Sampler not created: " + context.getParameter(AWS_SAMPLER_CLASS));
+            return result;
+        }
+
+        label = getSamplerLabel();
+        long windowEnd = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(context.getLongParameter(ARRIVAL_WINDOW_MS));
+        if (originNanos == 0) {
+            originMillis = System.currentTimeMillis();
+            originNanos = System.nanoTime();
+            nextNanos = originNanos;
+        }
+
+        int maxInFlight = context.getIntParameter(ARRIVAL_MAX_IN_FLIGHT);
+        long lateNanos = TimeUnit.MILLISECONDS.toNanos(context.getLongParameter(ARRIVAL_LATE_MS));
+        long scheduled = 0;
+        long dropped = 0;
+        while (nextNanos < windowEnd && !Thread.currentThread().isInterrupted()) {
+            parkUntil(nextNanos);
+            scheduled++;
+            if (inFlight.get() >= maxInFlight) {
+                dropped++;
+            } else {
+                inFlight.incrementAndGet();
+                long intended = nextNanos;
+                executor.execute(() -> send(context, intended, lateNanos));
+            }
+            nextNanos += interArrivalNanos(context, nextNanos - originNanos);
+        }
+
+        SampleResult sent;
+        long errors = 0;
+        long reported = 0;
+        while ((sent = completed.poll()) != null) {
+            errors += sent.isSuccessful() ? 0 : 1;
+            reported++;
+            result.addRawSubResult(sent);
+        }
+
+        String response = String.format("Scheduled: %d \nDropped: %d \nLate: %d \nMax lag ms: %d \nCompleted: %d " +
+                        "\nErrors: %d \nIn flight: %d",
+                scheduled, dropped, late.sumThenReset(), TimeUnit.NANOSECONDS.toMillis(maxLag.getThenReset()),
+                reported, errors, inFlight.get());
+        if (dropped == 0 && errors == 0) {
+            sampleResultSuccess(result, response);
+        } else {
+            sampleResultFail(result, FAIL_CODE, response);
+        }
+        return result;
+    }
+
+    /**
+     * Wait the sends in flight and log the ones completed after the last sample, then tear down the driven AWS
+     * Sampler.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close Arrival Rate Sampler.");
+        Optional.ofNullable(executor).ifPresent(e -> {
+            e.shutdown();
+            awaitTermination(e);
+        });
+        logLateResults("Sends", completed);
+        Optional.ofNullable(sampler)
+                .ifPresent(s -> s.teardownTest(drivenContext));
+        teardownSampler();
+    }
+
+    /**
+     * Run one send of the driven sampler and restate its times from the intended start.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param intendedNanos
+     *        Intended start, nano time.
+     * @param lateNanos
+     *        Delay beyond which the send is late, nanoseconds.
+     */
+    private void send(JavaSamplerContext context, long intendedNanos, long lateNanos) {
+        try {
+            long lag = System.nanoTime() - intendedNanos;
+            maxLag.accumulate(lag);
+            if (lag > lateNanos) {
+                late.increment();
+            }
+            SampleResult actual = sampler.runTest(context);
+            long intendedMillis = originMillis + TimeUnit.NANOSECONDS.toMillis(intendedNanos - originNanos);
+            SampleResult intended = fromIntendedStart(actual, intendedMillis);
+            long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+            LatencyRecorder.record(label, INTENDED_START, elapsedMicros, intended.isSuccessful());
+            completed.add(intended);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Copy sample result with start time set to the intended start, so elapsed time includes the schedule lag.
+     * @param actual
+     *        Sample result of the driven sampler.
+     * @param intendedMillis
+     *        Intended start, epoch milliseconds.
+     * @return Sample result measured from the intended start.
+     */
+    private SampleResult fromIntendedStart(SampleResult actual, long intendedMillis) {
+        long start = Math.min(intendedMillis, actual.getStartTime());
+        SampleResult result = new SampleResult(start, actual.getEndTime() - start);
+        result.setSampleLabel(actual.getSampleLabel());
+        result.setSuccessful(actual.isSuccessful());
+        result.setResponseCode(actual.getResponseCode());
+        result.setResponseMessage(actual.getResponseMessage());
+        result.setSamplerData(actual.getSamplerData());
+        result.setDataEncoding(actual.getDataEncoding());
+        result.setDataType(actual.getDataType());
+        result.setResponseData(actual.getResponseData());
+        result.setSentBytes(actual.getSentBytes());
+        result.setLatency(actual.getLatency() + actual.getStartTime() - start);
+        return result;
+    }
+
+    /**
+     * Time until the next send for the arrival model and the current rate.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param elapsedNanos
+     *        Time since the first scheduled send, nanoseconds.
+     * @return Inter-arrival time, nanoseconds.
+     */
+    private long interArrivalNanos(JavaSamplerContext context, long elapsedNanos) {
+        String model = context.getParameter(ARRIVAL_MODEL, ARRIVAL_MODEL_CONSTANT);
+        double rate = Double.parseDouble(context.getParameter(ARRIVAL_RATE));
+        if (ARRIVAL_MODEL_STEP.equalsIgnoreCase(model)) {
+            long steps = elapsedNanos / TimeUnit.SECONDS.toNanos(Math.max(1, context.getLongParameter(ARRIVAL_STEP_SECONDS)));
+            rate += steps * Double.parseDouble(context.getParameter(ARRIVAL_STEP_RATE));
+        }
+        double meanNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(rate, Double.MIN_NORMAL);
+        if (ARRIVAL_MODEL_POISSON.equalsIgnoreCase(model)) {
+            return Math.max(1, (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanNanos));
+        }
+        return Math.max(1, (long) meanNanos);
+    }
+
+    /**
+     * Park the dispatcher until the deadline.
+     * @param deadlineNanos
+     *        Deadline, nano time.
+     */
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Wait the executor tasks to finish.
+     * @param executor
+     *        Executor shut down.
+     */
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -117,6 +117,32 @@ public interface AWSClient {
                 .isPresent();
     }
 
+    /**
+     * Get session name of the assumed role from input of JMeter Java Request parameter.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return Role session name, <code>awsmeter</code> when empty.
+     */
+    default String getRoleSessionName(Map<String, String> credentials) {
+        return Optional.ofNullable(credentials.get(AWSSampler.AWS_ROLE_SESSION_NAME))
+                .filter(Predicate.not(String::isEmpty))
+                .orElse(AWSSampler.AWS_DEFAULT_ROLE_SESSION_NAME);
+    }
+
+    /**
+     * Key of the assumed role credentials, so clients of the same role, region and source credentials share them.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return Role, session name, region, access key, profile and endpoint.
+     */
+    default String getAssumeRoleKey(Map<String, String> credentials) {
+        return String.join("|", credentials.get(AWSSampler.AWS_ROLE_ARN), getRoleSessionName(credentials),
+                getAWSRegion(credentials),
+                String.valueOf(credentials.get(AWSSampler.AWS_ACCESS_KEY_ID)),
+                String.valueOf(credentials.get(AWSSampler.AWS_CONFIG_PROFILE)),
+                String.valueOf(credentials.get(AWSSampler.AWS_ENDPOINT_CUSTOM)));
+    }
+
     /**
      * Get custom AWS endpoint from input of JMeter Java Request parameter.
      * @param credentials
@@ -1,15 +1,25 @@
 package org.apache.jmeter.protocol.aws;
 
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.auth.AWS4Signer;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicSessionCredentials;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.auth.STSAssumeRoleSessionCredentialsProvider;
 import com.amazonaws.auth.profile.ProfileCredentialsProvider;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.client.builder.AwsSyncClientBuilder;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.services.securitytoken.AWSSecurityTokenService;
+import com.amazonaws.services.securitytoken.AWSSecurityTokenServiceClientBuilder;
 
+import java.net.URI;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
@@ -28,13 +38,34 @@ public interface AWSClientSDK1 extends AWSClient{
      */
     AwsSyncClientBuilder createAWSClient(Map<String, String> credentials);
 
+    /**
+     * Assume role credentials providers shared by all clients, by role, session, region and source credentials.
+     */
+    Map<String, AWSCredentialsProvider> ASSUMED_ROLES = new ConcurrentHashMap<>();
+
+    /**
+     * Build AWS Credential Provider with Session Credential, Static Credential, or Default Credential Chain, assuming
+     * the role of <code>aws_role_arn</code> with them when set.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return AWSCredentialsProvider result of create Basic Session Credentials, Basic Credentials, Default Credentials
+     * or Assume Role Credentials.
+     */
+    default AWSCredentialsProvider getAWSCredentialsProvider(Map<String, String> credentials){
+        if (isParameterPresent(credentials, AWSSampler.AWS_ROLE_ARN)) {
+            return ASSUMED_ROLES.computeIfAbsent(getAssumeRoleKey(credentials),
+                    k -> buildAssumeRoleCredentialsProvider(credentials, getSourceCredentialsProvider(credentials)));
+        }
+        return getSourceCredentialsProvider(credentials);
+    }
+
     /**
      * Build AWS Credential Provider with Session Credential, Static Credential, or Default Credential Chain.
      * @param credentials
      *        Represents the input of JMeter Java Request parameters.
      * @return AWSCredentialsProvider result of create Basic Session Credentials, Basic Credentials, or Default Credentials.
      */
-    default AWSCredentialsProvider getAWSCredentialsProvider(Map<String, String> credentials){
+    default AWSCredentialsProvider getSourceCredentialsProvider(Map<String, String> credentials){
         
         // If explicit credentials are provided, use static credentials
         if (hasExplicitCredentials(credentials)) {
@@ -56,6 +87,28 @@ public interface AWSClientSDK1 extends AWSClient{
         return DefaultAWSCredentialsProviderChain.getInstance();
     }
 
+    /**
+     * Build Assume Role Session Credentials Provider, calling STS of the region with the source credentials and
+     * caching the role credentials until they are about to expire.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @param source
+     *        Credentials provider used to call STS.
+     * @return STSAssumeRoleSessionCredentialsProvider of <code>aws_role_arn</code>.
+     */
+    default AWSCredentialsProvider buildAssumeRoleCredentialsProvider(Map<String, String> credentials,
+                                                                      AWSCredentialsProvider source) {
+        String region = getAWSRegion(credentials);
+        return new STSAssumeRoleSessionCredentialsProvider.Builder(credentials.get(AWSSampler.AWS_ROLE_ARN),
+                getRoleSessionName(credentials))
+                .withStsClient(AWSSecurityTokenServiceClientBuilder.standard()
+                        .withEndpointConfiguration(new EndpointConfiguration(
+                                getAWSEndpoint(credentials, AWSSecurityTokenService.ENDPOINT_PREFIX, region), region))
+                        .withCredentials(source)
+                        .build())
+                .build();
+    }
+
     /**
      * Creates an AWS credentials provider using explicit credentials (access key and secret key).
      * If a session token is provided, creates session credentials; otherwise, creates basic credentials.
@@ -99,4 +152,38 @@ public interface AWSClientSDK1 extends AWSClient{
                 credentials.get(AWSSampler.AWS_SECRET_ACCESS_KEY)));
     }
 
+    /**
+     * Resolve the credentials and sign a dummy request of the service, so the first request doesn't pay credential
+     * resolution and signer class loading.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @param service
+     *        Service signing name.
+     */
+    default void warmUpCredentials(Map<String, String> credentials, String service) {
+        String region = getAWSRegion(credentials);
+        DefaultRequest<Void> request = new DefaultRequest<>(service);
+        request.setHttpMethod(HttpMethodName.GET);
+        request.setEndpoint(URI.create(getAWSEndpoint(credentials, service, region)));
+        AWS4Signer signer = new AWS4Signer();
+        signer.setServiceName(service);
+        signer.setRegionName(region);
+        signer.sign(request, getAWSCredentialsProvider(credentials).getCredentials());
+    }
+
+    /**
+     * Build Client Configuration with the connection pool sized by <code>aws_max_connections</code> parameter.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return ClientConfiguration to set on the AWS client builder.
+     */
+    default ClientConfiguration getClientConfiguration(Map<String, String> credentials){
+        ClientConfiguration configuration = new ClientConfiguration();
+        Optional.ofNullable(credentials.get(AWSSampler.AWS_MAX_CONNECTIONS))
+                .filter(Predicate.not(String::isEmpty))
+                .map(Integer::valueOf)
+                .ifPresent(configuration::setMaxConnections);
+        return configuration;
+    }
+
 }
@@ -0,0 +1,196 @@
+package org.apache.jmeter.protocol.aws;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.ProfileCredentialsProvider;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.auth.StsAssumeRoleCredentialsProvider;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Interface segregation with the credentials and HTTP client of AWS SDK2, for samplers that sign their own requests
+ * without an SDK client.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public interface AWSCredentialsSDK2 extends AWSClient{
+
+    /**
+     * Assume role credentials providers shared by all clients, by role, session, region and source credentials.
+     */
+    Map<String, AwsCredentialsProvider> ASSUMED_ROLES = new ConcurrentHashMap<>();
+
+    /**
+     * Build AWS Credential Provider with Session Credential, Static Credential, or Default Credential Chain, assuming
+     * the role of <code>aws_role_arn</code> with them when set.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return AWSCredentialsProvider result of create Basic Session Credentials, Basic Credentials, Default Credentials
+     * or Assume Role Credentials.
+     */
+    default AwsCredentialsProvider getAwsCredentialsProvider(Map<String, String> credentials){
+        if (isParameterPresent(credentials, AWSSampler.AWS_ROLE_ARN)) {
+            return ASSUMED_ROLES.computeIfAbsent(getAssumeRoleKey(credentials),
+                    k -> buildAssumeRoleCredentialsProvider(credentials, getSourceCredentialsProvider(credentials)));
+        }
+        return getSourceCredentialsProvider(credentials);
+    }
+
+    /**
+     * Build AWS Credential Provider with Session Credential, Static Credential, or Default Credential Chain.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return AWSCredentialsProvider result of create Basic Session Credentials, Basic Credentials, or Default Credentials.
+     */
+    default AwsCredentialsProvider getSourceCredentialsProvider(Map<String, String> credentials){
+        
+        // If explicit credentials are provided, use static credentials
+        if (hasExplicitCredentials(credentials)) {
+            return buildStaticCredentialsProvider(credentials);
+        }
+        
+        // If a specific profile is configured, use ProfileCredentialsProvider
+        if (hasSpecificProfile(credentials)) {
+            return buildProfileCredentialsProvider(credentials);
+        }
+        
+        // Otherwise, use the default credential provider chain
+        return DefaultCredentialsProvider.create();
+    }
+
+    /**
+     * Build Assume Role Credentials Provider, calling STS of the region with the source credentials and caching the
+     * role credentials until they are about to expire.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @param source
+     *        Credentials provider used to call STS.
+     * @return StsAssumeRoleCredentialsProvider of <code>aws_role_arn</code>.
+     */
+    default AwsCredentialsProvider buildAssumeRoleCredentialsProvider(Map<String, String> credentials,
+                                                                      AwsCredentialsProvider source) {
+        String region = getAWSRegion(credentials);
+        StsClient stsClient = StsClient.builder()
+                .endpointOverride(URI.create(getAWSEndpoint(credentials, StsClient.SERVICE_NAME, region)))
+                .region(Region.of(region))
+                .credentialsProvider(source)
+                .httpClientBuilder(ApacheHttpClient.builder())
+                .build();
+        return StsAssumeRoleCredentialsProvider.builder()
+                .stsClient(stsClient)
+                .refreshRequest(AssumeRoleRequest.builder()
+                        .roleArn(credentials.get(AWSSampler.AWS_ROLE_ARN))
+                        .roleSessionName(getRoleSessionName(credentials))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Build static credentials provider, choosing between session credentials and basic credentials
+     * based on the presence of a session token.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return StaticCredentialsProvider with session or basic credentials.
+     */
+    default AwsCredentialsProvider buildStaticCredentialsProvider(Map<String, String> credentials) {
+        return Optional.ofNullable(credentials.get(AWSSampler.AWS_SESSION_TOKEN))
+                .filter(Predicate.not(String::isEmpty))
+                .map(sessionToken -> buildAWSSessionCredentials(credentials, sessionToken))
+                .orElse(buildAWSBasicCredentials(credentials));
+    }
+
+    /**
+     * Build AWS Profile Credentials Provider using the specified profile name.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return ProfileCredentialsProvider configured with the specified profile name.
+     */
+    default ProfileCredentialsProvider buildProfileCredentialsProvider(Map<String, String> credentials) {
+        String profileName = credentials.get(AWSSampler.AWS_CONFIG_PROFILE);
+        return ProfileCredentialsProvider.builder()
+                .profileName(profileName)
+                .build();
+    }
+
+    /**
+     * Build AWS Session Credential Provider object with access key, secret access key and session token.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @param sessionToken
+     *        Security token when use MFA to protect programmatic calls.
+     * @return AWSCredentialsProvider object created with access key, secret access key and session token.
+     */
+    default StaticCredentialsProvider buildAWSSessionCredentials(Map<String, String> credentials, String sessionToken){
+
+        return StaticCredentialsProvider.create(AwsSessionCredentials.create(
+                credentials.get(AWSSampler.AWS_ACCESS_KEY_ID),
+                credentials.get(AWSSampler.AWS_SECRET_ACCESS_KEY),
+                sessionToken));
+    }
+
+    /**
+     * Build AWS Static Credential Provider object with access key and secret access key.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return AWSCredentialsProvider object created with access key, secret access key
+     */
+    default StaticCredentialsProvider buildAWSBasicCredentials(Map<String, String> credentials){
+
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(
+                credentials.get(AWSSampler.AWS_ACCESS_KEY_ID),
+                credentials.get(AWSSampler.AWS_SECRET_ACCESS_KEY)));
+    }
+
+    /**
+     * Resolve the credentials and sign a dummy request of the service, so the first request doesn't pay credential
+     * resolution and signer class loading.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @param service
+     *        Service signing name.
+     */
+    default void warmUpCredentials(Map<String, String> credentials, String service) {
+        String region = getAWSRegion(credentials);
+        Aws4Signer.create().sign(SdkHttpFullRequest.builder()
+                        .method(SdkHttpMethod.GET)
+                        .uri(URI.create(getAWSEndpoint(credentials, service, region)))
+                        .build(),
+                Aws4SignerParams.builder()
+                        .awsCredentials(getAwsCredentialsProvider(credentials).resolveCredentials())
+                        .signingName(service)
+                        .signingRegion(Region.of(region))
+                        .build());
+    }
+
+    /**
+     * Build Apache HTTP Client with the connection pool sized by <code>aws_max_connections</code> parameter.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return ApacheHttpClient.Builder to set on the AWS client builder.
+     */
+    default ApacheHttpClient.Builder getHttpClientBuilder(Map<String, String> credentials) {
+        ApacheHttpClient.Builder builder = ApacheHttpClient.builder();
+        Optional.ofNullable(credentials.get(AWSSampler.AWS_MAX_CONNECTIONS))
+                .filter(Predicate.not(String::isEmpty))
+                .map(Integer::valueOf)
+                .ifPresent(builder::maxConnections);
+        return builder;
+    }
+
+}
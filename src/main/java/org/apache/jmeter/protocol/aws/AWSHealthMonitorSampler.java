@@ -0,0 +1,319 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.kinesis.KinesisClient;
+import software.amazon.awssdk.services.kinesis.model.StreamDescriptionSummary;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Health Monitor Sampler class to watch the backlog of a SQS queue or Kinesis stream during a test, from one thread of
+ * any Thread Group. Polls run on the single scheduler thread of {@link HealthMonitor}, not on JMeter threads: each
+ * sample waits for the next snapshot and carries one sub-sample per metric, labeled <code>target metric</code>, whose
+ * elapsed time is the metric value, so listeners and backend listeners plot backlog next to producer throughput.
+ * SQS queues are polled with <code>GetQueueAttributes</code> and Kinesis streams with
+ * <code>DescribeStreamSummary</code>; the age of the oldest message or record received by the consumer samplers of the
+ * injector is added to the snapshot.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class AWSHealthMonitorSampler extends AWSSampler implements AWSClientSDK2 {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(AWSHealthMonitorSampler.class);
+
+    /**
+     * Service of the target, sqs or kinesis.
+     */
+    private static final String MONITOR_SERVICE = "monitor_service";
+
+    /**
+     * Queue or stream name.
+     */
+    private static final String MONITOR_TARGET = "monitor_target";
+
+    /**
+     * Poll interval, seconds.
+     */
+    private static final String MONITOR_INTERVAL_SECONDS = "monitor_interval_seconds";
+
+    /**
+     * Age of the oldest message received by SQS consumers since the last poll.
+     */
+    private static final String OLDEST_RECEIVED_AGE = "AgeOfOldestReceivedMessageMs";
+
+    /**
+     * Age of the last record read by Kinesis consumers behind the tip of the stream since the last poll.
+     */
+    private static final String ITERATOR_AGE = "IteratorAgeMilliseconds";
+
+    /**
+     * Queue attributes polled.
+     */
+    private static final List<QueueAttributeName> QUEUE_ATTRIBUTES = List.of(
+            QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES,
+            QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE,
+            QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_DELAYED);
+
+    /**
+     * List of Arguments to Health Monitor.
+     */
+    private static final List<Argument> MONITOR_PARAMETERS = Stream.of(
+            new Argument(MONITOR_SERVICE, HealthMonitor.SQS),
+            new Argument(MONITOR_TARGET, EMPTY),
+            new Argument(MONITOR_INTERVAL_SECONDS, "10"))
+            .collect(Collectors.toList());
+
+    /**
+     * Target key watched, null when the watch couldn't start.
+     */
+    private String target;
+
+    /**
+     * Poll interval, seconds.
+     */
+    private long interval;
+
+    /**
+     * Sequence of the last snapshot sampled.
+     */
+    private long lastSequence;
+
+    /**
+     * Create AWS SQS or Kinesis Client, by <code>monitor_service</code>.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return SqsClient or KinesisClient, extend SdkClient super class.
+     */
+    @Override
+    public SdkClient createSdkClient(Map<String, String> credentials) {
+
+        String region = getAWSRegion(credentials);
+        if (HealthMonitor.KINESIS.equalsIgnoreCase(credentials.get(MONITOR_SERVICE))) {
+            return KinesisClient.builder()
+                    .endpointOverride(URI.create(getAWSEndpoint(credentials, KinesisClient.SERVICE_NAME, region)))
+                    .region(Region.of(region))
+                    .credentialsProvider(getAwsCredentialsProvider(credentials))
+                    .httpClientBuilder(getHttpClientBuilder(credentials))
+                    .build();
+        }
+        return SqsClient.builder()
+                .endpointOverride(URI.create(getAWSEndpoint(credentials, SqsClient.SERVICE_NAME, region)))
+                .region(Region.of(region))
+                .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
+                .build();
+    }
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and Health Monitor parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, MONITOR_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Read test parameters and watch the target. The AWS client is only created by the first sampler watching it.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+
+        log.info("Setup Health Monitor Sampler.");
+        Map<String, String> credentials = new HashMap<>();
+
+        context.getParameterNamesIterator().forEachRemaining( k -> {
+            credentials.put(k, context.getParameter(k));
+            log.info("Parameter: " + k + ", value: " + credentials.get(k));
+        });
+
+        String service = context.getParameter(MONITOR_SERVICE, HealthMonitor.SQS).trim().toLowerCase();
+        String name = context.getParameter(MONITOR_TARGET, EMPTY).trim();
+        interval = Math.max(1, context.getLongParameter(MONITOR_INTERVAL_SECONDS, 10));
+        if (name.isEmpty() || !(HealthMonitor.SQS.equals(service) || HealthMonitor.KINESIS.equals(service))) {
+            log.error("Health monitor needs monitor_service sqs or kinesis and monitor_target, got {} {}",
+                    service, name);
+            return;
+        }
+
+        String key = HealthMonitor.target(service, name);
+        try {
+            HealthMonitor.watch(key, interval, () -> {
+                log.info("Create Health Monitor client.");
+                SdkClient client = createSdkClient(credentials);
+                return new HealthMonitor.Probe(client, HealthMonitor.KINESIS.equals(service)
+                        ? () -> pollStream((KinesisClient) client, name, key)
+                        : () -> pollQueue((SqsClient) client, name, key));
+            });
+            target = key;
+        } catch (SdkException e) {
+            log.error("Unable to watch " + key, e);
+        }
+    }
+
+    /**
+     * Main method to execute the test on single thread. Wait for the next snapshot of the target and publish its
+     * metrics as sub-samples.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Service: %s \nTarget: %s \nInterval sec: %d",
+                context.getParameter(MONITOR_SERVICE),
+                context.getParameter(MONITOR_TARGET),
+                interval));
+
+        if (target == null) {
+            sampleResultFail(result, FAIL_CODE, "Health monitor not started, see jmeter.log.");
+            return result;
+        }
+
+        HealthMonitor.Snapshot snapshot;
+        try {
+            snapshot = HealthMonitor.await(target, lastSequence, interval * 2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sampleResultFail(result, FAIL_CODE, "Interrupted waiting for snapshot of " + target);
+            return result;
+        }
+        if (snapshot == null) {
+            sampleResultFail(result, FAIL_CODE, "No snapshot of " + target + " in " + interval * 2 + " s.");
+            return result;
+        }
+        lastSequence = snapshot.getSequence();
+
+        snapshot.getMetrics().forEach((name, value) -> result.addSubResult(newMetricResult(snapshot, name, value)));
+        if (snapshot.getError() == null) {
+            sampleResultSuccess(result, snapshot.toString());
+        } else {
+            sampleResultFail(result, FAIL_CODE, snapshot.toString());
+        }
+        return result;
+    }
+
+    /**
+     * Stop watching the target after run single thread; the last sampler closes the client.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close Health Monitor.");
+        if (target != null) {
+            HealthMonitor.unwatch(target);
+        }
+        teardownSampler();
+    }
+
+    /**
+     * Create the sub-sample of a metric, elapsed time is the value.
+     * @param snapshot
+     *        Snapshot of the metric.
+     * @param name
+     *        Metric name.
+     * @param value
+     *        Metric value.
+     * @return SampleResult of the metric.
+     */
+    private SampleResult newMetricResult(HealthMonitor.Snapshot snapshot, String name, long value) {
+        SampleResult metric = new SampleResult(snapshot.getTime(), Math.max(0, value));
+        metric.setSampleLabel(target + " " + name);
+        metric.setDataEncoding(ENCODING);
+        metric.setDataType(SampleResult.TEXT);
+        metric.setSuccessful(true);
+        metric.setResponseCodeOK();
+        metric.setResponseData(String.valueOf(value), ENCODING);
+        return metric;
+    }
+
+    /**
+     * Poll the queue attributes.
+     * @param client
+     *        SQS client.
+     * @param queueName
+     *        Queue name.
+     * @param key
+     *        Target key.
+     * @return Snapshot of the queue.
+     */
+    private static HealthMonitor.Snapshot pollQueue(SqsClient client, String queueName, String key) {
+        String queueUrl = client.getQueueUrl(r -> r.queueName(queueName)).queueUrl();
+        Map<QueueAttributeName, String> attributes = client.getQueueAttributes(r -> r
+                        .queueUrl(queueUrl)
+                        .attributeNames(QUEUE_ATTRIBUTES))
+                .attributes();
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        QUEUE_ATTRIBUTES.forEach(attribute -> metrics.put(attribute.toString(),
+                Long.parseLong(attributes.getOrDefault(attribute, "0"))));
+        putAge(metrics, OLDEST_RECEIVED_AGE, key);
+        return new HealthMonitor.Snapshot("ACTIVE", metrics);
+    }
+
+    /**
+     * Poll the stream summary.
+     * @param client
+     *        Kinesis client.
+     * @param streamName
+     *        Stream name.
+     * @param key
+     *        Target key.
+     * @return Snapshot of the stream.
+     */
+    private static HealthMonitor.Snapshot pollStream(KinesisClient client, String streamName, String key) {
+        StreamDescriptionSummary summary = client.describeStreamSummary(r -> r.streamName(streamName))
+                .streamDescriptionSummary();
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("OpenShardCount", summary.openShardCount().longValue());
+        metrics.put("ConsumerCount", summary.consumerCount() == null ? 0 : summary.consumerCount().longValue());
+        metrics.put("RetentionPeriodHours", summary.retentionPeriodHours().longValue());
+        putAge(metrics, ITERATOR_AGE, key);
+        return new HealthMonitor.Snapshot(summary.streamStatusAsString(), metrics);
+    }
+
+    /**
+     * Add the age received by the consumers of the injector, when they received any.
+     * @param metrics
+     *        Metrics of the snapshot.
+     * @param name
+     *        Metric name.
+     * @param key
+     *        Target key.
+     */
+    private static void putAge(Map<String, Long> metrics, String name, String key) {
+        long age = HealthMonitor.takeAge(key);
+        if (age != HealthMonitor.NO_AGE) {
+            metrics.put(name, age);
+        }
+    }
+}
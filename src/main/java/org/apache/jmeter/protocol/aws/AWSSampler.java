@@ -4,11 +4,30 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSampler;
 import org.apache.jmeter.protocol.java.sampler.JavaSamplerClient;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
 import org.apache.jmeter.samplers.SampleResult;
+import org.apache.jmeter.samplers.Sampler;
+import org.apache.jmeter.testelement.property.FunctionProperty;
+import org.apache.jmeter.threads.JMeterContextService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -21,6 +40,10 @@ import java.util.stream.Stream;
  */
 public abstract class AWSSampler implements JavaSamplerClient{
 
+    /**
+     * Log attribute.
+     */
+    private static final Logger log = LoggerFactory.getLogger(AWSSampler.class);
 
     /**
      * IAM user with programmatic access, access key id.
@@ -62,6 +85,34 @@ public abstract class AWSSampler implements JavaSamplerClient{
      */
     protected static final String AWS_ENDPOINT_CUSTOM = "aws_endpoint_custom";
 
+    /**
+     * Maximum number of pooled HTTP connections of the AWS client, empty uses the SDK default.
+     */
+    protected static final String AWS_MAX_CONNECTIONS = "aws_max_connections";
+
+    /**
+     * IAM role to assume through STS with the credentials above, e.g. to access other account. Empty uses the
+     * credentials as they are.
+     */
+    protected static final String AWS_ROLE_ARN = "aws_role_arn";
+
+    /**
+     * Session name of the assumed role, shown on CloudTrail.
+     */
+    protected static final String AWS_ROLE_SESSION_NAME = "aws_role_session_name";
+
+    /**
+     * Default session name of the assumed role.
+     */
+    protected static final String AWS_DEFAULT_ROLE_SESSION_NAME = "awsmeter";
+
+    /**
+     * Regions of multi-region mode, with optional role to assume and weight, e.g.
+     * <code>us-east-1=3,eu-west-1@arn:aws:iam::123456789012:role/load</code>. Overrides <code>aws_region</code>
+     * when not empty.
+     */
+    protected static final String AWS_REGIONS = "aws_regions";
+
     /**
      * Fail code.
      */
@@ -116,9 +167,251 @@ public abstract class AWSSampler implements JavaSamplerClient{
             new Argument(AWS_SESSION_TOKEN, EMPTY),
             new Argument(AWS_REGION, EMPTY),
             new Argument(AWS_ENDPOINT_CUSTOM, EMPTY),
-            new Argument(AWS_CONFIG_PROFILE, AWS_DEFAULT_PROFILE))
+            new Argument(AWS_CONFIG_PROFILE, AWS_DEFAULT_PROFILE),
+            new Argument(AWS_MAX_CONNECTIONS, EMPTY),
+            new Argument(AWS_ROLE_ARN, EMPTY),
+            new Argument(AWS_ROLE_SESSION_NAME, AWS_DEFAULT_ROLE_SESSION_NAME))
+            .collect(Collectors.toList());
+
+    /**
+     * Payload corpus file or directory, memory-mapped and sent as binary payload.
+     */
+    protected static final String PAYLOAD_FILE = "payload_file";
+
+    /**
+     * Payload corpus records delimiter, empty for one record per file.
+     */
+    protected static final String PAYLOAD_DELIMITER = "payload_delimiter";
+
+    /**
+     * Payload corpus default records delimiter, new line.
+     */
+    protected static final String PAYLOAD_DEFAULT_DELIMITER = "\\n";
+
+    /**
+     * Payload corpus fixed record size in bytes, 0 to split by delimiter.
+     */
+    protected static final String PAYLOAD_RECORD_SIZE = "payload_record_size";
+
+    /**
+     * Payload corpus read order, sequential or random.
+     */
+    protected static final String PAYLOAD_ORDER = "payload_order";
+
+    /**
+     * Payload corpus random read order.
+     */
+    protected static final String PAYLOAD_ORDER_RANDOM = "random";
+
+    /**
+     * Name of the Binary message attribute that carries the payload corpus record, SQS and SNS.
+     */
+    protected static final String PAYLOAD_ATTRIBUTE = "payload_attribute";
+
+    /**
+     * Default name of the Binary message attribute that carries the payload corpus record.
+     */
+    protected static final String PAYLOAD_DEFAULT_ATTRIBUTE = "payload";
+
+    /**
+     * Set Payload corpus parameters.
+     */
+    protected static final List<Argument> PAYLOAD_PARAMETERS = Stream.of(
+            new Argument(PAYLOAD_FILE, EMPTY),
+            new Argument(PAYLOAD_DELIMITER, PAYLOAD_DEFAULT_DELIMITER),
+            new Argument(PAYLOAD_RECORD_SIZE, "0"),
+            new Argument(PAYLOAD_ORDER, "sequential"))
+            .collect(Collectors.toList());
+
+    /**
+     * Set Payload corpus parameters of messages, the record is sent as Binary message attribute.
+     */
+    protected static final List<Argument> MSG_PAYLOAD_PARAMETERS = Stream.concat(PAYLOAD_PARAMETERS.stream(),
+            Stream.of(new Argument(PAYLOAD_ATTRIBUTE, PAYLOAD_DEFAULT_ATTRIBUTE)))
             .collect(Collectors.toList());
 
+    /**
+     * Payload compression: none, gzip, zstd or lz4.
+     */
+    protected static final String COMPRESSION = "compression";
+
+    /**
+     * Payload compression level, -1 for codec default.
+     */
+    protected static final String COMPRESSION_LEVEL = "compression_level";
+
+    /**
+     * Set Payload compression parameters.
+     */
+    protected static final List<Argument> COMPRESSION_PARAMETERS = Stream.of(
+            new Argument(COMPRESSION, PayloadCompression.NONE),
+            new Argument(COMPRESSION_LEVEL, String.valueOf(PayloadCompression.DEFAULT_LEVEL)))
+            .collect(Collectors.toList());
+
+    /**
+     * S3 bucket of message bodies offloaded by SQS and SNS producers, empty to disable offload.
+     */
+    protected static final String OFFLOAD_BUCKET = "s3_offload_bucket";
+
+    /**
+     * Prefix of offloaded object keys.
+     */
+    protected static final String OFFLOAD_KEY_PREFIX = "s3_offload_key_prefix";
+
+    /**
+     * Message bodies bigger than threshold bytes are offloaded.
+     */
+    protected static final String OFFLOAD_THRESHOLD = "s3_offload_threshold";
+
+    /**
+     * Default offload threshold, max SQS and SNS message size.
+     */
+    protected static final String OFFLOAD_DEFAULT_THRESHOLD = "262144";
+
+    /**
+     * Part size of multipart uploads, at least 5 MB.
+     */
+    protected static final String OFFLOAD_PART_SIZE = "s3_offload_part_size";
+
+    /**
+     * Default part size of multipart uploads, 8 MB.
+     */
+    protected static final String OFFLOAD_DEFAULT_PART_SIZE = "8388608";
+
+    /**
+     * Custom S3 endpoint, <code>aws_endpoint_custom</code> is used when empty.
+     */
+    protected static final String S3_ENDPOINT_CUSTOM = "s3_endpoint_custom";
+
+    /**
+     * Set Payload offload parameters.
+     */
+    protected static final List<Argument> OFFLOAD_PARAMETERS = Stream.of(
+            new Argument(OFFLOAD_BUCKET, EMPTY),
+            new Argument(OFFLOAD_KEY_PREFIX, EMPTY),
+            new Argument(OFFLOAD_THRESHOLD, OFFLOAD_DEFAULT_THRESHOLD),
+            new Argument(OFFLOAD_PART_SIZE, OFFLOAD_DEFAULT_PART_SIZE),
+            new Argument(S3_ENDPOINT_CUSTOM, EMPTY))
+            .collect(Collectors.toList());
+
+    /**
+     * Targets of multi-target mode, with optional weights and range patterns, e.g.
+     * <code>orders-{1..200},audit=5</code>. Overrides the queue, topic, stream or event bus parameter when not empty.
+     */
+    protected static final String TARGETS = "targets";
+
+    /**
+     * Distribution of sends over the targets: weight, hash or round_robin.
+     */
+    protected static final String TARGET_DISTRIBUTION = "target_distribution";
+
+    /**
+     * Set Multi-target parameters.
+     */
+    protected static final List<Argument> TARGET_PARAMETERS = Stream.of(
+            new Argument(TARGETS, EMPTY),
+            new Argument(TARGET_DISTRIBUTION, MultiTarget.WEIGHT))
+            .collect(Collectors.toList());
+
+    /**
+     * Set Multi-region parameters.
+     */
+    protected static final List<Argument> REGION_PARAMETERS = Stream.of(
+            new Argument(AWS_REGIONS, EMPTY))
+            .collect(Collectors.toList());
+
+    /**
+     * Successful samples aggregated into one result per thread, 0 or 1 to emit every sample.
+     */
+    protected static final String AGGREGATE_SAMPLES = "aggregate_samples";
+
+    /**
+     * Time window in milliseconds of successful samples aggregated into one result per thread, 0 for no window.
+     */
+    protected static final String AGGREGATE_WINDOW_MS = "aggregate_window_ms";
+
+    /**
+     * Set Sample aggregation parameters.
+     */
+    protected static final List<Argument> AGGREGATION_PARAMETERS = Stream.of(
+            new Argument(AGGREGATE_SAMPLES, "0"),
+            new Argument(AGGREGATE_WINDOW_MS, "0"))
+            .collect(Collectors.toList());
+
+    /**
+     * Connections opened per client on setup, 0 for no warm-up.
+     */
+    protected static final String WARMUP_CONNECTIONS = "warmup_connections";
+
+    /**
+     * First samples of each thread excluded from the results.
+     */
+    protected static final String WARMUP_SAMPLES = "warmup_samples";
+
+    /**
+     * Set Warm-up parameters.
+     */
+    protected static final List<Argument> WARMUP_PARAMETERS = Stream.of(
+            new Argument(WARMUP_CONNECTIONS, "0"),
+            new Argument(WARMUP_SAMPLES, "0"))
+            .collect(Collectors.toList());
+
+    /**
+     * Message attribute of the sequence stamp of producers, empty for no stamp.
+     */
+    protected static final String STAMP_ATTRIBUTE = "stamp_attribute";
+
+    /**
+     * Node id of the sequence stamp, host name and process id when empty.
+     */
+    protected static final String STAMP_NODE_ID = "stamp_node_id";
+
+    /**
+     * Set Message stamp parameters.
+     */
+    protected static final List<Argument> STAMP_PARAMETERS = Stream.of(
+            new Argument(STAMP_ATTRIBUTE, EMPTY),
+            new Argument(STAMP_NODE_ID, EMPTY))
+            .collect(Collectors.toList());
+
+    /**
+     * Message attribute, or Kinesis data record prefix, of the per-key sequence stamp of producers, empty for no
+     * stamp.
+     */
+    protected static final String ORDER_ATTRIBUTE = "order_attribute";
+
+    /**
+     * Set Order stamp parameters.
+     */
+    protected static final List<Argument> ORDER_PARAMETERS = Stream.of(
+            new Argument(ORDER_ATTRIBUTE, EMPTY))
+            .collect(Collectors.toList());
+
+    /**
+     * Sample aggregator of successful samples, null when aggregation is disabled.
+     */
+    protected SampleAggregator sampleAggregator;
+
+    /**
+     * Warm-up of clients on setup and of the first samples, null when disabled.
+     */
+    protected WarmUp warmUp;
+
+    /**
+     * Parameters with constant value, no JMeter functions or variables, empty when unknown.
+     */
+    protected Set<String> constantParameters = Set.of();
+
+    /**
+     * Sample started by the thread and its nano time, to record latency in microseconds.
+     */
+    private static final ThreadLocal<SampleStart> SAMPLE_START = ThreadLocal.withInitial(SampleStart::new);
+
+    /**
+     * Whether the sampler opened the latency recording.
+     */
+    private final AtomicBoolean latencyOpen = new AtomicBoolean();
+
     /**
      * Create new SampleResult.
      * @return SampleResult, captures data such as whether the test was successful,
@@ -140,15 +433,45 @@ public abstract class AWSSampler implements JavaSamplerClient{
      */
     protected void sampleResultStart(SampleResult result, String data){
         result.setSamplerData(data);
+        SampleStart start = SAMPLE_START.get();
+        start.result = result;
+        start.nanos = System.nanoTime();
+        start.pausedNanos = 0;
         result.sampleStart();
     }
 
+    /**
+     * Wait within a sample, e.g. for the tokens of a rate limiter, excluded from both the elapsed time of the sample,
+     * as idle time, and its latency in microseconds.
+     * @param result
+     *        SampleResult started.
+     * @param nanos
+     *        Nanoseconds to wait.
+     */
+    protected static void pause(SampleResult result, long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        result.samplePause();
+        long paused = System.nanoTime();
+        long deadline = paused + nanos;
+        for (long remaining = nanos; remaining > 0 && !Thread.currentThread().isInterrupted();
+             remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+        result.sampleResume();
+        SampleStart start = SAMPLE_START.get();
+        if (start.result == result) {
+            start.pausedNanos += System.nanoTime() - paused;
+        }
+    }
+
     /**
      * Set the sample result as <code>sampleEnd()</code>,
      * <code>setSuccessful(true)</code>, <code>setResponseCode("OK")</code> and if
      * the response is not <code>null</code> then
      * <code>setResponseData(response.toString(), ENCODING)</code> otherwise it is
-     * marked as not requiring a response.
+     * marked as not requiring a response. On aggregation mode the sample is added to the window of the sampler.
      *
      * @param result
      *        SampleResult mutable object to change.
@@ -157,15 +480,25 @@ public abstract class AWSSampler implements JavaSamplerClient{
      */
     protected void sampleResultSuccess(SampleResult result, String response){
         result.sampleEnd();
+        long elapsedMicros = getElapsedMicros(result);
         result.setSuccessful(true);
         result.setResponseCodeOK();
-        result.setResponseData(response, ENCODING);
+        if (isWarmUpSample(result)) {
+            return;
+        }
+        recordLatency(result, elapsedMicros);
+        String target = recordTarget(result, elapsedMicros);
+        result.setResponseData(target.isEmpty() ? response : response + target, ENCODING);
+        if (sampleAggregator != null) {
+            sampleAggregator.add(result);
+        }
     }
 
     /**
      * Mark the sample result as <code>sampleEnd</code>,
      * <code>setSuccessful(false)</code> and the <code>setResponseCode</code> to
-     * reason.
+     * reason. On aggregation mode the failure is counted on the window of the sampler, and the window is attached to
+     * the failed sample as sub-result when its time ran out.
      *
      * @param result
      *        SampleResult mutable object to change.
@@ -176,9 +509,389 @@ public abstract class AWSSampler implements JavaSamplerClient{
      */
     protected void sampleResultFail(SampleResult result, String code, String response) {
         result.sampleEnd();
+        long elapsedMicros = getElapsedMicros(result);
         result.setSuccessful(false);
         result.setResponseCode(code);
-        result.setResponseData(response, ENCODING);
+        if (isWarmUpSample(result)) {
+            result.setResponseData(response, ENCODING);
+            return;
+        }
+        recordLatency(result, elapsedMicros);
+        String target = recordTarget(result, elapsedMicros);
+        result.setResponseData(target.isEmpty() ? response : response + target, ENCODING);
+        if (sampleAggregator != null) {
+            Optional.ofNullable(sampleAggregator.addFailure(result))
+                    .ifPresent(result::addRawSubResult);
+        }
+    }
+
+    /**
+     * Check whether the sample is one of the first samples of the thread excluded from the results, and if so mark it
+     * as ignored without recording it.
+     * @param result
+     *        SampleResult ended.
+     * @return true when the sample is excluded.
+     */
+    protected boolean isWarmUpSample(SampleResult result) {
+        if (warmUp == null || !warmUp.exclude()) {
+            return false;
+        }
+        MultiTarget.discard();
+        result.setIgnore();
+        return true;
+    }
+
+    /**
+     * Elapsed time of a sample just ended, measured with nano time when it was started by
+     * {@link #sampleResultStart(SampleResult, String)} on the same thread, so sub-millisecond latencies are kept. The
+     * time paused by {@link #pause(SampleResult, long)} is excluded, as it is from the elapsed time of the result.
+     * @param result
+     *        SampleResult ended.
+     * @return Elapsed microseconds, the elapsed milliseconds of the result otherwise.
+     */
+    private static long getElapsedMicros(SampleResult result) {
+        SampleStart start = SAMPLE_START.get();
+        if (start.result != result) {
+            return TimeUnit.MILLISECONDS.toMicros(result.getTime());
+        }
+        start.result = null;
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start.nanos - start.pausedNanos);
+    }
+
+    /**
+     * Record sample latency on HdrHistogram by JMeter sampler label and AWS Sampler class, when enabled with
+     * <code>awsmeter.hdr.interval</code>. Samples run out of JMeter threads are recorded by class only.
+     * @param result
+     *        SampleResult ended.
+     * @param elapsedMicros
+     *        Elapsed time of the sample, microseconds.
+     */
+    protected void recordLatency(SampleResult result, long elapsedMicros) {
+        if (!LatencyRecorder.isEnabled()) {
+            return;
+        }
+        if (!latencyOpen.getAndSet(true)) {
+            LatencyRecorder.open();
+        }
+        LatencyRecorder.record(getSamplerLabel(), getClass().getSimpleName(), elapsedMicros, result.isSuccessful());
+    }
+
+    /**
+     * Record the sample on the target and region picked by multi-target and multi-region modes, and on HdrHistogram
+     * by target and by region when enabled.
+     * @param result
+     *        SampleResult ended.
+     * @param elapsedMicros
+     *        Elapsed time of the sample, microseconds.
+     * @return Summary of the target and region, empty when none was picked.
+     */
+    protected String recordTarget(SampleResult result, long elapsedMicros) {
+        Map<String, String> picked = MultiTarget.complete(result.getTime(), result.isSuccessful());
+        if (picked.isEmpty()) {
+            return EMPTY;
+        }
+        StringBuilder summary = new StringBuilder();
+        picked.forEach((kind, target) -> {
+            if (LatencyRecorder.isEnabled()) {
+                LatencyRecorder.record(getSamplerLabel(), getClass().getSimpleName() + " " + target,
+                        elapsedMicros, result.isSuccessful());
+            }
+            summary.append(MultiTarget.getSummary(kind, target));
+        });
+        return summary.toString();
+    }
+
+    /**
+     * Release what the sampler shares with the other samplers of the JVM, called at the end of
+     * <code>teardownTest</code>: the last partial aggregate window is logged, and the latency recording is closed, and
+     * reported for the last time when this is the last sampler recording.
+     */
+    protected void teardownSampler() {
+        Optional.ofNullable(sampleAggregator)
+                .map(SampleAggregator::flush)
+                .ifPresent(aggregate -> log.info("Last aggregate window of " + getSamplerLabel() + ": " +
+                        aggregate.getResponseDataAsString()));
+        if (latencyOpen.getAndSet(false)) {
+            LatencyRecorder.close();
+        }
+    }
+
+    /**
+     * Log the results completed after the last sample of the thread, that no sample can carry anymore: their count,
+     * errors, and mean and max elapsed time, and the response of every error.
+     * @param kind
+     *        What completed, e.g. <code>Invocations</code>.
+     * @param results
+     *        Results completed, drained by the call.
+     */
+    protected void logLateResults(String kind, Queue<SampleResult> results) {
+        long count = 0;
+        long errors = 0;
+        long elapsed = 0;
+        long max = 0;
+        SampleResult done;
+        while ((done = results.poll()) != null) {
+            count++;
+            elapsed += done.getTime();
+            max = Math.max(max, done.getTime());
+            if (!done.isSuccessful()) {
+                errors++;
+                log.warn(kind + " failed after the last sample: " + done.getResponseCode() + " " +
+                        done.getResponseDataAsString());
+            }
+        }
+        if (count > 0) {
+            log.info(String.format("%s completed after the last sample of %s: %d, errors: %d, avg ms: %.1f, " +
+                    "max ms: %d", kind, getSamplerLabel(), count, errors, elapsed / (double) count, max));
+        }
+    }
+
+    /**
+     * Get label of the JMeter sampler running on the current thread.
+     * @return Sampler label, or the AWS Sampler class name out of JMeter threads.
+     */
+    protected String getSamplerLabel() {
+        return Optional.ofNullable(JMeterContextService.getContext().getCurrentSampler())
+                .map(Sampler::getName)
+                .orElseGet(() -> getClass().getSimpleName());
+    }
+
+    /**
+     * Create AWS Sampler by class name, used by samplers that drive other samplers.
+     * @param className
+     *        Fully qualified name of an AWSSampler subclass.
+     * @return New AWSSampler instance.
+     * @throws ReflectiveOperationException
+     *         Exception when the class can't be found or instantiated.
+     */
+    protected static AWSSampler newSampler(final String className) throws ReflectiveOperationException {
+        return Class.forName(className)
+                .asSubclass(AWSSampler.class)
+                .getDeclaredConstructor()
+                .newInstance();
+    }
+
+    /**
+     * Convert parameters map to JMeter Arguments.
+     * @param parameters
+     *        Parameters name and value.
+     * @return Arguments.
+     */
+    protected static Arguments toArguments(Map<String, String> parameters) {
+        Arguments arguments = new Arguments();
+        parameters.forEach(arguments::addArgument);
+        return arguments;
+    }
+
+    /**
+     * Open payload corpus of <code>payload_file</code> parameter.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Payload corpus, null when <code>payload_file</code> is empty.
+     * @throws IOException
+     *         Exception when the corpus files can't be read.
+     */
+    protected PayloadCorpus openPayloadCorpus(JavaSamplerContext context) throws IOException {
+        String file = context.getParameter(PAYLOAD_FILE, EMPTY);
+        if (file.isEmpty()) {
+            return null;
+        }
+        return PayloadCorpus.open(file,
+                context.getParameter(PAYLOAD_DELIMITER, PAYLOAD_DEFAULT_DELIMITER),
+                context.getIntParameter(PAYLOAD_RECORD_SIZE, 0));
+    }
+
+    /**
+     * Check whether <code>payload_file</code> is set but the payload corpus couldn't be mapped.
+     * @param corpus
+     *        Payload corpus opened on setup.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return true when the payload corpus is missing.
+     */
+    protected boolean isPayloadCorpusMissing(PayloadCorpus corpus, JavaSamplerContext context) {
+        return corpus == null && !context.getParameter(PAYLOAD_FILE, EMPTY).isEmpty();
+    }
+
+    /**
+     * Next payload of the corpus in <code>payload_order</code>.
+     * @param corpus
+     *        Payload corpus.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Read-only view of the payload.
+     */
+    protected ByteBuffer nextPayload(PayloadCorpus corpus, JavaSamplerContext context) {
+        return PAYLOAD_ORDER_RANDOM.equalsIgnoreCase(context.getParameter(PAYLOAD_ORDER))
+                ? corpus.random()
+                : corpus.next();
+    }
+
+    /**
+     * Create payload compression of <code>compression</code> parameter.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Payload compression.
+     * @throws IllegalArgumentException
+     *         Exception when the compression is unknown.
+     */
+    protected PayloadCompression createPayloadCompression(JavaSamplerContext context) {
+        return PayloadCompression.of(context.getParameter(COMPRESSION, PayloadCompression.NONE),
+                context.getIntParameter(COMPRESSION_LEVEL, PayloadCompression.DEFAULT_LEVEL));
+    }
+
+    /**
+     * Create sample aggregator of <code>aggregate_samples</code> and <code>aggregate_window_ms</code> parameters.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Sample aggregator, null when aggregation is disabled.
+     * @throws IllegalArgumentException
+     *         Exception when a limit is not a number or is negative.
+     */
+    protected SampleAggregator createSampleAggregator(JavaSamplerContext context) {
+        return SampleAggregator.of(context.getIntParameter(AGGREGATE_SAMPLES, 0),
+                context.getLongParameter(AGGREGATE_WINDOW_MS, 0));
+    }
+
+    /**
+     * Create message stamp of <code>stamp_attribute</code> and <code>stamp_node_id</code> parameters.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Message stamp, null when <code>stamp_attribute</code> is empty.
+     */
+    protected MessageStamp createMessageStamp(JavaSamplerContext context) {
+        return MessageStamp.of(context.getParameter(STAMP_ATTRIBUTE, EMPTY),
+                context.getParameter(STAMP_NODE_ID, EMPTY));
+    }
+
+    /**
+     * Create order stamp of <code>order_attribute</code> and <code>stamp_node_id</code> parameters.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Order stamp, null when <code>order_attribute</code> is empty.
+     */
+    protected OrderStamp createOrderStamp(JavaSamplerContext context) {
+        return OrderStamp.of(context.getParameter(ORDER_ATTRIBUTE, EMPTY),
+                context.getParameter(STAMP_NODE_ID, EMPTY));
+    }
+
+    /**
+     * Find the parameters with constant value of the Java Request running this sampler: the values without JMeter
+     * functions or variables. Samplers driven by other samplers (e.g. Virtual Thread or Replay samplers) get their
+     * parameters from the driver, so none of them is taken as constant.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Names of the constant parameters, empty when the Java Request isn't running this sampler.
+     */
+    protected Set<String> findConstantParameters(JavaSamplerContext context) {
+        Sampler sampler = JMeterContextService.getContext().getCurrentSampler();
+        if (!(sampler instanceof JavaSampler) || !getClass().getName().equals(((JavaSampler) sampler).getClassname())) {
+            return Set.of();
+        }
+        Arguments arguments = ((JavaSampler) sampler).getArguments();
+        Set<String> constants = new HashSet<>();
+        for (int i = 0; i < arguments.getArgumentCount(); i++) {
+            Argument argument = arguments.getArgument(i);
+            if (!(argument.getProperty(Argument.VALUE) instanceof FunctionProperty)) {
+                constants.add(argument.getName());
+            }
+        }
+        return constants;
+    }
+
+    /**
+     * Check whether all the parameters have constant value.
+     * @param parameters
+     *        Parameter names.
+     * @return true when none of them has JMeter functions or variables.
+     */
+    protected boolean isConstant(String... parameters) {
+        for (String parameter : parameters) {
+            if (!constantParameters.contains(parameter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create warm-up of <code>warmup_connections</code> and <code>warmup_samples</code> parameters.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Warm-up, null when disabled.
+     * @throws IllegalArgumentException
+     *         Exception when a value is not a number or is negative.
+     */
+    protected WarmUp createWarmUp(JavaSamplerContext context) {
+        return WarmUp.of(context.getIntParameter(WARMUP_CONNECTIONS, 0), context.getIntParameter(WARMUP_SAMPLES, 0));
+    }
+
+    /**
+     * Create multi-target selector of <code>targets</code> parameter.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Multi-target selector, null when <code>targets</code> is empty.
+     * @throws IllegalArgumentException
+     *         Exception when the distribution or a weight is not valid.
+     */
+    protected MultiTarget createMultiTarget(JavaSamplerContext context) {
+        return MultiTarget.of(context.getParameter(TARGETS, EMPTY),
+                context.getParameter(TARGET_DISTRIBUTION, MultiTarget.WEIGHT));
+    }
+
+    /**
+     * Check whether <code>targets</code> is set but the multi-target selector couldn't be created.
+     * @param multiTarget
+     *        Multi-target selector created on setup.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return true when the multi-target selector is missing.
+     */
+    protected boolean isMultiTargetMissing(MultiTarget multiTarget, JavaSamplerContext context) {
+        return multiTarget == null && !context.getParameter(TARGETS, EMPTY).trim().isEmpty();
+    }
+
+    /**
+     * Pick the target of the sample and set it on the target parameter, so the sampler builds its request as usual.
+     * The other parameters are read from the context of the sampler, not copied.
+     * @param multiTarget
+     *        Multi-target selector, null to keep the target parameter.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param targetParameter
+     *        Queue, topic, stream or event bus parameter.
+     * @param keyParameter
+     *        Parameter hashed by <code>hash</code> distribution.
+     * @return Arguments values with the target picked.
+     */
+    protected JavaSamplerContext selectTarget(MultiTarget multiTarget, JavaSamplerContext context,
+                                              String targetParameter, String keyParameter) {
+        if (multiTarget == null) {
+            return context;
+        }
+        return new TargetContext(context, targetParameter, multiTarget.next(context.getParameter(keyParameter)));
+    }
+
+    /**
+     * Check whether <code>aws_regions</code> is set but the multi-region router couldn't be created.
+     * @param multiRegion
+     *        Multi-region router created on setup.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return true when the multi-region router is missing.
+     */
+    protected boolean isMultiRegionMissing(MultiRegion<?> multiRegion, JavaSamplerContext context) {
+        return multiRegion == null && !context.getParameter(AWS_REGIONS, EMPTY).trim().isEmpty();
+    }
+
+    /**
+     * Pick the region of the sample, so the sampler sends it with the client of the region.
+     * @param multiRegion
+     *        Multi-region router, null to keep the client of <code>aws_region</code>.
+     */
+    protected void selectRegion(MultiRegion<?> multiRegion) {
+        Optional.ofNullable(multiRegion)
+                .ifPresent(MultiRegion::next);
     }
 
     /**
@@ -199,4 +912,112 @@ public abstract class AWSSampler implements JavaSamplerClient{
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Sample started by a thread.
+     */
+    private static final class SampleStart {
+
+        /**
+         * SampleResult started, null once ended.
+         */
+        private SampleResult result;
+
+        /**
+         * Nano time of the start.
+         */
+        private long nanos;
+
+        /**
+         * Nanoseconds paused since the start.
+         */
+        private long pausedNanos;
+    }
+
+    /**
+     * Arguments values of a sampler with one parameter overridden by the target picked for the sample.
+     */
+    private static final class TargetContext extends JavaSamplerContext {
+
+        /**
+         * No arguments, the values are read from the context of the sampler.
+         */
+        private static final Arguments NO_ARGUMENTS = new Arguments();
+
+        /**
+         * Arguments values on Java Sampler.
+         */
+        private final JavaSamplerContext context;
+
+        /**
+         * Queue, topic, stream or event bus parameter.
+         */
+        private final String parameter;
+
+        /**
+         * Target picked.
+         */
+        private final String target;
+
+        /**
+         * Create context with the target picked.
+         * @param context
+         *        Arguments values on Java Sampler.
+         * @param parameter
+         *        Queue, topic, stream or event bus parameter.
+         * @param target
+         *        Target picked.
+         */
+        private TargetContext(JavaSamplerContext context, String parameter, String target) {
+            super(NO_ARGUMENTS);
+            this.context = context;
+            this.parameter = parameter;
+            this.target = target;
+        }
+
+        @Override
+        public boolean containsParameter(String name) {
+            return parameter.equals(name) || context.containsParameter(name);
+        }
+
+        @Override
+        public Iterator<String> getParameterNamesIterator() {
+            if (context.containsParameter(parameter)) {
+                return context.getParameterNamesIterator();
+            }
+            List<String> names = new ArrayList<>();
+            context.getParameterNamesIterator().forEachRemaining(names::add);
+            names.add(parameter);
+            return names.iterator();
+        }
+
+        @Override
+        public String getParameter(String name) {
+            return parameter.equals(name) ? target : context.getParameter(name);
+        }
+
+        @Override
+        public String getParameter(String name, String defaultValue) {
+            return parameter.equals(name) ? target : context.getParameter(name, defaultValue);
+        }
+
+        @Override
+        public int getIntParameter(String name) {
+            return parameter.equals(name) ? Integer.parseInt(target) : context.getIntParameter(name);
+        }
+
+        @Override
+        public int getIntParameter(String name, int defaultValue) {
+            return parameter.equals(name) ? Integer.parseInt(target) : context.getIntParameter(name, defaultValue);
+        }
+
+        @Override
+        public long getLongParameter(String name) {
+            return parameter.equals(name) ? Long.parseLong(target) : context.getLongParameter(name);
+        }
+
+        @Override
+        public long getLongParameter(String name, long defaultValue) {
+            return parameter.equals(name) ? Long.parseLong(target) : context.getLongParameter(name, defaultValue);
+        }
+    }
 }
@@ -0,0 +1,206 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Virtual Thread Sampler class that drives another AWS Sampler, fanning out each sample to N concurrent
+ * sends on virtual threads. The blocking SDK clients are shared by the virtual threads and their connection
+ * pool is sized to N, so a single JMeter thread emulates N concurrent producers.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class AWSVirtualThreadSampler extends AWSSampler {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(AWSVirtualThreadSampler.class);
+
+    /**
+     * Fully qualified class name of the AWS Sampler to drive.
+     */
+    protected static final String AWS_SAMPLER_CLASS = "aws_sampler_class";
+
+    /**
+     * Number of concurrent sends per sample.
+     */
+    protected static final String VIRTUAL_THREADS = "virtual_threads";
+
+    /**
+     * Default number of concurrent sends per sample.
+     */
+    protected static final String DEFAULT_VIRTUAL_THREADS = "100";
+
+    /**
+     * Set Virtual Thread parameters.
+     */
+    private static final List<Argument> VIRTUAL_THREAD_PARAMETERS = Stream.of(
+            new Argument(AWS_SAMPLER_CLASS, EMPTY),
+            new Argument(VIRTUAL_THREADS, DEFAULT_VIRTUAL_THREADS))
+            .collect(Collectors.toList());
+
+    /**
+     * AWS Sampler driven, its client is shared by all virtual threads.
+     */
+    protected AWSSampler sampler;
+
+    /**
+     * Arguments of the driven sampler, built on setup and passed again on tear down.
+     */
+    protected JavaSamplerContext drivenContext;
+
+    /**
+     * Executor that starts a new virtual thread per send.
+     */
+    protected ExecutorService executor;
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and Virtual Thread parameters, add the parameters of the driven sampler to the list.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, VIRTUAL_THREAD_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Create the driven AWS Sampler and set it up with a connection pool sized to the number of virtual threads,
+     * unless <code>aws_max_connections</code> is set.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+
+        log.info("Setup Virtual Thread Sampler.");
+        Map<String, String> parameters = new LinkedHashMap<>();
+        context.getParameterNamesIterator().forEachRemaining(k -> parameters.put(k, context.getParameter(k)));
+        parameters.compute(AWS_MAX_CONNECTIONS, (k, v) -> Optional.ofNullable(v)
+                .filter(Predicate.not(String::isEmpty))
+                .orElse(getMaxConcurrency(context)));
+
+        try {
+            sampler = newSampler(context.getParameter(AWS_SAMPLER_CLASS));
+            drivenContext = new JavaSamplerContext(toArguments(parameters));
+            sampler.setupTest(drivenContext);
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            log.error("Unable to create AWS Sampler " + context.getParameter(AWS_SAMPLER_CLASS), e);
+        }
+    }
+
+    /**
+     * Maximum number of concurrent sends, used to size the connection pool of the driven sampler.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Maximum concurrent sends.
+     */
+    protected String getMaxConcurrency(JavaSamplerContext context) {
+        return context.getParameter(VIRTUAL_THREADS, DEFAULT_VIRTUAL_THREADS);
+    }
+
+    /**
+     * Main method to execute the test on single thread. Run N samples of the driven sampler concurrently on
+     * virtual threads and add them as sub-results.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Sampler: %s \nVirtual threads: %s",
+                context.getParameter(AWS_SAMPLER_CLASS),
+                context.getParameter(VIRTUAL_THREADS)));
+
+        if (sampler == null) {
+            sampleResultFail(result, FAIL_CODE, "AWS Sampler not created: " + context.getParameter(AWS_SAMPLER_CLASS));
+            return result;
+        }
+
+        try {
+            List<SampleResult> subResults = fanOut(context, context.getIntParameter(VIRTUAL_THREADS));
+            long errors = subResults.stream()
+                    .filter(Predicate.not(SampleResult::isSuccessful))
+                    .count();
+            String response = String.format("Samples: %d \nErrors: %d", subResults.size(), errors);
+            if (errors == 0) {
+                sampleResultSuccess(result, response);
+            } else {
+                sampleResultFail(result, FAIL_CODE, response);
+            }
+            subResults.forEach(result::addSubResult);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        } catch (ExecutionException e) {
+            sampleResultFail(result, FAIL_CODE, e.getCause().getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * Close the executor and tear down the driven AWS Sampler.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close Virtual Thread Sampler.");
+        Optional.ofNullable(executor)
+                .ifPresent(ExecutorService::shutdown);
+        Optional.ofNullable(sampler)
+                .ifPresent(s -> s.teardownTest(drivenContext));
+        teardownSampler();
+    }
+
+    /**
+     * Run the driven sampler concurrently, one virtual thread per sample, and wait all of them.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param concurrency
+     *        Number of concurrent samples.
+     * @return Sample results in submission order.
+     * @throws InterruptedException
+     *         Exception when the JMeter thread is stopped.
+     * @throws ExecutionException
+     *         Exception when a sample throws an unexpected exception.
+     */
+    protected List<SampleResult> fanOut(JavaSamplerContext context, int concurrency)
+            throws InterruptedException, ExecutionException {
+        List<Callable<SampleResult>> tasks = Collections.nCopies(concurrency, () -> sampler.runTest(context));
+        List<SampleResult> subResults = new ArrayList<>(concurrency);
+        for (Future<SampleResult> future : executor.invokeAll(tasks)) {
+            subResults.add(future.get());
+        }
+        return subResults;
+    }
+}
@@ -0,0 +1,162 @@
+package org.apache.jmeter.protocol.aws;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Message deduplication id strategy of SQS and SNS FIFO producers, so repeated bodies aren't dropped as duplicates.
+ * <ul>
+ *     <li><code>fixed</code>: the message deduplication id parameter, default.</li>
+ *     <li><code>content</code>: SHA-256 of the body, like content-based deduplication.</li>
+ *     <li><code>uuid</code>: random UUID, every message is unique.</li>
+ *     <li><code>counter</code>: node id and monotonic counter, unique and cheaper than UUID.</li>
+ * </ul>
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public abstract class DeduplicationStrategy {
+
+    /**
+     * Fixed deduplication id strategy.
+     */
+    public static final String FIXED = "fixed";
+
+    /**
+     * Content hash deduplication id strategy.
+     */
+    public static final String CONTENT = "content";
+
+    /**
+     * Random UUID deduplication id strategy.
+     */
+    public static final String UUID_STRATEGY = "uuid";
+
+    /**
+     * Node id and counter deduplication id strategy.
+     */
+    public static final String COUNTER = "counter";
+
+    /**
+     * Counter values reserved at once by a counter strategy, so threads rarely touch the shared counter.
+     */
+    private static final int COUNTER_BLOCK = 1024;
+
+    /**
+     * Counter shared by all threads of the JVM.
+     */
+    private static final AtomicLong NODE_COUNTER = new AtomicLong();
+
+    /**
+     * Random node id of the JVM, so injectors don't generate the same ids.
+     */
+    private static final String NODE_ID = Long.toHexString(new SecureRandom().nextLong()) + "-";
+
+    /**
+     * Hexadecimal digits.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * SHA-256 digest per thread.
+     */
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /**
+     * Get deduplication id of the next message.
+     * @param deduplicationId
+     *        Current value of message deduplication id parameter.
+     * @param body
+     *        Message body.
+     * @return Message deduplication id.
+     */
+    public abstract String deduplicationId(String deduplicationId, String body);
+
+    /**
+     * Create deduplication strategy.
+     * @param strategy
+     *        Strategy name, <code>fixed</code> when empty.
+     * @return Deduplication strategy.
+     * @throws IllegalArgumentException
+     *         Exception when the strategy is unknown.
+     */
+    public static DeduplicationStrategy of(String strategy) {
+        switch (strategy == null || strategy.isEmpty() ? FIXED : strategy.toLowerCase()) {
+            case FIXED:
+                return new DeduplicationStrategy() {
+                    @Override
+                    public String deduplicationId(String deduplicationId, String body) {
+                        return deduplicationId == null || deduplicationId.isEmpty() ? null : deduplicationId;
+                    }
+                };
+            case CONTENT:
+                return new DeduplicationStrategy() {
+                    @Override
+                    public String deduplicationId(String deduplicationId, String body) {
+                        return toHex(SHA_256.get().digest(String.valueOf(body).getBytes(StandardCharsets.UTF_8)));
+                    }
+                };
+            case UUID_STRATEGY:
+                return new DeduplicationStrategy() {
+                    @Override
+                    public String deduplicationId(String deduplicationId, String body) {
+                        return UUID.randomUUID().toString();
+                    }
+                };
+            case COUNTER:
+                return new Counter();
+            default:
+                throw new IllegalArgumentException("Unknown deduplication strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Convert bytes to lower case hexadecimal.
+     * @param bytes
+     *        Bytes.
+     * @return Hexadecimal text.
+     */
+    protected static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Node id and monotonic counter, reserving blocks of counter values from the JVM counter.
+     */
+    private static final class Counter extends DeduplicationStrategy {
+
+        /**
+         * Next counter value.
+         */
+        private long next;
+
+        /**
+         * End of the reserved block of counter values.
+         */
+        private long limit;
+
+        @Override
+        public synchronized String deduplicationId(String deduplicationId, String body) {
+            if (next == limit) {
+                next = NODE_COUNTER.getAndAdd(COUNTER_BLOCK);
+                limit = next + COUNTER_BLOCK;
+            }
+            return NODE_ID + Long.toString(next++, Character.MAX_RADIX);
+        }
+    }
+}
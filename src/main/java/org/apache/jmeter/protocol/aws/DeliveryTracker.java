@@ -0,0 +1,229 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the stamps of {@link MessageStamp} received by consumer samplers, to report lost and duplicated messages.
+ * The counters received of each producer stream are kept on a compressed Roaring bitmap, run-length encoded every
+ * 65536 messages, so sequential counters take a few bytes per stream instead of an entry per message id. A counter
+ * received twice is a duplicate, and a counter lower than the highest received and never received is missing, lost or
+ * still in flight, unless a producer of the JVM reported that its send failed. Streams are shared by all the samplers
+ * and JMeter threads of the JVM.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class DeliveryTracker {
+
+    /**
+     * Messages between run-length encoding of the bitmap of a stream.
+     */
+    private static final int OPTIMIZE_INTERVAL = 1 << 16;
+
+    /**
+     * Missing ranges reported per stream.
+     */
+    private static final int MAX_GAPS = 10;
+
+    /**
+     * Streams by name.
+     */
+    private static final Map<String, Stream> STREAMS = new ConcurrentHashMap<>();
+
+    /**
+     * Stamps that couldn't be parsed.
+     */
+    private static final LongAdder INVALID = new LongAdder();
+
+    private DeliveryTracker() {
+    }
+
+    /**
+     * Record the stamp of a received message.
+     * @param stamp
+     *        Stamp, <code>stream:counter</code>.
+     * @return false when the message is a duplicate or the stamp is not valid.
+     */
+    public static boolean record(String stamp) {
+        int idx = stamp == null ? -1 : stamp.lastIndexOf(MessageStamp.COUNTER_SEPARATOR);
+        long counter = toCounter(stamp, idx);
+        if (counter < 0) {
+            INVALID.increment();
+            return false;
+        }
+        return STREAMS.computeIfAbsent(stamp.substring(0, idx), k -> new Stream()).add(counter);
+    }
+
+    /**
+     * Record the stamp of a message whose send failed, so it isn't counted as missing.
+     * @param stamp
+     *        Stamp, <code>stream:counter</code>.
+     */
+    public static void exclude(String stamp) {
+        int idx = stamp == null ? -1 : stamp.lastIndexOf(MessageStamp.COUNTER_SEPARATOR);
+        long counter = toCounter(stamp, idx);
+        if (counter >= 0) {
+            STREAMS.computeIfAbsent(stamp.substring(0, idx), k -> new Stream()).exclude(counter);
+        }
+    }
+
+    /**
+     * Counter of a stamp.
+     * @param stamp
+     *        Stamp, <code>stream:counter</code>.
+     * @param idx
+     *        Index of the counter separator.
+     * @return Counter, -1 when the stamp is not valid.
+     */
+    private static long toCounter(String stamp, int idx) {
+        long counter;
+        try {
+            counter = idx < 0 ? -1 : Long.parseLong(stamp.substring(idx + 1));
+        } catch (NumberFormatException e) {
+            counter = -1;
+        }
+        return counter > 0xFFFFFFFFL ? -1 : counter;
+    }
+
+    /**
+     * Summary of all the streams.
+     * @return Streams, received, duplicated, missing, failed and invalid messages.
+     */
+    public static String getSummary() {
+        long received = 0;
+        long duplicates = 0;
+        long missing = 0;
+        long failed = 0;
+        for (Stream stream : STREAMS.values()) {
+            synchronized (stream) {
+                received += stream.received.getLongCardinality();
+                duplicates += stream.duplicates;
+                missing += stream.getMissing();
+                failed += stream.failed.getLongCardinality();
+            }
+        }
+        return String.format("Streams: %d \nReceived: %d \nDuplicates: %d \nMissing: %d \nFailed sends: %d " +
+                "\nInvalid stamps: %d", STREAMS.size(), received, duplicates, missing, failed, INVALID.sum());
+    }
+
+    /**
+     * Report of each stream, with the first missing ranges.
+     * @return Report lines by stream name.
+     */
+    public static Map<String, String> getReport() {
+        Map<String, String> report = new TreeMap<>();
+        STREAMS.forEach((name, stream) -> {
+            synchronized (stream) {
+                report.put(name, String.format("received %d, duplicates %d, missing %d, failed sends %d%s",
+                        stream.received.getLongCardinality(), stream.duplicates, stream.getMissing(),
+                        stream.failed.getLongCardinality(), stream.getGaps()));
+            }
+        });
+        return report;
+    }
+
+    /**
+     * Counters received of a producer stream.
+     */
+    private static final class Stream {
+
+        /**
+         * Counters received, as unsigned int.
+         */
+        private final RoaringBitmap received = new RoaringBitmap();
+
+        /**
+         * Counters of failed sends, reported by the producers of the JVM.
+         */
+        private final RoaringBitmap failed = new RoaringBitmap();
+
+        /**
+         * Counters received more than once.
+         */
+        private long duplicates;
+
+        /**
+         * Highest counter received.
+         */
+        private long max = -1;
+
+        /**
+         * Messages since the last run-length encoding.
+         */
+        private int added;
+
+        /**
+         * Add a counter.
+         * @param counter
+         *        Counter, from 0 to 2^32 - 1.
+         * @return false when it was already received.
+         */
+        private synchronized boolean add(long counter) {
+            if (!received.checkedAdd((int) counter)) {
+                duplicates++;
+                return false;
+            }
+            max = Math.max(max, counter);
+            if (++added == OPTIMIZE_INTERVAL) {
+                received.runOptimize();
+                added = 0;
+            }
+            return true;
+        }
+
+        /**
+         * Add the counter of a failed send.
+         * @param counter
+         *        Counter, from 0 to 2^32 - 1.
+         */
+        private synchronized void exclude(long counter) {
+            failed.add((int) counter);
+        }
+
+        /**
+         * Counters lower than the highest one that were never received and whose send didn't fail.
+         * @return missing.
+         */
+        private long getMissing() {
+            return max + 1 - received.getLongCardinality() - failed.rangeCardinality(0L, max + 1) +
+                    RoaringBitmap.andCardinality(received, failed);
+        }
+
+        /**
+         * First missing ranges.
+         * @return Missing ranges, empty when none.
+         */
+        private String getGaps() {
+            if (getMissing() == 0) {
+                return "";
+            }
+            List<String> gaps = new ArrayList<>();
+            RoaringBitmap lost = RoaringBitmap.flip(received, 0L, max + 1);
+            lost.andNot(failed);
+            IntIterator missing = lost.getIntIterator();
+            long from = -1;
+            long to = -1;
+            while (missing.hasNext() && gaps.size() < MAX_GAPS) {
+                long counter = Integer.toUnsignedLong(missing.next());
+                if (counter != to + 1 && from >= 0) {
+                    gaps.add(from == to ? String.valueOf(from) : from + ".." + to);
+                    from = -1;
+                }
+                from = from < 0 ? counter : from;
+                to = counter;
+            }
+            if (from >= 0 && gaps.size() < MAX_GAPS) {
+                gaps.add(from == to ? String.valueOf(from) : from + ".." + to);
+            }
+            return ", gaps " + String.join(", ", gaps);
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+/**
+ * Background health monitor of queues and streams, shared by all JMeter threads of the injector. A single scheduler
+ * thread polls every watched target at its interval, whatever the number of samplers and threads watching it, logs
+ * each snapshot to <code>jmeter.log</code> next to the HDR percentiles, and hands it to the samplers waiting for it.
+ * Consumer samplers also report the age of the messages and records they receive, the backlog seen from the consumer
+ * side, which the probes add to the snapshot.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class HealthMonitor {
+
+    /**
+     * Log attribute.
+     */
+    private static final Logger log = LoggerFactory.getLogger(HealthMonitor.class);
+
+    /**
+     * Service of SQS queues.
+     */
+    public static final String SQS = "sqs";
+
+    /**
+     * Service of Kinesis streams.
+     */
+    public static final String KINESIS = "kinesis";
+
+    /**
+     * Age returned when no message or record was received.
+     */
+    public static final long NO_AGE = -1;
+
+    /**
+     * Watched targets by <code>service/name</code>.
+     */
+    private static final Map<String, Watch> WATCHES = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum age received by <code>service/name</code> since the last snapshot.
+     */
+    private static final Map<String, LongAccumulator> AGES = new ConcurrentHashMap<>();
+
+    /**
+     * Single thread that polls the targets, started by the first watch.
+     */
+    private static ScheduledExecutorService scheduler;
+
+    /**
+     * Utility class.
+     */
+    private HealthMonitor() {
+    }
+
+    /**
+     * Key of a target.
+     * @param service
+     *        {@link #SQS} or {@link #KINESIS}.
+     * @param name
+     *        Queue or stream name.
+     * @return Target key, <code>service/name</code>.
+     */
+    public static String target(String service, String name) {
+        return service + "/" + name;
+    }
+
+    /**
+     * Watch a target. The first watch creates its probe and schedules it, later ones only count the watcher.
+     * @param target
+     *        Target key.
+     * @param intervalSeconds
+     *        Poll interval of the first watch.
+     * @param probe
+     *        Creates the probe of the target, called only by the first watch.
+     */
+    public static synchronized void watch(String target, long intervalSeconds, Supplier<Probe> probe) {
+        Watch watch = WATCHES.get(target);
+        if (watch != null) {
+            watch.watchers++;
+            return;
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "awsmeter-health-monitor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        AGES.putIfAbsent(target, new LongAccumulator(Math::max, NO_AGE));
+        Watch created = new Watch(target, probe.get());
+        created.future = scheduler.scheduleAtFixedRate(created::poll, 0, Math.max(1, intervalSeconds),
+                TimeUnit.SECONDS);
+        WATCHES.put(target, created);
+        log.info("Watching {} every {} s", target, Math.max(1, intervalSeconds));
+    }
+
+    /**
+     * Stop watching a target. The last watcher stops the polls and closes the probe.
+     * @param target
+     *        Target key.
+     */
+    public static synchronized void unwatch(String target) {
+        Watch watch = WATCHES.get(target);
+        if (watch == null || --watch.watchers > 0) {
+            return;
+        }
+        WATCHES.remove(target);
+        AGES.remove(target);
+        watch.future.cancel(false);
+        try {
+            watch.probe.client.close();
+        } catch (Exception e) {
+            log.warn("Unable to close client of " + target, e);
+        }
+        log.info("Stopped watching {}", target);
+    }
+
+    /**
+     * Wait for a snapshot of the target newer than the last one seen.
+     * @param target
+     *        Target key.
+     * @param lastSequence
+     *        Sequence of the last snapshot seen, 0 for none.
+     * @param timeoutMs
+     *        Maximum wait, milliseconds.
+     * @return Snapshot, null when the target isn't watched or no new snapshot arrived in time.
+     * @throws InterruptedException
+     *         Exception when the thread is interrupted while waiting.
+     */
+    public static Snapshot await(String target, long lastSequence, long timeoutMs) throws InterruptedException {
+        Watch watch = WATCHES.get(target);
+        if (watch == null) {
+            return null;
+        }
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        synchronized (watch) {
+            while (watch.snapshot == null || watch.snapshot.sequence <= lastSequence) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return null;
+                }
+                watch.wait(remaining);
+            }
+            return watch.snapshot;
+        }
+    }
+
+    /**
+     * Record the age of a message or record received from a watched target. Lock free; nothing is recorded for
+     * targets not watched.
+     * @param target
+     *        Target key.
+     * @param ageMs
+     *        Age, milliseconds.
+     */
+    public static void recordAge(String target, long ageMs) {
+        LongAccumulator age = AGES.get(target);
+        if (age != null) {
+            age.accumulate(Math.max(0, ageMs));
+        }
+    }
+
+    /**
+     * Take the maximum age received from the target since the last call.
+     * @param target
+     *        Target key.
+     * @return Age in milliseconds, {@link #NO_AGE} when nothing was received.
+     */
+    public static long takeAge(String target) {
+        LongAccumulator age = AGES.get(target);
+        return age == null ? NO_AGE : age.getThenReset();
+    }
+
+    /**
+     * Probe of a target: the client, owned by the monitor once watched, and the poll of its snapshot.
+     */
+    public static final class Probe {
+
+        /**
+         * AWS client, closed when the target isn't watched any more.
+         */
+        private final AutoCloseable client;
+
+        /**
+         * Poll of the target, it may throw runtime exceptions of the AWS SDK.
+         */
+        private final Supplier<Snapshot> poll;
+
+        /**
+         * Create probe.
+         * @param client
+         *        AWS client.
+         * @param poll
+         *        Poll of the target.
+         */
+        public Probe(AutoCloseable client, Supplier<Snapshot> poll) {
+            this.client = client;
+            this.poll = poll;
+        }
+    }
+
+    /**
+     * Values of a target at a point in time.
+     */
+    public static final class Snapshot {
+
+        /**
+         * Poll time, epoch milliseconds.
+         */
+        private final long time = System.currentTimeMillis();
+
+        /**
+         * Status of the target, e.g. <code>ACTIVE</code>.
+         */
+        private final String status;
+
+        /**
+         * Metrics by name, in poll order.
+         */
+        private final Map<String, Long> metrics;
+
+        /**
+         * Error of the poll, null when it was successful.
+         */
+        private final String error;
+
+        /**
+         * Number of the snapshot of the target, from 1.
+         */
+        private long sequence;
+
+        /**
+         * Create snapshot.
+         * @param status
+         *        Status of the target.
+         * @param metrics
+         *        Metrics by name.
+         */
+        public Snapshot(String status, Map<String, Long> metrics) {
+            this(status, metrics, null);
+        }
+
+        /**
+         * Create snapshot of a failed poll.
+         * @param error
+         *        Error of the poll.
+         * @return Snapshot with no metrics.
+         */
+        static Snapshot failed(String error) {
+            return new Snapshot("ERROR", Map.of(), error);
+        }
+
+        /**
+         * Create snapshot.
+         * @param status
+         *        Status of the target.
+         * @param metrics
+         *        Metrics by name.
+         * @param error
+         *        Error of the poll, null when it was successful.
+         */
+        private Snapshot(String status, Map<String, Long> metrics, String error) {
+            this.status = status;
+            this.metrics = Collections.unmodifiableMap(new LinkedHashMap<>(metrics));
+            this.error = error;
+        }
+
+        /**
+         * Poll time.
+         * @return Epoch milliseconds.
+         */
+        public long getTime() {
+            return time;
+        }
+
+        /**
+         * Status of the target.
+         * @return Status, <code>ERROR</code> when the poll failed.
+         */
+        public String getStatus() {
+            return status;
+        }
+
+        /**
+         * Metrics of the target.
+         * @return Metrics by name, in poll order.
+         */
+        public Map<String, Long> getMetrics() {
+            return metrics;
+        }
+
+        /**
+         * Error of the poll.
+         * @return Error message, null when the poll was successful.
+         */
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * Number of the snapshot of the target.
+         * @return Sequence, from 1.
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder("Status: ").append(status);
+            metrics.forEach((name, value) -> text.append(" \n").append(name).append(": ").append(value));
+            if (error != null) {
+                text.append(" \nError: ").append(error);
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * Watch of a target, guarded by itself for the snapshot hand-off.
+     */
+    private static final class Watch {
+
+        /**
+         * Target key.
+         */
+        private final String target;
+
+        /**
+         * Probe of the target.
+         */
+        private final Probe probe;
+
+        /**
+         * Samplers watching the target, guarded by the monitor class.
+         */
+        private int watchers = 1;
+
+        /**
+         * Scheduled polls.
+         */
+        private ScheduledFuture<?> future;
+
+        /**
+         * Last snapshot, null before the first poll.
+         */
+        private Snapshot snapshot;
+
+        /**
+         * Create watch.
+         * @param target
+         *        Target key.
+         * @param probe
+         *        Probe of the target.
+         */
+        private Watch(String target, Probe probe) {
+            this.target = target;
+            this.probe = probe;
+        }
+
+        /**
+         * Poll the target, log the snapshot and wake up the samplers waiting for it. Errors are kept on the snapshot
+         * so the scheduler keeps polling.
+         */
+        private void poll() {
+            Snapshot polled;
+            try {
+                polled = probe.poll.get();
+            } catch (RuntimeException e) {
+                polled = Snapshot.failed(e.getMessage());
+            }
+            log.info("HEALTH {} {}", target, polled.toString().replace(" \n", ", "));
+            synchronized (this) {
+                polled.sequence = snapshot == null ? 1 : snapshot.sequence + 1;
+                snapshot = polled;
+                notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.apache.jmeter.util.JMeterUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HdrHistogram latency recording per sampler label and operation, shared by all JMeter threads of the injector.
+ * Latencies are recorded in microseconds. A single scheduler thread snapshots every interval and logs p50, p99,
+ * p99.9, max and throughput, and optionally writes the interval histograms to a HdrHistogram log file. Samplers open
+ * the recording on their first sample and close it on tear down; the last one reports the final interval and closes
+ * the log file. Memory is constant no matter the test duration.
+ * Enabled with the JMeter property <code>awsmeter.hdr.interval</code> (seconds), file set with
+ * <code>awsmeter.hdr.log</code>.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class LatencyRecorder {
+
+    /**
+     * Log attribute.
+     */
+    private static final Logger log = LoggerFactory.getLogger(LatencyRecorder.class);
+
+    /**
+     * JMeter property with snapshot interval in seconds, 0 disables recording.
+     */
+    public static final String HDR_INTERVAL_PROPERTY = "awsmeter.hdr.interval";
+
+    /**
+     * JMeter property with path of the HdrHistogram log file, empty to only log percentiles.
+     */
+    public static final String HDR_LOG_PROPERTY = "awsmeter.hdr.log";
+
+    /**
+     * Significant decimal digits of recorded values.
+     */
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * Snapshot interval in seconds.
+     */
+    private static final long INTERVAL = readInterval();
+
+    /**
+     * Recordings by sampler label and operation.
+     */
+    private static final Map<String, Map<String, Recording>> RECORDINGS = new ConcurrentHashMap<>();
+
+    /**
+     * Microseconds per millisecond, the unit of the values logged.
+     */
+    private static final double MICROS_PER_MS = 1000.0;
+
+    /**
+     * Single thread that snapshots the recordings.
+     */
+    private static final ScheduledExecutorService SCHEDULER = INTERVAL > 0 ? startScheduler() : null;
+
+    /**
+     * Writer of HdrHistogram log file, null when not configured or no sampler is recording, guarded by the class.
+     */
+    private static HistogramLogWriter logWriter;
+
+    /**
+     * Samplers recording, guarded by the class.
+     */
+    private static int samplers;
+
+    /**
+     * Start of current interval, epoch milliseconds.
+     */
+    private static long intervalStart = System.currentTimeMillis();
+
+    /**
+     * Utility class.
+     */
+    private LatencyRecorder() {
+    }
+
+    /**
+     * Check whether latency recording is enabled.
+     * @return true when <code>awsmeter.hdr.interval</code> is greater than 0.
+     */
+    public static boolean isEnabled() {
+        return INTERVAL > 0;
+    }
+
+    /**
+     * Open the recording of a sampler, creating the log file when the first sampler opens it.
+     */
+    public static synchronized void open() {
+        if (!isEnabled() || samplers++ > 0) {
+            return;
+        }
+        intervalStart = System.currentTimeMillis();
+        logWriter = createLogWriter();
+    }
+
+    /**
+     * Close the recording of a sampler. When the last sampler closes it the final interval is reported, so it isn't
+     * lost with the scheduler thread, and the log file is flushed and closed.
+     */
+    public static synchronized void close() {
+        if (!isEnabled() || samplers == 0 || --samplers > 0) {
+            return;
+        }
+        report();
+        Optional.ofNullable(logWriter)
+                .ifPresent(HistogramLogWriter::close);
+        logWriter = null;
+    }
+
+    /**
+     * Record sample latency. Lock free and allocation free once the label and operation are known.
+     * @param label
+     *        Sampler label.
+     * @param operation
+     *        Operation or target of the sample.
+     * @param elapsedMicros
+     *        Sample elapsed time, microseconds.
+     * @param success
+     *        Whether the sample was successful.
+     */
+    public static void record(String label, String operation, long elapsedMicros, boolean success) {
+        if (!isEnabled()) {
+            return;
+        }
+        Recording recording = RECORDINGS.computeIfAbsent(label, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operation, k -> new Recording(label + "|" + operation));
+        recording.recorder.recordValue(Math.max(0, elapsedMicros));
+        if (!success) {
+            recording.errors.increment();
+        }
+    }
+
+    /**
+     * Snapshot interval histograms, log their percentiles and write them to the log file.
+     */
+    static synchronized void report() {
+        long now = System.currentTimeMillis();
+        double seconds = Math.max(1, now - intervalStart) / 1000.0;
+        RECORDINGS.values().forEach(operations -> operations.values().forEach(recording -> {
+            recording.interval = recording.recorder.getIntervalHistogram(recording.interval);
+            Histogram histogram = recording.interval;
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                return;
+            }
+            log.info("HDR {} count={} tps={} errors={} p50={} p99={} p99.9={} max={} ms",
+                    recording.tag, count, String.format("%.1f", count / seconds), recording.errors.sumThenReset(),
+                    toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getValueAtPercentile(99.9)), toMillis(histogram.getMaxValue()));
+            if (logWriter != null) {
+                histogram.setTag(recording.tag);
+                logWriter.outputIntervalHistogram(intervalStart / 1000.0, now / 1000.0, histogram, MICROS_PER_MS);
+            }
+        }));
+        intervalStart = now;
+    }
+
+    /**
+     * Format microseconds as milliseconds.
+     * @param micros
+     *        Value recorded.
+     * @return Milliseconds with three decimals.
+     */
+    private static String toMillis(long micros) {
+        return String.format("%.3f", micros / MICROS_PER_MS);
+    }
+
+    /**
+     * Read snapshot interval from JMeter properties.
+     * @return Interval in seconds, 0 when disabled or JMeter properties are not loaded.
+     */
+    private static long readInterval() {
+        try {
+            return Optional.ofNullable(JMeterUtils.getJMeterProperties())
+                    .map(p -> p.getProperty(HDR_INTERVAL_PROPERTY, "0").trim())
+                    .map(Long::parseLong)
+                    .orElse(0L);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid {}, latency recording disabled", HDR_INTERVAL_PROPERTY);
+            return 0;
+        }
+    }
+
+    /**
+     * Create HdrHistogram log writer when <code>awsmeter.hdr.log</code> is set.
+     * @return Log writer or null.
+     */
+    private static HistogramLogWriter createLogWriter() {
+        String path = JMeterUtils.getPropDefault(HDR_LOG_PROPERTY, "");
+        if (path.isEmpty()) {
+            return null;
+        }
+        try {
+            HistogramLogWriter writer = new HistogramLogWriter(path);
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(System.currentTimeMillis());
+            writer.outputLegend();
+            return writer;
+        } catch (FileNotFoundException e) {
+            log.error("Unable to create HdrHistogram log " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Start daemon scheduler thread that reports every interval.
+     * @return Scheduler.
+     */
+    private static ScheduledExecutorService startScheduler() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "awsmeter-hdr-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(LatencyRecorder::report, INTERVAL, INTERVAL, TimeUnit.SECONDS);
+        return scheduler;
+    }
+
+    /**
+     * Latency recording of one sampler label and operation.
+     */
+    private static final class Recording {
+
+        /**
+         * Tag of the recording, <code>label|operation</code>.
+         */
+        private final String tag;
+
+        /**
+         * Recorder, thread safe for concurrent writers.
+         */
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+
+        /**
+         * Errors on current interval.
+         */
+        private final LongAdder errors = new LongAdder();
+
+        /**
+         * Interval histogram recycled between snapshots.
+         */
+        private Histogram interval;
+
+        /**
+         * Create recording.
+         * @param tag
+         *        Tag of the recording.
+         */
+        private Recording(String tag) {
+            this.tag = tag;
+        }
+    }
+}
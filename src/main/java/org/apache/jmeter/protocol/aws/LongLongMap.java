@@ -0,0 +1,167 @@
+package org.apache.jmeter.protocol.aws;
+
+/**
+ * Map of primitive long keys to long values with open addressing and linear probing, so millions of keys take two
+ * long arrays instead of an entry, a boxed key and a boxed value each. Not thread safe.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class LongLongMap {
+
+    /**
+     * Marker of empty slots, the key 0 is kept apart.
+     */
+    private static final long EMPTY_KEY = 0L;
+
+    /**
+     * Maximum load factor before doubling the capacity.
+     */
+    private static final double LOAD_FACTOR = 0.7;
+
+    /**
+     * Keys, {@link #EMPTY_KEY} on empty slots.
+     */
+    private long[] keys;
+
+    /**
+     * Values of the keys.
+     */
+    private long[] values;
+
+    /**
+     * Keys on the slots.
+     */
+    private int size;
+
+    /**
+     * Whether the key 0 is set.
+     */
+    private boolean hasZeroKey;
+
+    /**
+     * Value of the key 0.
+     */
+    private long zeroValue;
+
+    /**
+     * Create map.
+     * @param expected
+     *        Expected number of keys.
+     */
+    public LongLongMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expected / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+    }
+
+    /**
+     * Get the value of the key.
+     * @param key
+     *        Key.
+     * @param missing
+     *        Value returned when the key is not set.
+     * @return Value.
+     */
+    public long get(long key, long missing) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey ? zeroValue : missing;
+        }
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            if (keys[i] == EMPTY_KEY) {
+                return missing;
+            }
+        }
+    }
+
+    /**
+     * Set the value of the key.
+     * @param key
+     *        Key.
+     * @param value
+     *        Value.
+     */
+    public void put(long key, long value) {
+        if (key == EMPTY_KEY) {
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        while (keys[i] != EMPTY_KEY && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        values[i] = value;
+        if (keys[i] == EMPTY_KEY) {
+            keys[i] = key;
+            if (++size > keys.length * LOAD_FACTOR) {
+                resize();
+            }
+        }
+    }
+
+    /**
+     * Number of keys.
+     * @return keys.
+     */
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    /**
+     * Double the capacity and put the keys again.
+     */
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length << 1];
+        values = new long[oldValues.length << 1];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != EMPTY_KEY) {
+                int i = slot(oldKeys[j], mask);
+                while (keys[i] != EMPTY_KEY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Home slot of the key, mixing the bits so sequential keys spread over the table.
+     * @param key
+     *        Key.
+     * @param mask
+     *        Capacity minus one.
+     * @return Slot index.
+     */
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * 64-bit hash of a text, FNV-1a with a final mix, used as key of texts like partition keys.
+     * @param text
+     *        Text.
+     * @return Hash.
+     */
+    public static long hash(String text) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            h ^= text.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
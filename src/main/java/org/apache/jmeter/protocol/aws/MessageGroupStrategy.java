@@ -0,0 +1,165 @@
+package org.apache.jmeter.protocol.aws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Message group id strategy of SQS and SNS FIFO producers, to spread messages over several ordered groups.
+ * <ul>
+ *     <li><code>fixed</code>: the message group id parameter, default.</li>
+ *     <li><code>thread</code>: one group per JMeter thread.</li>
+ *     <li><code>round_robin</code>: groups in round robin order.</li>
+ *     <li><code>hash</code>: group picked by the hash of a field of the JSON body, or of the whole body.</li>
+ * </ul>
+ * Generated group ids are the message group id parameter followed by the group number.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public abstract class MessageGroupStrategy {
+
+    /**
+     * Fixed message group id strategy.
+     */
+    public static final String FIXED = "fixed";
+
+    /**
+     * One message group per JMeter thread strategy.
+     */
+    public static final String THREAD = "thread";
+
+    /**
+     * Round robin over message groups strategy.
+     */
+    public static final String ROUND_ROBIN = "round_robin";
+
+    /**
+     * Message group hashed from body strategy.
+     */
+    public static final String HASH = "hash";
+
+    /**
+     * JSON reader of message body.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Get message group id of the next message.
+     * @param groupId
+     *        Current value of message group id parameter.
+     * @param body
+     *        Message body.
+     * @return Message group id.
+     */
+    public abstract String groupId(String groupId, String body);
+
+    /**
+     * Create message group strategy.
+     * @param strategy
+     *        Strategy name, <code>fixed</code> when empty.
+     * @param prefix
+     *        Prefix of generated group ids.
+     * @param groups
+     *        Number of groups of <code>round_robin</code> and <code>hash</code>.
+     * @param thread
+     *        JMeter thread number, group of <code>thread</code>.
+     * @param field
+     *        Field of the JSON body hashed by <code>hash</code>, empty to hash the whole body.
+     * @return Message group strategy.
+     * @throws IllegalArgumentException
+     *         Exception when the strategy is unknown.
+     */
+    public static MessageGroupStrategy of(String strategy, String prefix, int groups, int thread, String field) {
+        String groupPrefix = prefix == null ? "" : prefix;
+        switch (strategy == null || strategy.isEmpty() ? FIXED : strategy.toLowerCase()) {
+            case FIXED:
+                return new MessageGroupStrategy() {
+                    @Override
+                    public String groupId(String groupId, String body) {
+                        return groupId;
+                    }
+                };
+            case THREAD:
+                String threadGroup = groupPrefix + thread;
+                return new MessageGroupStrategy() {
+                    @Override
+                    public String groupId(String groupId, String body) {
+                        return threadGroup;
+                    }
+                };
+            case ROUND_ROBIN:
+                return new Groups(groupPrefix, groups) {
+                    private final AtomicLong counter = new AtomicLong();
+
+                    @Override
+                    int nextGroup(String body) {
+                        return (int) (counter.getAndIncrement() % names.length);
+                    }
+                };
+            case HASH:
+                return new Groups(groupPrefix, groups) {
+                    @Override
+                    int nextGroup(String body) {
+                        return Math.floorMod(hashedValue(body, field).hashCode(), names.length);
+                    }
+                };
+            default:
+                throw new IllegalArgumentException("Unknown message group strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Value of a top level field of the JSON body, or the whole body when the field is empty or the body is not JSON.
+     * @param body
+     *        Message body.
+     * @param field
+     *        JSON field name.
+     * @return Value to hash.
+     */
+    private static String hashedValue(String body, String field) {
+        if (body == null) {
+            return "";
+        }
+        if (field == null || field.isEmpty()) {
+            return body;
+        }
+        try {
+            return MAPPER.readTree(body).path(field).asText(body);
+        } catch (JsonProcessingException e) {
+            return body;
+        }
+    }
+
+    /**
+     * Group id chosen among a precomputed set of group ids, so no group id is built per message.
+     */
+    private abstract static class Groups extends MessageGroupStrategy {
+
+        /**
+         * Group ids, prefix and group number.
+         */
+        protected final String[] names;
+
+        private Groups(String prefix, int count) {
+            names = new String[Math.max(1, count)];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = prefix + i;
+            }
+        }
+
+        /**
+         * Pick index of the next group.
+         * @param body
+         *        Message body.
+         * @return Group index.
+         */
+        abstract int nextGroup(String body);
+
+        @Override
+        public String groupId(String groupId, String body) {
+            return names[nextGroup(body)];
+        }
+    }
+}
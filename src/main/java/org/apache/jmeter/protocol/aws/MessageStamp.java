@@ -0,0 +1,119 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.apache.jmeter.util.JMeterUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sequence stamp of producer samplers, set on a message attribute so consumers can detect lost and duplicated
+ * messages with {@link DeliveryTracker}. The stamp is <code>stream:counter</code>, where the stream is the node id of
+ * the producer JVM and the queue URL or regional topic ARN, and the counter is monotonic per stream from 0, shared by
+ * all the samplers and JMeter threads of the JVM. The counter is taken when the message is built, so producers report
+ * the stamps of failed sends with {@link #failed(String)}: they are logged, for consumers on other nodes, and excluded
+ * from the missing messages of the consumers of the JVM.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class MessageStamp {
+
+    /**
+     * Log attribute.
+     */
+    private static final Logger log = LoggerFactory.getLogger(MessageStamp.class);
+
+    /**
+     * Separator of stream and counter, the last one of the stamp.
+     */
+    public static final char COUNTER_SEPARATOR = ':';
+
+    /**
+     * Separator of node id and target on the stream.
+     */
+    private static final char TARGET_SEPARATOR = '/';
+
+    /**
+     * Counters by stream.
+     */
+    private static final Map<String, AtomicLong> COUNTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Message attribute of the stamp.
+     */
+    private final String attribute;
+
+    /**
+     * Node id of the producer.
+     */
+    private final String nodeId;
+
+    /**
+     * Use {@link #of(String, String)}.
+     */
+    private MessageStamp(String attribute, String nodeId) {
+        this.attribute = attribute;
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * Create message stamp.
+     * @param attribute
+     *        Message attribute of the stamp.
+     * @param nodeId
+     *        Node id of the producer, host name and process id when empty.
+     * @return Message stamp, null when the attribute is empty.
+     */
+    public static MessageStamp of(String attribute, String nodeId) {
+        if (attribute == null || attribute.trim().isEmpty()) {
+            return null;
+        }
+        return new MessageStamp(attribute.trim(), toNodeId(nodeId));
+    }
+
+    /**
+     * Node id of the producer.
+     * @param nodeId
+     *        Node id parameter.
+     * @return Node id, host name and process id when empty.
+     */
+    static String toNodeId(String nodeId) {
+        return nodeId == null || nodeId.trim().isEmpty()
+                ? JMeterUtils.getLocalHostName() + "-" + ProcessHandle.current().pid()
+                : nodeId.trim();
+    }
+
+    /**
+     * Message attribute of the stamp.
+     * @return Attribute name.
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Next stamp of the target.
+     * @param target
+     *        Queue URL or topic ARN of the region the message is sent to.
+     * @return Stamp, <code>node/target:counter</code>.
+     */
+    public String next(String target) {
+        String stream = nodeId + TARGET_SEPARATOR + target;
+        return stream + COUNTER_SEPARATOR + COUNTERS.computeIfAbsent(stream, k -> new AtomicLong()).getAndIncrement();
+    }
+
+    /**
+     * Report the stamp of a message whose send failed.
+     * @param stamp
+     *        Stamp of the message, ignored when null.
+     */
+    public void failed(String stamp) {
+        if (stamp != null) {
+            log.info("Send failed, stamp not delivered: " + stamp);
+            DeliveryTracker.exclude(stamp);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package org.apache.jmeter.protocol.aws;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Multi-region mode of producer samplers: one sampler sends to many regions and accounts, e.g. for disaster recovery
+ * tests. Regions are one per line, each one with an optional IAM role to assume in other account
+ * (<code>eu-west-1@arn:aws:iam::123456789012:role/load</code>) and an optional weight (<code>us-east-1|3</code>);
+ * sends are routed at random by weight.
+ * <p>
+ * There is one client per service, region and role, pooled by all the samplers and JMeter threads of the JVM with the
+ * same credentials and endpoint, and closed when the last one is closed. Roles are assumed through STS with the
+ * credentials of the sampler, cached until they expire. The region picked is counted and reported per region like
+ * the targets of {@link MultiTarget}.
+ * @param <C> AWS client type.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class MultiRegion<C> {
+
+    /**
+     * Separator of region and role.
+     */
+    private static final char ROLE_SEPARATOR = '@';
+
+    /**
+     * Pooled clients by key, guarded by itself.
+     */
+    private static final Map<String, Pooled> POOL = new HashMap<>();
+
+    /**
+     * Region selector.
+     */
+    private final MultiTarget selector;
+
+    /**
+     * Clients by region entry.
+     */
+    private final Map<String, C> clients = new LinkedHashMap<>();
+
+    /**
+     * Pool keys of the clients.
+     */
+    private final Map<String, String> keys = new HashMap<>();
+
+    /**
+     * Use {@link #of(Map, String, Function)}.
+     */
+    private MultiRegion(MultiTarget selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Create multi-region router of <code>aws_regions</code> parameter, with a pooled client per region and role.
+     * @param parameters
+     *        Represents the input of JMeter Java Request parameters.
+     * @param service
+     *        Service name, part of the pool key.
+     * @param factory
+     *        Client factory, called with the parameters of a region: <code>aws_region</code> and
+     *        <code>aws_role_arn</code> set to the ones of the entry.
+     * @param <C> AWS client type.
+     * @return Multi-region router, null when <code>aws_regions</code> is empty.
+     * @throws IllegalArgumentException
+     *         Exception when an entry is malformed or a weight is not a positive number.
+     */
+    public static <C> MultiRegion<C> of(Map<String, String> parameters, String service,
+                                        Function<Map<String, String>, C> factory) {
+        MultiTarget selector = MultiTarget.of(parameters.get(AWSSampler.AWS_REGIONS), MultiTarget.WEIGHT,
+                MultiTarget.REGION);
+        if (selector == null) {
+            return null;
+        }
+        MultiRegion<C> multiRegion = new MultiRegion<>(selector);
+        try {
+            for (String entry : selector.getTargets()) {
+                Map<String, String> regional = new HashMap<>(parameters);
+                int idx = entry.indexOf(ROLE_SEPARATOR);
+                regional.put(AWSSampler.AWS_REGION, idx < 0 ? entry : entry.substring(0, idx).trim());
+                if (idx >= 0) {
+                    regional.put(AWSSampler.AWS_ROLE_ARN, entry.substring(idx + 1).trim());
+                }
+                String key = String.join("|", service, regional.get(AWSSampler.AWS_REGION),
+                        String.valueOf(regional.get(AWSSampler.AWS_ROLE_ARN)),
+                        String.valueOf(regional.get(AWSSampler.AWS_ROLE_SESSION_NAME)),
+                        String.valueOf(regional.get(AWSSampler.AWS_ACCESS_KEY_ID)),
+                        String.valueOf(regional.get(AWSSampler.AWS_CONFIG_PROFILE)),
+                        String.valueOf(regional.get(AWSSampler.AWS_ENDPOINT_CUSTOM)),
+                        String.valueOf(regional.get(AWSSampler.AWS_MAX_CONNECTIONS)));
+                multiRegion.keys.put(entry, key);
+                multiRegion.clients.put(entry, acquire(key, () -> factory.apply(regional)));
+            }
+        } catch (RuntimeException e) {
+            selector.release();
+            throw e;
+        }
+        return multiRegion;
+    }
+
+    /**
+     * Get the pooled client of the key, creating it when missing.
+     * @param key
+     *        Pool key.
+     * @param factory
+     *        Client factory.
+     * @param <C> AWS client type.
+     * @return Pooled client.
+     */
+    @SuppressWarnings("unchecked")
+    private static <C> C acquire(String key, Supplier<C> factory) {
+        synchronized (POOL) {
+            Pooled pooled = POOL.get(key);
+            if (pooled == null) {
+                pooled = new Pooled(factory.get());
+                POOL.put(key, pooled);
+            }
+            pooled.references++;
+            return (C) pooled.client;
+        }
+    }
+
+    /**
+     * Pick the region of the next send, kept by the thread until the sample ends.
+     * @return Client of the region.
+     */
+    public C next() {
+        return clients.get(selector.next(null));
+    }
+
+    /**
+     * Client of the region picked by the thread, the first region when none was picked, e.g. on setup.
+     * @return Client of the region.
+     */
+    public C current() {
+        String picked = MultiTarget.getPicked(MultiTarget.REGION);
+        C client = picked == null ? null : clients.get(picked);
+        return client == null ? clients.values().iterator().next() : client;
+    }
+
+    /**
+     * Rewrite the region, and the account when a role is assumed, of an ARN to the ones of the region picked by the
+     * thread, e.g. to publish on the topic of the same name on each region and account.
+     * @param arn
+     *        ARN, <code>arn:partition:service:region:account:resource</code>.
+     * @return ARN of the region picked, the same ARN when it isn't regional or no region was picked.
+     */
+    public String toRegionalArn(String arn) {
+        String picked = MultiTarget.getPicked(MultiTarget.REGION);
+        String[] parts = arn == null ? new String[0] : arn.split(":", 6);
+        if (picked == null || parts.length < 6 || parts[3].isEmpty()) {
+            return arn;
+        }
+        int idx = picked.indexOf(ROLE_SEPARATOR);
+        parts[3] = idx < 0 ? picked : picked.substring(0, idx).trim();
+        if (idx >= 0) {
+            String[] role = picked.substring(idx + 1).trim().split(":", 6);
+            parts[4] = role.length == 6 ? role[4] : parts[4];
+        }
+        return String.join(":", parts);
+    }
+
+    /**
+     * Clients of the regions, in spec order.
+     * @return Clients.
+     */
+    public Collection<C> getClients() {
+        return clients.values();
+    }
+
+    /**
+     * Regions and roles, in spec order.
+     * @return Region entries.
+     */
+    public List<String> getRegions() {
+        return selector.getTargets();
+    }
+
+    /**
+     * Release the clients, closing the ones no other sampler uses, and the region selector.
+     * @param closer
+     *        Client close operation.
+     */
+    @SuppressWarnings("unchecked")
+    public void close(Consumer<C> closer) {
+        selector.release();
+        synchronized (POOL) {
+            keys.values().forEach(key -> {
+                Pooled pooled = POOL.get(key);
+                if (pooled != null && --pooled.references == 0) {
+                    POOL.remove(key);
+                    closer.accept((C) pooled.client);
+                }
+            });
+        }
+    }
+
+    /**
+     * Pooled client and its references.
+     */
+    private static final class Pooled {
+
+        /**
+         * AWS client.
+         */
+        private final Object client;
+
+        /**
+         * Samplers using the client.
+         */
+        private int references;
+
+        private Pooled(Object client) {
+            this.client = client;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package org.apache.jmeter.protocol.aws;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Multi-target mode of producer samplers: one sampler and one client send to many queues, topics, streams or event
+ * buses. Targets are one per line, each one with an optional weight after <code>|</code> (<code>orders|3</code>),
+ * so names and role ARNs may hold commas and equal signs, and a numeric range pattern expanded to many targets
+ * (<code>orders-{001..200}</code>).
+ * <ul>
+ *     <li><code>weight</code>: random target by weight, default.</li>
+ *     <li><code>hash</code>: target by hash of the sample key, by weight, so the same key always goes to the same
+ *     target.</li>
+ *     <li><code>round_robin</code>: targets in round robin order, weights ignored.</li>
+ * </ul>
+ * The target picked is kept per thread until the sample ends, then its send, error and latency are counted per
+ * target, shared by all JMeter threads and cleared when the last selector is released, so each test starts from zero.
+ * Each selector has a kind, so a sample can pick a target of each kind, e.g. a queue and the region of
+ * {@link MultiRegion}.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class MultiTarget {
+
+    /**
+     * Random target by weight distribution.
+     */
+    public static final String WEIGHT = "weight";
+
+    /**
+     * Target by key hash distribution.
+     */
+    public static final String HASH = "hash";
+
+    /**
+     * Round robin distribution.
+     */
+    public static final String ROUND_ROBIN = "round_robin";
+
+    /**
+     * Kind of queue, topic, stream or event bus targets.
+     */
+    public static final String TARGET = "Target";
+
+    /**
+     * Kind of region and role targets.
+     */
+    public static final String REGION = "Region";
+
+    /**
+     * Separator of target name and weight.
+     */
+    private static final char WEIGHT_SEPARATOR = '|';
+
+    /**
+     * Numeric range pattern, <code>{from..to}</code>, zero padded to the width of <code>from</code>.
+     */
+    private static final Pattern RANGE = Pattern.compile("\\{(\\d+)\\.\\.(\\d+)}");
+
+    /**
+     * Stats by kind and target name.
+     */
+    private static final Map<String, Map<String, Stats>> STATS = new ConcurrentHashMap<>();
+
+    /**
+     * Selectors created and not released yet.
+     */
+    private static final AtomicInteger SELECTORS = new AtomicInteger();
+
+    /**
+     * Targets picked by the thread for the sample in progress, by kind.
+     */
+    private static final ThreadLocal<Map<String, String>> PICKED = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    /**
+     * Kind of the targets.
+     */
+    private final String kind;
+
+    /**
+     * Target names.
+     */
+    private final String[] targets;
+
+    /**
+     * Cumulative weights of the targets.
+     */
+    private final double[] cumulative;
+
+    /**
+     * Distribution of sends over the targets.
+     */
+    private final String distribution;
+
+    /**
+     * Sends of round robin distribution.
+     */
+    private final AtomicLong counter = new AtomicLong();
+
+    /**
+     * Use {@link #of(String, String, String)}.
+     */
+    private MultiTarget(String kind, String[] targets, double[] weights, String distribution) {
+        this.kind = kind;
+        this.targets = targets;
+        this.cumulative = new double[weights.length];
+        this.distribution = distribution;
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+    }
+
+    /**
+     * Create multi-target selector of queue, topic, stream or event bus targets.
+     * @param spec
+     *        Targets, one per line, with optional weights and range patterns.
+     * @param distribution
+     *        Distribution name, <code>weight</code> when empty.
+     * @return Multi-target selector, null when the spec is empty.
+     * @throws IllegalArgumentException
+     *         Exception when the distribution is unknown, an entry is malformed or a weight is not a positive number.
+     */
+    public static MultiTarget of(String spec, String distribution) {
+        return of(spec, distribution, TARGET);
+    }
+
+    /**
+     * Create multi-target selector.
+     * @param spec
+     *        Targets, one per line, with optional weights and range patterns.
+     * @param distribution
+     *        Distribution name, <code>weight</code> when empty.
+     * @param kind
+     *        Kind of the targets, {@link #TARGET} or {@link #REGION}.
+     * @return Multi-target selector, null when the spec is empty.
+     * @throws IllegalArgumentException
+     *         Exception when the distribution is unknown, an entry is malformed or a weight is not a positive number.
+     */
+    public static MultiTarget of(String spec, String distribution, String kind) {
+        if (spec == null || spec.trim().isEmpty()) {
+            return null;
+        }
+        String mode = distribution == null || distribution.isEmpty() ? WEIGHT : distribution.toLowerCase();
+        if (!Arrays.asList(WEIGHT, HASH, ROUND_ROBIN).contains(mode)) {
+            throw new IllegalArgumentException("Unknown " + kind.toLowerCase() + " distribution: " + distribution);
+        }
+        List<String> names = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (String line : spec.split("\\R")) {
+            String entry = line.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            int idx = entry.indexOf(WEIGHT_SEPARATOR);
+            String name = idx < 0 ? entry : entry.substring(0, idx).trim();
+            if (name.isEmpty() || idx >= 0 && entry.indexOf(WEIGHT_SEPARATOR, idx + 1) >= 0) {
+                throw new IllegalArgumentException(kind + " must be name or name" + WEIGHT_SEPARATOR +
+                        "weight, one per line: " + entry);
+            }
+            double weight = idx < 0 ? 1 : parseWeight(kind, entry, entry.substring(idx + 1).trim());
+            for (String expanded : expand(name)) {
+                names.add(expanded);
+                weights.add(weight);
+            }
+        }
+        if (names.isEmpty()) {
+            return null;
+        }
+        SELECTORS.incrementAndGet();
+        return new MultiTarget(kind, names.toArray(new String[0]),
+                weights.stream().mapToDouble(Double::doubleValue).toArray(), mode);
+    }
+
+    /**
+     * Release the selector, on the teardown of its sampler. The stats of all targets are cleared when the last
+     * selector is released, so they don't carry over to the next test.
+     */
+    public void release() {
+        if (SELECTORS.decrementAndGet() == 0) {
+            STATS.clear();
+        }
+    }
+
+    /**
+     * Parse the weight of a target entry.
+     * @param kind
+     *        Kind of the targets.
+     * @param entry
+     *        Target entry, for the error message.
+     * @param weight
+     *        Weight after the separator.
+     * @return Weight.
+     * @throws IllegalArgumentException
+     *         Exception when the weight is not a positive number.
+     */
+    private static double parseWeight(String kind, String entry, String weight) {
+        double value;
+        try {
+            value = Double.parseDouble(weight);
+        } catch (NumberFormatException e) {
+            value = Double.NaN;
+        }
+        if (!(value > 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(kind + " weight must be a positive number: " + entry);
+        }
+        return value;
+    }
+
+    /**
+     * Expand the first range pattern of the target name, recursively.
+     * @param name
+     *        Target name.
+     * @return Target names.
+     */
+    static List<String> expand(String name) {
+        Matcher matcher = RANGE.matcher(name);
+        if (!matcher.find()) {
+            return List.of(name);
+        }
+        long from = Long.parseLong(matcher.group(1));
+        long to = Long.parseLong(matcher.group(2));
+        String format = "%0" + matcher.group(1).length() + "d";
+        List<String> names = new ArrayList<>();
+        for (long i = from; i <= to; i++) {
+            names.addAll(expand(name.substring(0, matcher.start()) + String.format(format, i) +
+                    name.substring(matcher.end())));
+        }
+        return names;
+    }
+
+    /**
+     * Pick the target of the next send, kept by the thread until {@link #complete(long, boolean)}.
+     * @param key
+     *        Key of the send, used by <code>hash</code> distribution.
+     * @return Target name.
+     */
+    public String next(String key) {
+        String target;
+        switch (distribution) {
+            case ROUND_ROBIN:
+                target = targets[(int) (counter.getAndIncrement() % targets.length)];
+                break;
+            case HASH:
+                int hash = (key == null ? 0 : key.hashCode()) * 0x9E3779B9;
+                target = pick(((hash ^ (hash >>> 16)) & 0x7fffffff) / (double) (1L << 31));
+                break;
+            default:
+                target = pick(ThreadLocalRandom.current().nextDouble());
+        }
+        PICKED.get().put(kind, target);
+        return target;
+    }
+
+    /**
+     * Target of the position on the cumulative weights.
+     * @param position
+     *        Position from 0 to 1.
+     * @return Target name.
+     */
+    private String pick(double position) {
+        int idx = Arrays.binarySearch(cumulative, position * cumulative[cumulative.length - 1]);
+        idx = idx < 0 ? -idx - 1 : idx + 1;
+        return targets[Math.min(idx, targets.length - 1)];
+    }
+
+    /**
+     * Number of targets.
+     * @return targets.
+     */
+    public int size() {
+        return targets.length;
+    }
+
+    /**
+     * Target names, once each, in spec order.
+     * @return Target names.
+     */
+    public List<String> getTargets() {
+        return Arrays.stream(targets).distinct().collect(Collectors.toList());
+    }
+
+    /**
+     * Target of the kind picked by the thread for the sample in progress.
+     * @param kind
+     *        Kind of the targets.
+     * @return Target name, null when the thread didn't pick a target of the kind.
+     */
+    public static String getPicked(String kind) {
+        return PICKED.get().get(kind);
+    }
+
+    /**
+     * Forget the targets picked by the thread without recording the send, e.g. for samples excluded from results.
+     */
+    public static void discard() {
+        PICKED.get().clear();
+    }
+
+    /**
+     * Record the send to the targets picked by the thread, if any.
+     * @param elapsedMs
+     *        Send latency.
+     * @param success
+     *        Whether the send was successful.
+     * @return Target names by kind, empty when the thread didn't pick a target.
+     */
+    public static Map<String, String> complete(long elapsedMs, boolean success) {
+        Map<String, String> picked = PICKED.get();
+        if (picked.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> completed = new LinkedHashMap<>(picked);
+        picked.clear();
+        completed.forEach((kind, target) -> {
+            Stats stats = STATS.computeIfAbsent(kind, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(target, k -> new Stats());
+            stats.sends.increment();
+            stats.latency.add(elapsedMs);
+            if (!success) {
+                stats.errors.increment();
+            }
+        });
+        return completed;
+    }
+
+    /**
+     * Summary of the target.
+     * @param kind
+     *        Kind of the target.
+     * @param target
+     *        Target name.
+     * @return Target, sends, errors, throughput and average latency.
+     */
+    public static String getSummary(String kind, String target) {
+        Stats stats = STATS.computeIfAbsent(kind, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(target, k -> new Stats());
+        return String.format(" \n%1$s: %2$s \n%1$s sends: %3$d \n%1$s errors: %4$d \n%1$s tps: %5$.1f " +
+                "\n%1$s avg ms: %6$.1f", kind, target, stats.sends.sum(), stats.errors.sum(), stats.getTps(),
+                stats.getAverage());
+    }
+
+    /**
+     * Sends per target of the kind, sorted by target name.
+     * @param kind
+     *        Kind of the targets.
+     * @return Sends by target.
+     */
+    public static Map<String, Long> getSends(String kind) {
+        return STATS.getOrDefault(kind, Map.of()).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sends.sum(), Long::sum, TreeMap::new));
+    }
+
+    /**
+     * Sends, errors and latency of a target.
+     */
+    private static final class Stats {
+
+        /**
+         * Time of the first send.
+         */
+        private final long start = System.currentTimeMillis();
+
+        /**
+         * Sends.
+         */
+        private final LongAdder sends = new LongAdder();
+
+        /**
+         * Failed sends.
+         */
+        private final LongAdder errors = new LongAdder();
+
+        /**
+         * Sum of send latencies, milliseconds.
+         */
+        private final LongAdder latency = new LongAdder();
+
+        /**
+         * Sends per second since the first send.
+         * @return throughput.
+         */
+        private double getTps() {
+            long elapsed = System.currentTimeMillis() - start;
+            return elapsed <= 0 ? 0 : sends.sum() * 1000.0 / elapsed;
+        }
+
+        /**
+         * Average send latency.
+         * @return milliseconds.
+         */
+        private double getAverage() {
+            long count = sends.sum();
+            return count == 0 ? 0 : latency.sum() / (double) count;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.apache.jmeter.protocol.aws;
+
+/**
+ * Per-key sequence stamp of producer samplers, so consumers can verify with {@link OrderVerifier} that messages of the
+ * same message group or partition key are delivered in order. The stamp is <code>node/target:sequence</code>, where
+ * the target is the queue, topic or stream and its region, and the sequence is monotonic per target and key from 0 on
+ * the producer node, shared by all the samplers and JMeter threads of the JVM. Sequences and sends in flight are kept
+ * on striped primitive maps of the key hash, with no boxing, for millions of keys.
+ * <p>
+ * The order is only defined for one sender per key at a time: a stamp taken while another send of the key is in
+ * flight ends with {@link #CONCURRENT}, so consumers count its reordering apart instead of failing the sample.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class OrderStamp {
+
+    /**
+     * Separator of node id and sequence, the last one of the stamp.
+     */
+    public static final char SEQUENCE_SEPARATOR = ':';
+
+    /**
+     * Suffix of the stamps taken while another send of the key was in flight.
+     */
+    public static final char CONCURRENT = '*';
+
+    /**
+     * Separator of node id and target.
+     */
+    private static final char TARGET_SEPARATOR = '/';
+
+    /**
+     * Bits of the sends in flight, the low bits of the values of the maps, the sequence takes the high ones.
+     */
+    private static final int IN_FLIGHT_BITS = 20;
+
+    /**
+     * Mask of the sends in flight.
+     */
+    private static final long IN_FLIGHT_MASK = (1L << IN_FLIGHT_BITS) - 1;
+
+    /**
+     * Number of stripes, power of two.
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * Next sequence and sends in flight by target and key hash, each stripe guarded by itself.
+     */
+    private static final LongLongMap[] SEQUENCES = new LongLongMap[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            SEQUENCES[i] = new LongLongMap(1024);
+        }
+    }
+
+    /**
+     * Message attribute, or data record prefix, of the stamp.
+     */
+    private final String attribute;
+
+    /**
+     * Node id of the producer.
+     */
+    private final String nodeId;
+
+    /**
+     * Use {@link #of(String, String)}.
+     */
+    private OrderStamp(String attribute, String nodeId) {
+        this.attribute = attribute;
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * Create order stamp.
+     * @param attribute
+     *        Message attribute, or data record prefix, of the stamp.
+     * @param nodeId
+     *        Node id of the producer, host name and process id when empty.
+     * @return Order stamp, null when the attribute is empty.
+     */
+    public static OrderStamp of(String attribute, String nodeId) {
+        if (attribute == null || attribute.trim().isEmpty()) {
+            return null;
+        }
+        return new OrderStamp(attribute.trim(), MessageStamp.toNodeId(nodeId));
+    }
+
+    /**
+     * Message attribute, or data record prefix, of the stamp.
+     * @return Attribute name.
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Next stamp of the key, counted as in flight until {@link #sent(String, String)}.
+     * @param target
+     *        Queue URL, topic ARN or region and stream name.
+     * @param key
+     *        Message group id or partition key.
+     * @return Stamp, <code>node/target:sequence</code>, ended with {@link #CONCURRENT} when another send of the key
+     * is in flight.
+     */
+    public String next(String target, String key) {
+        long hash = hash(target, key);
+        LongLongMap sequences = SEQUENCES[(int) (hash >>> 58) & (STRIPES - 1)];
+        long value;
+        synchronized (sequences) {
+            value = sequences.get(hash, 0);
+            sequences.put(hash, value + (1L << IN_FLIGHT_BITS) + ((value & IN_FLIGHT_MASK) < IN_FLIGHT_MASK ? 1 : 0));
+        }
+        String stamp = nodeId + TARGET_SEPARATOR + target + SEQUENCE_SEPARATOR + (value >>> IN_FLIGHT_BITS);
+        return (value & IN_FLIGHT_MASK) == 0 ? stamp : stamp + CONCURRENT;
+    }
+
+    /**
+     * End the send of a stamp of the key, successful or not.
+     * @param target
+     *        Queue URL, topic ARN or region and stream name.
+     * @param key
+     *        Message group id or partition key.
+     */
+    public void sent(String target, String key) {
+        long hash = hash(target, key);
+        LongLongMap sequences = SEQUENCES[(int) (hash >>> 58) & (STRIPES - 1)];
+        synchronized (sequences) {
+            long value = sequences.get(hash, 0);
+            if ((value & IN_FLIGHT_MASK) > 0) {
+                sequences.put(hash, value - 1);
+            }
+        }
+    }
+
+    /**
+     * Hash of the target and key.
+     * @param target
+     *        Queue URL, topic ARN or region and stream name.
+     * @param key
+     *        Message group id or partition key.
+     * @return Hash.
+     */
+    private static long hash(String target, String key) {
+        return LongLongMap.hash(target + '\u0000' + (key == null ? "" : key));
+    }
+}
@@ -0,0 +1,140 @@
+package org.apache.jmeter.protocol.aws;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verifies on consumer samplers the stamps of {@link OrderStamp}: the last sequence of each producer node and key
+ * (message group id or partition key) is kept on striped primitive maps of the key hash, with no boxing, for millions
+ * of keys. A sequence lower than the last one of the key is out of order, the same one is a duplicate (e.g. a retry),
+ * and a sequence more than one above the last one is a gap of the sequences skipped, lost or reordered. The first
+ * sequence of each key is the baseline. Stamps sent while another send of the key was in flight can be reordered by
+ * the producer itself, so a lower sequence is counted as concurrent, not out of order, when it or the last one is
+ * marked {@link OrderStamp#CONCURRENT}. Keys are shared by all the samplers and JMeter threads of the JVM.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class OrderVerifier {
+
+    /**
+     * Number of stripes, power of two.
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * Sequence returned by the maps for keys not seen yet.
+     */
+    private static final long NONE = -1;
+
+    /**
+     * Last sequence by key hash, shifted left one bit with the concurrent mark, each stripe guarded by itself.
+     */
+    private static final LongLongMap[] LAST_SEQUENCES = new LongLongMap[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            LAST_SEQUENCES[i] = new LongLongMap(1024);
+        }
+    }
+
+    /**
+     * Records verified.
+     */
+    private static final LongAdder RECORDS = new LongAdder();
+
+    /**
+     * Sequences lower than the last one of the key.
+     */
+    private static final LongAdder OUT_OF_ORDER = new LongAdder();
+
+    /**
+     * Sequences lower than the last one of the key, sent concurrently with it.
+     */
+    private static final LongAdder CONCURRENT = new LongAdder();
+
+    /**
+     * Sequences equal to the last one of the key.
+     */
+    private static final LongAdder DUPLICATES = new LongAdder();
+
+    /**
+     * Sequences skipped.
+     */
+    private static final LongAdder GAPS = new LongAdder();
+
+    /**
+     * Stamps that couldn't be parsed.
+     */
+    private static final LongAdder INVALID = new LongAdder();
+
+    private OrderVerifier() {
+    }
+
+    /**
+     * Verify the stamp of a received message or record.
+     * @param key
+     *        Message group id or partition key.
+     * @param stamp
+     *        Stamp, <code>node/target:sequence</code>, ended with {@link OrderStamp#CONCURRENT} when sent concurrently.
+     * @return false when the sequence is out of order or the stamp is not valid.
+     */
+    public static boolean verify(String key, String stamp) {
+        int idx = stamp == null ? -1 : stamp.lastIndexOf(OrderStamp.SEQUENCE_SEPARATOR);
+        boolean concurrent = idx >= 0 && stamp.charAt(stamp.length() - 1) == OrderStamp.CONCURRENT;
+        long sequence;
+        try {
+            sequence = idx < 0 ? NONE : Long.parseLong(stamp.substring(idx + 1,
+                    concurrent ? stamp.length() - 1 : stamp.length()));
+        } catch (NumberFormatException e) {
+            sequence = NONE;
+        }
+        if (sequence < 0) {
+            INVALID.increment();
+            return false;
+        }
+        RECORDS.increment();
+        long hash = LongLongMap.hash(stamp.substring(0, idx) + '\u0000' + (key == null ? "" : key));
+        LongLongMap lastSequences = LAST_SEQUENCES[(int) (hash >>> 58) & (STRIPES - 1)];
+        long packed;
+        synchronized (lastSequences) {
+            packed = lastSequences.get(hash, NONE);
+            if (packed == NONE || sequence > packed >>> 1) {
+                lastSequences.put(hash, sequence << 1 | (concurrent ? 1 : 0));
+            }
+        }
+        long last = packed == NONE ? NONE : packed >>> 1;
+        if (last == NONE || sequence == last + 1) {
+            return true;
+        }
+        if (sequence > last) {
+            GAPS.add(sequence - last - 1);
+            return true;
+        }
+        if (sequence == last) {
+            DUPLICATES.increment();
+            return true;
+        }
+        if (concurrent || (packed & 1) == 1) {
+            CONCURRENT.increment();
+            return true;
+        }
+        OUT_OF_ORDER.increment();
+        return false;
+    }
+
+    /**
+     * Summary of the verification.
+     * @return Keys, records, out of order, concurrent, duplicated, skipped and invalid counts.
+     */
+    public static String getSummary() {
+        long keys = 0;
+        for (LongLongMap lastSequences : LAST_SEQUENCES) {
+            synchronized (lastSequences) {
+                keys += lastSequences.size();
+            }
+        }
+        return String.format("Ordered keys: %d \nOrdered records: %d \nOut of order: %d \nConcurrent sends " +
+                        "reordered: %d \nRedelivered: %d \nSequence gaps: %d \nInvalid order stamps: %d", keys,
+                RECORDS.sum(), OUT_OF_ORDER.sum(), CONCURRENT.sum(), DUPLICATES.sum(), GAPS.sum(), INVALID.sum());
+    }
+}
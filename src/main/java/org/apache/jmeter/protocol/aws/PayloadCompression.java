@@ -0,0 +1,506 @@
+package org.apache.jmeter.protocol.aws;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.xxhash.XXHash32;
+import net.jpountz.xxhash.XXHashFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Payload compression of Kinesis, SQS and SNS producers, to send the bytes production producers put on the wire.
+ * Compressors and buffers are pooled by the compression of each sampler and leased by the thread of a sample, so the
+ * virtual threads of the drivers reuse them too. A payload is copied once into the input buffer and compressed into
+ * the output buffer, which is valid until the sample calls {@link #release()}. {@link #close()} frees the codec
+ * contexts on teardown.
+ * <ul>
+ *     <li><code>none</code>: payload as is, default.</li>
+ *     <li><code>gzip</code>: GZIP format (RFC 1952).</li>
+ *     <li><code>zstd</code>: Zstandard frame.</li>
+ *     <li><code>lz4</code>: LZ4 frame with independent 4 MB blocks, readable by <code>lz4</code> command.</li>
+ * </ul>
+ * Text-only services (SQS and SNS message bodies) get the compressed payload in Base64.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public abstract class PayloadCompression {
+
+    /**
+     * No compression.
+     */
+    public static final String NONE = "none";
+
+    /**
+     * GZIP compression.
+     */
+    public static final String GZIP = "gzip";
+
+    /**
+     * Zstandard compression.
+     */
+    public static final String ZSTD = "zstd";
+
+    /**
+     * LZ4 compression.
+     */
+    public static final String LZ4 = "lz4";
+
+    /**
+     * Codec default compression level.
+     */
+    public static final int DEFAULT_LEVEL = -1;
+
+    /**
+     * Initial size of pooled buffers.
+     */
+    private static final int INITIAL_BUFFER = 64 * 1024;
+
+    /**
+     * Compression name.
+     */
+    private final String name;
+
+    /**
+     * Buffers not leased by any thread.
+     */
+    private final Queue<Buffers> pool = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Buffers leased by the thread of the sample, until it releases them.
+     */
+    private final ThreadLocal<Buffers> leased = new ThreadLocal<>();
+
+    /**
+     * Create compression.
+     * @param name
+     *        Compression name.
+     */
+    protected PayloadCompression(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Create payload compression.
+     * @param compression
+     *        Compression name, <code>none</code> when empty.
+     * @param level
+     *        Compression level, {@link #DEFAULT_LEVEL} for codec default.
+     * @return Payload compression.
+     * @throws IllegalArgumentException
+     *         Exception when the compression is unknown.
+     */
+    public static PayloadCompression of(String compression, int level) {
+        switch (compression == null || compression.isEmpty() ? NONE : compression.toLowerCase()) {
+            case NONE:
+                return new None();
+            case GZIP:
+                return new Gzip(level);
+            case ZSTD:
+                return new Zstandard(level);
+            case LZ4:
+                return new Lz4();
+            default:
+                throw new IllegalArgumentException("Unknown compression: " + compression);
+        }
+    }
+
+    /**
+     * Check whether payloads are compressed.
+     * @return false for <code>none</code>.
+     */
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Compress binary payload.
+     * @param payload
+     *        Raw payload, its position is not changed.
+     * @return View of the compressed payload, valid until the thread releases the buffers.
+     */
+    public ByteBuffer compress(ByteBuffer payload) {
+        Buffers thread = lease();
+        int length = payload.remaining();
+        thread.input = ensure(thread.input, length);
+        payload.duplicate().get(thread.input, 0, length);
+        thread.rawBytes = length;
+        thread.compressedBytes = compress(thread, length);
+        thread.encodedBytes = thread.compressedBytes;
+        return ByteBuffer.wrap(thread.output, 0, thread.compressedBytes);
+    }
+
+    /**
+     * Compress text payload, UTF-8 encoded.
+     * @param payload
+     *        Raw text.
+     * @return View of the compressed payload, valid until the thread releases the buffers.
+     */
+    public ByteBuffer compress(String payload) {
+        return compress(ByteBuffer.wrap(String.valueOf(payload).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Compress text payload and encode it in Base64, for text-only services.
+     * @param payload
+     *        Raw text.
+     * @return Base64 of the compressed payload.
+     */
+    public String compressToBase64(String payload) {
+        ByteBuffer compressed = compress(payload);
+        String encoded = new String(Base64.getEncoder().encode(compressed).array(), StandardCharsets.ISO_8859_1);
+        leased.get().encodedBytes = encoded.length();
+        return encoded;
+    }
+
+    /**
+     * Summary of the payload compressed by the thread, before it releases the buffers.
+     * @return Compression, raw, compressed and sent bytes, empty when the thread compressed no payload.
+     */
+    public String getSummary() {
+        Buffers thread = leased.get();
+        if (thread == null) {
+            return "";
+        }
+        return String.format(" \nCompression: %s \nRaw bytes: %d \nCompressed bytes: %d \nSent bytes: %d",
+                name, thread.rawBytes, thread.compressedBytes, thread.encodedBytes);
+    }
+
+    /**
+     * Return the buffers leased by the thread to the pool, once the compressed payload was sent.
+     */
+    public void release() {
+        Buffers thread = leased.get();
+        if (thread != null) {
+            leased.remove();
+            pool.offer(thread);
+        }
+    }
+
+    /**
+     * Free the codec contexts of the pooled buffers, on teardown.
+     */
+    public void close() {
+        Buffers buffers;
+        while ((buffers = pool.poll()) != null) {
+            if (buffers.context != null) {
+                end(buffers.context);
+            }
+        }
+    }
+
+    /**
+     * Lease buffers to the thread, from the pool or new when every pooled one is leased.
+     * @return Buffers of the thread.
+     */
+    private Buffers lease() {
+        Buffers thread = leased.get();
+        if (thread == null) {
+            thread = pool.poll();
+            if (thread == null) {
+                thread = new Buffers();
+            }
+            leased.set(thread);
+        }
+        return thread;
+    }
+
+    /**
+     * Free a compressor context of the codec.
+     * @param context
+     *        Compressor context.
+     */
+    protected void end(Object context) {
+    }
+
+    /**
+     * Compress the input buffer of the thread into its output buffer.
+     * @param thread
+     *        Buffers of the thread.
+     * @param length
+     *        Bytes on the input buffer.
+     * @return Bytes on the output buffer.
+     */
+    protected abstract int compress(Buffers thread, int length);
+
+    /**
+     * Get a buffer of at least the size, reusing it when big enough.
+     * @param buffer
+     *        Current buffer.
+     * @param size
+     *        Needed size.
+     * @return Buffer.
+     */
+    protected static byte[] ensure(byte[] buffer, int size) {
+        return buffer.length >= size ? buffer : new byte[Math.max(size, buffer.length * 2)];
+    }
+
+    /**
+     * Write int little endian.
+     * @param buffer
+     *        Buffer.
+     * @param offset
+     *        Position.
+     * @param value
+     *        Int value.
+     */
+    protected static void writeIntLE(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >>> 8);
+        buffer[offset + 2] = (byte) (value >>> 16);
+        buffer[offset + 3] = (byte) (value >>> 24);
+    }
+
+    /**
+     * Buffers, compressor context and sizes of the last payload compressed with them.
+     */
+    protected static class Buffers {
+
+        /**
+         * Raw payload.
+         */
+        protected byte[] input = new byte[INITIAL_BUFFER];
+
+        /**
+         * Compressed payload.
+         */
+        protected byte[] output = new byte[INITIAL_BUFFER];
+
+        /**
+         * Compressor context of the codec.
+         */
+        protected Object context;
+
+        /**
+         * Raw bytes of last payload.
+         */
+        private int rawBytes;
+
+        /**
+         * Compressed bytes of last payload.
+         */
+        private int compressedBytes;
+
+        /**
+         * Sent bytes of last payload, after Base64 for text-only services.
+         */
+        private int encodedBytes;
+    }
+
+    /**
+     * Payload as is.
+     */
+    private static final class None extends PayloadCompression {
+
+        private None() {
+            super(NONE);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public ByteBuffer compress(ByteBuffer payload) {
+            return payload;
+        }
+
+        @Override
+        public String compressToBase64(String payload) {
+            return payload;
+        }
+
+        @Override
+        public String getSummary() {
+            return "";
+        }
+
+        @Override
+        protected int compress(Buffers thread, int length) {
+            System.arraycopy(thread.input, 0, thread.output = ensure(thread.output, length), 0, length);
+            return length;
+        }
+    }
+
+    /**
+     * GZIP with a reused raw Deflater, header and trailer written by hand.
+     */
+    private static final class Gzip extends PayloadCompression {
+
+        /**
+         * GZIP header: magic, deflate method, no flags, no time, unknown OS.
+         */
+        private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+        /**
+         * GZIP trailer size, CRC32 and input size.
+         */
+        private static final int TRAILER = 8;
+
+        /**
+         * Compression level.
+         */
+        private final int level;
+
+        private Gzip(int level) {
+            super(GZIP);
+            this.level = level;
+        }
+
+        @Override
+        protected int compress(Buffers thread, int length) {
+            if (thread.context == null) {
+                thread.context = new Object[]{new Deflater(level, true), new CRC32()};
+            }
+            Deflater deflater = (Deflater) ((Object[]) thread.context)[0];
+            CRC32 crc = (CRC32) ((Object[]) thread.context)[1];
+            deflater.reset();
+            crc.reset();
+            crc.update(thread.input, 0, length);
+            deflater.setInput(thread.input, 0, length);
+            deflater.finish();
+
+            byte[] output = ensure(thread.output, HEADER.length + length + TRAILER + 64);
+            System.arraycopy(HEADER, 0, output, 0, HEADER.length);
+            int position = HEADER.length;
+            while (!deflater.finished()) {
+                if (position == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                position += deflater.deflate(output, position, output.length - position);
+            }
+            if (position + TRAILER > output.length) {
+                output = Arrays.copyOf(output, position + TRAILER);
+            }
+            writeIntLE(output, position, (int) crc.getValue());
+            writeIntLE(output, position + 4, length);
+            thread.output = output;
+            return position + TRAILER;
+        }
+
+        @Override
+        protected void end(Object context) {
+            ((Deflater) ((Object[]) context)[0]).end();
+        }
+    }
+
+    /**
+     * Zstandard with a reused compression context.
+     */
+    private static final class Zstandard extends PayloadCompression {
+
+        /**
+         * Compression level.
+         */
+        private final int level;
+
+        private Zstandard(int level) {
+            super(ZSTD);
+            this.level = level == DEFAULT_LEVEL ? Zstd.defaultCompressionLevel() : level;
+        }
+
+        @Override
+        protected int compress(Buffers thread, int length) {
+            if (thread.context == null) {
+                ZstdCompressCtx ctx = new ZstdCompressCtx();
+                ctx.setLevel(level);
+                thread.context = ctx;
+            }
+            thread.output = ensure(thread.output, (int) Zstd.compressBound(length));
+            return ((ZstdCompressCtx) thread.context).compressByteArray(thread.output, 0, thread.output.length,
+                    thread.input, 0, length);
+        }
+
+        @Override
+        protected void end(Object context) {
+            ((ZstdCompressCtx) context).close();
+        }
+    }
+
+    /**
+     * LZ4 frame format with independent blocks, no checksums.
+     */
+    private static final class Lz4 extends PayloadCompression {
+
+        /**
+         * LZ4 frame magic number.
+         */
+        private static final int MAGIC = 0x184D2204;
+
+        /**
+         * Frame flags: version 01, independent blocks.
+         */
+        private static final byte FLG = 0x60;
+
+        /**
+         * Block descriptor: 4 MB max block size.
+         */
+        private static final byte BD = 0x70;
+
+        /**
+         * Max block size.
+         */
+        private static final int BLOCK = 4 * 1024 * 1024;
+
+        /**
+         * Flag of blocks stored uncompressed.
+         */
+        private static final int UNCOMPRESSED = 0x80000000;
+
+        /**
+         * Block compressor, thread safe.
+         */
+        private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+        /**
+         * Frame header checksum.
+         */
+        private static final byte HC;
+
+        static {
+            XXHash32 hash = XXHashFactory.fastestInstance().hash32();
+            HC = (byte) (hash.hash(new byte[]{FLG, BD}, 0, 2, 0) >>> 8);
+        }
+
+        private Lz4() {
+            super(LZ4);
+        }
+
+        @Override
+        protected int compress(Buffers thread, int length) {
+            int blocks = Math.max(1, (length + BLOCK - 1) / BLOCK);
+            byte[] output = ensure(thread.output, 7 + blocks * 4 + COMPRESSOR.maxCompressedLength(length) + 4);
+            writeIntLE(output, 0, MAGIC);
+            output[4] = FLG;
+            output[5] = BD;
+            output[6] = HC;
+            int position = 7;
+            for (int offset = 0; offset < length; offset += BLOCK) {
+                int size = Math.min(BLOCK, length - offset);
+                int compressed = COMPRESSOR.compress(thread.input, offset, size, output, position + 4,
+                        output.length - position - 4);
+                if (compressed >= size) {
+                    System.arraycopy(thread.input, offset, output, position + 4, size);
+                    writeIntLE(output, position, size | UNCOMPRESSED);
+                    position += 4 + size;
+                } else {
+                    writeIntLE(output, position, compressed);
+                    position += 4 + compressed;
+                }
+            }
+            writeIntLE(output, position, 0);
+            thread.output = output;
+            return position + 4;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Payload corpus of binary records memory-mapped from a file, or from every file of a directory in name order.
+ * Files are mapped and indexed once and shared by all JMeter threads; records are read-only views of the mapped
+ * files, so they are handed to the SDK without copying. Records are split by fixed size, by delimiter, or one
+ * record per file. Each file can't exceed 2 GB, split larger captures in a directory.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class PayloadCorpus {
+
+    /**
+     * Log attribute.
+     */
+    private static final Logger log = LoggerFactory.getLogger(PayloadCorpus.class);
+
+    /**
+     * Corpus already loaded, by path, delimiter and record size.
+     */
+    private static final Map<String, PayloadCorpus> CORPUS = new ConcurrentHashMap<>();
+
+    /**
+     * Initial capacity of records index.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Mapped files.
+     */
+    private final MappedByteBuffer[] files;
+
+    /**
+     * Position of each record, file index on the high 32 bits and offset on the low 32 bits.
+     */
+    private long[] positions = new long[INITIAL_CAPACITY];
+
+    /**
+     * Length of each record.
+     */
+    private int[] lengths = new int[INITIAL_CAPACITY];
+
+    /**
+     * Number of records.
+     */
+    private int size;
+
+    /**
+     * Records read in sequential order.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Map and index the corpus.
+     * @param path
+     *        File or directory.
+     * @param delimiter
+     *        Records delimiter, empty for one record per file.
+     * @param recordSize
+     *        Fixed record size in bytes, 0 to split by delimiter.
+     * @throws IOException
+     *         Exception when the files can't be read or a file exceeds 2 GB.
+     */
+    private PayloadCorpus(Path path, byte[] delimiter, int recordSize) throws IOException {
+        List<Path> paths;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> list = Files.list(path)) {
+                paths = list.filter(Files::isRegularFile)
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+        } else {
+            paths = List.of(path);
+        }
+
+        List<MappedByteBuffer> mapped = new ArrayList<>(paths.size());
+        for (Path file : paths) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("Payload file exceeds 2 GB, split it in a directory: " + file);
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                index(mapped.size(), buffer, delimiter, recordSize);
+                mapped.add(buffer);
+            }
+        }
+        files = mapped.toArray(new MappedByteBuffer[0]);
+        if (size == 0) {
+            throw new IOException("Payload corpus has no records: " + path);
+        }
+        log.info("Payload corpus {} mapped: {} files, {} records.", path, files.length, size);
+    }
+
+    /**
+     * Get payload corpus, mapping it on first use.
+     * @param path
+     *        File or directory.
+     * @param delimiter
+     *        Records delimiter, <code>\n</code>, <code>\r</code>, <code>\t</code> and <code>\0</code> escapes
+     *        are supported; empty for one record per file.
+     * @param recordSize
+     *        Fixed record size in bytes, 0 to split by delimiter.
+     * @return Payload corpus shared by all threads.
+     * @throws IOException
+     *         Exception when the files can't be read.
+     */
+    public static synchronized PayloadCorpus open(String path, String delimiter, int recordSize) throws IOException {
+        String key = path + '|' + delimiter + '|' + recordSize;
+        PayloadCorpus corpus = CORPUS.get(key);
+        if (corpus == null) {
+            corpus = new PayloadCorpus(Paths.get(path), unescape(delimiter).getBytes(StandardCharsets.UTF_8),
+                    recordSize);
+            CORPUS.put(key, corpus);
+        }
+        return corpus;
+    }
+
+    /**
+     * Next record in corpus order, shared by all threads and starting over at the end.
+     * @return Read-only view of the record.
+     */
+    public ByteBuffer next() {
+        return get((int) (sequence.getAndIncrement() % size));
+    }
+
+    /**
+     * Random record.
+     * @return Read-only view of the record.
+     */
+    public ByteBuffer random() {
+        return get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    /**
+     * Record by index.
+     * @param index
+     *        Record index, 0 to size - 1.
+     * @return Read-only view of the record.
+     */
+    public ByteBuffer get(int index) {
+        long position = positions[index];
+        return files[(int) (position >>> 32)].slice((int) position, lengths[index]);
+    }
+
+    /**
+     * Number of records.
+     * @return Records on the corpus.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Index the records of a mapped file.
+     * @param file
+     *        File index.
+     * @param buffer
+     *        Mapped file.
+     * @param delimiter
+     *        Records delimiter, empty for one record per file.
+     * @param recordSize
+     *        Fixed record size in bytes, 0 to split by delimiter.
+     */
+    private void index(int file, ByteBuffer buffer, byte[] delimiter, int recordSize) {
+        int limit = buffer.limit();
+        if (recordSize > 0) {
+            for (int offset = 0; offset < limit; offset += recordSize) {
+                add(file, offset, Math.min(recordSize, limit - offset));
+            }
+        } else if (delimiter.length == 0) {
+            add(file, 0, limit);
+        } else {
+            int start = 0;
+            for (int i = 0; i <= limit - delimiter.length; i++) {
+                if (matches(buffer, i, delimiter)) {
+                    add(file, start, i - start);
+                    start = i + delimiter.length;
+                    i = start - 1;
+                }
+            }
+            add(file, start, limit - start);
+        }
+    }
+
+    /**
+     * Check whether the delimiter is at the position.
+     * @param buffer
+     *        Mapped file.
+     * @param position
+     *        Position on the file.
+     * @param delimiter
+     *        Records delimiter.
+     * @return true when bytes at position match the delimiter.
+     */
+    private static boolean matches(ByteBuffer buffer, int position, byte[] delimiter) {
+        for (int j = 0; j < delimiter.length; j++) {
+            if (buffer.get(position + j) != delimiter[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Add record to the index, empty records are skipped.
+     * @param file
+     *        File index.
+     * @param offset
+     *        Record offset on the file.
+     * @param length
+     *        Record length.
+     */
+    private void add(int file, int offset, int length) {
+        if (length <= 0) {
+            return;
+        }
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+        }
+        positions[size] = ((long) file << 32) | offset;
+        lengths[size] = length;
+        size++;
+    }
+
+    /**
+     * Replace escaped control characters typed in JMeter GUI.
+     * @param delimiter
+     *        Delimiter as typed.
+     * @return Delimiter.
+     */
+    private static String unescape(String delimiter) {
+        return delimiter == null ? "" : delimiter.replace("\\n", "\n")
+                .replace("\\r", "\r")
+                .replace("\\t", "\t")
+                .replace("\\0", "\0");
+    }
+}
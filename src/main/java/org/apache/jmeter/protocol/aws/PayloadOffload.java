@@ -0,0 +1,368 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.apache.jmeter.samplers.SampleResult;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Large payload offload of SQS and SNS producers, following the pattern of the Amazon SQS and SNS Extended Client
+ * Libraries: bodies above the threshold are stored on S3 and the message carries a pointer to the object, so
+ * consumers using the extended clients read them as usual. Bodies bigger than the part size are uploaded in parallel
+ * parts with multipart upload. The upload and the send of offloaded messages are timed as sub-results of the
+ * sample. The state of the message being sent is kept per thread, so samplers driven on virtual threads can share
+ * it.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class PayloadOffload implements AWSClientSDK2 {
+
+    /**
+     * Message attribute with the size of the offloaded body, as set by the extended clients.
+     */
+    public static final String EXTENDED_PAYLOAD_SIZE = "ExtendedPayloadSize";
+
+    /**
+     * Message body pointing to the S3 object, as read by the extended clients.
+     */
+    private static final String POINTER = "[\"software.amazon.payloadoffloading.PayloadS3Pointer\"," +
+            "{\"s3BucketName\":\"%s\",\"s3Key\":\"%s\"}]";
+
+    /**
+     * Min part size of S3 multipart upload.
+     */
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    /**
+     * Threads uploading parts, shared by all samplers.
+     */
+    private static final ExecutorService UPLOADS = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "awsmeter-s3-upload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * AWS S3 Client.
+     */
+    private final S3Client s3Client;
+
+    /**
+     * Bucket of offloaded bodies.
+     */
+    private final String bucket;
+
+    /**
+     * Prefix of object keys.
+     */
+    private final String keyPrefix;
+
+    /**
+     * Bodies bigger than threshold bytes are offloaded.
+     */
+    private final int threshold;
+
+    /**
+     * Part size of multipart uploads.
+     */
+    private final int partSize;
+
+    /**
+     * Sub-results of the message being sent by the thread.
+     */
+    private final ThreadLocal<List<SampleResult>> subResults = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * Size of the offloaded body of the message being sent by the thread, null when not offloaded.
+     */
+    private final ThreadLocal<Integer> extendedPayloadSize = new ThreadLocal<>();
+
+    /**
+     * Create payload offload and its S3 client.
+     * @param parameters
+     *        Represents the input of JMeter Java Request parameters.
+     */
+    private PayloadOffload(Map<String, String> parameters) {
+        this.bucket = parameters.get(AWSSampler.OFFLOAD_BUCKET);
+        this.keyPrefix = parameters.getOrDefault(AWSSampler.OFFLOAD_KEY_PREFIX, AWSSampler.EMPTY);
+        this.threshold = Integer.parseInt(parameters.getOrDefault(AWSSampler.OFFLOAD_THRESHOLD,
+                AWSSampler.OFFLOAD_DEFAULT_THRESHOLD));
+        this.partSize = Math.max(MIN_PART_SIZE, Integer.parseInt(
+                parameters.getOrDefault(AWSSampler.OFFLOAD_PART_SIZE, AWSSampler.OFFLOAD_DEFAULT_PART_SIZE)));
+        this.s3Client = (S3Client) createSdkClient(parameters);
+    }
+
+    /**
+     * Create payload offload when <code>s3_offload_bucket</code> parameter is set.
+     * @param parameters
+     *        Represents the input of JMeter Java Request parameters.
+     * @return Payload offload, null when the bucket is empty.
+     */
+    public static PayloadOffload create(Map<String, String> parameters) {
+        return Optional.ofNullable(parameters.get(AWSSampler.OFFLOAD_BUCKET))
+                .filter(Predicate.not(String::isEmpty))
+                .map(bucket -> new PayloadOffload(parameters))
+                .orElse(null);
+    }
+
+    /**
+     * Create AWS S3 Client, endpoint of <code>s3_endpoint_custom</code> or <code>aws_endpoint_custom</code>
+     * parameter with path style access, so a local S3 stand-in can be used.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return S3Client extends SdkClient super class.
+     */
+    @Override
+    public SdkClient createSdkClient(Map<String, String> credentials) {
+
+        String region = getAWSRegion(credentials);
+        String endpoint = Optional.ofNullable(credentials.get(AWSSampler.S3_ENDPOINT_CUSTOM))
+                .filter(Predicate.not(String::isEmpty))
+                .orElseGet(() -> getAWSEndpoint(credentials, S3Client.SERVICE_NAME, region));
+        return S3Client.builder()
+                .endpointOverride(URI.create(endpoint))
+                .forcePathStyle(isParameterPresent(credentials, AWSSampler.S3_ENDPOINT_CUSTOM) ||
+                        isParameterPresent(credentials, AWSSampler.AWS_ENDPOINT_CUSTOM))
+                .region(Region.of(region))
+                .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
+                .build();
+    }
+
+    /**
+     * Offload the body to S3 when it's above the threshold.
+     * @param body
+     *        Message body.
+     * @return Message body, or pointer to the S3 object when offloaded.
+     * @throws SdkException
+     *         Exception when the upload failed.
+     */
+    public String offload(String body) {
+        subResults.get().clear();
+        extendedPayloadSize.remove();
+        byte[] bytes = String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= threshold) {
+            return body;
+        }
+        String key = keyPrefix + UUID.randomUUID();
+        SampleResult upload = upload(key, bytes);
+        subResults.get().add(upload);
+        if (!upload.isSuccessful()) {
+            throw SdkClientException.create("S3 upload failed: " + upload.getResponseDataAsString());
+        }
+        extendedPayloadSize.set(bytes.length);
+        return String.format(POINTER, bucket, key);
+    }
+
+    /**
+     * Size of the offloaded body of the message being sent by the thread.
+     * @return Body size, null when the body wasn't offloaded.
+     */
+    public Integer getExtendedPayloadSize() {
+        return extendedPayloadSize.get();
+    }
+
+    /**
+     * Send the message, timed as a sub-result when its body was offloaded.
+     * @param label
+     *        Sub-result label.
+     * @param data
+     *        Sub-result sampler data.
+     * @param send
+     *        Send the message to SQS or SNS.
+     * @param <T>
+     *        Send response type.
+     * @return Send response.
+     */
+    public <T> T send(String label, String data, Supplier<T> send) {
+        if (extendedPayloadSize.get() == null) {
+            return send.get();
+        }
+        SampleResult result = newSubResult(label, data);
+        subResults.get().add(result);
+        result.sampleStart();
+        try {
+            T response = send.get();
+            result.sampleEnd();
+            result.setSuccessful(true);
+            result.setResponseCodeOK();
+            return response;
+        } catch (RuntimeException e) {
+            result.sampleEnd();
+            result.setSuccessful(false);
+            result.setResponseCode(AWSSampler.FAIL_CODE);
+            result.setResponseData(e.getMessage(), AWSSampler.ENCODING);
+            throw e;
+        }
+    }
+
+    /**
+     * Add the upload and send sub-results of the message to the ended sample.
+     * @param result
+     *        SampleResult ended.
+     */
+    public void addSubResults(SampleResult result) {
+        subResults.get().forEach(result::addSubResult);
+        subResults.get().clear();
+        extendedPayloadSize.remove();
+    }
+
+    /**
+     * Upload the body to S3, with a single put or parallel multipart upload, timed as a sub-result.
+     * @param key
+     *        Object key.
+     * @param body
+     *        Message body, UTF-8 encoded.
+     * @return SampleResult of the upload, failed when the upload failed.
+     */
+    private SampleResult upload(String key, byte[] body) {
+        int parts = (body.length + partSize - 1) / partSize;
+        SampleResult result = newSubResult("S3 Upload",
+                String.format("s3://%s/%s \nBytes: %d \nParts: %d", bucket, key, body.length, parts));
+        result.setSentBytes(body.length);
+        result.sampleStart();
+        try {
+            String eTag = parts > 1
+                    ? uploadParts(key, body, parts)
+                    : s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .build(), RequestBody.fromInputStream(new ByteArrayInputStream(body), body.length))
+                    .eTag();
+            result.sampleEnd();
+            result.setSuccessful(true);
+            result.setResponseCodeOK();
+            result.setResponseData("ETag: " + eTag, AWSSampler.ENCODING);
+        } catch (SdkException e) {
+            result.sampleEnd();
+            result.setSuccessful(false);
+            result.setResponseCode(AWSSampler.FAIL_CODE);
+            result.setResponseData(e.getMessage(), AWSSampler.ENCODING);
+        }
+        return result;
+    }
+
+    /**
+     * Create sub-result.
+     * @param label
+     *        Sub-result label.
+     * @param data
+     *        Sub-result sampler data.
+     * @return SampleResult not started.
+     */
+    private static SampleResult newSubResult(String label, String data) {
+        SampleResult result = new SampleResult();
+        result.setSampleLabel(label);
+        result.setDataEncoding(AWSSampler.ENCODING);
+        result.setDataType(SampleResult.TEXT);
+        result.setSamplerData(data);
+        return result;
+    }
+
+    /**
+     * Upload the body in parallel parts, aborting the multipart upload when a part fails.
+     * @param key
+     *        Object key.
+     * @param body
+     *        Message body, UTF-8 encoded.
+     * @param parts
+     *        Number of parts.
+     * @return ETag of the object.
+     */
+    private String uploadParts(String key, byte[] body, int parts) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .build())
+                .uploadId();
+        try {
+            List<CompletableFuture<CompletedPart>> uploads = IntStream.range(0, parts)
+                    .mapToObj(part -> CompletableFuture.supplyAsync(() -> uploadPart(key, uploadId, body, part),
+                            UPLOADS))
+                    .collect(Collectors.toList());
+            List<CompletedPart> completed = uploads.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+            return s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder()
+                                    .parts(completed)
+                                    .build())
+                            .build())
+                    .eTag();
+        } catch (CompletionException | SdkException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e.getCause() instanceof SdkException ? (SdkException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Upload a part of the body without copy.
+     * @param key
+     *        Object key.
+     * @param uploadId
+     *        Multipart upload id.
+     * @param body
+     *        Message body, UTF-8 encoded.
+     * @param part
+     *        Part index, from 0.
+     * @return Completed part with number and ETag.
+     */
+    private CompletedPart uploadPart(String key, String uploadId, byte[] body, int part) {
+        int offset = part * partSize;
+        int length = Math.min(partSize, body.length - offset);
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(part + 1)
+                        .contentLength((long) length)
+                        .build(), RequestBody.fromInputStream(new ByteArrayInputStream(body, offset, length), length))
+                .eTag();
+        return CompletedPart.builder()
+                .partNumber(part + 1)
+                .eTag(eTag)
+                .build();
+    }
+
+    /**
+     * Close AWS S3 Client.
+     */
+    public void close() {
+        s3Client.close();
+    }
+}
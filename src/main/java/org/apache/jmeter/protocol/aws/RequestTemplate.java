@@ -0,0 +1,183 @@
+package org.apache.jmeter.protocol.aws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Precompiled request of a sampler: the fields of constant parameters (no JMeter functions or variables) are set once
+ * on setup into an immutable template request, and each sample only fills the variable fields on a copy of the
+ * template. When every field is constant the template itself is sent, with no copy at all.
+ * @param <R> Request type.
+ * @param <B> Request builder type, the request itself for mutable SDK1 requests.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class RequestTemplate<R, B> {
+
+    /**
+     * Template request with the constant fields.
+     */
+    private final R template;
+
+    /**
+     * Copy of the template to fill the variable fields.
+     */
+    private final Function<R, B> toBuilder;
+
+    /**
+     * Build the request of the filled copy.
+     */
+    private final Function<B, R> build;
+
+    /**
+     * Variable fields, in order.
+     */
+    private final List<Field<B>> fields;
+
+    /**
+     * Use {@link #builder(Object, Function, Function, JavaSamplerContext)}.
+     */
+    private RequestTemplate(R template, Function<R, B> toBuilder, Function<B, R> build, List<Field<B>> fields) {
+        this.template = template;
+        this.toBuilder = toBuilder;
+        this.build = build;
+        this.fields = fields;
+    }
+
+    /**
+     * Start a request template.
+     * @param builder
+     *        Empty request builder.
+     * @param toBuilder
+     *        Copy of a request into a builder, e.g. <code>SendMessageRequest::toBuilder</code>.
+     * @param build
+     *        Build the request of a builder, e.g. <code>SendMessageRequest.Builder::build</code>.
+     * @param context
+     *        Arguments values on Java Sampler on setup, used to set the constant fields.
+     * @param <R> Request type.
+     * @param <B> Request builder type.
+     * @return Request template builder.
+     */
+    public static <R, B> Builder<R, B> builder(B builder, Function<R, B> toBuilder, Function<B, R> build,
+                                               JavaSamplerContext context) {
+        return new Builder<>(builder, toBuilder, build, context);
+    }
+
+    /**
+     * Create the request of the sample.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Template request when every field is constant, otherwise a copy with the variable fields filled.
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    public R apply(JavaSamplerContext context) throws JsonProcessingException {
+        if (fields.isEmpty()) {
+            return template;
+        }
+        B builder = toBuilder.apply(template);
+        for (Field<B> field : fields) {
+            field.fill(builder, context);
+        }
+        return build.apply(builder);
+    }
+
+    /**
+     * Number of fields filled per sample.
+     * @return Variable fields.
+     */
+    public int getVariableFields() {
+        return fields.size();
+    }
+
+    /**
+     * Field of the request set from the sampler parameters.
+     * @param <B> Request builder type.
+     */
+    @FunctionalInterface
+    public interface Field<B> {
+
+        /**
+         * Set the field on the builder.
+         * @param builder
+         *        Request builder.
+         * @param context
+         *        Arguments values on Java Sampler.
+         * @throws JsonProcessingException
+         *         Exception when deserialize JSON to Object.
+         */
+        void fill(B builder, JavaSamplerContext context) throws JsonProcessingException;
+    }
+
+    /**
+     * Request template builder.
+     * @param <R> Request type.
+     * @param <B> Request builder type.
+     */
+    public static final class Builder<R, B> {
+
+        /**
+         * Builder of the template request.
+         */
+        private final B builder;
+
+        /**
+         * Copy of the template.
+         */
+        private final Function<R, B> toBuilder;
+
+        /**
+         * Build the request.
+         */
+        private final Function<B, R> build;
+
+        /**
+         * Arguments values on setup.
+         */
+        private final JavaSamplerContext context;
+
+        /**
+         * Variable fields.
+         */
+        private final List<Field<B>> fields = new ArrayList<>();
+
+        private Builder(B builder, Function<R, B> toBuilder, Function<B, R> build, JavaSamplerContext context) {
+            this.builder = builder;
+            this.toBuilder = toBuilder;
+            this.build = build;
+            this.context = context;
+        }
+
+        /**
+         * Add a field, set now on the template when constant, or filled per sample otherwise.
+         * @param constant
+         *        Whether the field value is the same on every sample.
+         * @param field
+         *        Field setter.
+         * @return This builder.
+         * @throws JsonProcessingException
+         *         Exception when deserialize JSON to Object.
+         */
+        public Builder<R, B> field(boolean constant, Field<B> field) throws JsonProcessingException {
+            if (constant) {
+                field.fill(builder, context);
+            } else {
+                fields.add(field);
+            }
+            return this;
+        }
+
+        /**
+         * Build the request template.
+         * @return Request template.
+         */
+        public RequestTemplate<R, B> build() {
+            return new RequestTemplate<>(build.apply(builder), toBuilder, build, List.copyOf(fields));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.apache.jmeter.samplers.SampleResult;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Aggregation mode of samplers: successful samples of a sampler are accumulated into a window of N samples or a time
+ * window, and only the last sample of the window is emitted to listeners, carrying the sample count, bytes and the
+ * sum of elapsed times like JMeter batch samples, so listeners and JTL writers get one result per window instead of
+ * one per operation. Failed samples are emitted individually and only counted on the window summary. The other
+ * samples of the window are marked as ignored. The window is shared by the threads running the sampler, e.g. the
+ * virtual threads of the drivers, and its time limit is checked on every sample, successful or failed; a window
+ * closed by a failed sample is attached to it as sub-result. The last partial window is logged on teardown.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class SampleAggregator {
+
+    /**
+     * Samples per window, 0 for time window only.
+     */
+    private final int samples;
+
+    /**
+     * Window duration in milliseconds, 0 for sample count only.
+     */
+    private final long windowMs;
+
+    /**
+     * Window in progress of the sampler, guarded by the aggregator.
+     */
+    private Window window = new Window();
+
+    /**
+     * Use {@link #of(int, long)}.
+     */
+    private SampleAggregator(int samples, long windowMs) {
+        this.samples = samples;
+        this.windowMs = windowMs;
+    }
+
+    /**
+     * Create sample aggregator.
+     * @param samples
+     *        Samples per window, 0 for time window only.
+     * @param windowMs
+     *        Window duration in milliseconds, 0 for sample count only.
+     * @return Sample aggregator, null when both are 0 or less.
+     * @throws IllegalArgumentException
+     *         Exception when a limit is negative.
+     */
+    public static SampleAggregator of(int samples, long windowMs) {
+        if (samples < 0 || windowMs < 0) {
+            throw new IllegalArgumentException("Aggregation limits must not be negative: " + samples + ", " +
+                    windowMs);
+        }
+        return samples <= 1 && windowMs == 0 ? null : new SampleAggregator(samples, windowMs);
+    }
+
+    /**
+     * Add a successful sample to the window of the sampler. When the window is complete the sample is turned into the
+     * aggregate of the window, otherwise it's marked as ignored. A window whose time ran out before the sample
+     * started is emitted by the sample, which opens the next window.
+     * @param result
+     *        SampleResult ended and successful, with its response data and sent bytes.
+     * @return true when the sample carries the aggregate and must be emitted, false when it's ignored.
+     */
+    public synchronized boolean add(SampleResult result) {
+        Window closed = isExpired(result.getStartTime()) ? window : null;
+        if (closed != null) {
+            window = new Window();
+        }
+        window.add(result);
+        if (closed != null && closed.count > 0) {
+            closed.emit(result);
+            return true;
+        }
+        if ((samples <= 0 || window.count < samples) && !isExpired(result.getEndTime())) {
+            result.setIgnore();
+            return false;
+        }
+        window.emit(result);
+        window = new Window();
+        return true;
+    }
+
+    /**
+     * Count a failed sample on the window of the sampler, the sample is emitted individually. When the time of the
+     * window ran out, the window is closed.
+     * @param result
+     *        SampleResult ended and failed.
+     * @return Aggregate of the closed window to attach to the failed sample, null when the window is in progress or
+     * had no successful samples.
+     */
+    public synchronized SampleResult addFailure(SampleResult result) {
+        if (window.count == 0 && window.failures == 0) {
+            window.start = result.getStartTime();
+        }
+        window.failures++;
+        return isExpired(result.getEndTime()) ? flush() : null;
+    }
+
+    /**
+     * Close the window in progress, on teardown.
+     * @return Aggregate of the window, null when it had no successful samples.
+     */
+    public synchronized SampleResult flush() {
+        Window closed = window;
+        window = new Window();
+        if (closed.count == 0) {
+            return null;
+        }
+        SampleResult result = new SampleResult();
+        result.setSuccessful(true);
+        result.setResponseCodeOK();
+        result.setDataType(SampleResult.TEXT);
+        closed.emit(result);
+        return result;
+    }
+
+    /**
+     * Check whether the time of the window in progress ran out.
+     * @param now
+     *        Epoch milliseconds.
+     * @return true when there is a time window and <code>now</code> is at its end or after.
+     */
+    private boolean isExpired(long now) {
+        return windowMs > 0 && (window.count > 0 || window.failures > 0) && now - window.start >= windowMs;
+    }
+
+    /**
+     * Samples accumulated by a sampler.
+     */
+    private static final class Window {
+
+        /**
+         * Start of the first sample, epoch milliseconds.
+         */
+        private long start;
+
+        /**
+         * Successful samples.
+         */
+        private int count;
+
+        /**
+         * Failed samples, emitted individually.
+         */
+        private int failures;
+
+        /**
+         * Sum of elapsed times, milliseconds.
+         */
+        private long elapsed;
+
+        /**
+         * Minimum elapsed time.
+         */
+        private long min;
+
+        /**
+         * Maximum elapsed time.
+         */
+        private long max;
+
+        /**
+         * Received bytes.
+         */
+        private long bytes;
+
+        /**
+         * Sent bytes.
+         */
+        private long sentBytes;
+
+        /**
+         * Add a successful sample.
+         * @param result
+         *        SampleResult ended and successful.
+         */
+        private void add(SampleResult result) {
+            long time = result.getTime();
+            if (count == 0) {
+                min = time;
+                if (failures == 0) {
+                    start = result.getStartTime();
+                }
+            }
+            count++;
+            elapsed += time;
+            min = Math.min(min, time);
+            max = Math.max(max, time);
+            bytes += result.getBytesAsLong();
+            sentBytes += result.getSentBytes();
+        }
+
+        /**
+         * Turn a sample into the aggregate of the window.
+         * @param result
+         *        SampleResult to emit.
+         */
+        private void emit(SampleResult result) {
+            String summary = getSummary();
+            result.setStampAndTime(start, elapsed);
+            result.setSampleCount(count);
+            result.setSamplerData(summary);
+            result.setResponseData(summary, StandardCharsets.UTF_8.name());
+            result.setBytes(bytes);
+            result.setSentBytes(sentBytes);
+        }
+
+        /**
+         * Summary of the window.
+         * @return Samples, failures, bytes and latency summary.
+         */
+        private String getSummary() {
+            return String.format("Aggregated samples: %d \nFailed samples: %d \nBytes: %d \nSent bytes: %d " +
+                    "\nMin ms: %d \nAvg ms: %.1f \nMax ms: %d \nWindow ms: %d", count, failures, bytes, sentBytes,
+                    min, elapsed / (double) count, max, System.currentTimeMillis() - start);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.apache.jmeter.protocol.aws;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the sequence numbers returned by SQS and SNS FIFO for each message group of a queue or topic, counting the
+ * responses with a sequence number lower than one already returned for the group. Concurrent sends of the same group,
+ * e.g. from the virtual threads of a driver, can get their responses in any order, so the count is reported and
+ * doesn't fail the sample. Sequence numbers are compared as unsigned decimal text, without parsing.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class SequenceTracker {
+
+    /**
+     * Highest sequence number by queue URL or topic ARN, and message group.
+     */
+    private final Map<String, String> lastSequence = new ConcurrentHashMap<>();
+
+    /**
+     * Sequence numbers lower or equal than the highest one of the group.
+     */
+    private final LongAdder outOfOrder = new LongAdder();
+
+    /**
+     * Record sequence number of the group, comparing and updating the highest one of the group atomically.
+     * @param target
+     *        Queue URL or topic ARN.
+     * @param groupId
+     *        Message group id.
+     * @param sequenceNumber
+     *        Sequence number returned by the service.
+     */
+    public void record(String target, String groupId, String sequenceNumber) {
+        if (groupId == null || sequenceNumber == null) {
+            return;
+        }
+        lastSequence.compute(target + "|" + groupId, (k, highest) -> {
+            if (highest == null || compare(sequenceNumber, highest) > 0) {
+                return sequenceNumber;
+            }
+            outOfOrder.increment();
+            return highest;
+        });
+    }
+
+    /**
+     * Number of message groups seen, of every queue or topic.
+     * @return groups.
+     */
+    public int getGroups() {
+        return lastSequence.size();
+    }
+
+    /**
+     * Number of sequence numbers out of order.
+     * @return out of order count.
+     */
+    public long getOutOfOrder() {
+        return outOfOrder.sum();
+    }
+
+    /**
+     * Compare unsigned decimal numbers, shorter is lower after leading zeros.
+     * @param a
+     *        Decimal number.
+     * @param b
+     *        Decimal number.
+     * @return Negative, zero or positive as <code>a</code> is lower, equal or greater than <code>b</code>.
+     */
+    static int compare(String a, String b) {
+        int i = firstDigit(a);
+        int j = firstDigit(b);
+        int length = (a.length() - i) - (b.length() - j);
+        if (length != 0) {
+            return length;
+        }
+        for (; i < a.length(); i++, j++) {
+            int digit = a.charAt(i) - b.charAt(j);
+            if (digit != 0) {
+                return digit;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Position of the first significant digit.
+     * @param number
+     *        Decimal number.
+     * @return Index after leading zeros.
+     */
+    private static int firstDigit(String number) {
+        int i = 0;
+        while (i < number.length() - 1 && number.charAt(i) == '0') {
+            i++;
+        }
+        return i;
+    }
+}
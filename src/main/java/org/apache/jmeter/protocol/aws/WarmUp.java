@@ -0,0 +1,130 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Warm-up of samplers on setup, so the first samples of each thread don't pay DNS resolution, TLS handshake,
+ * credential resolution and SDK class loading, and threads don't hit the endpoints all at once on the first sample.
+ * A cheap call of the sampler (e.g. GetQueueUrl) is sent by many virtual threads at once per client, each one opens
+ * a connection that is left on the client pool; errors like access denied are ignored, the connection is open anyway.
+ * Optionally the first samples of each sampler, one per JMeter thread, are excluded from the results, counting the
+ * samples run on the virtual threads of the drivers too.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class WarmUp {
+
+    /**
+     * Log attribute.
+     */
+    private static final Logger log = LoggerFactory.getLogger(WarmUp.class);
+
+    /**
+     * Connections opened per client.
+     */
+    private final int connections;
+
+    /**
+     * First samples of the sampler excluded from the results.
+     */
+    private final int excludedSamples;
+
+    /**
+     * Samples of the sampler, counted up to the excluded samples.
+     */
+    private final AtomicInteger samples = new AtomicInteger();
+
+    /**
+     * Use {@link #of(int, int)}.
+     */
+    private WarmUp(int connections, int excludedSamples) {
+        this.connections = connections;
+        this.excludedSamples = excludedSamples;
+    }
+
+    /**
+     * Create warm-up.
+     * @param connections
+     *        Connections opened per client on setup.
+     * @param excludedSamples
+     *        First samples of the sampler excluded from the results.
+     * @return Warm-up, null when both are 0.
+     * @throws IllegalArgumentException
+     *         Exception when a value is negative.
+     */
+    public static WarmUp of(int connections, int excludedSamples) {
+        if (connections < 0 || excludedSamples < 0) {
+            throw new IllegalArgumentException("Warm-up values must not be negative: " + connections + ", " +
+                    excludedSamples);
+        }
+        return connections == 0 && excludedSamples == 0 ? null : new WarmUp(connections, excludedSamples);
+    }
+
+    /**
+     * Resolve credentials and sign a dummy request, then open connections of the clients, sending the call
+     * concurrently <code>warmup_connections</code> times per client, and wait for them.
+     * @param name
+     *        Name of the sampler, for logging.
+     * @param credentials
+     *        Credentials resolution and dummy request signing.
+     * @param clients
+     *        Clients to warm up.
+     * @param call
+     *        Cheap call of the sampler on a client.
+     * @param <C> AWS client type.
+     */
+    public <C> void run(String name, Runnable credentials, Collection<C> clients, Consumer<C> call) {
+        if (connections == 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            credentials.run();
+        } catch (RuntimeException e) {
+            log.warn("Warm-up of " + name + " credentials failed: " + e.getMessage());
+        }
+        int failures = 0;
+        String error = null;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> calls = new ArrayList<>(connections * clients.size());
+            clients.forEach(client -> {
+                for (int i = 0; i < connections; i++) {
+                    calls.add(executor.submit(() -> call.accept(client)));
+                }
+            });
+            for (Future<?> future : calls) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failures++;
+                    error = e.getCause().getMessage();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info(String.format("Warm-up of %s: %d connections on %d clients in %d ms, %d calls failed%s", name,
+                connections, clients.size(), System.currentTimeMillis() - start, failures,
+                error == null ? "" : ": " + error));
+    }
+
+    /**
+     * Count the sample of the sampler and check whether it's excluded from the results.
+     * @return true for the first <code>warmup_samples</code> samples of the sampler.
+     */
+    public boolean exclude() {
+        return samples.get() < excludedSamples && samples.getAndIncrement() < excludedSamples;
+    }
+}
@@ -98,6 +98,7 @@ public abstract class CognitoProducerSampler extends AWSSampler implements AWSCl
                 .endpointOverride(URI.create(getAWSEndpoint(credentials, CognitoIdentityProviderClient.SERVICE_NAME, region)))
                 .region(Region.of(region))
                 .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
                 .build();
     }
 
@@ -129,6 +130,7 @@ public abstract class CognitoProducerSampler extends AWSSampler implements AWSCl
         log.info("Close Cognito Producer.");
         Optional.ofNullable(cognitoClient)
                 .ifPresent(client -> client.close());
+        teardownSampler();
     }
 
     public static String calculateSecretHash(JavaSamplerContext context) 
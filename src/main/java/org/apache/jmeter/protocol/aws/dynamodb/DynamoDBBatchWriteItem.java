@@ -0,0 +1,172 @@
+package org.apache.jmeter.protocol.aws.dynamodb;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * DynamoDB Sampler class to write up to 25 items with BatchWriteItem. DynamoDB may return part of the items as
+ * <code>UnprocessedItems</code> when the table or a partition is throttled; they are redriven with exponential backoff
+ * and full jitter until all are written or the retries run out, and the sample covers the whole redrive.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class DynamoDBBatchWriteItem extends DynamoDBSampler {
+
+    /**
+     * Items as JSON array of objects, 1 to 25.
+     */
+    private static final String DYNAMODB_ITEMS = "dynamodb_items";
+
+    /**
+     * Redrives of unprocessed items.
+     */
+    private static final String DYNAMODB_MAX_RETRIES = "dynamodb_max_retries";
+
+    /**
+     * Backoff of the first redrive, doubled on each one, milliseconds.
+     */
+    private static final String DYNAMODB_BACKOFF_MS = "dynamodb_backoff_ms";
+
+    /**
+     * Maximum items of BatchWriteItem.
+     */
+    private static final int MAX_ITEMS = 25;
+
+    /**
+     * Maximum backoff of a redrive, milliseconds.
+     */
+    private static final long MAX_BACKOFF_MS = 5000;
+
+    /**
+     * List of Arguments to BatchWriteItem sampler.
+     */
+    private static final List<Argument> DYNAMODB_PARAMETERS = Stream.of(
+            new Argument(DYNAMODB_TABLE_NAME, EMPTY),
+            new Argument(DYNAMODB_ITEMS, EMPTY_ARRAY),
+            new Argument(DYNAMODB_MAX_RETRIES, "8"),
+            new Argument(DYNAMODB_BACKOFF_MS, "50"))
+            .collect(Collectors.toList());
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and DynamoDB parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, DYNAMODB_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Main method to execute the test on single thread. Write the items in the DynamoDB table and redrive the
+     * unprocessed ones. The sample fails when items are still unprocessed after the last retry.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Table Name: %s \nItems: %s",
+                context.getParameter(DYNAMODB_TABLE_NAME),
+                context.getParameter(DYNAMODB_ITEMS)));
+
+        try {
+            log.info("Writing Items.");
+            List<WriteRequest> requests = createWriteRequests(context);
+            Map<String, List<WriteRequest>> pending = Map.of(context.getParameter(DYNAMODB_TABLE_NAME), requests);
+            int maxRetries = context.getIntParameter(DYNAMODB_MAX_RETRIES, 8);
+            long backoffMs = context.getLongParameter(DYNAMODB_BACKOFF_MS, 50);
+            int attempts = 0;
+            int redriven = 0;
+            double capacityUnits = 0;
+            while (true) {
+                Map<String, List<WriteRequest>> requestItems = pending;
+                BatchWriteItemResponse response = dynamoDbClient.batchWriteItem(r -> r
+                        .requestItems(requestItems)
+                        .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+                attempts++;
+                capacityUnits += capacityUnits(response.consumedCapacity());
+                pending = response.unprocessedItems();
+                if (countItems(pending) == 0 || attempts > maxRetries) {
+                    break;
+                }
+                redriven += countItems(pending);
+                Thread.sleep(ThreadLocalRandom.current().nextLong(
+                        Math.min(MAX_BACKOFF_MS, backoffMs << Math.min(attempts - 1, 20)) + 1));
+            }
+
+            int unprocessed = countItems(pending);
+            String data = String.format("Items: %d \nAttempts: %d \nRedriven items: %d \nUnprocessed items: %d \n%s",
+                    requests.size(), attempts, redriven, unprocessed, formatCapacity(capacityUnits));
+            if (unprocessed == 0) {
+                sampleResultSuccess(result, data);
+            } else {
+                sampleResultFail(result, FAIL_CODE, "Items unprocessed after " + maxRetries + " retries. \n" + data);
+            }
+        } catch (DynamoDbException e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sampleResultFail(result, FAIL_CODE, "Interrupted redriving unprocessed items.");
+        }
+
+        return result;
+    }
+
+    /**
+     * Create put requests of the items.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Write requests, 1 to 25.
+     * @throws JsonProcessingException
+     *         Exception when the items are not valid JSON.
+     * @throws IllegalArgumentException
+     *         Exception when there are no items or more than 25.
+     */
+    private List<WriteRequest> createWriteRequests(JavaSamplerContext context) throws JsonProcessingException {
+        List<Map<String, AttributeValue>> items = DynamoDBItem.fromJsonArray(context.getParameter(DYNAMODB_ITEMS));
+        if (items.isEmpty() || items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("BatchWriteItem takes 1 to " + MAX_ITEMS + " items, got " +
+                    items.size());
+        }
+        return items.stream()
+                .map(item -> WriteRequest.builder()
+                        .putRequest(put -> put.item(item))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Count the items of a request or of the unprocessed items.
+     * @param requestItems
+     *        Write requests by table name.
+     * @return Items.
+     */
+    private static int countItems(Map<String, List<WriteRequest>> requestItems) {
+        return requestItems == null ? 0 : requestItems.values().stream().mapToInt(List::size).sum();
+    }
+}
@@ -0,0 +1,85 @@
+package org.apache.jmeter.protocol.aws.dynamodb;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * DynamoDB Sampler class to read one item by primary key with GetItem.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class DynamoDBGetItem extends DynamoDBSampler {
+
+    /**
+     * List of Arguments to GetItem sampler.
+     */
+    private static final List<Argument> DYNAMODB_PARAMETERS = Stream.of(
+            new Argument(DYNAMODB_TABLE_NAME, EMPTY),
+            new Argument(DYNAMODB_KEY, "{}"),
+            new Argument(DYNAMODB_CONSISTENT_READ, "false"))
+            .collect(Collectors.toList());
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and DynamoDB parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, DYNAMODB_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Main method to execute the test on single thread. Read the item of the key in the DynamoDB table. A missing
+     * item is a successful sample, reported as not found.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Table Name: %s \nKey: %s \nConsistent Read: %s",
+                context.getParameter(DYNAMODB_TABLE_NAME),
+                context.getParameter(DYNAMODB_KEY),
+                context.getParameter(DYNAMODB_CONSISTENT_READ)));
+
+        try {
+            log.info("Getting Item.");
+            GetItemResponse response = dynamoDbClient.getItem(GetItemRequest.builder()
+                    .tableName(context.getParameter(DYNAMODB_TABLE_NAME))
+                    .key(DynamoDBItem.fromJson(context.getParameter(DYNAMODB_KEY)))
+                    .consistentRead(Boolean.parseBoolean(context.getParameter(DYNAMODB_CONSISTENT_READ, "false")))
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                    .build());
+            sampleResultSuccess(result, String.format("Item found: %s \nItem: %s \n%s",
+                    response.hasItem(),
+                    response.hasItem() ? DynamoDBItem.toJson(response.item()) : EMPTY,
+                    formatCapacity(capacityUnits(response.consumedCapacity()))));
+        } catch (DynamoDbException e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,171 @@
+package org.apache.jmeter.protocol.aws.dynamodb;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps plain JSON documents to DynamoDB items and back, so items and keys are written as
+ * <code>{"id": "42", "total": 9.99}</code> instead of the DynamoDB attribute value format. Strings are S, numbers N
+ * with their exact decimal text, booleans BOOL, null NULL, arrays L and objects M. Sets and binaries read from the
+ * table are written as arrays and Base64 strings.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class DynamoDBItem {
+
+    /**
+     * JSON mapper, decimals read as BigDecimal to keep their exact text.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    /**
+     * Utility class.
+     */
+    private DynamoDBItem() {
+    }
+
+    /**
+     * Map a JSON object to a DynamoDB item.
+     * @param json
+     *        JSON object.
+     * @return Item by attribute name.
+     * @throws JsonProcessingException
+     *         Exception when the JSON is not valid.
+     * @throws IllegalArgumentException
+     *         Exception when the JSON is not an object.
+     */
+    public static Map<String, AttributeValue> fromJson(String json) throws JsonProcessingException {
+        return toItem(MAPPER.readTree(json));
+    }
+
+    /**
+     * Map a JSON array of objects to DynamoDB items.
+     * @param json
+     *        JSON array of objects.
+     * @return Items.
+     * @throws JsonProcessingException
+     *         Exception when the JSON is not valid.
+     * @throws IllegalArgumentException
+     *         Exception when the JSON is not an array of objects.
+     */
+    public static List<Map<String, AttributeValue>> fromJsonArray(String json) throws JsonProcessingException {
+        JsonNode node = MAPPER.readTree(json);
+        if (node == null || !node.isArray()) {
+            throw new IllegalArgumentException("Items must be a JSON array of objects");
+        }
+        List<Map<String, AttributeValue>> items = new ArrayList<>(node.size());
+        node.forEach(item -> items.add(toItem(item)));
+        return items;
+    }
+
+    /**
+     * Map a DynamoDB item to a JSON object.
+     * @param item
+     *        Item by attribute name.
+     * @return JSON object.
+     */
+    public static String toJson(Map<String, AttributeValue> item) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        item.forEach((name, value) -> node.set(name, toNode(value)));
+        return node.toString();
+    }
+
+    /**
+     * Map a JSON object node to a DynamoDB item.
+     * @param node
+     *        JSON node.
+     * @return Item by attribute name.
+     */
+    private static Map<String, AttributeValue> toItem(JsonNode node) {
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Item must be a JSON object");
+        }
+        Map<String, AttributeValue> item = new LinkedHashMap<>();
+        node.fields().forEachRemaining(field -> item.put(field.getKey(), toAttributeValue(field.getValue())));
+        return item;
+    }
+
+    /**
+     * Map a JSON node to an attribute value.
+     * @param node
+     *        JSON node.
+     * @return Attribute value.
+     */
+    private static AttributeValue toAttributeValue(JsonNode node) {
+        if (node.isTextual()) {
+            return AttributeValue.fromS(node.textValue());
+        }
+        if (node.isNumber()) {
+            return AttributeValue.fromN(node.decimalValue().toPlainString());
+        }
+        if (node.isBoolean()) {
+            return AttributeValue.fromBool(node.booleanValue());
+        }
+        if (node.isArray()) {
+            List<AttributeValue> values = new ArrayList<>(node.size());
+            node.forEach(value -> values.add(toAttributeValue(value)));
+            return AttributeValue.fromL(values);
+        }
+        if (node.isObject()) {
+            return AttributeValue.fromM(toItem(node));
+        }
+        return AttributeValue.fromNul(true);
+    }
+
+    /**
+     * Map an attribute value to a JSON node.
+     * @param value
+     *        Attribute value.
+     * @return JSON node.
+     */
+    private static JsonNode toNode(AttributeValue value) {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        switch (value.type()) {
+            case S:
+                return factory.textNode(value.s());
+            case N:
+                return factory.numberNode(new BigDecimal(value.n()));
+            case BOOL:
+                return factory.booleanNode(value.bool());
+            case B:
+                return factory.textNode(Base64.getEncoder().encodeToString(value.b().asByteArray()));
+            case L:
+                ArrayNode list = factory.arrayNode();
+                value.l().forEach(element -> list.add(toNode(element)));
+                return list;
+            case M:
+                ObjectNode map = factory.objectNode();
+                value.m().forEach((name, element) -> map.set(name, toNode(element)));
+                return map;
+            case SS:
+                ArrayNode strings = factory.arrayNode();
+                value.ss().forEach(strings::add);
+                return strings;
+            case NS:
+                ArrayNode numbers = factory.arrayNode();
+                value.ns().forEach(number -> numbers.add(new BigDecimal(number)));
+                return numbers;
+            case BS:
+                ArrayNode binaries = factory.arrayNode();
+                value.bs().forEach(bytes -> binaries.add(Base64.getEncoder().encodeToString(bytes.asByteArray())));
+                return binaries;
+            default:
+                return factory.nullNode();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.apache.jmeter.protocol.aws.dynamodb;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * DynamoDB Sampler class to write one item with PutItem.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class DynamoDBPutItem extends DynamoDBSampler {
+
+    /**
+     * List of Arguments to PutItem sampler.
+     */
+    private static final List<Argument> DYNAMODB_PARAMETERS = Stream.of(
+            new Argument(DYNAMODB_TABLE_NAME, EMPTY),
+            new Argument(DYNAMODB_ITEM, "{}"))
+            .collect(Collectors.toList());
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and DynamoDB parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, DYNAMODB_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Main method to execute the test on single thread. Write the item in the DynamoDB table.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Table Name: %s \nItem: %s",
+                context.getParameter(DYNAMODB_TABLE_NAME),
+                context.getParameter(DYNAMODB_ITEM)));
+
+        try {
+            log.info("Putting Item.");
+            PutItemResponse response = dynamoDbClient.putItem(PutItemRequest.builder()
+                    .tableName(context.getParameter(DYNAMODB_TABLE_NAME))
+                    .item(DynamoDBItem.fromJson(context.getParameter(DYNAMODB_ITEM)))
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                    .build());
+            sampleResultSuccess(result, formatCapacity(capacityUnits(response.consumedCapacity())));
+        } catch (DynamoDbException e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        }
+
+        return result;
+    }
+}
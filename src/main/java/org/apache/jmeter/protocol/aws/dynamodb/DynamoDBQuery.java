@@ -0,0 +1,139 @@
+package org.apache.jmeter.protocol.aws.dynamodb;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * DynamoDB Sampler class to query the items of a partition key, on the table or a secondary index. Every sample
+ * reads the pages of the query up to <code>dynamodb_max_pages</code>; queries of different partition keys run in
+ * parallel on the JMeter threads.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class DynamoDBQuery extends DynamoDBSampler {
+
+    /**
+     * Optional secondary index name.
+     */
+    private static final String DYNAMODB_INDEX_NAME = "dynamodb_index_name";
+
+    /**
+     * Key condition expression, e.g. <code>pk = :pk</code>.
+     */
+    private static final String DYNAMODB_KEY_CONDITION = "dynamodb_key_condition";
+
+    /**
+     * Values of the expression as JSON object, e.g. <code>{":pk": "customer#42"}</code>.
+     */
+    private static final String DYNAMODB_EXPRESSION_VALUES = "dynamodb_expression_values";
+
+    /**
+     * Pages read per sample, 0 for all of them.
+     */
+    private static final String DYNAMODB_MAX_PAGES = "dynamodb_max_pages";
+
+    /**
+     * List of Arguments to Query sampler.
+     */
+    private static final List<Argument> DYNAMODB_PARAMETERS = Stream.of(
+            new Argument(DYNAMODB_TABLE_NAME, EMPTY),
+            new Argument(DYNAMODB_INDEX_NAME, EMPTY),
+            new Argument(DYNAMODB_KEY_CONDITION, EMPTY),
+            new Argument(DYNAMODB_EXPRESSION_VALUES, "{}"),
+            new Argument(DYNAMODB_LIMIT, "100"),
+            new Argument(DYNAMODB_MAX_PAGES, "1"),
+            new Argument(DYNAMODB_CONSISTENT_READ, "false"))
+            .collect(Collectors.toList());
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and DynamoDB parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, DYNAMODB_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Main method to execute the test on single thread. Read the pages of the query.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Table Name: %s \nIndex Name: %s \nKey Condition: %s " +
+                        "\nExpression Values: %s \nLimit: %s \nMax Pages: %s",
+                context.getParameter(DYNAMODB_TABLE_NAME),
+                context.getParameter(DYNAMODB_INDEX_NAME),
+                context.getParameter(DYNAMODB_KEY_CONDITION),
+                context.getParameter(DYNAMODB_EXPRESSION_VALUES),
+                context.getParameter(DYNAMODB_LIMIT),
+                context.getParameter(DYNAMODB_MAX_PAGES)));
+
+        try {
+            log.info("Querying Items.");
+            QueryRequest.Builder request = QueryRequest.builder()
+                    .tableName(context.getParameter(DYNAMODB_TABLE_NAME))
+                    .keyConditionExpression(context.getParameter(DYNAMODB_KEY_CONDITION))
+                    .limit(context.getIntParameter(DYNAMODB_LIMIT, 100))
+                    .consistentRead(Boolean.parseBoolean(context.getParameter(DYNAMODB_CONSISTENT_READ, "false")))
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+            String indexName = context.getParameter(DYNAMODB_INDEX_NAME, EMPTY);
+            if (!indexName.isEmpty()) {
+                request.indexName(indexName);
+            }
+            Map<String, AttributeValue> values = DynamoDBItem.fromJson(
+                    context.getParameter(DYNAMODB_EXPRESSION_VALUES, "{}"));
+            if (!values.isEmpty()) {
+                request.expressionAttributeValues(values);
+            }
+
+            int maxPages = context.getIntParameter(DYNAMODB_MAX_PAGES, 1);
+            int pages = 0;
+            int items = 0;
+            double capacityUnits = 0;
+            Map<String, AttributeValue> startKey = null;
+            do {
+                QueryResponse response = dynamoDbClient.query(request.exclusiveStartKey(startKey).build());
+                pages++;
+                items += response.count();
+                capacityUnits += capacityUnits(response.consumedCapacity());
+                startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                        ? response.lastEvaluatedKey()
+                        : null;
+            } while (startKey != null && (maxPages <= 0 || pages < maxPages));
+
+            sampleResultSuccess(result, String.format("Items: %d \nPages: %d \nMore pages: %s \n%s",
+                    items, pages, startKey != null, formatCapacity(capacityUnits)));
+        } catch (DynamoDbException e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        }
+
+        return result;
+    }
+}
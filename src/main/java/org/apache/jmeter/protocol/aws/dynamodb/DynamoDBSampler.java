@@ -0,0 +1,146 @@
+package org.apache.jmeter.protocol.aws.dynamodb;
+
+import org.apache.jmeter.protocol.aws.AWSClientSDK2;
+import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * DynamoDB Sampler class to connect to DynamoDB tables. Requests ask for the total consumed capacity, reported on
+ * every sample. DynamoDB Local or LocalStack are reached with <code>aws_endpoint_custom</code>.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public abstract class DynamoDBSampler extends AWSSampler implements AWSClientSDK2 {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(DynamoDBSampler.class);
+
+    /**
+     * DynamoDB table name.
+     */
+    protected static final String DYNAMODB_TABLE_NAME = "dynamodb_table_name";
+
+    /**
+     * Item as JSON document.
+     */
+    protected static final String DYNAMODB_ITEM = "dynamodb_item";
+
+    /**
+     * Primary key as JSON document.
+     */
+    protected static final String DYNAMODB_KEY = "dynamodb_key";
+
+    /**
+     * Whether reads are strongly consistent.
+     */
+    protected static final String DYNAMODB_CONSISTENT_READ = "dynamodb_consistent_read";
+
+    /**
+     * Maximum items evaluated per page.
+     */
+    protected static final String DYNAMODB_LIMIT = "dynamodb_limit";
+
+    /**
+     * AWS DynamoDB Client.
+     */
+    protected DynamoDbClient dynamoDbClient;
+
+    /**
+     * Create AWS DynamoDB Client.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return DynamoDbClient extends SdkClient super class.
+     */
+    @Override
+    public SdkClient createSdkClient(Map<String, String> credentials) {
+
+        String region = getAWSRegion(credentials);
+        return DynamoDbClient.builder()
+                .endpointOverride(URI.create(getAWSEndpoint(credentials, DynamoDbClient.SERVICE_NAME, region)))
+                .region(Region.of(region))
+                .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
+                .build();
+    }
+
+    /**
+     * Read test parameters and initialize AWS DynamoDB client.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+
+        log.info("Setup DynamoDB Sampler.");
+        Map<String, String> credentials = new HashMap<>();
+
+        context.getParameterNamesIterator().forEachRemaining( k -> {
+            credentials.put(k, context.getParameter(k));
+            log.info("Parameter: " + k + ", value: " + credentials.get(k));
+        });
+
+        log.info("Create DynamoDB Client.");
+        dynamoDbClient = (DynamoDbClient) createSdkClient(credentials);
+    }
+
+    /**
+     * Close AWS DynamoDB Client after run single thread.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close DynamoDB Client.");
+        Optional.ofNullable(dynamoDbClient)
+                .ifPresent(client -> client.close());
+        teardownSampler();
+    }
+
+    /**
+     * Capacity units consumed by a request.
+     * @param consumedCapacity
+     *        Consumed capacity of the response, null when the table doesn't return it.
+     * @return Capacity units, 0 when unknown.
+     */
+    protected static double capacityUnits(ConsumedCapacity consumedCapacity) {
+        return Optional.ofNullable(consumedCapacity)
+                .map(ConsumedCapacity::capacityUnits)
+                .orElse(0d);
+    }
+
+    /**
+     * Capacity units consumed by a request on several tables.
+     * @param consumedCapacity
+     *        Consumed capacity of the response by table, null when the tables don't return it.
+     * @return Capacity units, 0 when unknown.
+     */
+    protected static double capacityUnits(Collection<ConsumedCapacity> consumedCapacity) {
+        return Optional.ofNullable(consumedCapacity)
+                .map(capacities -> capacities.stream().mapToDouble(DynamoDBSampler::capacityUnits).sum())
+                .orElse(0d);
+    }
+
+    /**
+     * Format consumed capacity of the sample.
+     * @param capacityUnits
+     *        Capacity units consumed.
+     * @return Consumed capacity units line.
+     */
+    protected static String formatCapacity(double capacityUnits) {
+        return String.format("Consumed capacity units: %.1f", capacityUnits);
+    }
+}
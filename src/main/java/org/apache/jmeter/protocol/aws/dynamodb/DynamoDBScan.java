@@ -0,0 +1,155 @@
+package org.apache.jmeter.protocol.aws.dynamodb;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * DynamoDB Sampler class to scan a table in parallel across JMeter threads. The table is split in
+ * <code>dynamodb_total_segments</code> segments, by default the number of threads of the Thread Group, and each thread
+ * scans the segment of its thread number. Every sample reads one page of the segment from where the previous one
+ * stopped, and the segment starts again once scanned to the end.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class DynamoDBScan extends DynamoDBSampler {
+
+    /**
+     * Segments of the parallel scan, 0 for the number of threads of the Thread Group.
+     */
+    private static final String DYNAMODB_TOTAL_SEGMENTS = "dynamodb_total_segments";
+
+    /**
+     * Optional filter expression.
+     */
+    private static final String DYNAMODB_FILTER_EXPRESSION = "dynamodb_filter_expression";
+
+    /**
+     * Values of the expression as JSON object, e.g. <code>{":status": "OPEN"}</code>.
+     */
+    private static final String DYNAMODB_EXPRESSION_VALUES = "dynamodb_expression_values";
+
+    /**
+     * List of Arguments to Scan sampler.
+     */
+    private static final List<Argument> DYNAMODB_PARAMETERS = Stream.of(
+            new Argument(DYNAMODB_TABLE_NAME, EMPTY),
+            new Argument(DYNAMODB_TOTAL_SEGMENTS, "0"),
+            new Argument(DYNAMODB_LIMIT, "100"),
+            new Argument(DYNAMODB_FILTER_EXPRESSION, EMPTY),
+            new Argument(DYNAMODB_EXPRESSION_VALUES, "{}"),
+            new Argument(DYNAMODB_CONSISTENT_READ, "false"))
+            .collect(Collectors.toList());
+
+    /**
+     * Segment scanned by the thread.
+     */
+    private int segment;
+
+    /**
+     * Segments of the parallel scan.
+     */
+    private int totalSegments;
+
+    /**
+     * Key to continue the scan of the segment, null to start it.
+     */
+    private Map<String, AttributeValue> exclusiveStartKey;
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and DynamoDB parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, DYNAMODB_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Read test parameters, initialize AWS DynamoDB client and pick the segment of the thread.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+        super.setupTest(context);
+        totalSegments = context.getIntParameter(DYNAMODB_TOTAL_SEGMENTS, 0);
+        if (totalSegments <= 0) {
+            totalSegments = Math.max(1, context.getJMeterContext().getThreadGroup().getNumThreads());
+        }
+        segment = context.getJMeterContext().getThreadNum() % totalSegments;
+        log.info("Scan segment " + segment + " of " + totalSegments);
+    }
+
+    /**
+     * Main method to execute the test on single thread. Read the next page of the segment of the thread.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Table Name: %s \nSegment: %d/%d \nLimit: %s \nFilter: %s",
+                context.getParameter(DYNAMODB_TABLE_NAME),
+                segment,
+                totalSegments,
+                context.getParameter(DYNAMODB_LIMIT),
+                context.getParameter(DYNAMODB_FILTER_EXPRESSION)));
+
+        try {
+            log.info("Scanning Segment.");
+            ScanRequest.Builder request = ScanRequest.builder()
+                    .tableName(context.getParameter(DYNAMODB_TABLE_NAME))
+                    .segment(segment)
+                    .totalSegments(totalSegments)
+                    .limit(context.getIntParameter(DYNAMODB_LIMIT, 100))
+                    .consistentRead(Boolean.parseBoolean(context.getParameter(DYNAMODB_CONSISTENT_READ, "false")))
+                    .exclusiveStartKey(exclusiveStartKey)
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+            String filter = context.getParameter(DYNAMODB_FILTER_EXPRESSION, EMPTY);
+            if (!filter.isEmpty()) {
+                request.filterExpression(filter);
+            }
+            Map<String, AttributeValue> values = DynamoDBItem.fromJson(
+                    context.getParameter(DYNAMODB_EXPRESSION_VALUES, "{}"));
+            if (!values.isEmpty()) {
+                request.expressionAttributeValues(values);
+            }
+            ScanResponse response = dynamoDbClient.scan(request.build());
+            exclusiveStartKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+            sampleResultSuccess(result, String.format("Items: %d \nScanned items: %d \nSegment complete: %s \n%s",
+                    response.count(),
+                    response.scannedCount(),
+                    exclusiveStartKey == null,
+                    formatCapacity(capacityUnits(response.consumedCapacity()))));
+        } catch (DynamoDbException e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        }
+
+        return result;
+    }
+}
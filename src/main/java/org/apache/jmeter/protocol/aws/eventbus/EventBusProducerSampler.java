@@ -1,14 +1,19 @@
 package org.apache.jmeter.protocol.aws.eventbus;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.jmeter.config.Argument;
 import org.apache.jmeter.protocol.aws.AWSClientSDK2;
 import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.aws.MultiRegion;
+import org.apache.jmeter.protocol.aws.MultiTarget;
+import org.apache.jmeter.protocol.aws.RequestTemplate;
 import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
 import org.apache.jmeter.config.Arguments;
 import org.apache.jmeter.samplers.SampleResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
@@ -72,6 +77,26 @@ public class EventBusProducerSampler extends AWSSampler implements AWSClientSDK2
      */
     private EventBridgeClient ebClient;
 
+    /**
+     * Multi-target selector of the event bus of each send, null when <code>targets</code> is empty.
+     */
+    private MultiTarget multiTarget;
+
+    /**
+     * Multi-region router of the region and account of each send, null when <code>aws_regions</code> is empty.
+     */
+    private MultiRegion<EventBridgeClient> multiRegion;
+
+    /**
+     * Precompiled PutEventsRequestEntry with the fields of constant parameters, null when it couldn't be created.
+     */
+    private RequestTemplate<PutEventsRequestEntry, PutEventsRequestEntry.Builder> entryTemplate;
+
+    /**
+     * Sampler data of constant parameters, null when any of them is variable.
+     */
+    private String constantSamplerData;
+
     /**
      * Create AWS EventBridge Client.
      * @param credentials
@@ -86,6 +111,7 @@ public class EventBusProducerSampler extends AWSSampler implements AWSClientSDK2
                 .endpointOverride(URI.create(getAWSEndpoint(credentials, EventBridgeClient.SERVICE_NAME, region)))
                 .region(Region.of(region))
                 .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
                 .build();
     }
 
@@ -97,7 +123,9 @@ public class EventBusProducerSampler extends AWSSampler implements AWSClientSDK2
     @Override
     public Arguments getDefaultParameters() {
         Arguments defaultParameters = new Arguments();
-        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, EVENT_BUS_PARAMETERS)
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, EVENT_BUS_PARAMETERS, TARGET_PARAMETERS,
+                        REGION_PARAMETERS, AGGREGATION_PARAMETERS,
+                        WARMUP_PARAMETERS)
                 .flatMap(List::stream)
                 .collect(Collectors.toList()));
         return defaultParameters;
@@ -112,6 +140,7 @@ public class EventBusProducerSampler extends AWSSampler implements AWSClientSDK2
 
         log.info("Setup EventBridge Producer Sampler.");
         Map<String, String> credentials = new HashMap<>();
+        constantParameters = findConstantParameters(context);
 
         context.getParameterNamesIterator()
                 .forEachRemaining( k -> {
@@ -119,8 +148,55 @@ public class EventBusProducerSampler extends AWSSampler implements AWSClientSDK2
                     log.info("Parameter: " + k + ", value: " + credentials.get(k));
                 });
 
-        log.info("Create EventBridge Client.");
-        ebClient = (EventBridgeClient) createSdkClient(credentials);
+        try {
+            multiRegion = MultiRegion.of(credentials, EventBridgeClient.SERVICE_NAME,
+                    regional -> (EventBridgeClient) createSdkClient(regional));
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create regions " + context.getParameter(AWS_REGIONS), e);
+        }
+
+        if (multiRegion == null) {
+            log.info("Create EventBridge Client.");
+            ebClient = (EventBridgeClient) createSdkClient(credentials);
+        }
+
+        try {
+            multiTarget = createMultiTarget(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create targets " + context.getParameter(TARGETS), e);
+        }
+
+        try {
+            sampleAggregator = createSampleAggregator(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create sample aggregation " + context.getParameter(AGGREGATE_SAMPLES) + ", " +
+                    context.getParameter(AGGREGATE_WINDOW_MS), e);
+        }
+
+        try {
+            warmUp = createWarmUp(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create warm-up " + context.getParameter(WARMUP_CONNECTIONS) + ", " +
+                    context.getParameter(WARMUP_SAMPLES), e);
+        }
+        String warmUpTarget = Optional.ofNullable(multiTarget)
+                .map(targets -> targets.getTargets().get(0))
+                .orElse(context.getParameter(EVENT_BUS_NAME));
+        Optional.ofNullable(warmUp)
+                .ifPresent(w -> w.run("EventBridge Producer",
+                        () -> warmUpCredentials(credentials, EventBridgeClient.SERVICE_NAME),
+                        multiRegion == null ? List.of(ebClient) : multiRegion.getClients(),
+                        client -> client.describeEventBus(r -> r.name(warmUpTarget))));
+
+        if (isConstant(EVENT_BUS_NAME, EVENT_SOURCE, EVENT_DETAIL_TYPE, EVENT_DETAIL) && multiTarget == null) {
+            constantSamplerData = formatSamplerData(context);
+        }
+        try {
+            entryTemplate = createEntryTemplate(context, true);
+            log.info("Request template with " + entryTemplate.getVariableFields() + " variable fields.");
+        } catch (JsonProcessingException | SdkException e) {
+            log.error("Unable to create request template, requests are built per sample", e);
+        }
     }
 
     /**
@@ -133,22 +209,30 @@ public class EventBusProducerSampler extends AWSSampler implements AWSClientSDK2
     @Override
     public SampleResult runTest(JavaSamplerContext context) {
 
+        context = selectTarget(multiTarget, context, EVENT_BUS_NAME, EVENT_DETAIL);
+        selectRegion(multiRegion);
         SampleResult result = newSampleResult();
-        sampleResultStart(result, String.format(
-            "Event Bus: %s \nEvent Source: %s \nDetail Type: %s  \nEvent Detail: %s",
-                context.getParameter(EVENT_BUS_NAME),
-                context.getParameter(EVENT_SOURCE),
-                context.getParameter(EVENT_DETAIL_TYPE),
-                context.getParameter(EVENT_DETAIL)));
+        sampleResultStart(result, constantSamplerData != null ? constantSamplerData : formatSamplerData(context));
+
+        if (isMultiRegionMissing(multiRegion, context)) {
+            sampleResultFail(result, FAIL_CODE, "Regions not created: " + context.getParameter(AWS_REGIONS));
+            return result;
+        }
+        if (isMultiTargetMissing(multiTarget, context)) {
+            sampleResultFail(result, FAIL_CODE, "Targets not created: " + context.getParameter(TARGETS));
+            return result;
+        }
 
         try {
             log.info("Publishing Event.");
-            PutEventsResponse response = ebClient.putEvents(createPutEventsRequest(context));
+            PutEventsResponse response = getEbClient().putEvents(createPutEventsRequest(context));
             sampleResultSuccess(result, 
                 response.entries().stream().map(
                     entry -> String.format("Event Id: %s", entry.eventId())).collect(Collectors.joining (",")));
         }catch (EventBridgeException e){
             sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (JsonProcessingException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
         }
 
         return result;
@@ -162,26 +246,88 @@ public class EventBusProducerSampler extends AWSSampler implements AWSClientSDK2
     @Override
     public void teardownTest(JavaSamplerContext context) {
         log.info("Close EventBridge Client.");
+        Optional.ofNullable(multiTarget)
+                .ifPresent(targets -> {
+                    log.info("Sends per target: " + MultiTarget.getSends(MultiTarget.TARGET));
+                    targets.release();
+                });
         Optional.ofNullable(ebClient)
                 .ifPresent(client -> client.close());
+        Optional.ofNullable(multiRegion)
+                .ifPresent(regions -> {
+                    log.info("Sends per region: " + MultiTarget.getSends(MultiTarget.REGION));
+                    regions.close(EventBridgeClient::close);
+                });
+        teardownSampler();
+    }
+
+    /**
+     * Get EventBridge client of the region picked by multi-region mode, or of <code>aws_region</code>.
+     * @return EventBridgeClient.
+     */
+    private EventBridgeClient getEbClient() {
+        return multiRegion == null ? ebClient : multiRegion.current();
     }
 
     /**
      * Create PutEventsRequest with a PutEventsRequestEntry object
-     *        (event bus name, detail type, event source and event detail)
+     *        (event bus name, detail type, event source and event detail), from the entry template.
      * @param context
      *        Arguments values on Java Sampler.
      * @return PutEventsRequest
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
      */
-    public PutEventsRequest createPutEventsRequest(JavaSamplerContext context){
+    public PutEventsRequest createPutEventsRequest(JavaSamplerContext context) throws JsonProcessingException {
+        RequestTemplate<PutEventsRequestEntry, PutEventsRequestEntry.Builder> template = entryTemplate != null
+                ? entryTemplate : createEntryTemplate(context, false);
         return PutEventsRequest.builder()
-                .entries(PutEventsRequestEntry.builder()
-                        .eventBusName(context.getParameter(EVENT_BUS_NAME))
-                        .detailType(context.getParameter(EVENT_DETAIL_TYPE))
-                        .source(context.getParameter(EVENT_SOURCE))
-                        .detail(context.getParameter(EVENT_DETAIL))
-                        .build())
+                .entries(template.apply(context))
                 .build();
     }
 
+    /**
+     * Create template of the PutEventsRequestEntry. The event bus is constant only when neither multi-target nor
+     * multi-region mode is set.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param precompile
+     *        Whether the fields of constant parameters are set on the template, otherwise all of them are filled
+     *        per sample.
+     * @return Entry template.
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    private RequestTemplate<PutEventsRequestEntry, PutEventsRequestEntry.Builder> createEntryTemplate(
+            JavaSamplerContext context, boolean precompile) throws JsonProcessingException {
+        return RequestTemplate.builder(PutEventsRequestEntry.builder(), PutEventsRequestEntry::toBuilder,
+                        PutEventsRequestEntry.Builder::build, context)
+                .field(precompile && isConstant(EVENT_BUS_NAME) && multiTarget == null && multiRegion == null,
+                        (builder, c) -> builder.eventBusName(Optional.ofNullable(multiRegion)
+                                .map(regions -> regions.toRegionalArn(c.getParameter(EVENT_BUS_NAME)))
+                                .orElse(c.getParameter(EVENT_BUS_NAME))))
+                .field(precompile && isConstant(EVENT_DETAIL_TYPE),
+                        (builder, c) -> builder.detailType(c.getParameter(EVENT_DETAIL_TYPE)))
+                .field(precompile && isConstant(EVENT_SOURCE),
+                        (builder, c) -> builder.source(c.getParameter(EVENT_SOURCE)))
+                .field(precompile && isConstant(EVENT_DETAIL),
+                        (builder, c) -> builder.detail(c.getParameter(EVENT_DETAIL)))
+                .build();
+    }
+
+    /**
+     * Format sampler data of the sample.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Event bus, source, detail type and detail.
+     */
+    private String formatSamplerData(JavaSamplerContext context) {
+        return String.format(
+            "Event Bus: %s \nEvent Source: %s \nDetail Type: %s  \nEvent Detail: %s",
+                context.getParameter(EVENT_BUS_NAME),
+                context.getParameter(EVENT_SOURCE),
+                context.getParameter(EVENT_DETAIL_TYPE),
+                context.getParameter(EVENT_DETAIL));
+    }
+
 }
@@ -0,0 +1,438 @@
+package org.apache.jmeter.protocol.aws.firehose;
+
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.AWSClientSDK2;
+import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.aws.PayloadCorpus;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.firehose.FirehoseClient;
+import software.amazon.awssdk.services.firehose.model.FirehoseException;
+import software.amazon.awssdk.services.firehose.model.PutRecordBatchResponse;
+import software.amazon.awssdk.services.firehose.model.PutRecordBatchResponseEntry;
+import software.amazon.awssdk.services.firehose.model.PutRecordResponse;
+import software.amazon.awssdk.services.firehose.model.Record;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Kinesis Data Firehose Producer Sampler class to put records in a delivery stream, one per sample with PutRecord or
+ * up to 500 records and 4 MiB per sample with PutRecordBatch. Records are newline delimited, so the objects delivered
+ * to S3 hold one record per line. Records of a batch failed by the delivery stream (<code>FailedPutCount</code>) are
+ * redriven with exponential backoff and full jitter, and the sample covers the whole redrive.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class FirehoseProducerSampler extends AWSSampler implements AWSClientSDK2 {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(FirehoseProducerSampler.class);
+
+    /**
+     * Delivery stream name.
+     */
+    private static final String FIREHOSE_DELIVERY_STREAM_NAME = "firehose_delivery_stream_name";
+
+    /**
+     * Data record, when <code>payload_file</code> is empty.
+     */
+    private static final String FIREHOSE_DATA_RECORD = "data_record";
+
+    /**
+     * Put mode, <code>record</code> or <code>batch</code>.
+     */
+    private static final String FIREHOSE_PUT_MODE = "firehose_put_mode";
+
+    /**
+     * Records per PutRecordBatch.
+     */
+    private static final String FIREHOSE_BATCH_SIZE = "firehose_batch_size";
+
+    /**
+     * Whether a newline is appended to records not ending with one.
+     */
+    private static final String FIREHOSE_NEWLINE_DELIMITED = "firehose_newline_delimited";
+
+    /**
+     * Redrives of failed records.
+     */
+    private static final String FIREHOSE_MAX_RETRIES = "firehose_max_retries";
+
+    /**
+     * Backoff of the first redrive, doubled on each one, milliseconds.
+     */
+    private static final String FIREHOSE_BACKOFF_MS = "firehose_backoff_ms";
+
+    /**
+     * Put mode of one record per sample.
+     */
+    private static final String RECORD_MODE = "record";
+
+    /**
+     * Put mode of a batch of records per sample.
+     */
+    private static final String BATCH_MODE = "batch";
+
+    /**
+     * Maximum records of PutRecordBatch.
+     */
+    private static final int MAX_BATCH_RECORDS = 500;
+
+    /**
+     * Maximum bytes of PutRecordBatch, 4 MiB.
+     */
+    private static final int MAX_BATCH_BYTES = 4 * 1024 * 1024;
+
+    /**
+     * Maximum bytes of a record, 1000 KiB.
+     */
+    private static final int MAX_RECORD_BYTES = 1000 * 1024;
+
+    /**
+     * Maximum backoff of a redrive, milliseconds.
+     */
+    private static final long MAX_BACKOFF_MS = 5000;
+
+    /**
+     * Newline delimiter of records.
+     */
+    private static final byte NEWLINE = '\n';
+
+    /**
+     * List of Arguments to Firehose Producer sampler.
+     */
+    private static final List<Argument> FIREHOSE_PARAMETERS = Stream.of(
+            new Argument(FIREHOSE_DELIVERY_STREAM_NAME, EMPTY),
+            new Argument(FIREHOSE_DATA_RECORD, EMPTY),
+            new Argument(FIREHOSE_PUT_MODE, BATCH_MODE),
+            new Argument(FIREHOSE_BATCH_SIZE, String.valueOf(MAX_BATCH_RECORDS)),
+            new Argument(FIREHOSE_NEWLINE_DELIMITED, "true"),
+            new Argument(FIREHOSE_MAX_RETRIES, "3"),
+            new Argument(FIREHOSE_BACKOFF_MS, "100"))
+            .collect(Collectors.toList());
+
+    /**
+     * AWS Kinesis Data Firehose Client.
+     */
+    private FirehoseClient firehoseClient;
+
+    /**
+     * Payload corpus of records, null when data record parameter is used.
+     */
+    private PayloadCorpus payloadCorpus;
+
+    /**
+     * Create AWS Kinesis Data Firehose Client.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return FirehoseClient extends SdkClient super class.
+     */
+    @Override
+    public SdkClient createSdkClient(Map<String, String> credentials) {
+
+        String region = getAWSRegion(credentials);
+        return FirehoseClient.builder()
+                .endpointOverride(URI.create(getAWSEndpoint(credentials, FirehoseClient.SERVICE_NAME, region)))
+                .region(Region.of(region))
+                .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
+                .build();
+    }
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and Kinesis Data Firehose parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, FIREHOSE_PARAMETERS, PAYLOAD_PARAMETERS,
+                        AGGREGATION_PARAMETERS, WARMUP_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Read test parameters and initialize AWS Kinesis Data Firehose client.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+
+        log.info("Setup Firehose Producer Sampler.");
+        Map<String, String> credentials = new HashMap<>();
+
+        context.getParameterNamesIterator()
+                .forEachRemaining( k -> {
+                    credentials.put(k, context.getParameter(k));
+                    log.info("Parameter: " + k + ", value: " + credentials.get(k));
+                });
+
+        log.info("Create Firehose Producer.");
+        firehoseClient = (FirehoseClient) createSdkClient(credentials);
+
+        try {
+            payloadCorpus = openPayloadCorpus(context);
+        } catch (IOException e) {
+            log.error("Unable to map payload corpus " + context.getParameter(PAYLOAD_FILE), e);
+        }
+
+        try {
+            sampleAggregator = createSampleAggregator(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create sample aggregation " + context.getParameter(AGGREGATE_SAMPLES) + ", " +
+                    context.getParameter(AGGREGATE_WINDOW_MS), e);
+        }
+
+        try {
+            warmUp = createWarmUp(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create warm-up " + context.getParameter(WARMUP_CONNECTIONS) + ", " +
+                    context.getParameter(WARMUP_SAMPLES), e);
+        }
+        Optional.ofNullable(warmUp)
+                .ifPresent(w -> w.run("Firehose Producer",
+                        () -> warmUpCredentials(credentials, FirehoseClient.SERVICE_NAME),
+                        List.of(firehoseClient),
+                        client -> client.describeDeliveryStream(r -> r
+                                .deliveryStreamName(context.getParameter(FIREHOSE_DELIVERY_STREAM_NAME)))));
+    }
+
+    /**
+     * Main method to execute the test on single thread. Put one record or a batch of records in the delivery stream.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        String mode = context.getParameter(FIREHOSE_PUT_MODE, BATCH_MODE);
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Delivery Stream: %s \nPut Mode: %s \nBatch Size: %s \nData Record: %s",
+                context.getParameter(FIREHOSE_DELIVERY_STREAM_NAME),
+                mode,
+                context.getParameter(FIREHOSE_BATCH_SIZE),
+                context.getParameter(payloadCorpus != null ? PAYLOAD_FILE : FIREHOSE_DATA_RECORD)));
+
+        if (isPayloadCorpusMissing(payloadCorpus, context)) {
+            sampleResultFail(result, FAIL_CODE, "Payload corpus not mapped: " + context.getParameter(PAYLOAD_FILE));
+            return result;
+        }
+
+        try {
+            if (RECORD_MODE.equalsIgnoreCase(mode)) {
+                putRecord(context, result);
+            } else if (BATCH_MODE.equalsIgnoreCase(mode)) {
+                putRecordBatch(context, result);
+            } else {
+                sampleResultFail(result, FAIL_CODE, "Unknown put mode " + mode + ", use " + RECORD_MODE + " or " +
+                        BATCH_MODE + ".");
+            }
+        } catch (FirehoseException e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (IllegalArgumentException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sampleResultFail(result, FAIL_CODE, "Interrupted redriving failed records.");
+        }
+
+        return result;
+    }
+
+    /**
+     * Put one record with PutRecord.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param result
+     *        SampleResult started.
+     */
+    private void putRecord(JavaSamplerContext context, SampleResult result) {
+        log.info("Putting Record.");
+        SdkBytes data = nextRecord(context);
+        PutRecordResponse response = firehoseClient.putRecord(r -> r
+                .deliveryStreamName(context.getParameter(FIREHOSE_DELIVERY_STREAM_NAME))
+                .record(record -> record.data(data)));
+        result.setSentBytes(data.asByteBuffer().remaining());
+        sampleResultSuccess(result, String.format("Record Id: %s \nEncrypted: %s \n%s",
+                response.recordId(),
+                response.encrypted(),
+                formatThroughput(1, data.asByteBuffer().remaining(), result)));
+    }
+
+    /**
+     * Put a batch of records with PutRecordBatch, up to <code>firehose_batch_size</code> records and 4 MiB, and
+     * redrive the records failed by the delivery stream. The sample fails when records are still failed after the
+     * last retry.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param result
+     *        SampleResult started.
+     * @throws InterruptedException
+     *         Exception when the thread is interrupted waiting to redrive.
+     */
+    private void putRecordBatch(JavaSamplerContext context, SampleResult result) throws InterruptedException {
+        log.info("Putting Record Batch.");
+        List<Record> records = createBatch(context);
+        long bytes = records.stream()
+                .mapToLong(record -> record.data().asByteBuffer().remaining())
+                .sum();
+        int maxRetries = context.getIntParameter(FIREHOSE_MAX_RETRIES, 3);
+        long backoffMs = context.getLongParameter(FIREHOSE_BACKOFF_MS, 100);
+        List<Record> pending = records;
+        String errorCode = EMPTY;
+        int attempts = 0;
+        int redriven = 0;
+        while (true) {
+            List<Record> batch = pending;
+            PutRecordBatchResponse response = firehoseClient.putRecordBatch(r -> r
+                    .deliveryStreamName(context.getParameter(FIREHOSE_DELIVERY_STREAM_NAME))
+                    .records(batch));
+            attempts++;
+            if (response.failedPutCount() == null || response.failedPutCount() == 0) {
+                pending = List.of();
+                break;
+            }
+            List<PutRecordBatchResponseEntry> entries = response.requestResponses();
+            pending = IntStream.range(0, batch.size())
+                    .filter(i -> entries.get(i).errorCode() != null)
+                    .mapToObj(batch::get)
+                    .collect(Collectors.toList());
+            errorCode = entries.stream()
+                    .map(PutRecordBatchResponseEntry::errorCode)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElse(EMPTY);
+            if (pending.isEmpty() || attempts > maxRetries) {
+                break;
+            }
+            redriven += pending.size();
+            Thread.sleep(ThreadLocalRandom.current().nextLong(
+                    Math.min(MAX_BACKOFF_MS, backoffMs << Math.min(attempts - 1, 20)) + 1));
+        }
+
+        result.setSentBytes(bytes);
+        String data = String.format("Records: %d \nAttempts: %d \nRedriven records: %d \nFailed records: %d \n%s",
+                records.size(), attempts, redriven, pending.size(), formatThroughput(records.size(), bytes, result));
+        if (pending.isEmpty()) {
+            sampleResultSuccess(result, data);
+        } else {
+            sampleResultFail(result, errorCode.isEmpty() ? FAIL_CODE : errorCode,
+                    "Records failed after " + maxRetries + " retries. \n" + data);
+        }
+    }
+
+    /**
+     * Create the records of a batch, up to <code>firehose_batch_size</code> records and 4 MiB.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Records, at least one.
+     * @throws IllegalArgumentException
+     *         Exception when the batch size isn't 1 to 500.
+     */
+    private List<Record> createBatch(JavaSamplerContext context) {
+        int batchSize = context.getIntParameter(FIREHOSE_BATCH_SIZE, MAX_BATCH_RECORDS);
+        if (batchSize < 1 || batchSize > MAX_BATCH_RECORDS) {
+            throw new IllegalArgumentException("PutRecordBatch takes 1 to " + MAX_BATCH_RECORDS + " records, got " +
+                    batchSize);
+        }
+        List<Record> records = new ArrayList<>(batchSize);
+        SdkBytes dataRecord = payloadCorpus == null ? nextRecord(context) : null;
+        long bytes = 0;
+        while (records.size() < batchSize) {
+            SdkBytes data = dataRecord != null ? dataRecord : nextRecord(context);
+            int size = data.asByteBuffer().remaining();
+            if (!records.isEmpty() && bytes + size > MAX_BATCH_BYTES) {
+                break;
+            }
+            records.add(Record.builder()
+                    .data(data)
+                    .build());
+            bytes += size;
+        }
+        return records;
+    }
+
+    /**
+     * Next record of the payload corpus or the data record parameter, newline delimited when
+     * <code>firehose_newline_delimited</code> is true.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Record data.
+     * @throws IllegalArgumentException
+     *         Exception when the record is bigger than 1000 KiB.
+     */
+    private SdkBytes nextRecord(JavaSamplerContext context) {
+        ByteBuffer record = payloadCorpus != null
+                ? nextPayload(payloadCorpus, context)
+                : ByteBuffer.wrap(context.getParameter(FIREHOSE_DATA_RECORD, EMPTY).getBytes(StandardCharsets.UTF_8));
+        boolean newline = Boolean.parseBoolean(context.getParameter(FIREHOSE_NEWLINE_DELIMITED, "true")) &&
+                (!record.hasRemaining() || record.get(record.limit() - 1) != NEWLINE);
+        int size = record.remaining() + (newline ? 1 : 0);
+        if (size > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Record of " + size + " bytes, max " + MAX_RECORD_BYTES + ".");
+        }
+        if (!newline) {
+            return SdkBytes.fromByteBufferUnsafe(record);
+        }
+        return SdkBytes.fromByteBufferUnsafe(ByteBuffer.allocate(size)
+                .put(record)
+                .put(NEWLINE)
+                .flip());
+    }
+
+    /**
+     * Format records and throughput of the sample.
+     * @param records
+     *        Records put.
+     * @param bytes
+     *        Bytes of the records.
+     * @param result
+     *        SampleResult started.
+     * @return Bytes and bytes per second.
+     */
+    private static String formatThroughput(int records, long bytes, SampleResult result) {
+        double seconds = Math.max(1, System.currentTimeMillis() - result.getStartTime()) / 1000d;
+        return String.format("Bytes: %d \nThroughput: %.0f bytes/s, %.0f records/s", bytes, bytes / seconds,
+                records / seconds);
+    }
+
+    /**
+     * Close AWS Kinesis Data Firehose Client after run single thread.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close Firehose Producer.");
+        Optional.ofNullable(firehoseClient)
+                .ifPresent(client -> client.close());
+        teardownSampler();
+    }
+}
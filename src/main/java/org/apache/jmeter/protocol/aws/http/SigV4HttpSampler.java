@@ -0,0 +1,439 @@
+package org.apache.jmeter.protocol.aws.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.AWSCredentialsSDK2;
+import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * SigV4 HTTP Sampler class to send arbitrary HTTP requests signed with AWS Signature Version 4, e.g. to API Gateway
+ * APIs with IAM auth or private endpoints, which the JMeter HTTP sampler can't sign. Credentials are the ones of any
+ * AWS sampler, including profiles and assumed roles. The signing key is cached per date, region and service for the
+ * JVM, the hash of the body is computed once while it doesn't change, and requests are sent by an HTTP client pooled
+ * by all the samplers and JMeter threads of the JVM with the same <code>aws_max_connections</code>.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class SigV4HttpSampler extends AWSSampler implements AWSCredentialsSDK2 {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(SigV4HttpSampler.class);
+
+    /**
+     * HTTP method.
+     */
+    private static final String HTTP_METHOD = "http_method";
+
+    /**
+     * Request URL, with its query.
+     */
+    private static final String HTTP_URL = "http_url";
+
+    /**
+     * Request headers, JSON object of names and values.
+     */
+    private static final String HTTP_HEADERS = "http_headers";
+
+    /**
+     * Request body.
+     */
+    private static final String HTTP_BODY = "http_body";
+
+    /**
+     * Signing name of the service.
+     */
+    private static final String SIGV4_SERVICE = "sigv4_service";
+
+    /**
+     * Default HTTP method.
+     */
+    private static final String DEFAULT_METHOD = "GET";
+
+    /**
+     * Default signing name, API Gateway.
+     */
+    private static final String DEFAULT_SERVICE = "execute-api";
+
+    /**
+     * Headers type of <code>http_headers</code>.
+     */
+    private static final TypeReference<Map<String, String>> HEADERS_TYPE = new TypeReference<>() {};
+
+    /**
+     * JSON mapper of headers.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Pooled HTTP clients by <code>aws_max_connections</code>, guarded by itself.
+     */
+    private static final Map<String, PooledClient> CLIENTS = new HashMap<>();
+
+    /**
+     * List of Arguments to SigV4 HTTP sampler.
+     */
+    private static final List<Argument> HTTP_PARAMETERS = Stream.of(
+            new Argument(HTTP_METHOD, DEFAULT_METHOD),
+            new Argument(HTTP_URL, EMPTY),
+            new Argument(HTTP_HEADERS, EMPTY),
+            new Argument(HTTP_BODY, EMPTY),
+            new Argument(SIGV4_SERVICE, DEFAULT_SERVICE))
+            .collect(Collectors.toList());
+
+    /**
+     * Pool key of the HTTP client.
+     */
+    private String clientKey;
+
+    /**
+     * HTTP client pooled by the samplers of the JVM.
+     */
+    private SdkHttpClient httpClient;
+
+    /**
+     * Credentials provider, resolved on each request.
+     */
+    private AwsCredentialsProvider credentialsProvider;
+
+    /**
+     * Signer of the region and service.
+     */
+    private SigV4Signer signer;
+
+    /**
+     * Headers parsed on setup when <code>http_headers</code> is constant, null otherwise.
+     */
+    private Map<String, String> constantHeaders;
+
+    /**
+     * Body of the previous request.
+     */
+    private String body;
+
+    /**
+     * Bytes of the body of the previous request.
+     */
+    private byte[] bodyBytes = new byte[0];
+
+    /**
+     * Hash of the body of the previous request.
+     */
+    private String bodyHash = SigV4Signer.EMPTY_PAYLOAD_HASH;
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and HTTP request parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, HTTP_PARAMETERS, AGGREGATION_PARAMETERS,
+                        WARMUP_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Read test parameters, resolve the credentials provider and get the pooled HTTP client.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+
+        log.info("Setup SigV4 HTTP Sampler.");
+        Map<String, String> credentials = new HashMap<>();
+
+        context.getParameterNamesIterator()
+                .forEachRemaining( k -> {
+                    credentials.put(k, context.getParameter(k));
+                    log.info("Parameter: " + k + ", value: " + credentials.get(k));
+                });
+
+        log.info("Create SigV4 HTTP Client.");
+        credentialsProvider = getAwsCredentialsProvider(credentials);
+        String service = context.getParameter(SIGV4_SERVICE, DEFAULT_SERVICE);
+        signer = new SigV4Signer(getAWSRegion(credentials), service);
+        clientKey = String.valueOf(credentials.get(AWS_MAX_CONNECTIONS));
+        httpClient = acquire(clientKey, credentials);
+
+        constantParameters = findConstantParameters(context);
+        if (isConstant(HTTP_HEADERS)) {
+            try {
+                constantHeaders = parseHeaders(context.getParameter(HTTP_HEADERS, EMPTY));
+            } catch (JsonProcessingException e) {
+                log.error("Unable to parse headers " + context.getParameter(HTTP_HEADERS), e);
+            }
+        }
+        if (isConstant(HTTP_BODY)) {
+            prepareBody(context.getParameter(HTTP_BODY, EMPTY));
+        }
+
+        try {
+            sampleAggregator = createSampleAggregator(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create sample aggregation " + context.getParameter(AGGREGATE_SAMPLES) + ", " +
+                    context.getParameter(AGGREGATE_WINDOW_MS), e);
+        }
+
+        try {
+            warmUp = createWarmUp(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create warm-up " + context.getParameter(WARMUP_CONNECTIONS) + ", " +
+                    context.getParameter(WARMUP_SAMPLES), e);
+        }
+        Optional.ofNullable(warmUp)
+                .ifPresent(w -> w.run("SigV4 HTTP",
+                        () -> sign(SdkHttpMethod.HEAD.name(), URI.create(context.getParameter(HTTP_URL)), Map.of(),
+                                SigV4Signer.EMPTY_PAYLOAD_HASH),
+                        List.of(httpClient),
+                        client -> warmUpRequest(URI.create(context.getParameter(HTTP_URL)))));
+    }
+
+    /**
+     * Main method to execute the test on single thread. Sign and send the HTTP request.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        String method = context.getParameter(HTTP_METHOD, DEFAULT_METHOD).toUpperCase(Locale.ROOT);
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("%s %s \nHeaders: %s \nBody: %s",
+                method,
+                context.getParameter(HTTP_URL),
+                context.getParameter(HTTP_HEADERS),
+                context.getParameter(HTTP_BODY)));
+
+        try {
+            URI uri = URI.create(context.getParameter(HTTP_URL, EMPTY));
+            Map<String, String> headers = constantHeaders != null
+                    ? constantHeaders
+                    : parseHeaders(context.getParameter(HTTP_HEADERS, EMPTY));
+            long signingStart = System.nanoTime();
+            prepareBody(context.getParameter(HTTP_BODY, EMPTY));
+            SortedMap<String, String> signed = sign(method, uri, headers, bodyHash);
+            long signingMicros = (System.nanoTime() - signingStart) / 1000;
+
+            HttpExecuteResponse response = execute(method, uri, signed, bodyBytes);
+            result.latencyEnd();
+            byte[] data = read(response);
+            result.setSentBytes(bodyBytes.length);
+            result.setBytes((long) data.length);
+            int status = response.httpResponse().statusCode();
+            String description = String.format("Status code: %d \nSigning: %d us \nSigning keys derived: %d \n" +
+                            "Body: %s", status, signingMicros, SigV4Signer.getDerivedKeys(),
+                    new String(data, StandardCharsets.UTF_8));
+            if (status < 400) {
+                sampleResultSuccess(result, description);
+            } else {
+                sampleResultFail(result, String.valueOf(status), description);
+            }
+        } catch (JsonProcessingException e) {
+            sampleResultFail(result, FAIL_CODE, "Invalid headers, use a JSON object of names and values: " +
+                    e.getOriginalMessage());
+        } catch (IOException | SdkException | IllegalArgumentException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * Keep the bytes and hash of the body, computed again only when it differs from the previous one.
+     * @param value
+     *        Request body.
+     */
+    private void prepareBody(String value) {
+        if (value.equals(body)) {
+            return;
+        }
+        body = value;
+        bodyBytes = value.getBytes(StandardCharsets.UTF_8);
+        bodyHash = SigV4Signer.hash(bodyBytes);
+    }
+
+    /**
+     * Sign a request with the credentials resolved now.
+     * @param method
+     *        HTTP method.
+     * @param uri
+     *        Request URI.
+     * @param headers
+     *        Request headers.
+     * @param payloadHash
+     *        Hash of the body.
+     * @return Signed headers to send.
+     */
+    private SortedMap<String, String> sign(String method, URI uri, Map<String, String> headers, String payloadHash) {
+        return signer.sign(method, uri, headers, payloadHash, credentialsProvider.resolveCredentials(),
+                Instant.now());
+    }
+
+    /**
+     * Send a signed request on the pooled HTTP client.
+     * @param method
+     *        HTTP method.
+     * @param uri
+     *        Request URI.
+     * @param headers
+     *        Signed headers.
+     * @param payload
+     *        Request body, empty when there is none.
+     * @return HTTP response, with the body still to read.
+     * @throws IOException
+     *         Exception when the request can't be sent.
+     */
+    private HttpExecuteResponse execute(String method, URI uri, Map<String, String> headers, byte[] payload)
+            throws IOException {
+        SdkHttpFullRequest.Builder request = SdkHttpFullRequest.builder()
+                .method(SdkHttpMethod.fromValue(method))
+                .uri(uri);
+        headers.forEach(request::putHeader);
+        HttpExecuteRequest.Builder execute = HttpExecuteRequest.builder();
+        if (payload.length > 0) {
+            request.putHeader("Content-Length", String.valueOf(payload.length));
+            execute.contentStreamProvider(() -> new ByteArrayInputStream(payload));
+        }
+        return httpClient.prepareRequest(execute.request(request.build()).build()).call();
+    }
+
+    /**
+     * Read and close the body of a response.
+     * @param response
+     *        HTTP response.
+     * @return Body bytes, empty when there is none.
+     * @throws IOException
+     *         Exception when the body can't be read.
+     */
+    private static byte[] read(HttpExecuteResponse response) throws IOException {
+        Optional<AbortableInputStream> responseBody = response.responseBody();
+        if (responseBody.isEmpty()) {
+            return new byte[0];
+        }
+        try (AbortableInputStream in = responseBody.get()) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Send a signed HEAD request of the URL to open a connection of the pool, whatever the response.
+     * @param uri
+     *        Request URI.
+     */
+    private void warmUpRequest(URI uri) {
+        try {
+            read(execute(SdkHttpMethod.HEAD.name(), uri,
+                    sign(SdkHttpMethod.HEAD.name(), uri, Map.of(), SigV4Signer.EMPTY_PAYLOAD_HASH), new byte[0]));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parse <code>http_headers</code> parameter.
+     * @param headers
+     *        JSON object of header names and values.
+     * @return Headers, empty when the parameter is empty.
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    private static Map<String, String> parseHeaders(String headers) throws JsonProcessingException {
+        return headers.isBlank() ? Map.of() : Map.copyOf(MAPPER.readValue(headers, HEADERS_TYPE));
+    }
+
+    /**
+     * Get the pooled HTTP client of the key, creating it when missing.
+     * @param key
+     *        Pool key, the <code>aws_max_connections</code> parameter.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return Pooled HTTP client.
+     */
+    private SdkHttpClient acquire(String key, Map<String, String> credentials) {
+        synchronized (CLIENTS) {
+            PooledClient pooled = CLIENTS.computeIfAbsent(key,
+                    k -> new PooledClient(getHttpClientBuilder(credentials).build()));
+            pooled.references++;
+            return pooled.client;
+        }
+    }
+
+    /**
+     * Release the pooled HTTP client, closing it when no other sampler uses it.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close SigV4 HTTP Client.");
+        Optional.ofNullable(httpClient)
+                .ifPresent(client -> {
+                    synchronized (CLIENTS) {
+                        PooledClient pooled = CLIENTS.get(clientKey);
+                        if (pooled != null && --pooled.references == 0) {
+                            CLIENTS.remove(clientKey);
+                            pooled.client.close();
+                        }
+                    }
+                });
+        teardownSampler();
+    }
+
+    /**
+     * Pooled HTTP client and its references.
+     */
+    private static final class PooledClient {
+
+        /**
+         * HTTP client.
+         */
+        private final SdkHttpClient client;
+
+        /**
+         * Samplers using the client.
+         */
+        private int references;
+
+        private PooledClient(SdkHttpClient client) {
+            this.client = client;
+        }
+    }
+}
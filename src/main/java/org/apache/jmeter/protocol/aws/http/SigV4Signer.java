@@ -0,0 +1,356 @@
+package org.apache.jmeter.protocol.aws.http;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * AWS Signature Version 4 signer of HTTP requests, e.g. to API Gateway with IAM auth or private endpoints. The signing
+ * key derived from the secret key, date, region and service (four HMAC-SHA256) is cached for the JVM, so a request
+ * only pays the HMAC of its string to sign and the SHA-256 of its canonical request. Mac and MessageDigest instances
+ * are reused per thread, and payload hashes are computed by the caller once per distinct body.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+final class SigV4Signer {
+
+    /**
+     * Signing algorithm.
+     */
+    static final String ALGORITHM = "AWS4-HMAC-SHA256";
+
+    /**
+     * Hash of the empty payload.
+     */
+    static final String EMPTY_PAYLOAD_HASH = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    /**
+     * Terminator of the credential scope.
+     */
+    private static final String TERMINATOR = "aws4_request";
+
+    /**
+     * Timestamp of the request, <code>X-Amz-Date</code> header.
+     */
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    /**
+     * Sequential spaces of header values, signed as one.
+     */
+    private static final Pattern SPACES = Pattern.compile(" +");
+
+    /**
+     * Lowercase hex encoding.
+     */
+    private static final HexFormat HEX = HexFormat.of();
+
+    /**
+     * Signing keys by access key id, date, region and service, shared by all the threads of the JVM.
+     */
+    private static final Map<String, SigningKey> SIGNING_KEYS = new ConcurrentHashMap<>();
+
+    /**
+     * Signing keys derived, the rest of the signatures used a cached one.
+     */
+    private static final LongAdder DERIVED_KEYS = new LongAdder();
+
+    /**
+     * HMAC-SHA256 of the thread.
+     */
+    private static final ThreadLocal<Mac> HMAC = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance("HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    });
+
+    /**
+     * SHA-256 of the thread.
+     */
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    /**
+     * Signing region.
+     */
+    private final String region;
+
+    /**
+     * Signing name of the service, e.g. <code>execute-api</code>.
+     */
+    private final String service;
+
+    /**
+     * Whether the service is S3, whose path is URI-encoded once and whose payload hash is signed as header.
+     */
+    private final boolean s3;
+
+    /**
+     * Create signer of a region and service.
+     * @param region
+     *        Signing region.
+     * @param service
+     *        Signing name of the service.
+     */
+    SigV4Signer(String region, String service) {
+        this.region = region;
+        this.service = service;
+        this.s3 = "s3".equals(service);
+    }
+
+    /**
+     * Hash a payload.
+     * @param payload
+     *        Request body.
+     * @return Lowercase hex SHA-256 of the payload.
+     */
+    static String hash(byte[] payload) {
+        return payload.length == 0 ? EMPTY_PAYLOAD_HASH : HEX.formatHex(SHA256.get().digest(payload));
+    }
+
+    /**
+     * Signing keys derived by the JVM.
+     * @return Derived signing keys.
+     */
+    static long getDerivedKeys() {
+        return DERIVED_KEYS.sum();
+    }
+
+    /**
+     * Sign a request.
+     * @param method
+     *        HTTP method.
+     * @param uri
+     *        Request URI, with its query.
+     * @param headers
+     *        Request headers to sign.
+     * @param payloadHash
+     *        Lowercase hex SHA-256 of the body.
+     * @param credentials
+     *        AWS credentials, with session token when temporary.
+     * @param now
+     *        Signing time.
+     * @return Headers to send, the request headers with lowercase names plus <code>host</code>,
+     * <code>x-amz-date</code>, <code>x-amz-content-sha256</code> for S3 only, like the SDK signers,
+     * <code>x-amz-security-token</code> of temporary credentials and <code>authorization</code>.
+     */
+    SortedMap<String, String> sign(String method, URI uri, Map<String, String> headers, String payloadHash,
+                                   AwsCredentials credentials, Instant now) {
+        String amzDate = DATE_TIME.format(now);
+        String date = amzDate.substring(0, 8);
+        String scope = date + "/" + region + "/" + service + "/" + TERMINATOR;
+
+        SortedMap<String, String> signed = new TreeMap<>();
+        headers.forEach((name, value) -> signed.put(name.toLowerCase(Locale.ROOT),
+                SPACES.matcher(value.trim()).replaceAll(" ")));
+        signed.put("host", isDefaultPort(uri) ? uri.getHost() : uri.getHost() + ":" + uri.getPort());
+        signed.put("x-amz-date", amzDate);
+        if (s3) {
+            signed.put("x-amz-content-sha256", payloadHash);
+        }
+        if (credentials instanceof AwsSessionCredentials) {
+            signed.put("x-amz-security-token", ((AwsSessionCredentials) credentials).sessionToken());
+        }
+
+        String signedHeaders = String.join(";", signed.keySet());
+        String stringToSign = ALGORITHM + "\n" + amzDate + "\n" + scope + "\n" + HEX.formatHex(SHA256.get()
+                .digest(canonicalRequest(method, uri, signed, payloadHash).getBytes(StandardCharsets.UTF_8)));
+        String signature = HEX.formatHex(hmac(signingKey(credentials, date), stringToSign));
+
+        signed.put("authorization", ALGORITHM + " Credential=" + credentials.accessKeyId() + "/" + scope +
+                ", SignedHeaders=" + signedHeaders + ", Signature=" + signature);
+        return signed;
+    }
+
+    /**
+     * Canonical request, hashed into the string to sign.
+     * @param method
+     *        HTTP method.
+     * @param uri
+     *        Request URI, with its query.
+     * @param headers
+     *        Headers to sign, with lowercase names and trimmed values, sorted by name.
+     * @param payloadHash
+     *        Lowercase hex SHA-256 of the body.
+     * @return Method, canonical path, query and headers, signed header names and payload hash, one per line.
+     */
+    String canonicalRequest(String method, URI uri, SortedMap<String, String> headers, String payloadHash) {
+        StringBuilder canonical = new StringBuilder(512)
+                .append(method).append('\n')
+                .append(canonicalPath(uri)).append('\n')
+                .append(canonicalQuery(uri)).append('\n');
+        headers.forEach((name, value) -> canonical.append(name).append(':').append(value).append('\n'));
+        return canonical.append('\n').append(String.join(";", headers.keySet())).append('\n').append(payloadHash)
+                .toString();
+    }
+
+    /**
+     * Get the signing key of the credentials, date, region and service, deriving it on the first request of the day.
+     * Keys of other dates are dropped when a key is derived.
+     * @param credentials
+     *        AWS credentials.
+     * @param date
+     *        Signing date, <code>yyyyMMdd</code>.
+     * @return Signing key.
+     */
+    private byte[] signingKey(AwsCredentials credentials, String date) {
+        String key = String.join("/", credentials.accessKeyId(), date, region, service);
+        SigningKey cached = SIGNING_KEYS.get(key);
+        if (cached != null && cached.secretAccessKey.equals(credentials.secretAccessKey())) {
+            return cached.key;
+        }
+        byte[] derived = hmac(hmac(hmac(hmac(("AWS4" + credentials.secretAccessKey())
+                .getBytes(StandardCharsets.UTF_8), date), region), service), TERMINATOR);
+        SIGNING_KEYS.keySet().removeIf(k -> !k.contains("/" + date + "/"));
+        SIGNING_KEYS.put(key, new SigningKey(credentials.secretAccessKey(), derived));
+        DERIVED_KEYS.increment();
+        return derived;
+    }
+
+    /**
+     * Canonical path, every segment URI-encoded, twice for services other than S3.
+     * @param uri
+     *        Request URI.
+     * @return Canonical path, <code>/</code> when empty.
+     */
+    private String canonicalPath(URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return s3 ? path : encode(path, true);
+    }
+
+    /**
+     * Whether the URI has no port or the default one of its scheme, which the HTTP client leaves out of the host.
+     * @param uri
+     *        Request URI.
+     * @return true when the host is signed without port.
+     */
+    private static boolean isDefaultPort(URI uri) {
+        return uri.getPort() < 0 || uri.getPort() == 443 && "https".equalsIgnoreCase(uri.getScheme()) ||
+                uri.getPort() == 80 && "http".equalsIgnoreCase(uri.getScheme());
+    }
+
+    /**
+     * Canonical query, parameters URI-encoded and sorted by encoded name, then encoded value. A literal
+     * <code>+</code> of the query is kept, not decoded to a space.
+     * @param uri
+     *        Request URI.
+     * @return Canonical query, empty when there is none.
+     */
+    private static String canonicalQuery(URI uri) {
+        String query = uri.getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return "";
+        }
+        List<String[]> parameters = new ArrayList<>();
+        for (String parameter : query.split("&")) {
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            int idx = parameter.indexOf('=');
+            String name = idx < 0 ? parameter : parameter.substring(0, idx);
+            String value = idx < 0 ? "" : parameter.substring(idx + 1);
+            parameters.add(new String[]{encode(decode(name), false), encode(decode(value), false)});
+        }
+        parameters.sort(Comparator.comparing((String[] parameter) -> parameter[0])
+                .thenComparing(parameter -> parameter[1]));
+        StringJoiner canonical = new StringJoiner("&");
+        parameters.forEach(parameter -> canonical.add(parameter[0] + "=" + parameter[1]));
+        return canonical.toString();
+    }
+
+    /**
+     * Decode a query name or value, keeping <code>+</code> as a literal plus instead of a space.
+     * @param value
+     *        Raw name or value.
+     * @return Decoded name or value.
+     */
+    private static String decode(String value) {
+        return URLDecoder.decode(value.replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * URI-encode a value as SigV4 expects, RFC 3986 unreserved characters kept.
+     * @param value
+     *        Value to encode.
+     * @param keepSlash
+     *        Whether <code>/</code> is kept, for paths.
+     * @return Encoded value.
+     */
+    private static String encode(String value, boolean keepSlash) {
+        String encoded = URLEncoder.encode(value, StandardCharsets.UTF_8)
+                .replace("+", "%20")
+                .replace("*", "%2A")
+                .replace("%7E", "~");
+        return keepSlash ? encoded.replace("%2F", "/") : encoded;
+    }
+
+    /**
+     * HMAC-SHA256 of data with the thread Mac.
+     * @param key
+     *        HMAC key.
+     * @param data
+     *        Data to authenticate.
+     * @return HMAC.
+     */
+    private static byte[] hmac(byte[] key, String data) {
+        Mac mac = HMAC.get();
+        try {
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid HMAC key", e);
+        }
+        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Signing key derived from a secret access key.
+     */
+    private static final class SigningKey {
+
+        /**
+         * Secret access key of the key, to derive it again when the secret changes for the same access key id.
+         */
+        private final String secretAccessKey;
+
+        /**
+         * Signing key.
+         */
+        private final byte[] key;
+
+        private SigningKey(String secretAccessKey, byte[] key) {
+            this.secretAccessKey = secretAccessKey;
+            this.key = key;
+        }
+    }
+}
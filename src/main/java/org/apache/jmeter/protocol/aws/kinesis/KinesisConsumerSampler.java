@@ -0,0 +1,431 @@
+package org.apache.jmeter.protocol.aws.kinesis;
+
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.AWSClientSDK2;
+import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.aws.HealthMonitor;
+import org.apache.jmeter.protocol.aws.OrderVerifier;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.kinesis.KinesisClient;
+import software.amazon.awssdk.services.kinesis.model.ExpiredIteratorException;
+import software.amazon.awssdk.services.kinesis.model.GetRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.GetShardIteratorRequest;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.Record;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Kinesis Consumer Sampler class to read data records of Kinesis streams, verifying the per-key sequence stamps of the
+ * producers to report records out of order. Each shard is read by one JMeter thread: the shards with no parent on the
+ * stream are spread over the threads, and the children of a shard closed by resharding are taken by the thread that
+ * drains the last of its parents, so records of a partition key are read in order across splits and merges. The
+ * milliseconds behind the tip of the stream are reported to {@link HealthMonitor} as iterator age.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class KinesisConsumerSampler extends AWSSampler implements AWSClientSDK2 {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(KinesisConsumerSampler.class);
+
+    /**
+     * Kinesis Stream name.
+     */
+    private static final String KINESIS_STREAM_NAME = "kinesis_stream_name";
+
+    /**
+     * Position of the first read of the shards with no parent: LATEST or TRIM_HORIZON.
+     */
+    private static final String KINESIS_ITERATOR_TYPE = "kinesis_iterator_type";
+
+    /**
+     * Maximum records per read, from 1 to 10000.
+     */
+    private static final String KINESIS_MAX_RECORDS = "kinesis_max_records";
+
+    /**
+     * Pause of threads with no shard to read, milliseconds.
+     */
+    private static final long IDLE_MS = 1000;
+
+    /**
+     * Separator of the order stamp line of the data record.
+     */
+    private static final byte LINE_SEPARATOR = '\n';
+
+    /**
+     * Maximum length of the order stamp line.
+     */
+    private static final int MAX_STAMP_LENGTH = 256;
+
+    /**
+     * Shards taken by a thread, <code>stream/shard</code>, shared by all the threads of the JVM.
+     */
+    private static final Set<String> CLAIMED = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Shards read to the end, <code>stream/shard</code>, shared by all the threads of the JVM.
+     */
+    private static final Set<String> DRAINED = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Consumers set up and not torn down yet, the last one clears the shards claimed and drained for the next test.
+     */
+    private static final AtomicInteger CONSUMERS = new AtomicInteger();
+
+    /**
+     * Set Kinesis Data Stream consumer.
+     */
+    private static final List<Argument> KINESIS_PARAMETERS = Stream.of(
+            new Argument(KINESIS_STREAM_NAME, EMPTY),
+            new Argument(KINESIS_ITERATOR_TYPE, ShardIteratorType.LATEST.toString()),
+            new Argument(KINESIS_MAX_RECORDS, "1000"),
+            new Argument(ORDER_ATTRIBUTE, EMPTY))
+            .collect(Collectors.toList());
+
+    /**
+     * AWS Kinesis Client.
+     */
+    private KinesisClient kinesisClient;
+
+    /**
+     * Shards taken by the thread and not read yet.
+     */
+    private final Deque<String> pendingShards = new ArrayDeque<>();
+
+    /**
+     * Shard read by the thread, null when none.
+     */
+    private String shardId;
+
+    /**
+     * Iterator of the next read of the shard, null when it must be requested.
+     */
+    private String shardIterator;
+
+    /**
+     * Sequence number of the last record read of the shard, null when none.
+     */
+    private String lastSequenceNumber;
+
+    /**
+     * Create AWS Kinesis Data Stream Client.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return KinesisClient extends SdkClient super class.
+     */
+    @Override
+    public SdkClient createSdkClient(Map<String, String> credentials) {
+
+        String region = getAWSRegion(credentials);
+        return KinesisClient.builder()
+                .endpointOverride(URI.create(getAWSEndpoint(credentials, KinesisClient.SERVICE_NAME, region)))
+                .region(Region.of(region))
+                .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
+                .build();
+    }
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and Kinesis Data Stream consumer parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, KINESIS_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Read test parameters, initialize AWS Kinesis Data Stream client and take the shards of the thread.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+
+        log.info("Setup Kinesis Consumer Sampler.");
+        CONSUMERS.incrementAndGet();
+        Map<String, String> credentials = new HashMap<>();
+
+        context.getParameterNamesIterator()
+                .forEachRemaining( k -> {
+                    credentials.put(k, context.getParameter(k));
+                    log.info("Parameter: " + k + ", value: " + credentials.get(k));
+                });
+
+        log.info("Create Kinesis Consumer.");
+        kinesisClient = (KinesisClient) createSdkClient(credentials);
+
+        String streamName = context.getParameter(KINESIS_STREAM_NAME);
+        boolean latest = ShardIteratorType.LATEST.toString()
+                .equalsIgnoreCase(context.getParameter(KINESIS_ITERATOR_TYPE));
+        try {
+            List<Shard> shards = listShards(streamName).stream()
+                    .filter(shard -> !latest || shard.sequenceNumberRange().endingSequenceNumber() == null)
+                    .collect(Collectors.toList());
+            Set<String> shardIds = shards.stream().map(Shard::shardId).collect(Collectors.toSet());
+            List<String> roots = shards.stream()
+                    .filter(shard -> !shardIds.contains(shard.parentShardId()) &&
+                            !shardIds.contains(shard.adjacentParentShardId()))
+                    .map(Shard::shardId)
+                    .sorted()
+                    .collect(Collectors.toList());
+            int threads = Math.max(1, context.getJMeterContext().getThreadGroup().getNumThreads());
+            int threadNum = context.getJMeterContext().getThreadNum();
+            for (int i = threadNum % threads; i < roots.size(); i += threads) {
+                if (CLAIMED.add(streamName + "/" + roots.get(i))) {
+                    pendingShards.add(roots.get(i));
+                }
+            }
+            log.info("Shards of thread " + threadNum + ": " + pendingShards);
+        } catch (KinesisException e) {
+            log.error("Unable to list shards of stream " + streamName, e);
+        }
+    }
+
+    /**
+     * Main method to execute the test on single thread. Read data records of the shard of the thread and verify the
+     * order of their keys.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        if (shardId == null && !pendingShards.isEmpty()) {
+            shardId = pendingShards.poll();
+            lastSequenceNumber = null;
+        }
+        sampleResultStart(result, String.format("Stream Name: %s \nShard id: %s \nMax Records: %s",
+                context.getParameter(KINESIS_STREAM_NAME),
+                shardId,
+                context.getParameter(KINESIS_MAX_RECORDS)));
+
+        if (shardId == null) {
+            try {
+                Thread.sleep(IDLE_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            result.setIgnore();
+            sampleResultSuccess(result, "No shard to read.");
+            return result;
+        }
+
+        String streamName = context.getParameter(KINESIS_STREAM_NAME);
+        try {
+            log.info("Reading Data Records.");
+            if (shardIterator == null) {
+                shardIterator = getShardIterator(context);
+            }
+            GetRecordsResponse response = kinesisClient.getRecords(r -> r
+                    .shardIterator(shardIterator)
+                    .limit(context.getIntParameter(KINESIS_MAX_RECORDS, 1000)));
+
+            String orderAttribute = context.getParameter(ORDER_ATTRIBUTE, EMPTY);
+            int outOfOrder = 0;
+            for (Record record : response.records()) {
+                lastSequenceNumber = record.sequenceNumber();
+                if (!orderAttribute.isEmpty() &&
+                        !OrderVerifier.verify(record.partitionKey(), readStamp(record.data(), orderAttribute))) {
+                    outOfOrder++;
+                }
+            }
+            Optional.ofNullable(response.millisBehindLatest())
+                    .ifPresent(age -> HealthMonitor.recordAge(HealthMonitor.target(HealthMonitor.KINESIS, streamName),
+                            age));
+            String readShard = shardId;
+            shardIterator = response.nextShardIterator();
+            if (shardIterator == null) {
+                takeChildren(streamName);
+            }
+
+            String data = String.format("Shard id: %s \nRecords: %d \nMillis behind latest: %s " +
+                            "\nOut of order or invalid: %d \nShard closed: %s%s", readShard,
+                    response.records().size(), response.millisBehindLatest(), outOfOrder, shardId == null,
+                    orderAttribute.isEmpty() ? "" : " \n" + OrderVerifier.getSummary());
+            if (outOfOrder == 0) {
+                sampleResultSuccess(result, data);
+            } else {
+                sampleResultFail(result, FAIL_CODE, "Records out of order. \n" + data);
+            }
+        } catch (ExpiredIteratorException e) {
+            shardIterator = null;
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (KinesisException e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * Close AWS Kinesis Data Stream Client after run single thread, and clear the shards claimed and drained when
+     * this is the last consumer of the JVM.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close Kinesis Consumer.");
+        if (!context.getParameter(ORDER_ATTRIBUTE, EMPTY).isEmpty()) {
+            log.info("Order of stream " + context.getParameter(KINESIS_STREAM_NAME) + ": " +
+                    OrderVerifier.getSummary().replace(" \n", ", "));
+        }
+        Optional.ofNullable(kinesisClient)
+                .ifPresent(client -> client.close());
+        if (CONSUMERS.decrementAndGet() == 0) {
+            CLAIMED.clear();
+            DRAINED.clear();
+        }
+        teardownSampler();
+    }
+
+    /**
+     * Get iterator of the shard of the thread: after the last record read, or at <code>kinesis_iterator_type</code>
+     * for shards with no parent, or at the start for children of closed shards.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Shard iterator.
+     */
+    private String getShardIterator(JavaSamplerContext context) {
+        GetShardIteratorRequest.Builder request = GetShardIteratorRequest.builder()
+                .streamName(context.getParameter(KINESIS_STREAM_NAME))
+                .shardId(shardId);
+        if (lastSequenceNumber != null) {
+            request.shardIteratorType(ShardIteratorType.AFTER_SEQUENCE_NUMBER)
+                    .startingSequenceNumber(lastSequenceNumber);
+        } else if (isChild(context.getParameter(KINESIS_STREAM_NAME))) {
+            request.shardIteratorType(ShardIteratorType.TRIM_HORIZON);
+        } else {
+            request.shardIteratorType(ShardIteratorType.fromValue(
+                    context.getParameter(KINESIS_ITERATOR_TYPE, ShardIteratorType.LATEST.toString()).toUpperCase()));
+        }
+        return kinesisClient.getShardIterator(request.build()).shardIterator();
+    }
+
+    /**
+     * Check whether the shard of the thread was taken as child of a closed shard.
+     * @param streamName
+     *        Kinesis stream name.
+     * @return true when a parent was drained.
+     */
+    private boolean isChild(String streamName) {
+        return listShards(streamName).stream()
+                .filter(shard -> shard.shardId().equals(shardId))
+                .anyMatch(shard -> DRAINED.contains(streamName + "/" + shard.parentShardId()) ||
+                        DRAINED.contains(streamName + "/" + shard.adjacentParentShardId()));
+    }
+
+    /**
+     * Mark the shard of the thread as drained and take the children whose parents are all drained.
+     * @param streamName
+     *        Kinesis stream name.
+     */
+    private void takeChildren(String streamName) {
+        DRAINED.add(streamName + "/" + shardId);
+        listShards(streamName).stream()
+                .filter(shard -> shardId.equals(shard.parentShardId()) ||
+                        shardId.equals(shard.adjacentParentShardId()))
+                .filter(shard -> isDrained(streamName, shard.parentShardId()) &&
+                        isDrained(streamName, shard.adjacentParentShardId()))
+                .filter(shard -> CLAIMED.add(streamName + "/" + shard.shardId()))
+                .forEach(shard -> pendingShards.add(shard.shardId()));
+        log.info("Shard " + shardId + " closed, shards of thread: " + pendingShards);
+        shardId = null;
+        lastSequenceNumber = null;
+    }
+
+    /**
+     * Check whether a parent shard was read to the end.
+     * @param streamName
+     *        Kinesis stream name.
+     * @param parentShardId
+     *        Parent shard id, may be null.
+     * @return true when there is no parent or it was drained.
+     */
+    private static boolean isDrained(String streamName, String parentShardId) {
+        return parentShardId == null || DRAINED.contains(streamName + "/" + parentShardId);
+    }
+
+    /**
+     * List the shards of the stream, open and closed.
+     * @param streamName
+     *        Kinesis stream name.
+     * @return Shards.
+     */
+    private List<Shard> listShards(String streamName) {
+        return kinesisClient.listShardsPaginator(ListShardsRequest.builder()
+                        .streamName(streamName)
+                        .build())
+                .shards()
+                .stream()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Read the order stamp of the first line of the data record, <code>order_attribute=node/target:sequence</code>,
+     * without copying the data.
+     * @param data
+     *        Data of the record.
+     * @param attribute
+     *        Prefix of the stamp.
+     * @return Stamp, null when the record has none.
+     */
+    private static String readStamp(SdkBytes data, String attribute) {
+        byte[] prefix = (attribute + '=').getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = data.asByteBuffer();
+        if (buffer.remaining() < prefix.length) {
+            return null;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(buffer.position() + i) != prefix[i]) {
+                return null;
+            }
+        }
+        int end = Math.min(buffer.remaining(), prefix.length + MAX_STAMP_LENGTH);
+        for (int i = prefix.length; i < end; i++) {
+            if (buffer.get(buffer.position() + i) == LINE_SEPARATOR) {
+                byte[] stamp = new byte[i - prefix.length];
+                buffer.position(buffer.position() + prefix.length);
+                buffer.get(stamp);
+                return new String(stamp, StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+}
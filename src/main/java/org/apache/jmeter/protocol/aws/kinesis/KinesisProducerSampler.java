@@ -1,8 +1,15 @@
 package org.apache.jmeter.protocol.aws.kinesis;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.jmeter.config.Argument;
 import org.apache.jmeter.protocol.aws.AWSClientSDK2;
 import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.aws.MultiRegion;
+import org.apache.jmeter.protocol.aws.MultiTarget;
+import org.apache.jmeter.protocol.aws.OrderStamp;
+import org.apache.jmeter.protocol.aws.PayloadCompression;
+import org.apache.jmeter.protocol.aws.PayloadCorpus;
+import org.apache.jmeter.protocol.aws.RequestTemplate;
 import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
 import org.apache.jmeter.config.Arguments;
 import org.apache.jmeter.samplers.SampleResult;
@@ -10,13 +17,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.kinesis.KinesisClient;
+import software.amazon.awssdk.services.kinesis.model.HashKeyRange;
 import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.Shard;
 import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
 import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,13 +67,43 @@ public class KinesisProducerSampler extends AWSSampler implements AWSClientSDK2
      */
     private static final String KINESIS_DATA_RECORD = "data_record";
 
+    /**
+     * Partition key strategy: fixed, random, sequential, uniform, explicit_hash or zipf.
+     */
+    private static final String KINESIS_PARTITION_KEY_STRATEGY = "partition_key_strategy";
+
+    /**
+     * Number of distinct partition keys of random, sequential and zipf strategies.
+     */
+    private static final String KINESIS_PARTITION_KEY_COUNT = "partition_key_count";
+
+    /**
+     * Zipf exponent, higher is more skewed.
+     */
+    private static final String KINESIS_ZIPF_EXPONENT = "zipf_exponent";
+
+    /**
+     * Explicit hash key, overrides the partition key hash.
+     */
+    private static final String KINESIS_EXPLICIT_HASH_KEY = "explicit_hash_key";
+
+    /**
+     * Fraction of the per-shard write limits enforced by the shard governor, 0 disables it.
+     */
+    private static final String KINESIS_SHARD_CAPACITY = "shard_capacity";
+
     /**
      * Set Kinesis Data Stream.
      */
     private static final List<Argument> KINESIS_PARAMETERS = Stream.of(
             new Argument(KINESIS_STREAM_NAME, EMPTY),
             new Argument(KINESIS_PARTITION_KEY, EMPTY),
-            new Argument(KINESIS_DATA_RECORD, EMPTY))
+            new Argument(KINESIS_DATA_RECORD, EMPTY),
+            new Argument(KINESIS_PARTITION_KEY_STRATEGY, PartitionKeyStrategy.FIXED),
+            new Argument(KINESIS_PARTITION_KEY_COUNT, "1000"),
+            new Argument(KINESIS_ZIPF_EXPONENT, "1.0"),
+            new Argument(KINESIS_EXPLICIT_HASH_KEY, EMPTY),
+            new Argument(KINESIS_SHARD_CAPACITY, "0"))
             .collect(Collectors.toList());
 
     /**
@@ -66,6 +111,56 @@ public class KinesisProducerSampler extends AWSSampler implements AWSClientSDK2
      */
     private KinesisClient kinesisClient;
 
+    /**
+     * Partition key strategy.
+     */
+    private PartitionKeyStrategy partitionKeyStrategy;
+
+    /**
+     * Records put per shard of the stream, null when the stream or the region change between samples.
+     */
+    private ShardSkew shardSkew;
+
+    /**
+     * Fraction of the per-shard write limits enforced, 0 when the shard governor is disabled.
+     */
+    private double shardCapacity;
+
+    /**
+     * Payload corpus of binary data records, null when data record parameter is used.
+     */
+    private PayloadCorpus payloadCorpus;
+
+    /**
+     * Payload compression of data records.
+     */
+    private PayloadCompression payloadCompression;
+
+    /**
+     * Multi-target selector of the stream of each send, null when <code>targets</code> is empty.
+     */
+    private MultiTarget multiTarget;
+
+    /**
+     * Multi-region router of the region and account of each send, null when <code>aws_regions</code> is empty.
+     */
+    private MultiRegion<KinesisClient> multiRegion;
+
+    /**
+     * Per-key sequence stamp of the records, null when <code>order_attribute</code> is empty.
+     */
+    private OrderStamp orderStamp;
+
+    /**
+     * Precompiled PutRecordRequest with the fields of constant parameters, null when it couldn't be created.
+     */
+    private RequestTemplate<PutRecordRequest, PutRecordRequest.Builder> requestTemplate;
+
+    /**
+     * Sampler data of constant parameters, null when any of them is variable.
+     */
+    private String constantSamplerData;
+
     /**
      * Create AWS Kinesis Data Stream Client.
      * @param credentials
@@ -80,6 +175,7 @@ public class KinesisProducerSampler extends AWSSampler implements AWSClientSDK2
                 .endpointOverride(URI.create(getAWSEndpoint(credentials, KinesisClient.SERVICE_NAME, region)))
                 .region(Region.of(region))
                 .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
                 .build();
     }
 
@@ -91,7 +187,9 @@ public class KinesisProducerSampler extends AWSSampler implements AWSClientSDK2
     @Override
     public Arguments getDefaultParameters() {
         Arguments defaultParameters = new Arguments();
-        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, KINESIS_PARAMETERS)
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, KINESIS_PARAMETERS, PAYLOAD_PARAMETERS,
+                        COMPRESSION_PARAMETERS, TARGET_PARAMETERS, REGION_PARAMETERS,
+                        AGGREGATION_PARAMETERS, WARMUP_PARAMETERS, ORDER_PARAMETERS)
                 .flatMap(List::stream)
                 .collect(Collectors.toList()));
         return defaultParameters;
@@ -106,6 +204,7 @@ public class KinesisProducerSampler extends AWSSampler implements AWSClientSDK2
 
         log.info("Setup Kinesis Producer Sampler.");
         Map<String, String> credentials = new HashMap<>();
+        constantParameters = findConstantParameters(context);
 
         context.getParameterNamesIterator()
                 .forEachRemaining( k -> {
@@ -113,8 +212,107 @@ public class KinesisProducerSampler extends AWSSampler implements AWSClientSDK2
                     log.info("Parameter: " + k + ", value: " + credentials.get(k));
                 });
 
-        log.info("Create Kinesis Producer.");
-        kinesisClient = (KinesisClient) createSdkClient(credentials);
+        try {
+            multiRegion = MultiRegion.of(credentials, KinesisClient.SERVICE_NAME,
+                    regional -> (KinesisClient) createSdkClient(regional));
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create regions " + context.getParameter(AWS_REGIONS), e);
+        }
+
+        if (multiRegion == null) {
+            log.info("Create Kinesis Producer.");
+            kinesisClient = (KinesisClient) createSdkClient(credentials);
+        }
+
+        String strategy = context.getParameter(KINESIS_PARTITION_KEY_STRATEGY);
+        try {
+            partitionKeyStrategy = PartitionKeyStrategy.of(strategy,
+                    context.getParameter(KINESIS_PARTITION_KEY, EMPTY),
+                    context.getIntParameter(KINESIS_PARTITION_KEY_COUNT, 1000),
+                    Double.parseDouble(context.getParameter(KINESIS_ZIPF_EXPONENT, "1.0")),
+                    PartitionKeyStrategy.needsShards(strategy)
+                            ? listOpenShards(context.getParameter(KINESIS_STREAM_NAME))
+                            : Collections.emptyList());
+        } catch (IllegalArgumentException | KinesisException e) {
+            log.error("Unable to create partition key strategy " + strategy, e);
+        }
+        ShardSkew.register();
+        if (isConstantStream() && multiRegion == null) {
+            String streamName = context.getParameter(KINESIS_STREAM_NAME);
+            shardSkew = ShardSkew.of(context.getParameter(AWS_REGION), streamName);
+            shardSkew.list(() -> listOpenShards(streamName).size());
+        }
+
+        try {
+            payloadCorpus = openPayloadCorpus(context);
+        } catch (IOException e) {
+            log.error("Unable to map payload corpus " + context.getParameter(PAYLOAD_FILE), e);
+        }
+
+        try {
+            payloadCompression = createPayloadCompression(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create payload compression " + context.getParameter(COMPRESSION), e);
+        }
+
+        orderStamp = createOrderStamp(context);
+        if (orderStamp != null && payloadCompression != null && payloadCompression.isEnabled()) {
+            log.error("Unable to create order stamp " + orderStamp.getAttribute() + ", the stamp line of compressed " +
+                    "records can't be read by consumers.");
+            orderStamp = null;
+        }
+
+        try {
+            multiTarget = createMultiTarget(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create targets " + context.getParameter(TARGETS), e);
+        }
+
+        try {
+            shardCapacity = Double.parseDouble(context.getParameter(KINESIS_SHARD_CAPACITY, "0"));
+            if (shardCapacity > 0) {
+                ShardGovernor.register();
+            }
+            if (shardCapacity > 0 && isConstantStream() && multiRegion == null) {
+                ShardGovernor.of(context.getParameter(AWS_REGION), context.getParameter(KINESIS_STREAM_NAME),
+                        shardCapacity, kinesisClient);
+            }
+        } catch (IllegalArgumentException | IllegalStateException | KinesisException e) {
+            log.error("Unable to create shard governor " + context.getParameter(KINESIS_SHARD_CAPACITY), e);
+        }
+
+        try {
+            sampleAggregator = createSampleAggregator(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create sample aggregation " + context.getParameter(AGGREGATE_SAMPLES) + ", " +
+                    context.getParameter(AGGREGATE_WINDOW_MS), e);
+        }
+
+        try {
+            warmUp = createWarmUp(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create warm-up " + context.getParameter(WARMUP_CONNECTIONS) + ", " +
+                    context.getParameter(WARMUP_SAMPLES), e);
+        }
+        String warmUpTarget = Optional.ofNullable(multiTarget)
+                .map(targets -> targets.getTargets().get(0))
+                .orElse(context.getParameter(KINESIS_STREAM_NAME));
+        Optional.ofNullable(warmUp)
+                .ifPresent(w -> w.run("Kinesis Producer",
+                        () -> warmUpCredentials(credentials, KinesisClient.SERVICE_NAME),
+                        multiRegion == null ? List.of(kinesisClient) : multiRegion.getClients(),
+                        client -> client.describeStreamSummary(r -> r.streamName(warmUpTarget))));
+
+        if (isConstantStream() && isConstant(KINESIS_PARTITION_KEY, KINESIS_PARTITION_KEY_STRATEGY,
+                KINESIS_DATA_RECORD)) {
+            constantSamplerData = formatSamplerData(context);
+        }
+        try {
+            requestTemplate = createRequestTemplate(context, true);
+            log.info("Request template with " + requestTemplate.getVariableFields() + " variable fields.");
+        } catch (JsonProcessingException | SdkException e) {
+            log.error("Unable to create request template, requests are built per sample", e);
+        }
     }
 
     /**
@@ -127,21 +325,73 @@ public class KinesisProducerSampler extends AWSSampler implements AWSClientSDK2
     @Override
     public SampleResult runTest(JavaSamplerContext context) {
 
+        context = selectTarget(multiTarget, context, KINESIS_STREAM_NAME, KINESIS_PARTITION_KEY);
+        selectRegion(multiRegion);
         SampleResult result = newSampleResult();
-        sampleResultStart(result, String.format("Stream Name: %s \nPartition Key: %s \nData Record: %s",
-                context.getParameter(KINESIS_STREAM_NAME),
-                context.getParameter(KINESIS_PARTITION_KEY),
-                context.getParameter(KINESIS_DATA_RECORD)));
+        sampleResultStart(result, constantSamplerData != null ? constantSamplerData : formatSamplerData(context));
+
+        if (partitionKeyStrategy == null) {
+            sampleResultFail(result, FAIL_CODE, "Partition key strategy not created: " +
+                    context.getParameter(KINESIS_PARTITION_KEY_STRATEGY));
+            return result;
+        }
+        if (isMultiRegionMissing(multiRegion, context)) {
+            sampleResultFail(result, FAIL_CODE, "Regions not created: " + context.getParameter(AWS_REGIONS));
+            return result;
+        }
+        if (isMultiTargetMissing(multiTarget, context)) {
+            sampleResultFail(result, FAIL_CODE, "Targets not created: " + context.getParameter(TARGETS));
+            return result;
+        }
+        if (isPayloadCorpusMissing(payloadCorpus, context)) {
+            sampleResultFail(result, FAIL_CODE, "Payload corpus not mapped: " + context.getParameter(PAYLOAD_FILE));
+            return result;
+        }
+        if (payloadCompression == null) {
+            sampleResultFail(result, FAIL_CODE, "Payload compression not created: " +
+                    context.getParameter(COMPRESSION));
+            return result;
+        }
+        if (orderStamp == null && !context.getParameter(ORDER_ATTRIBUTE, EMPTY).isEmpty()) {
+            sampleResultFail(result, FAIL_CODE, "Order stamp not created, it can't be set on compressed records: " +
+                    context.getParameter(ORDER_ATTRIBUTE));
+            return result;
+        }
 
+        PutRecordRequest request = null;
         try {
             log.info("Publishing Data Record.");
-            PutRecordResponse response = kinesisClient.putRecord(createPutRecordRequest(context));
-            sampleResultSuccess(result,String.format("Shard id: %s \nSequence Number: %s \nEncryption Type: %s",
+            request = createPutRecordRequest(context);
+            ShardGovernor governor = shardCapacity > 0 ? ShardGovernor.of(getRegion(context),
+                    request.streamName(), shardCapacity, getKinesisClient()) : null;
+            if (governor != null) {
+                pause(result, governor.acquire(request));
+            }
+            PutRecordResponse response = getKinesisClient().putRecord(request);
+            String streamName = request.streamName();
+            ShardSkew skew = shardSkew != null ? shardSkew : ShardSkew.of(getRegion(context), streamName);
+            skew.list(() -> listOpenShards(streamName).size());
+            skew.record(response.shardId());
+            if (governor != null) {
+                governor.observe(response.shardId(), getKinesisClient());
+            }
+            sampleResultSuccess(result, String.format("Shard id: %s \nSequence Number: %s \nEncryption Type: %s%s%s",
                     response.shardId(),
                     response.sequenceNumber(),
-                    response.encryptionTypeAsString()));
+                    response.encryptionTypeAsString(),
+                    payloadCompression.getSummary(),
+                    governor == null ? EMPTY : " \n" + governor.getSummary()));
         }catch (KinesisException e){
             sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (IllegalStateException e) {
+            sampleResultFail(result, FAIL_CODE, "Shard governor: " + e.getMessage());
+        } catch (JsonProcessingException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        } finally {
+            payloadCompression.release();
+            if (orderStamp != null && request != null) {
+                orderStamp.sent(getOrderTarget(request, context), request.partitionKey());
+            }
         }
 
         return result;
@@ -155,22 +405,174 @@ public class KinesisProducerSampler extends AWSSampler implements AWSClientSDK2
     @Override
     public void teardownTest(JavaSamplerContext context) {
         log.info("Close Kinesis Producer.");
+        Optional.ofNullable(multiTarget)
+                .ifPresent(targets -> {
+                    log.info("Sends per target: " + MultiTarget.getSends(MultiTarget.TARGET));
+                    targets.release();
+                });
+        ShardSkew.release();
+        if (shardCapacity > 0) {
+            ShardGovernor.getStreams().forEach((stream, governor) ->
+                    log.info("Shard utilisation of " + stream + ": " + governor.getUtilisation()));
+            ShardGovernor.release();
+        }
         Optional.ofNullable(kinesisClient)
                 .ifPresent(client -> client.close());
+        Optional.ofNullable(multiRegion)
+                .ifPresent(regions -> {
+                    log.info("Sends per region: " + MultiTarget.getSends(MultiTarget.REGION));
+                    regions.close(KinesisClient::close);
+                });
+        Optional.ofNullable(payloadCompression)
+                .ifPresent(PayloadCompression::close);
+        teardownSampler();
     }
 
     /**
-     * Create PutRecordRequest with stream name, partition key and data.
+     * Get Kinesis client of the region picked by multi-region mode, or of <code>aws_region</code>.
+     * @return KinesisClient.
+     */
+    private KinesisClient getKinesisClient() {
+        return multiRegion == null ? kinesisClient : multiRegion.current();
+    }
+
+    /**
+     * Create PutRecordRequest with stream name, the partition key of the partition key strategy and data, taken
+     * without copy from the payload corpus when <code>payload_file</code> is set, and compressed into the thread
+     * buffer of the payload compression when <code>compression</code> is set. Built from the request template. When
+     * <code>order_attribute</code> is set the data, never compressed, is prefixed with the sequence stamp of the
+     * stream and partition key, on a first line <code>order_attribute=node/region/stream:sequence</code>, in flight
+     * until the put ends.
      * @param context
      *        Arguments values on Java Sampler.
      * @return PutRecordRequest
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    public PutRecordRequest createPutRecordRequest(JavaSamplerContext context) throws JsonProcessingException {
+        PutRecordRequest request = requestTemplate != null ? requestTemplate.apply(context)
+                : createRequestTemplate(context, false).apply(context);
+        if (orderStamp == null) {
+            return request;
+        }
+        byte[] stamp = (orderStamp.getAttribute() + '=' + orderStamp.next(getOrderTarget(request, context),
+                request.partitionKey()) + '\n').getBytes(StandardCharsets.UTF_8);
+        ByteBuffer data = request.data().asByteBuffer();
+        return request.toBuilder()
+                .data(SdkBytes.fromByteBufferUnsafe(ByteBuffer.allocate(stamp.length + data.remaining())
+                        .put(stamp)
+                        .put(data)
+                        .flip()))
+                .build();
+    }
+
+    /**
+     * Stream of the order stamp, with the region picked by multi-region mode or <code>aws_region</code>.
+     * @param request
+     *        PutRecordRequest built by the sampler.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Region and stream name.
+     */
+    private static String getOrderTarget(PutRecordRequest request, JavaSamplerContext context) {
+        return getRegion(context) + "/" + request.streamName();
+    }
+
+    /**
+     * Region picked by multi-region mode, with its role when assumed, or <code>aws_region</code>.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Region of the client of the sample.
      */
-    public PutRecordRequest createPutRecordRequest(JavaSamplerContext context){
-        return PutRecordRequest.builder()
-                .streamName(context.getParameter(KINESIS_STREAM_NAME))
-                .partitionKey(context.getParameter(KINESIS_PARTITION_KEY))
-                .data(SdkBytes.fromUtf8String(context.getParameter(KINESIS_DATA_RECORD)))
+    private static String getRegion(JavaSamplerContext context) {
+        return Optional.ofNullable(MultiTarget.getPicked(MultiTarget.REGION))
+                .orElseGet(() -> context.getParameter(AWS_REGION));
+    }
+
+    /**
+     * Create template of the PutRecordRequest. The partition key is constant only with <code>fixed</code> strategy,
+     * and the data only when it isn't taken from the payload corpus nor compressed.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param precompile
+     *        Whether the fields of constant parameters are set on the template, otherwise all of them are filled
+     *        per sample.
+     * @return Request template.
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    private RequestTemplate<PutRecordRequest, PutRecordRequest.Builder> createRequestTemplate(
+            JavaSamplerContext context, boolean precompile) throws JsonProcessingException {
+        return RequestTemplate.builder(PutRecordRequest.builder(), PutRecordRequest::toBuilder,
+                        PutRecordRequest.Builder::build, context)
+                .field(precompile && isConstantStream(),
+                        (builder, c) -> builder.streamName(c.getParameter(KINESIS_STREAM_NAME)))
+                .field(precompile && partitionKeyStrategy != null && partitionKeyStrategy.isConstant() &&
+                                isConstant(KINESIS_PARTITION_KEY, KINESIS_EXPLICIT_HASH_KEY),
+                        (builder, c) -> partitionKeyStrategy.apply(builder, c.getParameter(KINESIS_PARTITION_KEY),
+                                c.getParameter(KINESIS_EXPLICIT_HASH_KEY)))
+                .field(precompile && payloadCorpus == null && payloadCompression != null &&
+                                !payloadCompression.isEnabled() && isConstant(KINESIS_DATA_RECORD),
+                        (builder, c) -> builder.data(createData(c)))
                 .build();
     }
 
+    /**
+     * Check whether the stream is the same on every sample.
+     * @return true when the stream name is constant and multi-target mode isn't set.
+     */
+    private boolean isConstantStream() {
+        return isConstant(KINESIS_STREAM_NAME) && multiTarget == null;
+    }
+
+    /**
+     * Format sampler data of the sample.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Stream name, partition key, key strategy and data record.
+     */
+    private String formatSamplerData(JavaSamplerContext context) {
+        return String.format("Stream Name: %s \nPartition Key: %s \nKey Strategy: %s " +
+                        "\nData Record: %s",
+                context.getParameter(KINESIS_STREAM_NAME),
+                context.getParameter(KINESIS_PARTITION_KEY),
+                context.getParameter(KINESIS_PARTITION_KEY_STRATEGY),
+                context.getParameter(KINESIS_DATA_RECORD));
+    }
+
+    /**
+     * Create data of the record, from the payload corpus or the data record parameter, compressed when
+     * <code>compression</code> is set.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Data of the record.
+     */
+    private SdkBytes createData(JavaSamplerContext context) {
+        if (payloadCorpus != null) {
+            return SdkBytes.fromByteBufferUnsafe(payloadCompression.compress(nextPayload(payloadCorpus, context)));
+        }
+        if (payloadCompression.isEnabled()) {
+            return SdkBytes.fromByteBufferUnsafe(
+                    payloadCompression.compress(context.getParameter(KINESIS_DATA_RECORD)));
+        }
+        return SdkBytes.fromUtf8String(context.getParameter(KINESIS_DATA_RECORD));
+    }
+
+    /**
+     * List hash key ranges of the open shards of the stream.
+     * @param streamName
+     *        Kinesis stream name.
+     * @return Hash key ranges of the shards that accept records.
+     */
+    private List<HashKeyRange> listOpenShards(String streamName) {
+        return getKinesisClient().listShardsPaginator(ListShardsRequest.builder()
+                        .streamName(streamName)
+                        .build())
+                .shards()
+                .stream()
+                .filter(shard -> shard.sequenceNumberRange().endingSequenceNumber() == null)
+                .map(Shard::hashKeyRange)
+                .collect(Collectors.toList());
+    }
+
 }
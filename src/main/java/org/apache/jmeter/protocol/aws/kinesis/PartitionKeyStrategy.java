@@ -0,0 +1,270 @@
+package org.apache.jmeter.protocol.aws.kinesis;
+
+import software.amazon.awssdk.services.kinesis.model.HashKeyRange;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Partition key strategy to spread or skew Kinesis records over the shards of a stream.
+ * <ul>
+ *     <li><code>fixed</code>: <code>partition_key</code> and <code>explicit_hash_key</code> parameters, default.</li>
+ *     <li><code>random</code>: key picked at random among <code>partition_key_count</code> keys.</li>
+ *     <li><code>sequential</code>: keys in round robin order.</li>
+ *     <li><code>uniform</code>: explicit hash key of each open shard in round robin order, one record per shard.</li>
+ *     <li><code>explicit_hash</code>: the <code>explicit_hash_key</code> parameter, or a random 128 bits hash key.</li>
+ *     <li><code>zipf</code>: key picked with Zipf distribution, key 0 is the hottest one.</li>
+ * </ul>
+ * Generated keys are <code>partition_key</code> followed by the key number.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public abstract class PartitionKeyStrategy {
+
+    /**
+     * Fixed partition key strategy.
+     */
+    public static final String FIXED = "fixed";
+
+    /**
+     * Random partition key strategy.
+     */
+    public static final String RANDOM = "random";
+
+    /**
+     * Sequential partition key strategy.
+     */
+    public static final String SEQUENTIAL = "sequential";
+
+    /**
+     * Uniform over shard hash key ranges strategy.
+     */
+    public static final String UNIFORM = "uniform";
+
+    /**
+     * Explicit hash key strategy.
+     */
+    public static final String EXPLICIT_HASH = "explicit_hash";
+
+    /**
+     * Zipf skewed partition key strategy.
+     */
+    public static final String ZIPF = "zipf";
+
+    /**
+     * Number of bits of Kinesis hash keys.
+     */
+    private static final int HASH_KEY_BITS = 128;
+
+    /**
+     * Set partition key, and explicit hash key if any, of the next record.
+     * @param builder
+     *        PutRecordRequest builder.
+     * @param partitionKey
+     *        Current value of <code>partition_key</code> parameter.
+     * @param explicitHashKey
+     *        Current value of <code>explicit_hash_key</code> parameter.
+     * @return Same builder.
+     */
+    public abstract PutRecordRequest.Builder apply(PutRecordRequest.Builder builder, String partitionKey,
+                                                   String explicitHashKey);
+
+    /**
+     * Check whether the keys of the strategy are the same on every record when the parameters are constant.
+     * @return true for <code>fixed</code>.
+     */
+    public boolean isConstant() {
+        return false;
+    }
+
+    /**
+     * Check whether the strategy needs the hash key ranges of the stream shards.
+     * @param strategy
+     *        Strategy name.
+     * @return true for <code>uniform</code>.
+     */
+    public static boolean needsShards(String strategy) {
+        return UNIFORM.equalsIgnoreCase(strategy);
+    }
+
+    /**
+     * Create partition key strategy.
+     * @param strategy
+     *        Strategy name, <code>fixed</code> when empty.
+     * @param partitionKey
+     *        Prefix of generated keys.
+     * @param keys
+     *        Number of distinct keys of <code>random</code>, <code>sequential</code> and <code>zipf</code>.
+     * @param exponent
+     *        Zipf exponent, higher is more skewed.
+     * @param shards
+     *        Hash key ranges of the open shards, used by <code>uniform</code>.
+     * @return Partition key strategy.
+     * @throws IllegalArgumentException
+     *         Exception when the strategy is unknown.
+     */
+    public static PartitionKeyStrategy of(String strategy, String partitionKey, int keys, double exponent,
+                                          List<HashKeyRange> shards) {
+        switch (strategy == null || strategy.isEmpty() ? FIXED : strategy.toLowerCase()) {
+            case FIXED:
+                return new Fixed();
+            case RANDOM:
+                return new Keys(partitionKey, keys) {
+                    @Override
+                    int nextKey() {
+                        return ThreadLocalRandom.current().nextInt(keys.length);
+                    }
+                };
+            case SEQUENTIAL:
+                return new Keys(partitionKey, keys) {
+                    private final AtomicLong counter = new AtomicLong();
+
+                    @Override
+                    int nextKey() {
+                        return (int) (counter.getAndIncrement() % keys.length);
+                    }
+                };
+            case UNIFORM:
+                return new Uniform(shards);
+            case EXPLICIT_HASH:
+                return new ExplicitHash();
+            case ZIPF:
+                return new Zipf(partitionKey, keys, exponent);
+            default:
+                throw new IllegalArgumentException("Unknown partition key strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Partition key and explicit hash key parameters as they are.
+     */
+    private static final class Fixed extends PartitionKeyStrategy {
+
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+
+        @Override
+        public PutRecordRequest.Builder apply(PutRecordRequest.Builder builder, String partitionKey,
+                                              String explicitHashKey) {
+            return builder.partitionKey(partitionKey)
+                    .explicitHashKey(explicitHashKey == null || explicitHashKey.isEmpty() ? null : explicitHashKey);
+        }
+    }
+
+    /**
+     * Partition key chosen among a precomputed set of keys, so no key is built per record.
+     */
+    private abstract static class Keys extends PartitionKeyStrategy {
+
+        /**
+         * Partition keys, prefix and key number.
+         */
+        protected final String[] keys;
+
+        private Keys(String prefix, int count) {
+            keys = new String[Math.max(1, count)];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = prefix + i;
+            }
+        }
+
+        /**
+         * Pick index of the next key.
+         * @return Key index.
+         */
+        abstract int nextKey();
+
+        @Override
+        public PutRecordRequest.Builder apply(PutRecordRequest.Builder builder, String partitionKey,
+                                              String explicitHashKey) {
+            return builder.partitionKey(keys[nextKey()]);
+        }
+    }
+
+    /**
+     * Zipf distributed keys, picked by binary search on the cumulative distribution.
+     */
+    private static final class Zipf extends Keys {
+
+        /**
+         * Cumulative probability of each key.
+         */
+        private final double[] cumulative;
+
+        private Zipf(String prefix, int count, double exponent) {
+            super(prefix, count);
+            cumulative = new double[keys.length];
+            double sum = 0;
+            for (int i = 0; i < keys.length; i++) {
+                sum += 1 / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        @Override
+        int nextKey() {
+            int idx = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+            return Math.min(idx >= 0 ? idx : -idx - 1, keys.length - 1);
+        }
+    }
+
+    /**
+     * Middle hash key of each open shard in round robin order.
+     */
+    private static final class Uniform extends PartitionKeyStrategy {
+
+        /**
+         * Middle hash key of each shard.
+         */
+        private final String[] hashKeys;
+
+        /**
+         * Records sent.
+         */
+        private final AtomicLong counter = new AtomicLong();
+
+        private Uniform(List<HashKeyRange> shards) {
+            if (shards == null || shards.isEmpty()) {
+                throw new IllegalArgumentException("Uniform partition key strategy needs the stream shards");
+            }
+            this.hashKeys = shards.stream()
+                    .map(range -> new BigInteger(range.startingHashKey())
+                            .add(new BigInteger(range.endingHashKey()))
+                            .shiftRight(1)
+                            .toString())
+                    .toArray(String[]::new);
+        }
+
+        @Override
+        public PutRecordRequest.Builder apply(PutRecordRequest.Builder builder, String partitionKey,
+                                              String explicitHashKey) {
+            return builder.partitionKey(partitionKey == null || partitionKey.isEmpty() ? UNIFORM : partitionKey)
+                    .explicitHashKey(hashKeys[(int) (counter.getAndIncrement() % hashKeys.length)]);
+        }
+    }
+
+    /**
+     * Explicit hash key parameter, or a random hash key over the whole hash key space when empty.
+     */
+    private static final class ExplicitHash extends PartitionKeyStrategy {
+
+        @Override
+        public PutRecordRequest.Builder apply(PutRecordRequest.Builder builder, String partitionKey,
+                                              String explicitHashKey) {
+            return builder.partitionKey(partitionKey == null || partitionKey.isEmpty() ? EXPLICIT_HASH : partitionKey)
+                    .explicitHashKey(explicitHashKey == null || explicitHashKey.isEmpty()
+                            ? new BigInteger(HASH_KEY_BITS, ThreadLocalRandom.current()).toString()
+                            : explicitHashKey);
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package org.apache.jmeter.protocol.aws.kinesis;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.kinesis.KinesisClient;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+import software.amazon.awssdk.services.kinesis.model.StreamDescriptionSummary;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Client-side throughput governor of a Kinesis stream, shared by all JMeter threads. At creation it learns the capacity
+ * mode with <code>DescribeStreamSummary</code> and the hash key ranges of the open shards with <code>ListShards</code>,
+ * then routes every record to its shard, by explicit hash key or MD5 of the partition key like Kinesis does, and
+ * enforces the per-shard write limits of 1,000 records/s and 1 MiB/s, partition key included, with two token buckets
+ * per shard. Records over the limit wait for their tokens instead of being throttled by Kinesis. Shards are listed
+ * again when a put lands on a shard not known yet, after a split or merge. The utilisation of each shard is the rate
+ * achieved over the limit since the shard was first governed.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class ShardGovernor {
+
+    /**
+     * Log attribute.
+     */
+    private static final Logger log = LoggerFactory.getLogger(ShardGovernor.class);
+
+    /**
+     * Write limit of records per second per shard.
+     */
+    public static final int RECORDS_PER_SECOND = 1000;
+
+    /**
+     * Write limit of bytes per second per shard.
+     */
+    public static final int BYTES_PER_SECOND = 1024 * 1024;
+
+    /**
+     * Nanoseconds per second.
+     */
+    private static final double NANOS = 1_000_000_000d;
+
+    /**
+     * Governor by region and stream name.
+     */
+    private static final Map<String, ShardGovernor> STREAMS = new ConcurrentHashMap<>();
+
+    /**
+     * Samplers using the governors, the last one to end clears them.
+     */
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    /**
+     * MD5 digest of each thread, to hash partition keys.
+     */
+    private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /**
+     * Kinesis stream name.
+     */
+    private final String streamName;
+
+    /**
+     * Fraction of the write limits enforced, 1 is the stream capacity.
+     */
+    private final double capacity;
+
+    /**
+     * Capacity mode of the stream, PROVISIONED or ON_DEMAND.
+     */
+    private final String capacityMode;
+
+    /**
+     * Limits of every shard governed, open or closed, by shard id.
+     */
+    private final Map<String, ShardLimit> limits = new ConcurrentHashMap<>();
+
+    /**
+     * Open shards sorted by starting hash key, replaced on refresh.
+     */
+    private volatile ShardLimit[] openShards;
+
+    /**
+     * Whether a thread is listing the shards again.
+     */
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    /**
+     * Time records waited for their tokens, nanoseconds.
+     */
+    private final LongAdder waitNanos = new LongAdder();
+
+    /**
+     * Create governor and learn the shards of the stream.
+     * @param streamName
+     *        Kinesis stream name.
+     * @param capacity
+     *        Fraction of the write limits enforced.
+     * @param client
+     *        Kinesis client to describe the stream and list its shards.
+     */
+    private ShardGovernor(String streamName, double capacity, KinesisClient client) {
+        this.streamName = streamName;
+        this.capacity = capacity;
+        StreamDescriptionSummary summary = client.describeStreamSummary(r -> r.streamName(streamName))
+                .streamDescriptionSummary();
+        this.capacityMode = summary.streamModeDetails() == null ? "PROVISIONED"
+                : summary.streamModeDetails().streamModeAsString();
+        refresh(client);
+        log.info("Governing {} shards of stream {} ({}) at {} of capacity", openShards.length, streamName,
+                capacityMode, capacity);
+    }
+
+    /**
+     * Get governor of the stream on the region, created by the first call. The stream is described and its shards
+     * listed out of the map, concurrent first calls build their own governor and keep the one put first.
+     * @param region
+     *        Region of the client, and role when assumed.
+     * @param streamName
+     *        Kinesis stream name.
+     * @param capacity
+     *        Fraction of the write limits enforced, greater than 0, used by the first call.
+     * @param client
+     *        Kinesis client to describe the stream and list its shards.
+     * @return Governor shared by all threads.
+     * @throws IllegalArgumentException
+     *         Exception when capacity is not greater than 0.
+     */
+    public static ShardGovernor of(String region, String streamName, double capacity, KinesisClient client) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Shard capacity must be greater than 0: " + capacity);
+        }
+        String key = region + "/" + streamName;
+        ShardGovernor governor = STREAMS.get(key);
+        if (governor != null) {
+            return governor;
+        }
+        governor = new ShardGovernor(streamName, capacity, client);
+        ShardGovernor current = STREAMS.putIfAbsent(key, governor);
+        return current == null ? governor : current;
+    }
+
+    /**
+     * Register a sampler using the governors, on its setup.
+     */
+    public static void register() {
+        USERS.incrementAndGet();
+    }
+
+    /**
+     * Release a sampler using the governors, on its teardown. The governors are cleared when the last one ends, so
+     * the next test learns the shards again.
+     */
+    public static void release() {
+        if (USERS.decrementAndGet() == 0) {
+            STREAMS.clear();
+        }
+    }
+
+    /**
+     * Governors of the streams.
+     * @return Governor by region and stream name.
+     */
+    public static Map<String, ShardGovernor> getStreams() {
+        return Collections.unmodifiableMap(STREAMS);
+    }
+
+    /**
+     * Take the tokens of the record from the buckets of its shard.
+     * @param request
+     *        PutRecordRequest to send.
+     * @return Nanoseconds to wait before sending the record, 0 when it can be sent now.
+     */
+    public long acquire(PutRecordRequest request) {
+        byte[] partitionKey = request.partitionKey().getBytes(StandardCharsets.UTF_8);
+        BigInteger hashKey;
+        try {
+            hashKey = request.explicitHashKey() != null ? new BigInteger(request.explicitHashKey())
+                    : new BigInteger(1, MD5.get().digest(partitionKey));
+        } catch (NumberFormatException e) {
+            hashKey = new BigInteger(1, MD5.get().digest(partitionKey));
+        }
+        long wait = route(hashKey).acquire(partitionKey.length + request.data().asByteBuffer().remaining());
+        waitNanos.add(wait);
+        return wait;
+    }
+
+    /**
+     * List the shards again when the record was put on a shard not known yet. Only one thread lists them, the others
+     * keep the current shards meanwhile. The record is already put, so a failed listing is logged, not thrown, and
+     * retried on the next record of the unknown shard.
+     * @param shardId
+     *        Shard id of PutRecord response.
+     * @param client
+     *        Kinesis client to list the shards.
+     */
+    public void observe(String shardId, KinesisClient client) {
+        if (limits.containsKey(shardId) || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresh(client);
+            log.info("Stream {} resharded, governing {} shards", streamName, openShards.length);
+        } catch (RuntimeException e) {
+            log.warn("Shards of stream {} not refreshed, retried on the next record of a new shard: {}", streamName,
+                    e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Summary of the governor.
+     * @return Capacity mode, shards, wait time and mean and max utilisation of the open shards.
+     */
+    public String getSummary() {
+        ShardLimit[] shards = openShards;
+        double records = 0;
+        double bytes = 0;
+        double maxRecords = 0;
+        double maxBytes = 0;
+        for (ShardLimit shard : shards) {
+            double[] utilisation = shard.getUtilisation();
+            records += utilisation[0];
+            bytes += utilisation[1];
+            maxRecords = Math.max(maxRecords, utilisation[0]);
+            maxBytes = Math.max(maxBytes, utilisation[1]);
+        }
+        return String.format("Capacity mode: %s \nGoverned shards: %d \nGovernor wait ms: %d " +
+                        "\nShard records utilisation: mean %.1f%%, max %.1f%% " +
+                        "\nShard bytes utilisation: mean %.1f%%, max %.1f%%", capacityMode, shards.length,
+                waitNanos.sum() / 1_000_000, records * 100 / shards.length, maxRecords * 100,
+                bytes * 100 / shards.length, maxBytes * 100);
+    }
+
+    /**
+     * Utilisation of every shard governed, sorted by shard id.
+     * @return Records and bytes utilisation by shard id.
+     */
+    public Map<String, String> getUtilisation() {
+        return limits.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> {
+                    double[] utilisation = e.getValue().getUtilisation();
+                    return String.format("records %.1f%%, bytes %.1f%%", utilisation[0] * 100, utilisation[1] * 100);
+                }, (a, b) -> a, TreeMap::new));
+    }
+
+    /**
+     * List the open shards of the stream and add the limits of the new ones.
+     * @param client
+     *        Kinesis client to list the shards.
+     * @throws IllegalStateException
+     *         Exception when the stream has no open shard.
+     */
+    private void refresh(KinesisClient client) {
+        List<Shard> shards = client.listShardsPaginator(ListShardsRequest.builder()
+                        .streamName(streamName)
+                        .build())
+                .shards()
+                .stream()
+                .filter(shard -> shard.sequenceNumberRange().endingSequenceNumber() == null)
+                .collect(Collectors.toList());
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("Stream " + streamName + " has no open shard");
+        }
+        openShards = shards.stream()
+                .map(shard -> limits.computeIfAbsent(shard.shardId(), id -> new ShardLimit(
+                        new BigInteger(shard.hashKeyRange().startingHashKey()), capacity)))
+                .sorted(Comparator.comparing((ShardLimit limit) -> limit.startingHashKey))
+                .toArray(ShardLimit[]::new);
+    }
+
+    /**
+     * Find the open shard of a hash key, the last one starting at or below it.
+     * @param hashKey
+     *        128 bit hash key.
+     * @return Limits of the shard.
+     */
+    private ShardLimit route(BigInteger hashKey) {
+        ShardLimit[] shards = openShards;
+        int low = 0;
+        int high = shards.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (shards[mid].startingHashKey.compareTo(hashKey) <= 0) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return shards[low];
+    }
+
+    /**
+     * Token buckets and counters of one shard, guarded by itself.
+     */
+    private static final class ShardLimit {
+
+        /**
+         * Starting hash key of the shard.
+         */
+        private final BigInteger startingHashKey;
+
+        /**
+         * Records per second enforced.
+         */
+        private final double recordRate;
+
+        /**
+         * Bytes per second enforced.
+         */
+        private final double byteRate;
+
+        /**
+         * Time the shard was first governed, nanoseconds.
+         */
+        private final long start = System.nanoTime();
+
+        /**
+         * Record tokens, negative when reserved by records waiting.
+         */
+        private double recordTokens;
+
+        /**
+         * Byte tokens, negative when reserved by records waiting.
+         */
+        private double byteTokens;
+
+        /**
+         * Last refill, nanoseconds.
+         */
+        private long refilled = start;
+
+        /**
+         * Records acquired.
+         */
+        private long records;
+
+        /**
+         * Bytes acquired.
+         */
+        private long bytes;
+
+        /**
+         * Create limits of a shard with full buckets of one second.
+         * @param startingHashKey
+         *        Starting hash key of the shard.
+         * @param capacity
+         *        Fraction of the write limits enforced.
+         */
+        private ShardLimit(BigInteger startingHashKey, double capacity) {
+            this.startingHashKey = startingHashKey;
+            this.recordRate = RECORDS_PER_SECOND * capacity;
+            this.byteRate = BYTES_PER_SECOND * capacity;
+            this.recordTokens = recordRate;
+            this.byteTokens = byteRate;
+        }
+
+        /**
+         * Refill the buckets and reserve the tokens of a record.
+         * @param size
+         *        Bytes of the record, data and partition key.
+         * @return Nanoseconds until both buckets cover the reservation.
+         */
+        private synchronized long acquire(int size) {
+            long now = System.nanoTime();
+            double seconds = (now - refilled) / NANOS;
+            refilled = now;
+            recordTokens = Math.min(recordRate, recordTokens + seconds * recordRate) - 1;
+            byteTokens = Math.min(byteRate, byteTokens + seconds * byteRate) - size;
+            records++;
+            bytes += size;
+            double wait = Math.max(-recordTokens / recordRate, -byteTokens / byteRate);
+            return wait <= 0 ? 0 : (long) (wait * NANOS);
+        }
+
+        /**
+         * Rate achieved over the write limits since the shard was first governed.
+         * @return Records and bytes utilisation, 1 is the shard limit.
+         */
+        private synchronized double[] getUtilisation() {
+            double seconds = Math.max(1, (System.nanoTime() - start) / NANOS);
+            return new double[] {records / seconds / RECORDS_PER_SECOND, bytes / seconds / BYTES_PER_SECOND};
+        }
+    }
+}
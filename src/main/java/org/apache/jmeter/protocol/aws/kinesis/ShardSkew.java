@@ -0,0 +1,172 @@
+package org.apache.jmeter.protocol.aws.kinesis;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Records put per shard of a Kinesis stream, shared by all JMeter threads, to report the shard skew of the run.
+ * Skew is the puts of the hottest shard divided by the mean puts per open shard of the stream, learned with
+ * <code>ListShards</code>, so 1 is a perfect spread and the open shard count is the worst skew, all puts on one shard.
+ * The skew of each stream is logged, and the streams cleared, when the last producer ends.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public final class ShardSkew {
+
+    /**
+     * Log attribute.
+     */
+    private static final Logger log = LoggerFactory.getLogger(ShardSkew.class);
+
+    /**
+     * Shard skew by region and stream name.
+     */
+    private static final Map<String, ShardSkew> STREAMS = new ConcurrentHashMap<>();
+
+    /**
+     * Samplers using the shard skews, which are cleared when the last one ends.
+     */
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    /**
+     * Time to wait before listing the shards again when they couldn't be listed.
+     */
+    private static final long LIST_RETRY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * Records put by shard id.
+     */
+    private final Map<String, LongAdder> puts = new ConcurrentHashMap<>();
+
+    /**
+     * Whether a thread is listing the shards.
+     */
+    private final AtomicBoolean listing = new AtomicBoolean();
+
+    /**
+     * Open shards of the stream, -1 until they are listed.
+     */
+    private volatile int openShards = -1;
+
+    /**
+     * Nano time of the next listing of the shards, after a failed one.
+     */
+    private volatile long nextListing = System.nanoTime();
+
+    /**
+     * Use {@link #of(String, String)}.
+     */
+    private ShardSkew() {
+    }
+
+    /**
+     * Get shard skew of the stream on the region.
+     * @param region
+     *        AWS region of the stream.
+     * @param streamName
+     *        Kinesis stream name.
+     * @return Shard skew shared by all threads.
+     */
+    public static ShardSkew of(String region, String streamName) {
+        String key = region + '/' + streamName;
+        ShardSkew skew = STREAMS.get(key);
+        if (skew != null) {
+            return skew;
+        }
+        skew = new ShardSkew();
+        ShardSkew current = STREAMS.putIfAbsent(key, skew);
+        return current == null ? skew : current;
+    }
+
+    /**
+     * Register a sampler using the shard skews, on its setup.
+     */
+    public static void register() {
+        USERS.incrementAndGet();
+    }
+
+    /**
+     * Release a sampler using the shard skews, on its teardown. When the last one ends the skew and records put per
+     * shard of each stream are logged and the streams cleared, so the next test starts from zero.
+     */
+    public static void release() {
+        if (USERS.decrementAndGet() != 0) {
+            return;
+        }
+        STREAMS.forEach((stream, skew) -> log.info("Shard skew of {}: {}, records put per shard: {}", stream,
+                skew.getSummary(), skew.getPuts()));
+        STREAMS.clear();
+    }
+
+    /**
+     * List the open shards of the stream, unless they are listed already. Only one thread lists them, and a failed
+     * listing is logged and retried after {@link #LIST_RETRY_NANOS}, the skew is computed over the shards put
+     * meanwhile.
+     * @param openShards
+     *        Lists the open shards of the stream and counts them.
+     */
+    public void list(IntSupplier openShards) {
+        if (this.openShards >= 0 || System.nanoTime() - nextListing < 0 || !listing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.openShards = openShards.getAsInt();
+        } catch (RuntimeException e) {
+            nextListing = System.nanoTime() + LIST_RETRY_NANOS;
+            log.warn("Unable to list shards, skew is computed over the shards put until they are listed: " +
+                    e.getMessage());
+        } finally {
+            listing.set(false);
+        }
+    }
+
+    /**
+     * Count record put on the shard.
+     * @param shardId
+     *        Shard id of PutRecord response.
+     */
+    public void record(String shardId) {
+        puts.computeIfAbsent(shardId, k -> new LongAdder()).increment();
+    }
+    /**
+     * Summary of the shard skew.
+     * @return Shards put and open, hottest shard and skew.
+     */
+    public String getSummary() {
+        long total = 0;
+        long max = 0;
+        String hottest = null;
+        for (Map.Entry<String, LongAdder> entry : puts.entrySet()) {
+            long count = entry.getValue().sum();
+            total += count;
+            if (count > max) {
+                max = count;
+                hottest = entry.getKey();
+            }
+        }
+        int shards = Math.max(openShards, puts.size());
+        double skew = total == 0 ? 0 : max * shards / (double) total;
+        return String.format("shards: %d of %d open, hottest shard: %s (%d), skew: %.2f", puts.size(), shards,
+                hottest, max, skew);
+    }
+
+    /**
+     * Records put by shard id, sorted by shard id.
+     * @return Puts by shard id.
+     */
+    public Map<String, Long> getPuts() {
+        return puts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum(), Long::sum, TreeMap::new));
+    }
+}
@@ -0,0 +1,206 @@
+package org.apache.jmeter.protocol.aws.lambda;
+
+import software.amazon.awssdk.services.lambda.model.InvokeResponse;
+import software.amazon.awssdk.services.lambda.model.InvokeWithResponseStreamCompleteEvent;
+import software.amazon.awssdk.services.lambda.model.InvokeWithResponseStreamResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Outcome of a Lambda invocation, synchronous, asynchronous or response-streaming: status code, executed version
+ * (<code>X-Amz-Executed-Version</code>), function error and the billed and init durations of the <code>REPORT</code>
+ * line of the log tail, when requested.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+final class LambdaInvocation {
+
+    /**
+     * Billed duration of the REPORT line, milliseconds.
+     */
+    private static final Pattern BILLED_DURATION = Pattern.compile("Billed Duration: (\\d+) ms");
+
+    /**
+     * Init duration of the REPORT line of cold starts, milliseconds.
+     */
+    private static final Pattern INIT_DURATION = Pattern.compile("Init Duration: ([\\d.]+) ms");
+
+    /**
+     * HTTP status code of the invocation.
+     */
+    private final Integer statusCode;
+
+    /**
+     * Version of the function executed, null when the invocation is asynchronous.
+     */
+    private final String executedVersion;
+
+    /**
+     * Function error, <code>Unhandled</code> or <code>Handled</code>, null when the function succeeded.
+     */
+    private final String functionError;
+
+    /**
+     * Response payload or error details, null when there is none or it was streamed.
+     */
+    private final String payload;
+
+    /**
+     * Log tail decoded, null when not requested.
+     */
+    private final String log;
+
+    /**
+     * Bytes of the response payload.
+     */
+    private final long bytes;
+
+    /**
+     * Chunks of the streamed payload, -1 when the response wasn't streamed.
+     */
+    private final int chunks;
+
+    /**
+     * Create invocation outcome.
+     * @param statusCode
+     *        HTTP status code.
+     * @param executedVersion
+     *        Version of the function executed.
+     * @param functionError
+     *        Function error.
+     * @param payload
+     *        Response payload or error details.
+     * @param logResult
+     *        Log tail encoded in Base64.
+     * @param bytes
+     *        Bytes of the response payload.
+     * @param chunks
+     *        Chunks of the streamed payload, -1 when not streamed.
+     */
+    private LambdaInvocation(Integer statusCode, String executedVersion, String functionError, String payload,
+                             String logResult, long bytes, int chunks) {
+        this.statusCode = statusCode;
+        this.executedVersion = executedVersion;
+        this.functionError = functionError == null || functionError.isEmpty() ? null : functionError;
+        this.payload = payload;
+        this.log = Optional.ofNullable(logResult)
+                .filter(encoded -> !encoded.isEmpty())
+                .map(encoded -> new String(Base64.getDecoder().decode(encoded), StandardCharsets.UTF_8))
+                .orElse(null);
+        this.bytes = bytes;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Outcome of a synchronous, asynchronous or dry run invocation.
+     * @param response
+     *        Invoke response.
+     * @return Invocation outcome.
+     */
+    static LambdaInvocation of(InvokeResponse response) {
+        String payload = response.payload() == null ? null : response.payload().asUtf8String();
+        return new LambdaInvocation(response.statusCode(), response.executedVersion(), response.functionError(),
+                payload == null || payload.isEmpty() ? null : payload, response.logResult(),
+                response.payload() == null ? 0 : response.payload().asByteBuffer().remaining(), -1);
+    }
+
+    /**
+     * Outcome of a response-streaming invocation.
+     * @param response
+     *        Initial response of the stream.
+     * @param complete
+     *        Complete event of the stream, null when the stream ended without it.
+     * @param bytes
+     *        Bytes of the payload chunks.
+     * @param chunks
+     *        Payload chunks.
+     * @return Invocation outcome.
+     */
+    static LambdaInvocation ofStream(InvokeWithResponseStreamResponse response,
+                                     InvokeWithResponseStreamCompleteEvent complete, long bytes, int chunks) {
+        return new LambdaInvocation(response.statusCode(), response.executedVersion(),
+                complete == null ? null : complete.errorCode(),
+                complete == null ? null : complete.errorDetails(),
+                complete == null ? null : complete.logResult(), bytes, chunks);
+    }
+
+    /**
+     * Whether the function failed.
+     * @return true when the invocation has a function error.
+     */
+    boolean isFunctionError() {
+        return functionError != null;
+    }
+
+    /**
+     * Function error.
+     * @return <code>Unhandled</code>, <code>Handled</code> or the error code of the stream, null when succeeded.
+     */
+    String getFunctionError() {
+        return functionError;
+    }
+
+    /**
+     * Bytes of the response payload.
+     * @return Payload bytes.
+     */
+    long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Billed duration of the log tail.
+     * @return Billed milliseconds, empty when the log tail wasn't requested or has no REPORT line.
+     */
+    Optional<String> getBilledDuration() {
+        return find(BILLED_DURATION);
+    }
+
+    /**
+     * Init duration of the log tail, only reported on cold starts.
+     * @return Init milliseconds, empty on warm starts or when the log tail wasn't requested.
+     */
+    Optional<String> getInitDuration() {
+        return find(INIT_DURATION);
+    }
+
+    /**
+     * Find a duration on the log tail.
+     * @param pattern
+     *        Pattern of the duration.
+     * @return Duration, empty when not found.
+     */
+    private Optional<String> find(Pattern pattern) {
+        return Optional.ofNullable(log)
+                .map(pattern::matcher)
+                .filter(Matcher::find)
+                .map(m -> m.group(1));
+    }
+
+    /**
+     * Describe the invocation as response data of the sample.
+     * @return Status code, executed version, function error, durations and payload.
+     */
+    String describe() {
+        StringBuilder description = new StringBuilder(String.format("Status code: %s", statusCode));
+        Optional.ofNullable(executedVersion)
+                .ifPresent(version -> description.append(" \nExecuted version: ").append(version));
+        Optional.ofNullable(functionError)
+                .ifPresent(error -> description.append(" \nFunction error: ").append(error));
+        getBilledDuration()
+                .ifPresent(billed -> description.append(" \nBilled duration: ").append(billed).append(" ms"));
+        getInitDuration()
+                .ifPresent(init -> description.append(" \nInit duration: ").append(init).append(" ms (cold start)"));
+        if (chunks >= 0) {
+            description.append(String.format(" \nStreamed: %d bytes in %d chunks", bytes, chunks));
+        }
+        Optional.ofNullable(payload)
+                .ifPresent(p -> description.append(" \nPayload: ").append(p));
+        return description.toString();
+    }
+}
@@ -0,0 +1,514 @@
+package org.apache.jmeter.protocol.aws.lambda;
+
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.AWSClientSDK2;
+import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.lambda.LambdaAsyncClient;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+import software.amazon.awssdk.services.lambda.model.InvokeRequest;
+import software.amazon.awssdk.services.lambda.model.InvokeWithResponseStreamCompleteEvent;
+import software.amazon.awssdk.services.lambda.model.InvokeWithResponseStreamResponse;
+import software.amazon.awssdk.services.lambda.model.InvokeWithResponseStreamResponseHandler;
+import software.amazon.awssdk.services.lambda.model.LogType;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lambda Sampler class to invoke functions directly, with <code>RequestResponse</code>, <code>Event</code> or
+ * <code>DryRun</code> invocations, or with response-streaming invocations. Every sample reports the executed version,
+ * the function error, and the billed and init durations of the log tail when <code>lambda_log_tail</code> is set.
+ * With <code>lambda_max_in_flight</code> the sampler doesn't wait for the invocations: each sample submits one on the
+ * async client, waiting only when the invocations in flight reach the max, and carries as sub-results the
+ * invocations completed since the previous sample.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class LambdaInvokeSampler extends AWSSampler implements AWSClientSDK2 {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(LambdaInvokeSampler.class);
+
+    /**
+     * Function name, ARN or partial ARN.
+     */
+    private static final String LAMBDA_FUNCTION_NAME = "lambda_function_name";
+
+    /**
+     * Optional version or alias.
+     */
+    private static final String LAMBDA_QUALIFIER = "lambda_qualifier";
+
+    /**
+     * Event payload as JSON.
+     */
+    private static final String LAMBDA_PAYLOAD = "lambda_payload";
+
+    /**
+     * Invocation type, <code>RequestResponse</code>, <code>Event</code>, <code>DryRun</code> or
+     * <code>ResponseStream</code>.
+     */
+    private static final String LAMBDA_INVOCATION_TYPE = "lambda_invocation_type";
+
+    /**
+     * Whether the last 4 KB of the execution log are returned, on synchronous invocations.
+     */
+    private static final String LAMBDA_LOG_TAIL = "lambda_log_tail";
+
+    /**
+     * Max invocations in flight of the sampler, 0 to wait for every invocation.
+     */
+    private static final String LAMBDA_MAX_IN_FLIGHT = "lambda_max_in_flight";
+
+    /**
+     * Synchronous invocation.
+     */
+    private static final String REQUEST_RESPONSE = "RequestResponse";
+
+    /**
+     * Response-streaming invocation.
+     */
+    private static final String RESPONSE_STREAM = "ResponseStream";
+
+    /**
+     * Invocation types of the sampler.
+     */
+    private static final Set<String> INVOCATION_TYPES = Set.of(REQUEST_RESPONSE, "Event", "DryRun", RESPONSE_STREAM);
+
+    /**
+     * Max wait of the invocations in flight on tear down, seconds.
+     */
+    private static final long DRAIN_SECONDS = 30;
+
+    /**
+     * List of Arguments to Lambda sampler.
+     */
+    private static final List<Argument> LAMBDA_PARAMETERS = Stream.of(
+            new Argument(LAMBDA_FUNCTION_NAME, EMPTY),
+            new Argument(LAMBDA_QUALIFIER, EMPTY),
+            new Argument(LAMBDA_PAYLOAD, "{}"),
+            new Argument(LAMBDA_INVOCATION_TYPE, REQUEST_RESPONSE),
+            new Argument(LAMBDA_LOG_TAIL, "true"),
+            new Argument(LAMBDA_MAX_IN_FLIGHT, "0"))
+            .collect(Collectors.toList());
+
+    /**
+     * AWS Lambda Client.
+     */
+    private LambdaClient lambdaClient;
+
+    /**
+     * AWS Lambda async Client of response-streaming and in flight invocations, null when not needed.
+     */
+    private LambdaAsyncClient lambdaAsyncClient;
+
+    /**
+     * Permits of the invocations in flight, null when the sampler waits for every invocation.
+     */
+    private Semaphore inFlight;
+
+    /**
+     * Max invocations in flight.
+     */
+    private int maxInFlight;
+
+    /**
+     * Invocations completed and not reported yet.
+     */
+    private final Queue<SampleResult> completed = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Function errors of the invocations completed and not reported yet.
+     */
+    private final LongAdder functionErrors = new LongAdder();
+
+    /**
+     * Create AWS Lambda Client.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return LambdaClient extends SdkClient super class.
+     */
+    @Override
+    public SdkClient createSdkClient(Map<String, String> credentials) {
+
+        String region = getAWSRegion(credentials);
+        return LambdaClient.builder()
+                .endpointOverride(URI.create(getAWSEndpoint(credentials, LambdaClient.SERVICE_NAME, region)))
+                .region(Region.of(region))
+                .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
+                .build();
+    }
+
+    /**
+     * Create AWS Lambda async Client, with as many connections as invocations in flight or
+     * <code>aws_max_connections</code>, whichever is bigger.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return LambdaAsyncClient.
+     */
+    private LambdaAsyncClient createAsyncClient(Map<String, String> credentials) {
+
+        String region = getAWSRegion(credentials);
+        int maxConnections = Optional.ofNullable(credentials.get(AWS_MAX_CONNECTIONS))
+                .filter(Predicate.not(String::isEmpty))
+                .map(Integer::valueOf)
+                .orElse(50);
+        return LambdaAsyncClient.builder()
+                .endpointOverride(URI.create(getAWSEndpoint(credentials, LambdaClient.SERVICE_NAME, region)))
+                .region(Region.of(region))
+                .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(Math.max(maxInFlight, maxConnections)))
+                .build();
+    }
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and Lambda parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, LAMBDA_PARAMETERS, AGGREGATION_PARAMETERS,
+                        WARMUP_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Read test parameters and initialize AWS Lambda clients.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+
+        log.info("Setup Lambda Sampler.");
+        Map<String, String> credentials = new HashMap<>();
+
+        context.getParameterNamesIterator()
+                .forEachRemaining( k -> {
+                    credentials.put(k, context.getParameter(k));
+                    log.info("Parameter: " + k + ", value: " + credentials.get(k));
+                });
+
+        log.info("Create Lambda Client.");
+        lambdaClient = (LambdaClient) createSdkClient(credentials);
+        maxInFlight = context.getIntParameter(LAMBDA_MAX_IN_FLIGHT, 0);
+        if (maxInFlight > 0) {
+            inFlight = new Semaphore(maxInFlight);
+        }
+        if (maxInFlight > 0 || RESPONSE_STREAM.equals(context.getParameter(LAMBDA_INVOCATION_TYPE))) {
+            log.info("Create Lambda Async Client.");
+            lambdaAsyncClient = createAsyncClient(credentials);
+        }
+
+        try {
+            sampleAggregator = createSampleAggregator(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create sample aggregation " + context.getParameter(AGGREGATE_SAMPLES) + ", " +
+                    context.getParameter(AGGREGATE_WINDOW_MS), e);
+        }
+
+        try {
+            warmUp = createWarmUp(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create warm-up " + context.getParameter(WARMUP_CONNECTIONS) + ", " +
+                    context.getParameter(WARMUP_SAMPLES), e);
+        }
+        Optional.ofNullable(warmUp)
+                .ifPresent(w -> w.run("Lambda",
+                        () -> warmUpCredentials(credentials, LambdaClient.SERVICE_NAME),
+                        List.of(lambdaClient),
+                        client -> client.getFunctionConfiguration(r -> r
+                                .functionName(context.getParameter(LAMBDA_FUNCTION_NAME)))));
+    }
+
+    /**
+     * Main method to execute the test on single thread. Invoke the function and wait for the invocation, or submit
+     * it when <code>lambda_max_in_flight</code> is set.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        String invocationType = context.getParameter(LAMBDA_INVOCATION_TYPE, REQUEST_RESPONSE);
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Function Name: %s \nQualifier: %s \nInvocation Type: %s \nPayload: %s",
+                context.getParameter(LAMBDA_FUNCTION_NAME),
+                context.getParameter(LAMBDA_QUALIFIER),
+                invocationType,
+                context.getParameter(LAMBDA_PAYLOAD)));
+
+        if (!INVOCATION_TYPES.contains(invocationType)) {
+            sampleResultFail(result, FAIL_CODE, "Unknown invocation type " + invocationType + ", use one of " +
+                    INVOCATION_TYPES + ".");
+            return result;
+        }
+        if (inFlight != null) {
+            return submit(context, invocationType, result);
+        }
+
+        try {
+            log.info("Invoking Function.");
+            LambdaInvocation invocation = RESPONSE_STREAM.equals(invocationType)
+                    ? invokeAsync(context, invocationType, result).join()
+                    : LambdaInvocation.of(lambdaClient.invoke(createInvokeRequest(context, invocationType)));
+            result.setBytes(invocation.getBytes());
+            if (invocation.isFunctionError()) {
+                sampleResultFail(result, invocation.getFunctionError(), invocation.describe());
+            } else {
+                sampleResultSuccess(result, invocation.describe());
+            }
+        } catch (AwsServiceException e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (SdkException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AwsServiceException) {
+                AwsServiceException cause = (AwsServiceException) e.getCause();
+                sampleResultFail(result, cause.awsErrorDetails().errorCode(), cause.awsErrorDetails().errorMessage());
+            } else {
+                sampleResultFail(result, FAIL_CODE, String.valueOf(e.getCause().getMessage()));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Submit the invocation on the async client without waiting for it, once there is room in flight, and report
+     * the invocations completed since the previous sample as sub-results. The sample fails when any of them failed.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param invocationType
+     *        Invocation type.
+     * @param result
+     *        SampleResult started.
+     * @return SampleResult ended.
+     */
+    private SampleResult submit(JavaSamplerContext context, String invocationType, SampleResult result) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sampleResultFail(result, FAIL_CODE, "Interrupted waiting for invocations in flight.");
+            return result;
+        }
+
+        SampleResult invocation = newSampleResult();
+        invocation.setSampleLabel(context.getParameter(LAMBDA_FUNCTION_NAME));
+        invocation.setSamplerData(result.getSamplerData());
+        invocation.sampleStart();
+        try {
+            invokeAsync(context, invocationType, invocation)
+                    .whenComplete((outcome, error) -> {
+                        try {
+                            completeInvocation(invocation, outcome, error);
+                            completed.add(invocation);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+        } catch (SdkException e) {
+            inFlight.release();
+            completeInvocation(invocation, null, e);
+            completed.add(invocation);
+        }
+
+        SampleResult done;
+        long reported = 0;
+        long errors = 0;
+        while ((done = completed.poll()) != null) {
+            reported++;
+            errors += done.isSuccessful() ? 0 : 1;
+            result.addRawSubResult(done);
+        }
+        String response = String.format("Submitted: 1 \nCompleted: %d \nFunction errors: %d \nErrors: %d " +
+                "\nIn flight: %d", reported, functionErrors.sumThenReset(), errors,
+                maxInFlight - inFlight.availablePermits());
+        if (errors == 0) {
+            sampleResultSuccess(result, response);
+        } else {
+            sampleResultFail(result, FAIL_CODE, response);
+        }
+        return result;
+    }
+
+    /**
+     * End the sub-result of an invocation in flight.
+     * @param invocation
+     *        Sub-result started on submit.
+     * @param outcome
+     *        Invocation outcome, null when the invocation failed.
+     * @param error
+     *        Invocation failure, null when the invocation completed.
+     */
+    private void completeInvocation(SampleResult invocation, LambdaInvocation outcome, Throwable error) {
+        invocation.sampleEnd();
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            invocation.setSuccessful(false);
+            invocation.setResponseCode(cause instanceof AwsServiceException
+                    ? ((AwsServiceException) cause).awsErrorDetails().errorCode() : FAIL_CODE);
+            invocation.setResponseData(String.valueOf(cause.getMessage()), ENCODING);
+            return;
+        }
+        invocation.setSuccessful(!outcome.isFunctionError());
+        if (outcome.isFunctionError()) {
+            functionErrors.increment();
+            invocation.setResponseCode(outcome.getFunctionError());
+        } else {
+            invocation.setResponseCodeOK();
+        }
+        invocation.setBytes(outcome.getBytes());
+        invocation.setResponseData(outcome.describe(), ENCODING);
+    }
+
+    /**
+     * Invoke the function on the async client, streaming the response on <code>ResponseStream</code> invocations.
+     * The latency of the result is set on the first payload chunk of the stream.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param invocationType
+     *        Invocation type.
+     * @param result
+     *        SampleResult started, of the sample or of the invocation in flight.
+     * @return Future of the invocation outcome.
+     */
+    private CompletableFuture<LambdaInvocation> invokeAsync(JavaSamplerContext context, String invocationType,
+                                                            SampleResult result) {
+        if (!RESPONSE_STREAM.equals(invocationType)) {
+            return lambdaAsyncClient.invoke(createInvokeRequest(context, invocationType))
+                    .thenApply(LambdaInvocation::of);
+        }
+        AtomicReference<InvokeWithResponseStreamResponse> response = new AtomicReference<>();
+        AtomicReference<InvokeWithResponseStreamCompleteEvent> complete = new AtomicReference<>();
+        AtomicLong bytes = new AtomicLong();
+        AtomicInteger chunks = new AtomicInteger();
+        return lambdaAsyncClient.invokeWithResponseStream(r -> r
+                        .functionName(context.getParameter(LAMBDA_FUNCTION_NAME))
+                        .qualifier(qualifier(context))
+                        .payload(SdkBytes.fromUtf8String(context.getParameter(LAMBDA_PAYLOAD, "{}")))
+                        .logType(logType(context, REQUEST_RESPONSE)),
+                        InvokeWithResponseStreamResponseHandler.builder()
+                                .onResponse(response::set)
+                                .subscriber(InvokeWithResponseStreamResponseHandler.Visitor.builder()
+                                        .onPayloadChunk(chunk -> {
+                                            if (chunks.getAndIncrement() == 0) {
+                                                result.latencyEnd();
+                                            }
+                                            bytes.addAndGet(chunk.payload().asByteBuffer().remaining());
+                                        })
+                                        .onInvokeComplete(complete::set)
+                                        .build())
+                                .build())
+                .thenApply(done -> LambdaInvocation.ofStream(response.get(), complete.get(), bytes.get(),
+                        chunks.get()));
+    }
+
+    /**
+     * Create InvokeRequest of a <code>RequestResponse</code>, <code>Event</code> or <code>DryRun</code> invocation.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param invocationType
+     *        Invocation type.
+     * @return InvokeRequest.
+     */
+    private InvokeRequest createInvokeRequest(JavaSamplerContext context, String invocationType) {
+        return InvokeRequest.builder()
+                .functionName(context.getParameter(LAMBDA_FUNCTION_NAME))
+                .qualifier(qualifier(context))
+                .invocationType(invocationType)
+                .payload(SdkBytes.fromUtf8String(context.getParameter(LAMBDA_PAYLOAD, "{}")))
+                .logType(logType(context, invocationType))
+                .build();
+    }
+
+    /**
+     * Qualifier of the invocation.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Version or alias, null when empty.
+     */
+    private static String qualifier(JavaSamplerContext context) {
+        String qualifier = context.getParameter(LAMBDA_QUALIFIER, EMPTY);
+        return qualifier.isEmpty() ? null : qualifier;
+    }
+
+    /**
+     * Log type of the invocation, the log tail is only returned on synchronous invocations.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param invocationType
+     *        Invocation type.
+     * @return <code>Tail</code> or <code>None</code>.
+     */
+    private static LogType logType(JavaSamplerContext context, String invocationType) {
+        return REQUEST_RESPONSE.equals(invocationType) &&
+                Boolean.parseBoolean(context.getParameter(LAMBDA_LOG_TAIL, "true")) ? LogType.TAIL : LogType.NONE;
+    }
+
+    /**
+     * Wait the invocations in flight and log the ones completed after the last sample, then close AWS Lambda Clients
+     * after run single thread.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close Lambda Client.");
+        Optional.ofNullable(inFlight).ifPresent(permits -> {
+            try {
+                if (!permits.tryAcquire(maxInFlight, DRAIN_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn("Invocations still in flight: " + (maxInFlight - permits.availablePermits()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            logLateResults("Invocations", completed);
+        });
+        Optional.ofNullable(lambdaClient)
+                .ifPresent(client -> client.close());
+        Optional.ofNullable(lambdaAsyncClient)
+                .ifPresent(client -> client.close());
+        teardownSampler();
+    }
+}
@@ -0,0 +1,237 @@
+package org.apache.jmeter.protocol.aws.replay;
+
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.apache.jmeter.threads.JMeterContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Replay Sampler class to replay a recorded trace against SQS, SNS, Kinesis or EventBridge with the request
+ * builders of their producer samplers, keeping or scaling the recorded inter-arrival times. Every JMeter thread of
+ * the Thread Group is a lane: events of the same key are always sent by the same thread, in trace order.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class ReplaySampler extends AWSSampler {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(ReplaySampler.class);
+
+    /**
+     * Fully qualified class name of the producer sampler used to send the events.
+     */
+    private static final String AWS_SAMPLER_CLASS = "aws_sampler_class";
+
+    /**
+     * Trace file, JSON lines.
+     */
+    private static final String REPLAY_FILE = "replay_file";
+
+    /**
+     * Replay speed, 1 keeps recorded timing, 2 is twice as fast, 0 as fast as possible.
+     */
+    private static final String REPLAY_SPEED = "replay_speed";
+
+    /**
+     * Events buffered per lane.
+     */
+    private static final String REPLAY_BUFFER = "replay_buffer";
+
+    /**
+     * Set Replay parameters.
+     */
+    private static final List<Argument> REPLAY_PARAMETERS = Stream.of(
+            new Argument(AWS_SAMPLER_CLASS, EMPTY),
+            new Argument(REPLAY_FILE, EMPTY),
+            new Argument(REPLAY_SPEED, "1"),
+            new Argument(REPLAY_BUFFER, "1000"))
+            .collect(Collectors.toList());
+
+    /**
+     * Sampler parameters of target, body, attributes and key trace fields, by sampler package.
+     */
+    private static final Map<String, String[]> FIELD_PARAMETERS = Map.of(
+            "sqs", new String[]{"sqs_queue_name", "sqs_msg_body", "sqs_msg_attributes", "sqs_msg_group_id"},
+            "sns", new String[]{"sns_topic_arn", "sns_msg_body", "sns_msg_attributes", "sns_msg_group_id"},
+            "kinesis", new String[]{"kinesis_stream_name", "data_record", null, "partition_key"},
+            "eventbus", new String[]{"event_bus_name", "event_detail", null, null});
+
+    /**
+     * Producer sampler that sends the events.
+     */
+    private AWSSampler sampler;
+
+    /**
+     * Sampler parameters of target, body, attributes and key trace fields.
+     */
+    private String[] fieldParameters;
+
+    /**
+     * Parameters of the Java Request, base of every event parameters.
+     */
+    private final Map<String, String> parameters = new LinkedHashMap<>();
+
+    /**
+     * Trace replay shared by the Thread Group.
+     */
+    private TraceReplay replay;
+
+    /**
+     * Lane of this JMeter thread.
+     */
+    private int lane;
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and Replay parameters, add the parameters of the producer sampler to the list.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, REPLAY_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Create the producer sampler and join the trace replay, one lane per JMeter thread.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+
+        log.info("Setup Replay Sampler.");
+        context.getParameterNamesIterator().forEachRemaining(k -> parameters.put(k, context.getParameter(k)));
+
+        String className = context.getParameter(AWS_SAMPLER_CLASS, EMPTY);
+        try {
+            sampler = newSampler(className);
+            fieldParameters = FIELD_PARAMETERS.entrySet().stream()
+                    .filter(e -> className.contains(".aws." + e.getKey() + "."))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElseThrow(() -> new ClassNotFoundException("Not a SQS, SNS, Kinesis or EventBridge sampler"));
+            sampler.setupTest(new JavaSamplerContext(toArguments(parameters)));
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            log.error("Unable to create AWS Sampler " + className, e);
+            sampler = null;
+            return;
+        }
+
+        JMeterContext jmeterContext = context.getJMeterContext();
+        lane = jmeterContext.getThreadNum();
+        replay = TraceReplay.open(context.getParameter(REPLAY_FILE),
+                Double.parseDouble(context.getParameter(REPLAY_SPEED, "1")),
+                jmeterContext.getThreadGroup().getNumThreads(),
+                context.getIntParameter(REPLAY_BUFFER, 1000));
+    }
+
+    /**
+     * Main method to execute the test on single thread. Take the next event of the lane, wait until its scheduled
+     * time and send it with the producer sampler, added as sub-result. Stop the thread when the trace is over.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        if (sampler == null) {
+            sampleResultStart(result, "Sampler: " + context.getParameter(AWS_SAMPLER_CLASS));
+            sampleResultFail(result, FAIL_CODE, "AWS Sampler not created: " + context.getParameter(AWS_SAMPLER_CLASS));
+            return result;
+        }
+
+        TraceEvent event;
+        try {
+            event = replay.take(lane);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sampleResultStart(result, "Replay: " + context.getParameter(REPLAY_FILE));
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+            return result;
+        }
+
+        if (event == TraceEvent.END) {
+            sampleResultStart(result, "Replay: " + context.getParameter(REPLAY_FILE));
+            sampleResultSuccess(result, "Replay finished.");
+            context.getJMeterContext().getThread().stop();
+            return result;
+        }
+
+        long scheduled = replay.scheduledNanos(event);
+        for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+            LockSupport.parkNanos(wait);
+        }
+        long lag = System.nanoTime() - scheduled;
+        replay.recordLag(lag);
+
+        sampleResultStart(result, String.format("Replay: %s \nLine: %d \nLane: %d \nKey: %s",
+                context.getParameter(REPLAY_FILE),
+                event.getLine(),
+                lane,
+                event.getKey()));
+        SampleResult sent = sampler.runTest(new JavaSamplerContext(toArguments(eventParameters(event))));
+        String response = String.format("Lag ms: %.3f \nLine: %d", lag / 1e6, event.getLine());
+        if (sent.isSuccessful()) {
+            sampleResultSuccess(result, response);
+        } else {
+            sampleResultFail(result, sent.getResponseCode(), response);
+        }
+        result.addSubResult(sent);
+
+        return result;
+    }
+
+    /**
+     * Leave the trace replay and tear down the producer sampler.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close Replay Sampler.");
+        Optional.ofNullable(replay)
+                .ifPresent(TraceReplay::closeLane);
+        Optional.ofNullable(sampler)
+                .ifPresent(s -> s.teardownTest(context));
+        teardownSampler();
+    }
+
+    /**
+     * Parameters of the producer sampler for the event, trace fields override Java Request parameters.
+     * @param event
+     *        Trace event.
+     * @return Sampler parameters.
+     */
+    private Map<String, String> eventParameters(TraceEvent event) {
+        Map<String, String> eventParameters = new LinkedHashMap<>(parameters);
+        String[] values = {event.getTarget(), event.getBody(), event.getAttributes(), event.getKey()};
+        for (int i = 0; i < values.length; i++) {
+            if (fieldParameters[i] != null && values[i] != null) {
+                eventParameters.put(fieldParameters[i], values[i]);
+            }
+        }
+        eventParameters.putAll(event.getParameters());
+        return eventParameters;
+    }
+}
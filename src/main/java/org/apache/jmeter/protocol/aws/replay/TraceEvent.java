@@ -0,0 +1,137 @@
+package org.apache.jmeter.protocol.aws.replay;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Event of a recorded trace: when it was sent, where to, what and with which ordering key.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class TraceEvent {
+
+    /**
+     * Marker sent to every lane when the trace ends.
+     */
+    static final TraceEvent END = new TraceEvent(-1, 0, null, null, null, null, Collections.emptyMap());
+
+    /**
+     * Line number on the trace file.
+     */
+    private final long line;
+
+    /**
+     * Recorded send time, epoch milliseconds.
+     */
+    private final long timestamp;
+
+    /**
+     * Queue name, topic ARN, stream name or event bus name.
+     */
+    private final String target;
+
+    /**
+     * Message body, data record or event detail.
+     */
+    private final String body;
+
+    /**
+     * Message attributes in JSON format.
+     */
+    private final String attributes;
+
+    /**
+     * Ordering key, partition key or message group id.
+     */
+    private final String key;
+
+    /**
+     * Other sampler parameters recorded with the event.
+     */
+    private final Map<String, String> parameters;
+
+    /**
+     * Create trace event.
+     * @param line
+     *        Line number on the trace file.
+     * @param timestamp
+     *        Recorded send time, epoch milliseconds.
+     * @param target
+     *        Queue name, topic ARN, stream name or event bus name.
+     * @param body
+     *        Message body, data record or event detail.
+     * @param attributes
+     *        Message attributes in JSON format.
+     * @param key
+     *        Ordering key, partition key or message group id.
+     * @param parameters
+     *        Other sampler parameters recorded with the event.
+     */
+    public TraceEvent(long line, long timestamp, String target, String body, String attributes, String key,
+                      Map<String, String> parameters) {
+        this.line = line;
+        this.timestamp = timestamp;
+        this.target = target;
+        this.body = body;
+        this.attributes = attributes;
+        this.key = key;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Get line number on the trace file.
+     * @return line number.
+     */
+    public long getLine() {
+        return line;
+    }
+
+    /**
+     * Get recorded send time, epoch milliseconds.
+     * @return timestamp.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Get queue name, topic ARN, stream name or event bus name.
+     * @return target.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Get message body, data record or event detail.
+     * @return body.
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Get message attributes in JSON format.
+     * @return attributes.
+     */
+    public String getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Get ordering key.
+     * @return key.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Get other sampler parameters recorded with the event.
+     * @return parameters.
+     */
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+}
@@ -0,0 +1,326 @@
+package org.apache.jmeter.protocol.aws.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replay of a recorded trace shared by the JMeter threads of a Thread Group. A single reader thread streams the
+ * trace file line by line and dispatches every event to a lane by its ordering key, so events of the same key are
+ * sent in order by the same JMeter thread. Lane queues are bounded, the trace is never loaded in memory.
+ * <p>
+ * Trace lines are JSON objects: <code>timestamp</code> (epoch milliseconds or ISO-8601), <code>target</code>,
+ * <code>body</code>, <code>attributes</code>, <code>key</code> and <code>parameters</code> with other sampler
+ * parameters. Events must be sorted by timestamp.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class TraceReplay {
+
+    /**
+     * Log attribute.
+     */
+    private static final Logger log = LoggerFactory.getLogger(TraceReplay.class);
+
+    /**
+     * Replays running, by trace file.
+     */
+    private static final Map<String, TraceReplay> REPLAYS = new ConcurrentHashMap<>();
+
+    /**
+     * JSON reader.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Trace fields mapped to event attributes, other fields are ignored.
+     */
+    private static final Set<String> FIELDS = Set.of("timestamp", "target", "body", "attributes", "key", "parameters");
+
+    /**
+     * Trace file.
+     */
+    private final String path;
+
+    /**
+     * Replay speed, 2 replays twice as fast as recorded, 0 sends as fast as possible.
+     */
+    private final double speed;
+
+    /**
+     * Events waiting to be sent, by lane.
+     */
+    private final BlockingQueue<TraceEvent>[] lanes;
+
+    /**
+     * Lanes not closed yet.
+     */
+    private final AtomicInteger openLanes;
+
+    /**
+     * Events read.
+     */
+    private final LongAdder events = new LongAdder();
+
+    /**
+     * Lines skipped because they aren't valid events.
+     */
+    private final LongAdder skipped = new LongAdder();
+
+    /**
+     * Max delay between scheduled and actual send, nanoseconds.
+     */
+    private final LongAccumulator maxLag = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Replay start, nano time, first event is scheduled at this time.
+     */
+    private volatile long originNanos;
+
+    /**
+     * Timestamp of the first event, epoch milliseconds.
+     */
+    private volatile long firstTimestamp = -1;
+
+    /**
+     * Thread that streams the trace file.
+     */
+    private Thread reader;
+
+    /**
+     * Create replay.
+     * @param path
+     *        Trace file.
+     * @param speed
+     *        Replay speed, 1 keeps the recorded inter-arrival times.
+     * @param lanes
+     *        Number of lanes, one per JMeter thread.
+     * @param capacity
+     *        Events buffered per lane.
+     */
+    @SuppressWarnings("unchecked")
+    private TraceReplay(String path, double speed, int lanes, int capacity) {
+        this.path = path;
+        this.speed = speed;
+        this.lanes = new BlockingQueue[Math.max(1, lanes)];
+        for (int i = 0; i < this.lanes.length; i++) {
+            this.lanes[i] = new ArrayBlockingQueue<>(capacity);
+        }
+        this.openLanes = new AtomicInteger(this.lanes.length);
+    }
+
+    /**
+     * Get the replay of the trace file, starting it on first call.
+     * @param path
+     *        Trace file.
+     * @param speed
+     *        Replay speed, 1 keeps the recorded inter-arrival times.
+     * @param lanes
+     *        Number of lanes, one per JMeter thread.
+     * @param capacity
+     *        Events buffered per lane.
+     * @return Replay shared by the lanes.
+     */
+    public static synchronized TraceReplay open(String path, double speed, int lanes, int capacity) {
+        return REPLAYS.computeIfAbsent(path, k -> {
+            TraceReplay replay = new TraceReplay(path, speed, lanes, capacity);
+            replay.start();
+            return replay;
+        });
+    }
+
+    /**
+     * Start reader thread.
+     */
+    private void start() {
+        originNanos = System.nanoTime();
+        reader = new Thread(this::read, "awsmeter-replay-" + Paths.get(path).getFileName());
+        reader.setDaemon(true);
+        reader.start();
+        log.info("Replay {} started with {} lanes at speed {}.", path, lanes.length, speed);
+    }
+
+    /**
+     * Stream the trace file and dispatch events to lanes, then send end marker to every lane.
+     */
+    private void read() {
+        try (BufferedReader lines = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+            long number = 0;
+            String line;
+            while ((line = lines.readLine()) != null && !Thread.currentThread().isInterrupted()) {
+                number++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    TraceEvent event = parse(number, line);
+                    lanes[laneOf(event.getKey())].put(event);
+                    events.increment();
+                } catch (IOException | RuntimeException e) {
+                    skipped.increment();
+                    log.warn("Skip line {} of trace {}: {}", number, path, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.error("Unable to read trace " + path, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (BlockingQueue<TraceEvent> lane : lanes) {
+                end(lane);
+            }
+            log.info("Replay {} read: {} events, {} lines skipped.", path, events.sum(), skipped.sum());
+        }
+    }
+
+    /**
+     * Send end marker to a lane, waiting for room on full lanes so its thread always ends. When the replay was
+     * interrupted, all lanes are closed and the marker is only sent if there is room.
+     * @param lane
+     *        Lane of events.
+     */
+    private static void end(BlockingQueue<TraceEvent> lane) {
+        if (Thread.currentThread().isInterrupted()) {
+            lane.offer(TraceEvent.END);
+            return;
+        }
+        try {
+            lane.put(TraceEvent.END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lane.offer(TraceEvent.END);
+        }
+    }
+
+    /**
+     * Parse trace line.
+     * @param number
+     *        Line number.
+     * @param line
+     *        JSON object.
+     * @return Trace event.
+     * @throws IOException
+     *         Exception when the line is not valid JSON.
+     */
+    private TraceEvent parse(long number, String line) throws IOException {
+        JsonNode json = MAPPER.readTree(line);
+        JsonNode timestamp = json.path("timestamp");
+        long millis = timestamp.isNumber() ? timestamp.asLong() : Instant.parse(timestamp.asText()).toEpochMilli();
+        if (firstTimestamp < 0) {
+            firstTimestamp = millis;
+        }
+        Map<String, String> parameters = new HashMap<>();
+        json.path("parameters").fields().forEachRemaining(e -> parameters.put(e.getKey(), text(e.getValue())));
+        for (Iterator<String> names = json.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!FIELDS.contains(name)) {
+                parameters.put(name, text(json.get(name)));
+            }
+        }
+        return new TraceEvent(number, millis,
+                text(json.get("target")),
+                text(json.get("body")),
+                text(json.get("attributes")),
+                text(json.get("key")),
+                parameters);
+    }
+
+    /**
+     * Text of a JSON value, JSON objects and arrays are kept as JSON.
+     * @param value
+     *        JSON value.
+     * @return Text, null when missing.
+     */
+    private static String text(JsonNode value) {
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return value.isValueNode() ? value.asText() : value.toString();
+    }
+
+    /**
+     * Lane of the ordering key, events without key are spread by line.
+     * @param key
+     *        Ordering key.
+     * @return Lane index.
+     */
+    private int laneOf(String key) {
+        int hash = key == null ? (int) events.sum() : key.hashCode();
+        return Math.floorMod(hash, lanes.length);
+    }
+
+    /**
+     * Take next event of the lane.
+     * @param lane
+     *        Lane index.
+     * @return Next event, {@link TraceEvent#END} when the trace is over.
+     * @throws InterruptedException
+     *         Exception when JMeter thread is stopped.
+     */
+    public TraceEvent take(int lane) throws InterruptedException {
+        return lanes[Math.floorMod(lane, lanes.length)].take();
+    }
+
+    /**
+     * Scheduled send time of the event, recorded offset from first event divided by speed.
+     * @param event
+     *        Trace event.
+     * @return Scheduled send, nano time.
+     */
+    public long scheduledNanos(TraceEvent event) {
+        if (speed <= 0) {
+            return originNanos;
+        }
+        return originNanos + (long) (TimeUnit.MILLISECONDS.toNanos(event.getTimestamp() - firstTimestamp) / speed);
+    }
+
+    /**
+     * Track delay between scheduled and actual send.
+     * @param lagNanos
+     *        Delay, nanoseconds.
+     */
+    public void recordLag(long lagNanos) {
+        maxLag.accumulate(lagNanos);
+    }
+
+    /**
+     * Number of lanes.
+     * @return lanes.
+     */
+    public int getLanes() {
+        return lanes.length;
+    }
+
+    /**
+     * Close a lane, the replay is stopped and removed when all lanes are closed.
+     */
+    public void closeLane() {
+        if (openLanes.decrementAndGet() > 0) {
+            return;
+        }
+        REPLAYS.remove(path, this);
+        reader.interrupt();
+        log.info("Replay {} finished: {} events, {} lines skipped, max lag {} ms.", path, events.sum(),
+                skipped.sum(), TimeUnit.NANOSECONDS.toMillis(maxLag.get()));
+    }
+}
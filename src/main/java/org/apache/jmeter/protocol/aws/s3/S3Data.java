@@ -0,0 +1,215 @@
+package org.apache.jmeter.protocol.aws.s3;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Object bodies of the S3 samplers, streamed from and to off-heap buffers instead of heap byte arrays: uploads read
+ * generated data, a block of random bytes repeated up to the object size, or a region of a memory-mapped file, and
+ * downloads are written on a region of a memory-mapped file or discarded through a small per-thread buffer. So the
+ * heap used by a sample doesn't grow with the object size.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+final class S3Data {
+
+    /**
+     * Content type of the bodies.
+     */
+    private static final String OCTET_STREAM = "application/octet-stream";
+
+    /**
+     * Bytes of the generated block, 1 MiB.
+     */
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    /**
+     * Bytes of the buffer of discarded downloads, 64 KiB.
+     */
+    private static final int DISCARD_SIZE = 64 * 1024;
+
+    /**
+     * Block of random bytes repeated by generated bodies, off heap and shared by all samplers.
+     */
+    private static final ByteBuffer BLOCK = createBlock();
+
+    /**
+     * Buffer of discarded downloads, per transfer thread.
+     */
+    private static final ThreadLocal<ByteBuffer> DISCARD = ThreadLocal.withInitial(() ->
+            ByteBuffer.allocateDirect(DISCARD_SIZE));
+
+    /**
+     * Utility class.
+     */
+    private S3Data() {
+    }
+
+    /**
+     * Create the block of random bytes.
+     * @return Read only direct buffer.
+     */
+    private static ByteBuffer createBlock() {
+        byte[] random = new byte[BLOCK_SIZE];
+        ThreadLocalRandom.current().nextBytes(random);
+        return ByteBuffer.allocateDirect(BLOCK_SIZE)
+                .put(random)
+                .flip()
+                .asReadOnlyBuffer();
+    }
+
+    /**
+     * Request body of generated data. The SDK opens a new stream on every attempt.
+     * @param length
+     *        Bytes of the body.
+     * @return Request body streaming the generated block.
+     */
+    static RequestBody generated(long length) {
+        return RequestBody.fromContentProvider(() -> new BufferInputStream(BLOCK, length), length, OCTET_STREAM);
+    }
+
+    /**
+     * Request body of a region of a file, memory-mapped.
+     * @param file
+     *        Channel of the file.
+     * @param offset
+     *        First byte of the region.
+     * @param length
+     *        Bytes of the region.
+     * @return Request body streaming the mapped region.
+     * @throws IOException
+     *         Exception when the file can't be mapped.
+     */
+    static RequestBody mapped(FileChannel file, long offset, long length) throws IOException {
+        MappedByteBuffer region = file.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        return RequestBody.fromContentProvider(() -> new BufferInputStream(region, length), length, OCTET_STREAM);
+    }
+
+    /**
+     * Write a body on a region of a file, memory-mapped.
+     * @param body
+     *        Response body.
+     * @param file
+     *        Channel of the file, opened to read and write.
+     * @param offset
+     *        First byte of the region.
+     * @param length
+     *        Bytes of the region.
+     * @return Bytes written.
+     * @throws IOException
+     *         Exception when the body can't be read or the file can't be mapped.
+     */
+    static long write(InputStream body, FileChannel file, long offset, long length) throws IOException {
+        MappedByteBuffer region = file.map(FileChannel.MapMode.READ_WRITE, offset, length);
+        ReadableByteChannel channel = Channels.newChannel(body);
+        long written = 0;
+        while (region.hasRemaining()) {
+            int read = channel.read(region);
+            if (read < 0) {
+                break;
+            }
+            written += read;
+        }
+        return written;
+    }
+
+    /**
+     * Read a body and discard it.
+     * @param body
+     *        Response body.
+     * @return Bytes read.
+     * @throws IOException
+     *         Exception when the body can't be read.
+     */
+    static long discard(InputStream body) throws IOException {
+        ReadableByteChannel channel = Channels.newChannel(body);
+        ByteBuffer buffer = DISCARD.get();
+        long read = 0;
+        for (int n = channel.read(buffer.clear()); n >= 0; n = channel.read(buffer.clear())) {
+            read += n;
+        }
+        return read;
+    }
+
+    /**
+     * Input stream of a buffer, repeating its content up to the length.
+     */
+    private static final class BufferInputStream extends InputStream {
+
+        /**
+         * Content to repeat.
+         */
+        private final ByteBuffer source;
+
+        /**
+         * View of the content being read.
+         */
+        private ByteBuffer view;
+
+        /**
+         * Bytes left to read.
+         */
+        private long remaining;
+
+        /**
+         * Create the input stream.
+         * @param source
+         *        Content to repeat, from its position to its limit.
+         * @param length
+         *        Bytes to read.
+         */
+        private BufferInputStream(ByteBuffer source, long length) {
+            this.source = source;
+            this.view = source.duplicate();
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            rewind();
+            remaining--;
+            return view.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return -1;
+            }
+            rewind();
+            int read = (int) Math.min(Math.min(length, remaining), view.remaining());
+            view.get(bytes, offset, read);
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, remaining);
+        }
+
+        /**
+         * Start the content again once read to the end.
+         */
+        private void rewind() {
+            if (!view.hasRemaining()) {
+                view = source.duplicate();
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.apache.jmeter.protocol.aws.s3;
+
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * S3 Sampler class to download objects with parallel byte-range GetObject requests. The first range gives the object
+ * size, and the rest of ranges are fetched in parallel. The body is written on <code>s3_download_file</code>
+ * memory-mapped, or discarded when it's empty, never copied to the heap.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class S3GetObject extends S3Sampler {
+
+    /**
+     * Optional file where the object is written.
+     */
+    private static final String S3_DOWNLOAD_FILE = "s3_download_file";
+
+    /**
+     * List of Arguments to GetObject sampler.
+     */
+    private static final List<Argument> S3_PARAMETERS = Stream.of(
+            new Argument(S3_BUCKET, EMPTY),
+            new Argument(S3_KEY, EMPTY),
+            new Argument(S3_PART_SIZE, S3_DEFAULT_PART_SIZE),
+            new Argument(S3_PARALLELISM, S3_DEFAULT_PARALLELISM),
+            new Argument(S3_DOWNLOAD_FILE, EMPTY))
+            .collect(Collectors.toList());
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and S3 parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, S3_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Main method to execute the test on single thread. Download the object and report the throughput of the
+     * download and the latency of its ranges.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        String bucket = context.getParameter(S3_BUCKET);
+        String key = context.getParameter(S3_KEY);
+        int partSize = Math.max(1, context.getIntParameter(S3_PART_SIZE, Integer.parseInt(S3_DEFAULT_PART_SIZE)));
+        int parallelism = context.getIntParameter(S3_PARALLELISM, Integer.parseInt(S3_DEFAULT_PARALLELISM));
+        String download = context.getParameter(S3_DOWNLOAD_FILE, EMPTY);
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Bucket: %s \nKey: %s \nPart Size: %d \nParallelism: %d \nFile: %s",
+                bucket, key, partSize, parallelism, download));
+
+        List<SampleResult> parts = new ArrayList<>();
+        FileChannel file = null;
+        try {
+            log.info("Downloading Object.");
+            if (!download.isEmpty()) {
+                file = FileChannel.open(Path.of(download), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            }
+            FileChannel target = file;
+            GetObjectResponse[] object = new GetObjectResponse[1];
+            parts.add(timePart(0, 0, partSize, () -> {
+                ResponseInputStream<GetObjectResponse> body = getRange(bucket, key, 0, partSize);
+                object[0] = body.response();
+                long total = objectSize(body.response());
+                allocate(target, total);
+                return readRange(body, target, 0, Math.min(partSize, total));
+            }));
+            long size = objectSize(object[0]);
+            long count = (size + partSize - 1) / partSize;
+            if (count > 1) {
+                parts.addAll(transferParts((int) count - 1, parallelism, index -> {
+                    long offset = (long) (index + 1) * partSize;
+                    long length = Math.min(partSize, size - offset);
+                    return timePart(index + 1, offset, length, () ->
+                            readRange(getRange(bucket, key, offset, length), target, offset, length));
+                }));
+            }
+            parts.forEach(part -> part.setBytes(Long.parseLong(part.getResponseDataAsString())));
+            long bytes = parts.stream()
+                    .mapToLong(SampleResult::getBytesAsLong)
+                    .sum();
+            if (parts.size() == 1) {
+                result.setBytes(bytes);
+                parts.clear();
+            }
+            sampleResultSuccess(result, String.format("ETag: %s \nObject size: %d \n%s", object[0].eTag(), size,
+                    formatTransfer(bytes, System.currentTimeMillis() - result.getStartTime(), parts)));
+        } catch (S3Exception e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (SdkException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        } catch (IOException | UncheckedIOException e) {
+            sampleResultFail(result, FAIL_CODE, "Can't read object: " + e.getMessage());
+        } finally {
+            close(file);
+        }
+        parts.forEach(result::addSubResult);
+
+        return result;
+    }
+
+    /**
+     * Send GetObject of a byte range.
+     * @param bucket
+     *        Bucket name.
+     * @param key
+     *        Object key.
+     * @param offset
+     *        First byte of the range.
+     * @param length
+     *        Bytes of the range.
+     * @return Response with the body not read yet.
+     */
+    private ResponseInputStream<GetObjectResponse> getRange(String bucket, String key, long offset, long length) {
+        return s3Client.getObject(r -> r
+                .bucket(bucket)
+                .key(key)
+                .range(String.format("bytes=%d-%d", offset, offset + length - 1)));
+    }
+
+    /**
+     * Object size of the first range, from <code>Content-Range: bytes 0-n/size</code>, or the content length when
+     * the whole object was returned.
+     * @param response
+     *        GetObject response of the first range.
+     * @return Object size.
+     */
+    private static long objectSize(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange == null || contentRange.indexOf('/') < 0) {
+            return response.contentLength();
+        }
+        return Long.parseLong(contentRange.substring(contentRange.indexOf('/') + 1).trim());
+    }
+
+    /**
+     * Size the download file to the object before its ranges are mapped in parallel.
+     * @param file
+     *        Channel of the download file, null when the body is discarded.
+     * @param size
+     *        Object size.
+     * @throws UncheckedIOException
+     *         Exception when the file can't be written.
+     */
+    private static void allocate(FileChannel file, long size) {
+        if (file == null || size == 0) {
+            return;
+        }
+        try {
+            file.write(ByteBuffer.allocate(1), size - 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read the body of a range, written on the file or discarded.
+     * @param body
+     *        Response body.
+     * @param file
+     *        Channel of the download file, null to discard the body.
+     * @param offset
+     *        First byte of the range.
+     * @param length
+     *        Bytes of the range.
+     * @return Bytes read, as text of the sub-result response.
+     * @throws UncheckedIOException
+     *         Exception when the body can't be read or written.
+     */
+    private static String readRange(ResponseInputStream<GetObjectResponse> body, FileChannel file, long offset,
+                                    long length) {
+        try (body) {
+            return String.valueOf(file == null ? S3Data.discard(body) : S3Data.write(body, file, offset, length));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Close the download file.
+     * @param file
+     *        Channel of the download file, may be null.
+     */
+    private static void close(FileChannel file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            log.warn("Can't close download file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.apache.jmeter.protocol.aws.s3;
+
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * S3 Sampler class to upload objects. Objects up to the part size are uploaded with PutObject, bigger ones with
+ * multipart upload of parallel parts, aborted when a part fails. The body is generated data of
+ * <code>s3_object_size</code> bytes, or the content of <code>s3_source_file</code> memory-mapped, never copied to the
+ * heap.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class S3PutObject extends S3Sampler {
+
+    /**
+     * Bytes of generated objects.
+     */
+    private static final String S3_OBJECT_SIZE = "s3_object_size";
+
+    /**
+     * Optional file uploaded instead of generated data.
+     */
+    private static final String S3_SOURCE_FILE = "s3_source_file";
+
+    /**
+     * Min part size of S3 multipart upload.
+     */
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    /**
+     * Max parts of S3 multipart upload.
+     */
+    private static final int MAX_PARTS = 10_000;
+
+    /**
+     * List of Arguments to PutObject sampler.
+     */
+    private static final List<Argument> S3_PARAMETERS = Stream.of(
+            new Argument(S3_BUCKET, EMPTY),
+            new Argument(S3_KEY, EMPTY),
+            new Argument(S3_OBJECT_SIZE, "1048576"),
+            new Argument(S3_SOURCE_FILE, EMPTY),
+            new Argument(S3_PART_SIZE, S3_DEFAULT_PART_SIZE),
+            new Argument(S3_PARALLELISM, S3_DEFAULT_PARALLELISM))
+            .collect(Collectors.toList());
+
+    /**
+     * Channel of the source file, null when uploading generated data.
+     */
+    private FileChannel sourceFile;
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and S3 parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, S3_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Read test parameters, initialize AWS S3 client and open the source file.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+        super.setupTest(context);
+        String source = context.getParameter(S3_SOURCE_FILE, EMPTY);
+        if (source.isEmpty()) {
+            return;
+        }
+        try {
+            sourceFile = FileChannel.open(Path.of(source), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't open source file " + source, e);
+        }
+    }
+
+    /**
+     * Main method to execute the test on single thread. Upload the object and report the throughput of the upload
+     * and the latency of its parts.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        String bucket = context.getParameter(S3_BUCKET);
+        String key = context.getParameter(S3_KEY);
+        int partSize = Math.max(MIN_PART_SIZE, context.getIntParameter(S3_PART_SIZE,
+                Integer.parseInt(S3_DEFAULT_PART_SIZE)));
+        int parallelism = context.getIntParameter(S3_PARALLELISM, Integer.parseInt(S3_DEFAULT_PARALLELISM));
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Bucket: %s \nKey: %s \nSource: %s \nPart Size: %d \nParallelism: %d",
+                bucket,
+                key,
+                sourceFile == null ? context.getParameter(S3_OBJECT_SIZE) + " bytes generated"
+                        : context.getParameter(S3_SOURCE_FILE),
+                partSize,
+                parallelism));
+
+        List<SampleResult> parts = List.of();
+        try {
+            log.info("Uploading Object.");
+            long size = sourceFile == null ? context.getLongParameter(S3_OBJECT_SIZE, 0) : sourceFile.size();
+            String eTag;
+            if (size <= partSize) {
+                eTag = s3Client.putObject(r -> r.bucket(bucket).key(key), body(0, size)).eTag();
+            } else {
+                long count = (size + partSize - 1) / partSize;
+                if (count > MAX_PARTS) {
+                    throw new IllegalArgumentException("Object of " + size + " bytes needs " + count +
+                            " parts, max " + MAX_PARTS + ". Increase " + S3_PART_SIZE + ".");
+                }
+                String uploadId = s3Client.createMultipartUpload(r -> r.bucket(bucket).key(key)).uploadId();
+                try {
+                    List<SampleResult> uploaded = transferParts((int) count, parallelism, part ->
+                            uploadPart(bucket, key, uploadId, part, partSize, size));
+                    parts = uploaded;
+                    List<CompletedPart> completed = IntStream.range(0, uploaded.size())
+                            .mapToObj(part -> CompletedPart.builder()
+                                    .partNumber(part + 1)
+                                    .eTag(uploaded.get(part).getResponseDataAsString())
+                                    .build())
+                            .collect(Collectors.toList());
+                    eTag = s3Client.completeMultipartUpload(r -> r
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(upload -> upload.parts(completed)))
+                            .eTag();
+                } catch (RuntimeException e) {
+                    s3Client.abortMultipartUpload(r -> r.bucket(bucket).key(key).uploadId(uploadId));
+                    throw e;
+                }
+            }
+            result.setSentBytes(parts.isEmpty() ? size : 0);
+            sampleResultSuccess(result, String.format("ETag: %s \n%s", eTag,
+                    formatTransfer(size, System.currentTimeMillis() - result.getStartTime(), parts)));
+        } catch (S3Exception e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        } catch (SdkException | IllegalArgumentException e) {
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        } catch (IOException | UncheckedIOException e) {
+            sampleResultFail(result, FAIL_CODE, "Can't read source file: " + e.getMessage());
+        }
+        parts.forEach(result::addSubResult);
+
+        return result;
+    }
+
+    /**
+     * Upload a part, timed as a sub-result.
+     * @param bucket
+     *        Bucket name.
+     * @param key
+     *        Object key.
+     * @param uploadId
+     *        Multipart upload id.
+     * @param part
+     *        Part index, from 0.
+     * @param partSize
+     *        Part size.
+     * @param size
+     *        Object size.
+     * @return SampleResult of the part, its response data is the ETag of the part.
+     */
+    private SampleResult uploadPart(String bucket, String key, String uploadId, int part, int partSize, long size) {
+        long offset = (long) part * partSize;
+        long length = Math.min(partSize, size - offset);
+        SampleResult result = timePart(part, offset, length, () -> s3Client.uploadPart(r -> r
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(part + 1)
+                        .contentLength(length), body(offset, length))
+                .eTag());
+        result.setSentBytes(length);
+        return result;
+    }
+
+    /**
+     * Request body of a region of the object, from the source file or generated.
+     * @param offset
+     *        First byte of the region.
+     * @param length
+     *        Bytes of the region.
+     * @return Request body.
+     * @throws UncheckedIOException
+     *         Exception when the source file can't be mapped.
+     */
+    private RequestBody body(long offset, long length) {
+        if (sourceFile == null) {
+            return S3Data.generated(length);
+        }
+        try {
+            return S3Data.mapped(sourceFile, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Close the source file and AWS S3 Client after run single thread.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        super.teardownTest(context);
+        try {
+            if (sourceFile != null) {
+                sourceFile.close();
+            }
+        } catch (IOException e) {
+            log.warn("Can't close source file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.apache.jmeter.protocol.aws.s3;
+
+import org.apache.jmeter.protocol.aws.AWSClientSDK2;
+import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * S3 Sampler class to transfer objects to and from S3 buckets. Objects bigger than the part size are transferred in
+ * parts by up to <code>s3_parallelism</code> parallel requests, each part timed as a sub-result of the sample, and the
+ * sample reports the throughput of the whole transfer. A local S3 stand-in is reached with
+ * <code>s3_endpoint_custom</code> or <code>aws_endpoint_custom</code>, using path style access.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public abstract class S3Sampler extends AWSSampler implements AWSClientSDK2 {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(S3Sampler.class);
+
+    /**
+     * S3 bucket name.
+     */
+    protected static final String S3_BUCKET = "s3_bucket";
+
+    /**
+     * S3 object key.
+     */
+    protected static final String S3_KEY = "s3_key";
+
+    /**
+     * Part size of the transfer, bytes.
+     */
+    protected static final String S3_PART_SIZE = "s3_part_size";
+
+    /**
+     * Parts transferred in parallel by a sample.
+     */
+    protected static final String S3_PARALLELISM = "s3_parallelism";
+
+    /**
+     * Default part size, 8 MiB.
+     */
+    protected static final String S3_DEFAULT_PART_SIZE = "8388608";
+
+    /**
+     * Default parts transferred in parallel.
+     */
+    protected static final String S3_DEFAULT_PARALLELISM = "4";
+
+    /**
+     * Bytes of a megabyte, to report throughput in MB/s.
+     */
+    private static final double MEGABYTE = 1_000_000d;
+
+    /**
+     * Threads transferring parts, shared by all samplers.
+     */
+    private static final ExecutorService TRANSFERS = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "awsmeter-s3-transfer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * AWS S3 Client.
+     */
+    protected S3Client s3Client;
+
+    /**
+     * Create AWS S3 Client, endpoint of <code>s3_endpoint_custom</code> or <code>aws_endpoint_custom</code>
+     * parameter with path style access, so a local S3 stand-in can be used.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return S3Client extends SdkClient super class.
+     */
+    @Override
+    public SdkClient createSdkClient(Map<String, String> credentials) {
+
+        String region = getAWSRegion(credentials);
+        String endpoint = Optional.ofNullable(credentials.get(S3_ENDPOINT_CUSTOM))
+                .filter(Predicate.not(String::isEmpty))
+                .orElseGet(() -> getAWSEndpoint(credentials, S3Client.SERVICE_NAME, region));
+        return S3Client.builder()
+                .endpointOverride(URI.create(endpoint))
+                .forcePathStyle(isParameterPresent(credentials, S3_ENDPOINT_CUSTOM) ||
+                        isParameterPresent(credentials, AWS_ENDPOINT_CUSTOM))
+                .region(Region.of(region))
+                .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
+                .build();
+    }
+
+    /**
+     * Read test parameters and initialize AWS S3 client.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+
+        log.info("Setup S3 Sampler.");
+        Map<String, String> credentials = new HashMap<>();
+
+        context.getParameterNamesIterator().forEachRemaining( k -> {
+            credentials.put(k, context.getParameter(k));
+            log.info("Parameter: " + k + ", value: " + credentials.get(k));
+        });
+
+        log.info("Create S3 Client.");
+        s3Client = (S3Client) createSdkClient(credentials);
+    }
+
+    /**
+     * Close AWS S3 Client after run single thread.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close S3 Client.");
+        Optional.ofNullable(s3Client)
+                .ifPresent(client -> client.close());
+        teardownSampler();
+    }
+
+    /**
+     * Transfer the parts with up to <code>parallelism</code> parallel requests. Every worker takes the next part not
+     * transferred yet, and the workers stop taking parts once one of them fails.
+     * @param parts
+     *        Number of parts.
+     * @param parallelism
+     *        Parts transferred in parallel.
+     * @param transfer
+     *        Transfer of the part of the index, from 0, returning its sub-result.
+     * @return Sub-results of the parts, in part order.
+     * @throws RuntimeException
+     *         Exception of the first part failed.
+     */
+    protected static List<SampleResult> transferParts(int parts, int parallelism, IntFunction<SampleResult> transfer) {
+        SampleResult[] results = new SampleResult[parts];
+        AtomicInteger next = new AtomicInteger();
+        CompletableFuture<?>[] workers = IntStream.range(0, Math.max(1, Math.min(parallelism, parts)))
+                .mapToObj(worker -> CompletableFuture.runAsync(() -> {
+                    for (int part = next.getAndIncrement(); part < parts; part = next.getAndIncrement()) {
+                        try {
+                            results[part] = transfer.apply(part);
+                        } catch (RuntimeException e) {
+                            next.set(parts);
+                            throw e;
+                        }
+                    }
+                }, TRANSFERS))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Time the transfer of a part as a sub-result.
+     * @param part
+     *        Part index, from 0.
+     * @param offset
+     *        First byte of the part in the object.
+     * @param length
+     *        Bytes of the part.
+     * @param transfer
+     *        Transfer of the part, returning the response to show.
+     * @return SampleResult of the part, successful.
+     */
+    protected static SampleResult timePart(int part, long offset, long length, Supplier<String> transfer) {
+        SampleResult result = new SampleResult();
+        result.setSampleLabel("Part " + (part + 1));
+        result.setDataEncoding(ENCODING);
+        result.setDataType(SampleResult.TEXT);
+        result.setSamplerData(String.format("Range: bytes=%d-%d", offset, offset + length - 1));
+        result.sampleStart();
+        String response = transfer.get();
+        result.sampleEnd();
+        result.setSuccessful(true);
+        result.setResponseCodeOK();
+        result.setResponseData(response, ENCODING);
+        return result;
+    }
+
+    /**
+     * Format throughput of the transfer and latency of its parts.
+     * @param bytes
+     *        Bytes transferred.
+     * @param elapsedMs
+     *        Elapsed time of the transfer, milliseconds.
+     * @param parts
+     *        Sub-results of the parts, empty when transferred with a single request.
+     * @return Transfer summary.
+     */
+    protected static String formatTransfer(long bytes, long elapsedMs, List<SampleResult> parts) {
+        String summary = String.format("Bytes: %d \nParts: %d \nThroughput: %.2f MB/s",
+                bytes, Math.max(1, parts.size()), bytes / MEGABYTE / (Math.max(1, elapsedMs) / 1000d));
+        if (parts.isEmpty()) {
+            return summary;
+        }
+        LongSummaryStatistics latency = parts.stream()
+                .mapToLong(SampleResult::getTime)
+                .summaryStatistics();
+        return summary + String.format(" \nPart latency min/avg/max: %d/%.1f/%d ms",
+                latency.getMin(), latency.getAverage(), latency.getMax());
+    }
+}
@@ -1,15 +1,24 @@
 package org.apache.jmeter.protocol.aws.sns;
 
 import com.amazonaws.services.sns.model.AmazonSNSException;
+import com.amazonaws.services.sns.model.MessageAttributeValue;
 import com.amazonaws.services.sns.model.PublishRequest;
 import com.amazonaws.services.sns.model.PublishResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.jmeter.config.Argument;
 import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.DeduplicationStrategy;
+import org.apache.jmeter.protocol.aws.MessageGroupStrategy;
+import org.apache.jmeter.protocol.aws.OrderStamp;
+import org.apache.jmeter.protocol.aws.RequestTemplate;
+import org.apache.jmeter.protocol.aws.SequenceTracker;
 import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
 import org.apache.jmeter.samplers.SampleResult;
+import software.amazon.awssdk.core.exception.SdkException;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -21,6 +30,26 @@ import java.util.stream.Stream;
  */
 public class SNSProducerFifoTopic extends SNSProducerSampler{
 
+    /**
+     * Message group id strategy: fixed, thread, round_robin or hash.
+     */
+    private static final String SNS_MSG_GROUP_STRATEGY = "sns_msg_group_strategy";
+
+    /**
+     * Number of message groups of round_robin and hash strategies.
+     */
+    private static final String SNS_MSG_GROUP_COUNT = "sns_msg_group_count";
+
+    /**
+     * Field of the JSON body hashed by hash strategy, empty hashes the whole body.
+     */
+    private static final String SNS_MSG_GROUP_FIELD = "sns_msg_group_field";
+
+    /**
+     * Message deduplication id strategy: fixed, content, uuid or counter.
+     */
+    private static final String SNS_MSG_DEDUPLICATION_STRATEGY = "sns_msg_deduplication_strategy";
+
     /**
      * List of Arguments to SNS FIFO Topic.
      */
@@ -29,10 +58,34 @@ public class SNSProducerFifoTopic extends SNSProducerSampler{
             new Argument(SNS_MSG_BODY, EMPTY),
             new Argument(SNS_MSG_ATTRIBUTES, EMPTY),
             new Argument(SNS_MSG_GROUP_ID, EMPTY),
-            new Argument(SNS_MSG_DEDUPLICATION_ID, EMPTY)
+            new Argument(SNS_MSG_DEDUPLICATION_ID, EMPTY),
+            new Argument(SNS_MSG_GROUP_STRATEGY, MessageGroupStrategy.FIXED),
+            new Argument(SNS_MSG_GROUP_COUNT, "10"),
+            new Argument(SNS_MSG_GROUP_FIELD, EMPTY),
+            new Argument(SNS_MSG_DEDUPLICATION_STRATEGY, DeduplicationStrategy.FIXED)
 
     ).collect(Collectors.toList());
 
+    /**
+     * Message group id strategy.
+     */
+    private MessageGroupStrategy groupStrategy;
+
+    /**
+     * Message deduplication id strategy.
+     */
+    private DeduplicationStrategy deduplicationStrategy;
+
+    /**
+     * Sequence numbers by topic and message group, to count reordering of the messages published by this sampler.
+     */
+    private final SequenceTracker sequenceTracker = new SequenceTracker();
+
+    /**
+     * Per-group sequence stamp of the messages, null when <code>order_attribute</code> is empty.
+     */
+    private OrderStamp orderStamp;
+
     /**
      * Initial values for test parameter. They are show in Java Request test sampler.
      * AWS parameters and SNS parameters.
@@ -41,12 +94,35 @@ public class SNSProducerFifoTopic extends SNSProducerSampler{
     @Override
     public Arguments getDefaultParameters() {
         Arguments defaultParameters = new Arguments();
-        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, SNS_PARAMETERS)
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, SNS_PARAMETERS, MSG_PAYLOAD_PARAMETERS,
+                        COMPRESSION_PARAMETERS, OFFLOAD_PARAMETERS, TARGET_PARAMETERS,
+                        REGION_PARAMETERS, AGGREGATION_PARAMETERS,
+                        WARMUP_PARAMETERS, STAMP_PARAMETERS, ORDER_PARAMETERS)
                 .flatMap(List::stream)
                 .collect(Collectors.toList()));
         return defaultParameters;
     }
 
+    /**
+     * Read test parameters, initialize AWS SNS client and create message group and deduplication strategies.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+        super.setupTest(context);
+        try {
+            groupStrategy = MessageGroupStrategy.of(context.getParameter(SNS_MSG_GROUP_STRATEGY),
+                    context.getParameter(SNS_MSG_GROUP_ID, EMPTY),
+                    context.getIntParameter(SNS_MSG_GROUP_COUNT, 10),
+                    context.getJMeterContext().getThreadNum(),
+                    context.getParameter(SNS_MSG_GROUP_FIELD, EMPTY));
+            deduplicationStrategy = DeduplicationStrategy.of(context.getParameter(SNS_MSG_DEDUPLICATION_STRATEGY));
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create message group or deduplication strategy", e);
+        }
+        orderStamp = createOrderStamp(context);
+    }
+
     /**
      * Main method to execute the test on single thread. Create Message and publish it on SNS FIFO Topic.
      * @param context
@@ -57,49 +133,149 @@ public class SNSProducerFifoTopic extends SNSProducerSampler{
     @Override
     public SampleResult runTest(JavaSamplerContext context) {
 
+        context = selectTarget(multiTarget, context, SNS_TOPIC_ARN, SNS_MSG_GROUP_ID);
+        selectRegion(multiRegion);
         SampleResult result = new SampleResult();
-        sampleResultStart(result, String.format("Topic Arn: %s \nMsg Body: %s " +
-                        "\nMsg Attributes: %s \nMsg Group Id: %s \nMsg Deduplication Id: %s",
-                context.getParameter(SNS_TOPIC_ARN),
-                context.getParameter(SNS_MSG_BODY),
-                context.getParameter(SNS_MSG_ATTRIBUTES),
-                context.getParameter(SNS_MSG_GROUP_ID),
-                context.getParameter(SNS_MSG_DEDUPLICATION_ID)));
+        sampleResultStart(result, constantSamplerData != null ? constantSamplerData : formatSamplerData(context));
 
+        if (isMultiRegionMissing(multiRegion, context)) {
+            sampleResultFail(result, FAIL_CODE, "Regions not created: " + context.getParameter(AWS_REGIONS));
+            return result;
+        }
+        if (isMultiTargetMissing(multiTarget, context)) {
+            sampleResultFail(result, FAIL_CODE, "Targets not created: " + context.getParameter(TARGETS));
+            return result;
+        }
+        if (isPayloadCorpusMissing(payloadCorpus, context)) {
+            sampleResultFail(result, FAIL_CODE, "Payload corpus not mapped: " + context.getParameter(PAYLOAD_FILE));
+            return result;
+        }
+        if (payloadCompression == null) {
+            sampleResultFail(result, FAIL_CODE, "Payload compression not created: " +
+                    context.getParameter(COMPRESSION));
+            return result;
+        }
+        if (groupStrategy == null || deduplicationStrategy == null) {
+            sampleResultFail(result, FAIL_CODE, "Message group or deduplication strategy not created.");
+            return result;
+        }
+
+        PublishRequest request = null;
         try {
             log.info("Publishing Event.");
-            PublishResult response = snsClient.publish(createPublishRequest(context));
+            request = createPublishRequest(context);
+            PublishResult response = publish(request);
+            sequenceTracker.record(request.getTopicArn(), request.getMessageGroupId(), response.getSequenceNumber());
 
-            sampleResultSuccess(result, String.format("Message id: %s \nSequence number: %s",
+            String data = String.format("Message id: %s \nSequence number: %s \nMsg Group Id: %s " +
+                            "\nMsg Deduplication Id: %s \nGroups: %d \nOut of order: %d%s",
                     response.getMessageId(),
-                    response.getSequenceNumber()));
+                    response.getSequenceNumber(),
+                    request.getMessageGroupId(),
+                    request.getMessageDeduplicationId(),
+                    sequenceTracker.getGroups(),
+                    sequenceTracker.getOutOfOrder(),
+                    payloadCompression.getSummary());
+            sampleResultSuccess(result, data);
 
         } catch (AmazonSNSException e){
             sampleResultFail(result, e.getErrorCode(), e.getMessage());
+        } catch (SdkException exc) {
+            sampleResultFail(result, FAIL_CODE, exc.getMessage());
         } catch (JsonProcessingException exc) {
             sampleResultFail(result, FAIL_CODE, exc.getMessage());
+        } finally {
+            payloadCompression.release();
+            if (orderStamp != null && request != null) {
+                orderStamp.sent(getRegionalTopicArn(request), request.getMessageGroupId());
+            }
         }
 
         return result;
     }
 
     /**
-     * Create request to publish message on SNS FIFO Topic.
+     * Log message groups and sequence numbers out of order, and close AWS SNS client.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Message groups: " + sequenceTracker.getGroups() +
+                ", sequence numbers out of order: " + sequenceTracker.getOutOfOrder());
+        super.teardownTest(context);
+    }
+
+    /**
+     * Create request to publish message on SNS FIFO Topic, from the request template, with the sequence stamp of its
+     * topic and message group when <code>order_attribute</code> is set, in flight until the publish ends. The
+     * attributes are copied, the template keeps its own.
      * @param context
      *        Arguments values on Java Sampler.
-     * @return PublishRequest with message attributes like body, attributes, deduplication id, group id and more.
+     * @return PublishRequest with message elements like body, attributes, deduplication id, group id and more.
      * @throws JsonProcessingException
      *         Exception when deserialize JSON to Object.
      */
     @Override
     public PublishRequest createPublishRequest(final JavaSamplerContext context) throws JsonProcessingException {
+        PublishRequest request = super.createPublishRequest(context);
+        if (orderStamp == null) {
+            return request;
+        }
+        Map<String, MessageAttributeValue> msgAttributes = new HashMap<>(request.getMessageAttributes());
+        msgAttributes.put(orderStamp.getAttribute(), new MessageAttributeValue()
+                .withDataType(MSG_ATTRIBUTE_TYPE_STR)
+                .withStringValue(orderStamp.next(getRegionalTopicArn(request), request.getMessageGroupId())));
+        return request.withMessageAttributes(msgAttributes);
+    }
 
-        PublishRequest request = new PublishRequest();
-        return request
-                .withTopicArn(context.getParameter(SNS_TOPIC_ARN))
-                .withMessage(context.getParameter(SNS_MSG_BODY))
-                .withMessageAttributes(buildMessageAttributes(context.getParameter(SNS_MSG_ATTRIBUTES)))
-                .withMessageGroupId(context.getParameter(SNS_MSG_GROUP_ID))
-                .withMessageDeduplicationId(context.getParameter(SNS_MSG_DEDUPLICATION_ID));
+    /**
+     * Create template of the request to publish message on SNS FIFO Topic, group id and deduplication id of their
+     * strategies filled per sample, and precompile the sampler data when all its parameters are constant.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param precompile
+     *        Whether the fields of constant parameters are set on the template.
+     * @return Request template.
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    @Override
+    public RequestTemplate<PublishRequest, PublishRequest> createRequestTemplate(final JavaSamplerContext context,
+                                                                              boolean precompile)
+            throws JsonProcessingException {
+        if (precompile && isConstantTopic() && isConstant(SNS_MSG_BODY, SNS_MSG_ATTRIBUTES, SNS_MSG_GROUP_ID,
+                SNS_MSG_DEDUPLICATION_ID)) {
+            constantSamplerData = formatSamplerData(context);
+        }
+        return requestTemplateBuilder(context)
+                .field(precompile && isConstantTopic(),
+                        (request, c) -> request.setTopicArn(c.getParameter(SNS_TOPIC_ARN)))
+                .field(precompile && isConstantBody(), (request, c) -> request.setMessage(buildMessageBody(c)))
+                .field(precompile && isConstantAttributes(),
+                        (request, c) -> request.setMessageAttributes(buildMessageAttributes(c)))
+                .field(false, (request, c) -> request
+                        .withMessageGroupId(groupStrategy.groupId(c.getParameter(SNS_MSG_GROUP_ID),
+                                c.getParameter(SNS_MSG_BODY)))
+                        .withMessageDeduplicationId(deduplicationStrategy.deduplicationId(
+                                c.getParameter(SNS_MSG_DEDUPLICATION_ID),
+                                c.getParameter(SNS_MSG_BODY))))
+                .build();
+    }
+
+    /**
+     * Format sampler data of the sample.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Topic ARN, body, attributes, group id and deduplication id.
+     */
+    private String formatSamplerData(final JavaSamplerContext context) {
+        return String.format("Topic Arn: %s \nMsg Body: %s " +
+                        "\nMsg Attributes: %s \nMsg Group Id: %s \nMsg Deduplication Id: %s",
+                context.getParameter(SNS_TOPIC_ARN),
+                context.getParameter(SNS_MSG_BODY),
+                context.getParameter(SNS_MSG_ATTRIBUTES),
+                context.getParameter(SNS_MSG_GROUP_ID),
+                context.getParameter(SNS_MSG_DEDUPLICATION_ID));
     }
 }
@@ -6,14 +6,24 @@ import com.amazonaws.services.sns.AmazonSNS;
 import com.amazonaws.services.sns.AmazonSNSClient;
 import com.amazonaws.services.sns.model.MessageAttributeValue;
 import com.amazonaws.services.sns.model.PublishRequest;
+import com.amazonaws.services.sns.model.PublishResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.jmeter.protocol.aws.AWSClientSDK1;
 import org.apache.jmeter.protocol.aws.AWSSampler;
 import org.apache.jmeter.protocol.aws.MessageAttribute;
+import org.apache.jmeter.protocol.aws.MessageStamp;
+import org.apache.jmeter.protocol.aws.MultiRegion;
+import org.apache.jmeter.protocol.aws.MultiTarget;
+import org.apache.jmeter.protocol.aws.PayloadCompression;
+import org.apache.jmeter.protocol.aws.PayloadCorpus;
+import org.apache.jmeter.protocol.aws.PayloadOffload;
+import org.apache.jmeter.protocol.aws.RequestTemplate;
 import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
@@ -68,6 +78,47 @@ public abstract class SNSProducerSampler extends AWSSampler implements AWSClient
      */
     protected AmazonSNS snsClient;
 
+    /**
+     * Payload corpus of binary message attribute, null when <code>payload_file</code> is empty.
+     */
+    protected PayloadCorpus payloadCorpus;
+
+    /**
+     * Payload compression of message body, sent in Base64 when <code>compression</code> is set.
+     */
+    protected PayloadCompression payloadCompression;
+
+    /**
+     * Payload offload of message bodies bigger than the threshold to S3, null when <code>s3_offload_bucket</code>
+     * is empty.
+     */
+    protected PayloadOffload payloadOffload;
+
+    /**
+     * Multi-target selector of the topic of each send, null when <code>targets</code> is empty.
+     */
+    protected MultiTarget multiTarget;
+
+    /**
+     * Multi-region router of the region and account of each send, null when <code>aws_regions</code> is empty.
+     */
+    protected MultiRegion<AmazonSNS> multiRegion;
+
+    /**
+     * Sequence stamp of the messages, null when <code>stamp_attribute</code> is empty.
+     */
+    protected MessageStamp messageStamp;
+
+    /**
+     * Precompiled PublishRequest with the fields of constant parameters, null when it couldn't be created.
+     */
+    protected RequestTemplate<PublishRequest, PublishRequest> requestTemplate;
+
+    /**
+     * Sampler data of constant parameters, null when any of them is variable.
+     */
+    protected String constantSamplerData;
+
     /**
      * Create AWS SNS Client.
      * @param credentials
@@ -80,7 +131,8 @@ public abstract class SNSProducerSampler extends AWSSampler implements AWSClient
         String region = getAWSRegion(credentials);
         return AmazonSNSClient.builder()
                 .withEndpointConfiguration(new EndpointConfiguration(getAWSEndpoint(credentials, AmazonSNS.ENDPOINT_PREFIX, region), region))
-                .withCredentials(getAWSCredentialsProvider(credentials));
+                .withCredentials(getAWSCredentialsProvider(credentials))
+                .withClientConfiguration(getClientConfiguration(credentials));
     }
 
     /**
@@ -92,14 +144,79 @@ public abstract class SNSProducerSampler extends AWSSampler implements AWSClient
 
         log.info("Setup SNS Publisher Sampler.");
         Map<String, String> credentials = new HashMap<>();
+        constantParameters = findConstantParameters(context);
 
         context.getParameterNamesIterator().forEachRemaining( k -> {
             credentials.put(k, context.getParameter(k));
             log.info("Parameter: " + k + ", value: " + credentials.get(k));
         });
 
-        log.info("Create SNS Publisher.");
-        snsClient = (AmazonSNS) createAWSClient(credentials).build();
+        try {
+            multiRegion = MultiRegion.of(credentials, AmazonSNS.ENDPOINT_PREFIX,
+                    regional -> (AmazonSNS) createAWSClient(regional).build());
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create regions " + context.getParameter(AWS_REGIONS), e);
+        }
+
+        if (multiRegion == null) {
+            log.info("Create SNS Publisher.");
+            snsClient = (AmazonSNS) createAWSClient(credentials).build();
+        }
+
+        try {
+            payloadCorpus = openPayloadCorpus(context);
+        } catch (IOException e) {
+            log.error("Unable to map payload corpus " + context.getParameter(PAYLOAD_FILE), e);
+        }
+
+        try {
+            payloadCompression = createPayloadCompression(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create payload compression " + context.getParameter(COMPRESSION), e);
+        }
+
+        try {
+            payloadOffload = PayloadOffload.create(credentials);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create payload offload to " + context.getParameter(OFFLOAD_BUCKET), e);
+        }
+
+        try {
+            multiTarget = createMultiTarget(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create targets " + context.getParameter(TARGETS), e);
+        }
+
+        messageStamp = createMessageStamp(context);
+
+        try {
+            sampleAggregator = createSampleAggregator(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create sample aggregation " + context.getParameter(AGGREGATE_SAMPLES) + ", " +
+                    context.getParameter(AGGREGATE_WINDOW_MS), e);
+        }
+
+        try {
+            warmUp = createWarmUp(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create warm-up " + context.getParameter(WARMUP_CONNECTIONS) + ", " +
+                    context.getParameter(WARMUP_SAMPLES), e);
+        }
+        String warmUpTarget = Optional.ofNullable(multiTarget)
+                .map(targets -> targets.getTargets().get(0))
+                .orElse(context.getParameter(SNS_TOPIC_ARN));
+        Optional.ofNullable(warmUp)
+                .ifPresent(w -> w.run("SNS Publisher",
+                        () -> warmUpCredentials(credentials, AmazonSNS.ENDPOINT_PREFIX),
+                        multiRegion == null ? List.of(snsClient) : multiRegion.getClients(),
+                        client -> client.getTopicAttributes(warmUpTarget)));
+
+        try {
+            requestTemplate = createRequestTemplate(context, true);
+            log.info("Request template with " + requestTemplate.getVariableFields() + " variable fields.");
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Unable to create request template, requests are built per sample", e);
+        }
     }
 
     /**
@@ -110,19 +227,214 @@ public abstract class SNSProducerSampler extends AWSSampler implements AWSClient
     @Override
     public void teardownTest(JavaSamplerContext context) {
         log.info("Close SNS Publisher.");
+        Optional.ofNullable(multiTarget)
+                .ifPresent(targets -> {
+                    log.info("Sends per target: " + MultiTarget.getSends(MultiTarget.TARGET));
+                    targets.release();
+                });
         Optional.ofNullable(snsClient)
                 .ifPresent(client -> client.shutdown());
+        Optional.ofNullable(multiRegion)
+                .ifPresent(regions -> {
+                    log.info("Sends per region: " + MultiTarget.getSends(MultiTarget.REGION));
+                    regions.close(AmazonSNS::shutdown);
+                });
+        Optional.ofNullable(payloadOffload)
+                .ifPresent(PayloadOffload::close);
+        Optional.ofNullable(payloadCompression)
+                .ifPresent(PayloadCompression::close);
+        teardownSampler();
+    }
+
+    /**
+     * Get SNS client of the region picked by multi-region mode, or of <code>aws_region</code>.
+     * @return AmazonSNS.
+     */
+    protected AmazonSNS getSnsClient() {
+        return multiRegion == null ? snsClient : multiRegion.current();
     }
 
     /**
-     * Create request to publish message on SNS FIFO or Standard Topic.
+     * Create request to publish message on SNS FIFO or Standard Topic, from the request template, with the sequence
+     * stamp of its regional topic ARN when <code>stamp_attribute</code> is set. SDK1 requests are mutable, so the
+     * template is copied even when every field is constant.
      * @param context
      *        Arguments values on Java Sampler.
      * @return PublishRequest with message elements like body, attributes, deduplication id, group id and more.
      * @throws JsonProcessingException
      *         Exception when deserialize JSON to Object.
      */
-    public abstract PublishRequest createPublishRequest(final JavaSamplerContext context) throws JsonProcessingException;
+    public PublishRequest createPublishRequest(final JavaSamplerContext context) throws JsonProcessingException {
+        RequestTemplate<PublishRequest, PublishRequest> template = requestTemplate != null ? requestTemplate :
+                createRequestTemplate(context, false);
+        PublishRequest request = template.apply(context);
+        request = template.getVariableFields() == 0 ? request.clone() : request;
+        if (messageStamp == null) {
+            return request;
+        }
+        Map<String, MessageAttributeValue> msgAttributes = new HashMap<>(request.getMessageAttributes());
+        msgAttributes.put(messageStamp.getAttribute(), new MessageAttributeValue()
+                .withDataType(MSG_ATTRIBUTE_TYPE_STR)
+                .withStringValue(messageStamp.next(getRegionalTopicArn(request))));
+        return request.withMessageAttributes(msgAttributes);
+    }
+
+    /**
+     * Topic of the request as published, the ARN rewritten to the region picked by multi-region mode.
+     * @param request
+     *        PublishRequest built by the sampler.
+     * @return Topic ARN.
+     */
+    protected String getRegionalTopicArn(PublishRequest request) {
+        return multiRegion == null ? request.getTopicArn() : multiRegion.toRegionalArn(request.getTopicArn());
+    }
+
+    /**
+     * Create template of the request to publish message on SNS FIFO or Standard Topic.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param precompile
+     *        Whether the fields of constant parameters are set on the template, otherwise all of them are filled
+     *        per sample.
+     * @return Request template.
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    public abstract RequestTemplate<PublishRequest, PublishRequest> createRequestTemplate(
+            final JavaSamplerContext context, boolean precompile) throws JsonProcessingException;
+
+    /**
+     * Start the template of the request to publish message on SNS topic.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Request template builder.
+     */
+    protected RequestTemplate.Builder<PublishRequest, PublishRequest> requestTemplateBuilder(
+            final JavaSamplerContext context) {
+        return RequestTemplate.builder(new PublishRequest(), PublishRequest::clone, Function.identity(), context);
+    }
+
+    /**
+     * Check whether the topic is the same on every sample.
+     * @return true when the topic ARN is constant and multi-target mode isn't set.
+     */
+    protected boolean isConstantTopic() {
+        return isConstant(SNS_TOPIC_ARN) && multiTarget == null;
+    }
+
+    /**
+     * Check whether the message body is the same on every sample.
+     * @return true when the body is constant, not compressed and not offloaded.
+     */
+    protected boolean isConstantBody() {
+        return isConstant(SNS_MSG_BODY) && payloadCompression != null && !payloadCompression.isEnabled() &&
+                payloadOffload == null;
+    }
+
+    /**
+     * Check whether the message attributes are the same on every sample.
+     * @return true when the attributes are constant, with no payload corpus and no offload.
+     */
+    protected boolean isConstantAttributes() {
+        return isConstant(SNS_MSG_ATTRIBUTES) && payloadCorpus == null && payloadOffload == null;
+    }
+
+    /**
+     * Message body of the parameter, compressed and encoded in Base64 when <code>compression</code> is set, and
+     * offloaded to S3 when bigger than <code>s3_offload_threshold</code>. Called before the message attributes.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Message body, or pointer to the S3 object when offloaded.
+     */
+    public String buildMessageBody(final JavaSamplerContext context) {
+        String body = payloadCompression.compressToBase64(context.getParameter(SNS_MSG_BODY));
+        return payloadOffload == null ? body : payloadOffload.offload(body);
+    }
+
+    /**
+     * Publish message on SNS topic, timed as sub-result when the body was offloaded. On multi-region mode the topic
+     * ARN is rewritten to the region, and account of the role, picked. The stamp of a message whose publish fails is
+     * reported to the message stamp.
+     * @param request
+     *        PublishRequest built by the sampler.
+     * @return PublishResult.
+     */
+    public PublishResult publish(final PublishRequest request) {
+        Optional.ofNullable(multiRegion)
+                .ifPresent(regions -> request.setTopicArn(regions.toRegionalArn(request.getTopicArn())));
+        try {
+            if (payloadOffload == null) {
+                return getSnsClient().publish(request);
+            }
+            return payloadOffload.send("SNS Publish", "Topic Arn: " + request.getTopicArn(),
+                    () -> getSnsClient().publish(request));
+        } catch (RuntimeException e) {
+            Optional.ofNullable(messageStamp)
+                    .ifPresent(stamp -> stamp.failed(Optional.ofNullable(request.getMessageAttributes())
+                            .map(attributes -> attributes.get(stamp.getAttribute()))
+                            .map(MessageAttributeValue::getStringValue)
+                            .orElse(null)));
+            throw e;
+        }
+    }
+
+    /**
+     * End the sample and add the S3 upload and Publish sub-results of offloaded messages.
+     * @param result
+     *        SampleResult mutable object to change.
+     * @param response
+     *        The successful result message, may be null.
+     */
+    @Override
+    protected void sampleResultSuccess(SampleResult result, String response) {
+        super.sampleResultSuccess(result, response);
+        Optional.ofNullable(payloadOffload)
+                .ifPresent(offload -> offload.addSubResults(result));
+    }
+
+    /**
+     * End the sample and add the S3 upload and Publish sub-results of offloaded messages.
+     * @param result
+     *        SampleResult mutable object to change.
+     * @param code
+     *        The failure code.
+     * @param response
+     *        The failure reason.
+     */
+    @Override
+    protected void sampleResultFail(SampleResult result, String code, String response) {
+        super.sampleResultFail(result, code, response);
+        Optional.ofNullable(payloadOffload)
+                .ifPresent(offload -> offload.addSubResults(result));
+    }
+
+
+    /**
+     * Build Map with message attributes of the parameter, the size of the body offloaded to S3 and, when
+     * <code>payload_file</code> is set, the next payload corpus record as Binary attribute, without copy.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Map with message attribute name and message Attribute Value.
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    public Map<String, MessageAttributeValue> buildMessageAttributes(final JavaSamplerContext context)
+            throws JsonProcessingException {
+        Map<String, MessageAttributeValue> msgAttributes = buildMessageAttributes(context.getParameter(SNS_MSG_ATTRIBUTES));
+        Optional.ofNullable(payloadOffload)
+                .map(PayloadOffload::getExtendedPayloadSize)
+                .ifPresent(size -> msgAttributes.put(PayloadOffload.EXTENDED_PAYLOAD_SIZE, new MessageAttributeValue()
+                        .withDataType(MSG_ATTRIBUTE_TYPE_NUM)
+                        .withStringValue(String.valueOf(size))));
+        if (payloadCorpus == null) {
+            return msgAttributes;
+        }
+        msgAttributes.put(context.getParameter(PAYLOAD_ATTRIBUTE, PAYLOAD_DEFAULT_ATTRIBUTE),
+                new MessageAttributeValue()
+                        .withDataType(MSG_ATTRIBUTE_TYPE_BIN)
+                        .withBinaryValue(nextPayload(payloadCorpus, context)));
+        return msgAttributes;
+    }
 
     /**
      * Build Map with message attributes of String, String Array, Number and Binary type.
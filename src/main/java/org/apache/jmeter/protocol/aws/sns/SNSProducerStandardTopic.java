@@ -6,8 +6,10 @@ import com.amazonaws.services.sns.model.PublishResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.jmeter.config.Argument;
 import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.RequestTemplate;
 import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
 import org.apache.jmeter.samplers.SampleResult;
+import software.amazon.awssdk.core.exception.SdkException;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -38,7 +40,10 @@ public class SNSProducerStandardTopic extends SNSProducerSampler {
     @Override
     public Arguments getDefaultParameters() {
         Arguments defaultParameters = new Arguments();
-        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, SNS_PARAMETERS)
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, SNS_PARAMETERS, MSG_PAYLOAD_PARAMETERS,
+                        COMPRESSION_PARAMETERS, OFFLOAD_PARAMETERS, TARGET_PARAMETERS,
+                        REGION_PARAMETERS, AGGREGATION_PARAMETERS,
+                        WARMUP_PARAMETERS, STAMP_PARAMETERS)
                 .flatMap(List::stream)
                 .collect(Collectors.toList()));
         return defaultParameters;
@@ -54,44 +59,88 @@ public class SNSProducerStandardTopic extends SNSProducerSampler {
     @Override
     public SampleResult runTest(JavaSamplerContext context) {
 
+        context = selectTarget(multiTarget, context, SNS_TOPIC_ARN, SNS_MSG_BODY);
+        selectRegion(multiRegion);
         SampleResult result = new SampleResult();
-        sampleResultStart(result, String.format("Topic Arn: %s \nMsg Body: %s " +
-                        "\nMsg Attributes: %s",
-                context.getParameter(SNS_TOPIC_ARN),
-                context.getParameter(SNS_MSG_BODY),
-                context.getParameter(SNS_MSG_ATTRIBUTES)));
+        sampleResultStart(result, constantSamplerData != null ? constantSamplerData : formatSamplerData(context));
+
+        if (isMultiRegionMissing(multiRegion, context)) {
+            sampleResultFail(result, FAIL_CODE, "Regions not created: " + context.getParameter(AWS_REGIONS));
+            return result;
+        }
+        if (isMultiTargetMissing(multiTarget, context)) {
+            sampleResultFail(result, FAIL_CODE, "Targets not created: " + context.getParameter(TARGETS));
+            return result;
+        }
+        if (isPayloadCorpusMissing(payloadCorpus, context)) {
+            sampleResultFail(result, FAIL_CODE, "Payload corpus not mapped: " + context.getParameter(PAYLOAD_FILE));
+            return result;
+        }
+        if (payloadCompression == null) {
+            sampleResultFail(result, FAIL_CODE, "Payload compression not created: " +
+                    context.getParameter(COMPRESSION));
+            return result;
+        }
 
         try {
             log.info("Publishing Event.");
-            PublishResult response = snsClient.publish(createPublishRequest(context));
+            PublishResult response = publish(createPublishRequest(context));
 
-            sampleResultSuccess(result, String.format("Message id: %s",
-                    response.getMessageId()));
+            sampleResultSuccess(result, String.format("Message id: %s%s",
+                    response.getMessageId(),
+                    payloadCompression.getSummary()));
 
         } catch (AmazonSNSException e){
             sampleResultFail(result, e.getErrorCode(), e.getMessage());
+        } catch (SdkException exc) {
+            sampleResultFail(result, FAIL_CODE, exc.getMessage());
         } catch (JsonProcessingException exc) {
             sampleResultFail(result, FAIL_CODE, exc.getMessage());
+        } finally {
+            payloadCompression.release();
         }
 
         return result;
     }
 
     /**
-     * Create request to publish message on SNS Standard Topic.
+     * Create template of the request to publish message on SNS Standard Topic, with body and attributes, and
+     * precompile the sampler data when all its parameters are constant.
      * @param context
      *        Arguments values on Java Sampler.
-     * @return PublishRequest with message attributes like body and attributes.
+     * @param precompile
+     *        Whether the fields of constant parameters are set on the template.
+     * @return Request template.
      * @throws JsonProcessingException
      *         Exception when deserialize JSON to Object.
      */
     @Override
-    public PublishRequest createPublishRequest(final JavaSamplerContext context) throws JsonProcessingException {
+    public RequestTemplate<PublishRequest, PublishRequest> createRequestTemplate(final JavaSamplerContext context,
+                                                                              boolean precompile)
+            throws JsonProcessingException {
+        if (precompile && isConstantTopic() && isConstant(SNS_MSG_BODY, SNS_MSG_ATTRIBUTES)) {
+            constantSamplerData = formatSamplerData(context);
+        }
+        return requestTemplateBuilder(context)
+                .field(precompile && isConstantTopic(),
+                        (request, c) -> request.setTopicArn(c.getParameter(SNS_TOPIC_ARN)))
+                .field(precompile && isConstantBody(), (request, c) -> request.setMessage(buildMessageBody(c)))
+                .field(precompile && isConstantAttributes(),
+                        (request, c) -> request.setMessageAttributes(buildMessageAttributes(c)))
+                .build();
+    }
 
-        PublishRequest request = new PublishRequest();
-        return request
-                .withTopicArn(context.getParameter(SNS_TOPIC_ARN))
-                .withMessage(context.getParameter(SNS_MSG_BODY))
-                .withMessageAttributes(buildMessageAttributes(context.getParameter(SNS_MSG_ATTRIBUTES)));
+    /**
+     * Format sampler data of the sample.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Topic ARN, body and attributes.
+     */
+    private String formatSamplerData(final JavaSamplerContext context) {
+        return String.format("Topic Arn: %s \nMsg Body: %s " +
+                        "\nMsg Attributes: %s",
+                context.getParameter(SNS_TOPIC_ARN),
+                context.getParameter(SNS_MSG_BODY),
+                context.getParameter(SNS_MSG_ATTRIBUTES));
     }
 }
@@ -0,0 +1,304 @@
+package org.apache.jmeter.protocol.aws.sqs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.AWSClientSDK2;
+import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.aws.DeliveryTracker;
+import org.apache.jmeter.protocol.aws.HealthMonitor;
+import org.apache.jmeter.protocol.aws.OrderVerifier;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * SQS Consumer Sampler class to receive and delete messages of SQS queues, tracking the sequence stamps of the
+ * producers to report lost and duplicated messages, and verifying the per-group sequence stamps of FIFO producers to
+ * report messages out of order. Stamps are read from the message attribute, or from the
+ * <code>MessageAttributes</code> of the SNS envelope when the queue is subscribed to a topic without raw delivery.
+ * The age of the messages received is reported to {@link HealthMonitor}.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class SQSConsumerSampler extends AWSSampler implements AWSClientSDK2 {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(SQSConsumerSampler.class);
+
+    /**
+     * SQS Queue Name.
+     */
+    private static final String SQS_QUEUE_NAME = "sqs_queue_name";
+
+    /**
+     * Maximum messages per receive, from 1 to 10.
+     */
+    private static final String SQS_MAX_MESSAGES = "sqs_max_messages";
+
+    /**
+     * Long polling time in seconds, from 0 to 20.
+     */
+    private static final String SQS_WAIT_TIME_SECONDS = "sqs_wait_time_seconds";
+
+    /**
+     * Whether the messages received are deleted.
+     */
+    private static final String SQS_DELETE_MESSAGES = "sqs_delete_messages";
+
+    /**
+     * System attribute of the message group id of FIFO queues.
+     */
+    private static final String MESSAGE_GROUP_ID = "MessageGroupId";
+
+    /**
+     * System attribute of the send time of the message, epoch milliseconds.
+     */
+    private static final String SENT_TIMESTAMP = "SentTimestamp";
+
+    /**
+     * JSON mapper of SNS envelopes.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * List of Arguments to SQS Consumer.
+     */
+    private static final List<Argument> SQS_PARAMETERS = Stream.of(
+            new Argument(SQS_QUEUE_NAME, EMPTY),
+            new Argument(SQS_MAX_MESSAGES, "10"),
+            new Argument(SQS_WAIT_TIME_SECONDS, "20"),
+            new Argument(SQS_DELETE_MESSAGES, "true"),
+            new Argument(STAMP_ATTRIBUTE, EMPTY),
+            new Argument(ORDER_ATTRIBUTE, EMPTY))
+            .collect(Collectors.toList());
+
+    /**
+     * AWS SQS Client.
+     */
+    private SqsClient sqsClient;
+
+    /**
+     * URL of the queue, null when it couldn't be resolved.
+     */
+    private String queueUrl;
+
+    /**
+     * Create AWS SQS Client.
+     * @param credentials
+     *        Represents the input of JMeter Java Request parameters.
+     * @return SqsClient extends SdkClient super class.
+     */
+    @Override
+    public SdkClient createSdkClient(Map<String, String> credentials) {
+
+        String region = getAWSRegion(credentials);
+        return SqsClient.builder()
+                .endpointOverride(URI.create(getAWSEndpoint(credentials, SqsClient.SERVICE_NAME, region)))
+                .region(Region.of(region))
+                .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
+                .build();
+    }
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * AWS parameters and SQS Consumer parameters.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, SQS_PARAMETERS)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        return defaultParameters;
+    }
+
+    /**
+     * Read test parameters, initialize AWS SQS client and resolve the queue URL.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+
+        log.info("Setup SQS Consumer Sampler.");
+        Map<String, String> credentials = new HashMap<>();
+
+        context.getParameterNamesIterator().forEachRemaining( k -> {
+            credentials.put(k, context.getParameter(k));
+            log.info("Parameter: " + k + ", value: " + credentials.get(k));
+        });
+
+        log.info("Create SQS Consumer.");
+        sqsClient = (SqsClient) createSdkClient(credentials);
+
+        try {
+            queueUrl = sqsClient.getQueueUrl(GetQueueUrlRequest.builder()
+                            .queueName(context.getParameter(SQS_QUEUE_NAME))
+                            .build())
+                    .queueUrl();
+        } catch (SqsException e) {
+            log.error("Unable to get URL of queue " + context.getParameter(SQS_QUEUE_NAME), e);
+        }
+    }
+
+    /**
+     * Main method to execute the test on single thread. Receive messages of SQS queue, record their stamps, verify
+     * their order and delete them.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Queue Name: %s \nMax Messages: %s \nWait Time sec: %s",
+                context.getParameter(SQS_QUEUE_NAME),
+                context.getParameter(SQS_MAX_MESSAGES),
+                context.getParameter(SQS_WAIT_TIME_SECONDS)));
+
+        if (queueUrl == null) {
+            sampleResultFail(result, FAIL_CODE, "Queue URL not resolved: " + context.getParameter(SQS_QUEUE_NAME));
+            return result;
+        }
+
+        try {
+            log.info("Receiving Messages.");
+            String attribute = context.getParameter(STAMP_ATTRIBUTE, EMPTY);
+            String orderAttribute = context.getParameter(ORDER_ATTRIBUTE, EMPTY);
+            List<Message> messages = sqsClient.receiveMessage(ReceiveMessageRequest.builder()
+                            .queueUrl(queueUrl)
+                            .maxNumberOfMessages(context.getIntParameter(SQS_MAX_MESSAGES, 10))
+                            .waitTimeSeconds(context.getIntParameter(SQS_WAIT_TIME_SECONDS, 20))
+                            .messageAttributeNames(Stream.of(attribute, orderAttribute)
+                                    .filter(name -> !name.isEmpty())
+                                    .collect(Collectors.toList()))
+                            .attributeNamesWithStrings(orderAttribute.isEmpty()
+                                    ? List.of(SENT_TIMESTAMP)
+                                    : List.of(SENT_TIMESTAMP, MESSAGE_GROUP_ID))
+                            .build())
+                    .messages();
+
+            String target = HealthMonitor.target(HealthMonitor.SQS, context.getParameter(SQS_QUEUE_NAME));
+            long now = System.currentTimeMillis();
+            int duplicates = 0;
+            int outOfOrder = 0;
+            for (Message message : messages) {
+                Optional.ofNullable(message.attributesAsStrings().get(SENT_TIMESTAMP))
+                        .ifPresent(sent -> HealthMonitor.recordAge(target, now - Long.parseLong(sent)));
+                if (!attribute.isEmpty() && !DeliveryTracker.record(readStamp(message, attribute))) {
+                    duplicates++;
+                }
+                if (!orderAttribute.isEmpty() && !OrderVerifier.verify(
+                        message.attributesAsStrings().get(MESSAGE_GROUP_ID), readStamp(message, orderAttribute))) {
+                    outOfOrder++;
+                }
+            }
+            int deleteFailures = 0;
+            if (!messages.isEmpty() && Boolean.parseBoolean(context.getParameter(SQS_DELETE_MESSAGES, "true"))) {
+                deleteFailures = deleteMessages(messages).failed().size();
+            }
+
+            String data = String.format("Messages: %d \nDuplicated or invalid: %d \nOut of order or invalid: %d " +
+                            "\nDelete failures: %d%s%s", messages.size(), duplicates, outOfOrder, deleteFailures,
+                    attribute.isEmpty() ? "" : " \n" + DeliveryTracker.getSummary(),
+                    orderAttribute.isEmpty() ? "" : " \n" + OrderVerifier.getSummary());
+            if (outOfOrder > 0) {
+                sampleResultFail(result, FAIL_CODE, "Messages out of order. \n" + data);
+            } else if (deleteFailures > 0) {
+                sampleResultFail(result, FAIL_CODE, "Messages not deleted. \n" + data);
+            } else {
+                sampleResultSuccess(result, data);
+            }
+        } catch (SqsException e) {
+            sampleResultFail(result, e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * Close AWS SQS Client after run single thread and log the delivery report of the streams.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Close SQS Consumer.");
+        if (!context.getParameter(STAMP_ATTRIBUTE, EMPTY).isEmpty()) {
+            DeliveryTracker.getReport().forEach((stream, report) ->
+                    log.info("Delivery of stream " + stream + ": " + report));
+        }
+        Optional.ofNullable(sqsClient)
+                .ifPresent(client -> client.close());
+        teardownSampler();
+    }
+
+    /**
+     * Read the stamp of the message attribute, or of the SNS envelope on the body.
+     * @param message
+     *        Message received.
+     * @param attribute
+     *        Message attribute of the stamp.
+     * @return Stamp, null when the message has none.
+     */
+    private String readStamp(Message message, String attribute) {
+        MessageAttributeValue value = message.messageAttributes().get(attribute);
+        if (value != null) {
+            return value.stringValue();
+        }
+        String body = message.body();
+        if (body == null || !body.startsWith("{")) {
+            return null;
+        }
+        try {
+            return MAPPER.readTree(body).path("MessageAttributes").path(attribute).path("Value").asText(null);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Delete the messages received in one batch.
+     * @param messages
+     *        Messages received, 10 at most.
+     * @return DeleteMessageBatchResponse.
+     */
+    private DeleteMessageBatchResponse deleteMessages(List<Message> messages) {
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            entries.add(DeleteMessageBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .receiptHandle(messages.get(i).receiptHandle())
+                    .build());
+        }
+        return sqsClient.deleteMessageBatch(r -> r.queueUrl(queueUrl).entries(entries));
+    }
+}
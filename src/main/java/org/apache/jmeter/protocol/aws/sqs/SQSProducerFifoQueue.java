@@ -3,14 +3,22 @@ package org.apache.jmeter.protocol.aws.sqs;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.jmeter.config.Argument;
 import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.DeduplicationStrategy;
+import org.apache.jmeter.protocol.aws.MessageGroupStrategy;
+import org.apache.jmeter.protocol.aws.OrderStamp;
+import org.apache.jmeter.protocol.aws.RequestTemplate;
+import org.apache.jmeter.protocol.aws.SequenceTracker;
 import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
 import org.apache.jmeter.samplers.SampleResult;
-import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 import software.amazon.awssdk.services.sqs.model.SqsException;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -22,6 +30,26 @@ import java.util.stream.Stream;
  */
 public class SQSProducerFifoQueue extends SQSProducerSampler{
 
+    /**
+     * Message group id strategy: fixed, thread, round_robin or hash.
+     */
+    private static final String SQS_MSG_GROUP_STRATEGY = "sqs_msg_group_strategy";
+
+    /**
+     * Number of message groups of round_robin and hash strategies.
+     */
+    private static final String SQS_MSG_GROUP_COUNT = "sqs_msg_group_count";
+
+    /**
+     * Field of the JSON body hashed by hash strategy, empty hashes the whole body.
+     */
+    private static final String SQS_MSG_GROUP_FIELD = "sqs_msg_group_field";
+
+    /**
+     * Message deduplication id strategy: fixed, content, uuid or counter.
+     */
+    private static final String SQS_MSG_DEDUPLICATION_STRATEGY = "sqs_msg_deduplication_strategy";
+
     /**
      * List of Arguments to SQS FIFO Queue.
      */
@@ -30,9 +58,33 @@ public class SQSProducerFifoQueue extends SQSProducerSampler{
             new Argument(SQS_MSG_BODY, EMPTY),
             new Argument(SQS_MSG_ATTRIBUTES, EMPTY),
             new Argument(SQS_MSG_GROUP_ID, EMPTY),
-            new Argument(SQS_MSG_DEDUPLICATION_ID, EMPTY))
+            new Argument(SQS_MSG_DEDUPLICATION_ID, EMPTY),
+            new Argument(SQS_MSG_GROUP_STRATEGY, MessageGroupStrategy.FIXED),
+            new Argument(SQS_MSG_GROUP_COUNT, "10"),
+            new Argument(SQS_MSG_GROUP_FIELD, EMPTY),
+            new Argument(SQS_MSG_DEDUPLICATION_STRATEGY, DeduplicationStrategy.FIXED))
             .collect(Collectors.toList());
 
+    /**
+     * Message group id strategy.
+     */
+    private MessageGroupStrategy groupStrategy;
+
+    /**
+     * Message deduplication id strategy.
+     */
+    private DeduplicationStrategy deduplicationStrategy;
+
+    /**
+     * Sequence numbers by queue and message group, to count reordering of the messages sent by this sampler.
+     */
+    private final SequenceTracker sequenceTracker = new SequenceTracker();
+
+    /**
+     * Per-group sequence stamp of the messages, null when <code>order_attribute</code> is empty.
+     */
+    private OrderStamp orderStamp;
+
     /**
      * Initial values for test parameter. They are show in Java Request test sampler.
      * AWS parameters and SQS parameters.
@@ -41,12 +93,35 @@ public class SQSProducerFifoQueue extends SQSProducerSampler{
     @Override
     public Arguments getDefaultParameters() {
         Arguments defaultParameters = new Arguments();
-        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, SQS_PARAMETERS)
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, SQS_PARAMETERS, MSG_PAYLOAD_PARAMETERS,
+                        COMPRESSION_PARAMETERS, OFFLOAD_PARAMETERS, TARGET_PARAMETERS,
+                        REGION_PARAMETERS, AGGREGATION_PARAMETERS,
+                        WARMUP_PARAMETERS, STAMP_PARAMETERS, ORDER_PARAMETERS)
                 .flatMap(List::stream)
                 .collect(Collectors.toList()));
         return defaultParameters;
     }
 
+    /**
+     * Read test parameters, initialize AWS SQS client and create message group and deduplication strategies.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+        super.setupTest(context);
+        try {
+            groupStrategy = MessageGroupStrategy.of(context.getParameter(SQS_MSG_GROUP_STRATEGY),
+                    context.getParameter(SQS_MSG_GROUP_ID, EMPTY),
+                    context.getIntParameter(SQS_MSG_GROUP_COUNT, 10),
+                    context.getJMeterContext().getThreadNum(),
+                    context.getParameter(SQS_MSG_GROUP_FIELD, EMPTY));
+            deduplicationStrategy = DeduplicationStrategy.of(context.getParameter(SQS_MSG_DEDUPLICATION_STRATEGY));
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create message group or deduplication strategy", e);
+        }
+        orderStamp = createOrderStamp(context);
+    }
+
     /**
      * Main method to execute the test on single thread. Create Message and publish it on SQS FIFO Queue.
      * @param context
@@ -57,33 +132,81 @@ public class SQSProducerFifoQueue extends SQSProducerSampler{
     @Override
     public SampleResult runTest(JavaSamplerContext context) {
 
+        context = selectTarget(multiTarget, context, SQS_QUEUE_NAME, SQS_MSG_GROUP_ID);
+        selectRegion(multiRegion);
         SampleResult result = newSampleResult();
-        sampleResultStart(result, String.format("Queue Name: %s \nMsg Body : %s \nMsg Attribute: %s " +
-                        "\nMsg Group Id: %s \nMsg Deduplication Id: %s",
-                context.getParameter(SQS_QUEUE_NAME),
-                context.getParameter(SQS_MSG_BODY),
-                context.getParameter(SQS_MSG_ATTRIBUTES),
-                context.getParameter(SQS_MSG_GROUP_ID),
-                context.getParameter(SQS_MSG_DEDUPLICATION_ID)));
+        sampleResultStart(result, constantSamplerData != null ? constantSamplerData : formatSamplerData(context));
+
+        if (isMultiRegionMissing(multiRegion, context)) {
+            sampleResultFail(result, FAIL_CODE, "Regions not created: " + context.getParameter(AWS_REGIONS));
+            return result;
+        }
+        if (isMultiTargetMissing(multiTarget, context)) {
+            sampleResultFail(result, FAIL_CODE, "Targets not created: " + context.getParameter(TARGETS));
+            return result;
+        }
+        if (isPayloadCorpusMissing(payloadCorpus, context)) {
+            sampleResultFail(result, FAIL_CODE, "Payload corpus not mapped: " + context.getParameter(PAYLOAD_FILE));
+            return result;
+        }
+        if (payloadCompression == null) {
+            sampleResultFail(result, FAIL_CODE, "Payload compression not created: " +
+                    context.getParameter(COMPRESSION));
+            return result;
+        }
+        if (groupStrategy == null || deduplicationStrategy == null) {
+            sampleResultFail(result, FAIL_CODE, "Message group or deduplication strategy not created.");
+            return result;
+        }
 
+        SendMessageRequest request = null;
         try{
             log.info("Put Message on Queue");
-            SendMessageResponse msgRsp = sqsClient.sendMessage(createSendMessageRequest(context));
+            request = createSendMessageRequest(context);
+            SendMessageResponse msgRsp = sendMessage(request);
+            sequenceTracker.record(request.queueUrl(), request.messageGroupId(), msgRsp.sequenceNumber());
 
-            sampleResultSuccess(result, String.format("Message id: %s \nSequence Number: %s",
+            String response = String.format("Message id: %s \nSequence Number: %s \nMsg Group Id: %s " +
+                            "\nMsg Deduplication Id: %s \nGroups: %d \nOut of order: %d%s",
                     msgRsp.messageId(),
-                    msgRsp.sequenceNumber()));
+                    msgRsp.sequenceNumber(),
+                    request.messageGroupId(),
+                    request.messageDeduplicationId(),
+                    sequenceTracker.getGroups(),
+                    sequenceTracker.getOutOfOrder(),
+                    payloadCompression.getSummary());
+            sampleResultSuccess(result, response);
         }catch (SqsException exc){
             sampleResultFail(result, exc.awsErrorDetails().errorCode(), exc.awsErrorDetails().errorMessage());
+        } catch (SdkException exc) {
+            sampleResultFail(result, FAIL_CODE, exc.getMessage());
         } catch (JsonProcessingException exc) {
             sampleResultFail(result, FAIL_CODE, exc.getMessage());
+        } finally {
+            payloadCompression.release();
+            if (orderStamp != null && request != null) {
+                orderStamp.sent(request.queueUrl(), request.messageGroupId());
+            }
         }
 
         return result;
     }
 
     /**
-     * Create request to publish message on SQS FIFO Queue.
+     * Log message groups and sequence numbers out of order, and close AWS SQS client.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("Message groups: " + sequenceTracker.getGroups() +
+                ", sequence numbers out of order: " + sequenceTracker.getOutOfOrder());
+        super.teardownTest(context);
+    }
+
+    /**
+     * Create request to publish message on SQS FIFO Queue, from the request template, with the sequence stamp of
+     * its queue and message group when <code>order_attribute</code> is set, in flight until the send ends.
      * @param context
      *        Arguments values on Java Sampler.
      * @return SendMessageRequest with message elements like body, attributes, deduplication id, group id and more.
@@ -91,16 +214,67 @@ public class SQSProducerFifoQueue extends SQSProducerSampler{
      *         Exception when deserialize JSON to Object.
      */
     @Override
-    public SendMessageRequest createSendMessageRequest(JavaSamplerContext context) throws JsonProcessingException {
-        return SendMessageRequest.builder()
-                .queueUrl(sqsClient.getQueueUrl(GetQueueUrlRequest.builder()
-                        .queueName(context.getParameter(SQS_QUEUE_NAME))
-                        .build())
-                        .queueUrl())
-                .messageBody(context.getParameter(SQS_MSG_BODY))
-                .messageAttributes(buildMessageAttributes(context.getParameter(SQS_MSG_ATTRIBUTES)))
-                .messageGroupId(context.getParameter(SQS_MSG_GROUP_ID))
-                .messageDeduplicationId(context.getParameter(SQS_MSG_DEDUPLICATION_ID))
+    public SendMessageRequest createSendMessageRequest(final JavaSamplerContext context)
+            throws JsonProcessingException {
+        SendMessageRequest request = super.createSendMessageRequest(context);
+        if (orderStamp == null) {
+            return request;
+        }
+        Map<String, MessageAttributeValue> msgAttributes = new HashMap<>(request.messageAttributes());
+        msgAttributes.put(orderStamp.getAttribute(), MessageAttributeValue.builder()
+                .dataType(MSG_ATTRIBUTE_TYPE_STR)
+                .stringValue(orderStamp.next(request.queueUrl(), request.messageGroupId()))
+                .build());
+        return request.toBuilder()
+                .messageAttributes(msgAttributes)
+                .build();
+    }
+
+    /**
+     * Create template of the request to publish message on SQS FIFO Queue, group id and deduplication id of their
+     * strategies filled per sample, and precompile the sampler data when all its parameters are constant.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param precompile
+     *        Whether the fields of constant parameters are set on the template.
+     * @return Request template.
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    @Override
+    public RequestTemplate<SendMessageRequest, SendMessageRequest.Builder> createRequestTemplate(
+            JavaSamplerContext context, boolean precompile) throws JsonProcessingException {
+        if (precompile && isConstantQueue() && isConstant(SQS_MSG_BODY, SQS_MSG_ATTRIBUTES, SQS_MSG_GROUP_ID,
+                SQS_MSG_DEDUPLICATION_ID)) {
+            constantSamplerData = formatSamplerData(context);
+        }
+        return requestTemplateBuilder(context)
+                .field(precompile && isConstantQueue(), (builder, c) -> builder.queueUrl(getQueueUrl(c)))
+                .field(precompile && isConstantBody(), (builder, c) -> builder.messageBody(buildMessageBody(c)))
+                .field(precompile && isConstantAttributes(),
+                        (builder, c) -> builder.messageAttributes(buildMessageAttributes(c)))
+                .field(false, (builder, c) -> builder
+                        .messageGroupId(groupStrategy.groupId(c.getParameter(SQS_MSG_GROUP_ID),
+                                c.getParameter(SQS_MSG_BODY)))
+                        .messageDeduplicationId(deduplicationStrategy.deduplicationId(
+                                c.getParameter(SQS_MSG_DEDUPLICATION_ID),
+                                c.getParameter(SQS_MSG_BODY))))
                 .build();
     }
+
+    /**
+     * Format sampler data of the sample.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Queue name, body, attributes, group id and deduplication id.
+     */
+    private String formatSamplerData(JavaSamplerContext context) {
+        return String.format("Queue Name: %s \nMsg Body : %s \nMsg Attribute: %s " +
+                        "\nMsg Group Id: %s \nMsg Deduplication Id: %s",
+                context.getParameter(SQS_QUEUE_NAME),
+                context.getParameter(SQS_MSG_BODY),
+                context.getParameter(SQS_MSG_ATTRIBUTES),
+                context.getParameter(SQS_MSG_GROUP_ID),
+                context.getParameter(SQS_MSG_DEDUPLICATION_ID));
+    }
 }
@@ -4,16 +4,28 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.jmeter.protocol.aws.AWSClientSDK2;
 import org.apache.jmeter.protocol.aws.AWSSampler;
 import org.apache.jmeter.protocol.aws.MessageAttribute;
+import org.apache.jmeter.protocol.aws.MessageStamp;
+import org.apache.jmeter.protocol.aws.MultiRegion;
+import org.apache.jmeter.protocol.aws.MultiTarget;
+import org.apache.jmeter.protocol.aws.PayloadCompression;
+import org.apache.jmeter.protocol.aws.PayloadCorpus;
+import org.apache.jmeter.protocol.aws.PayloadOffload;
+import org.apache.jmeter.protocol.aws.RequestTemplate;
 import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
@@ -77,6 +89,47 @@ public abstract class SQSProducerSampler extends AWSSampler implements AWSClient
      */
     protected SqsClient sqsClient;
 
+    /**
+     * Payload corpus of binary message attribute, null when <code>payload_file</code> is empty.
+     */
+    protected PayloadCorpus payloadCorpus;
+
+    /**
+     * Payload compression of message body, sent in Base64 when <code>compression</code> is set.
+     */
+    protected PayloadCompression payloadCompression;
+
+    /**
+     * Payload offload of message bodies bigger than the threshold to S3, null when <code>s3_offload_bucket</code>
+     * is empty.
+     */
+    protected PayloadOffload payloadOffload;
+
+    /**
+     * Multi-target selector of the queue of each send, null when <code>targets</code> is empty.
+     */
+    protected MultiTarget multiTarget;
+
+    /**
+     * Multi-region router of the region and account of each send, null when <code>aws_regions</code> is empty.
+     */
+    protected MultiRegion<SqsClient> multiRegion;
+
+    /**
+     * Sequence stamp of the messages, null when <code>stamp_attribute</code> is empty.
+     */
+    protected MessageStamp messageStamp;
+
+    /**
+     * Precompiled SendMessageRequest with the fields of constant parameters, null when it couldn't be created.
+     */
+    protected RequestTemplate<SendMessageRequest, SendMessageRequest.Builder> requestTemplate;
+
+    /**
+     * Sampler data of constant parameters, null when any of them is variable.
+     */
+    protected String constantSamplerData;
+
     /**
      * Create AWS SQS Client.
      * @param credentials
@@ -91,6 +144,7 @@ public abstract class SQSProducerSampler extends AWSSampler implements AWSClient
                 .endpointOverride(URI.create(getAWSEndpoint(credentials, SqsClient.SERVICE_NAME, region)))
                 .region(Region.of(region))
                 .credentialsProvider(getAwsCredentialsProvider(credentials))
+                .httpClientBuilder(getHttpClientBuilder(credentials))
                 .build();
     }
 
@@ -104,14 +158,79 @@ public abstract class SQSProducerSampler extends AWSSampler implements AWSClient
 
         log.info("Setup SQS Producer Sampler.");
         Map<String, String> credentials = new HashMap<>();
+        constantParameters = findConstantParameters(context);
 
         context.getParameterNamesIterator().forEachRemaining( k -> {
             credentials.put(k, context.getParameter(k));
             log.info("Parameter: " + k + ", value: " + credentials.get(k));
         });
 
-        log.info("Create SQS Producer.");
-        sqsClient = (SqsClient) createSdkClient(credentials);
+        try {
+            multiRegion = MultiRegion.of(credentials, SqsClient.SERVICE_NAME,
+                    regional -> (SqsClient) createSdkClient(regional));
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create regions " + context.getParameter(AWS_REGIONS), e);
+        }
+
+        if (multiRegion == null) {
+            log.info("Create SQS Producer.");
+            sqsClient = (SqsClient) createSdkClient(credentials);
+        }
+
+        try {
+            payloadCorpus = openPayloadCorpus(context);
+        } catch (IOException e) {
+            log.error("Unable to map payload corpus " + context.getParameter(PAYLOAD_FILE), e);
+        }
+
+        try {
+            payloadCompression = createPayloadCompression(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create payload compression " + context.getParameter(COMPRESSION), e);
+        }
+
+        try {
+            payloadOffload = PayloadOffload.create(credentials);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create payload offload to " + context.getParameter(OFFLOAD_BUCKET), e);
+        }
+
+        try {
+            multiTarget = createMultiTarget(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create targets " + context.getParameter(TARGETS), e);
+        }
+
+        messageStamp = createMessageStamp(context);
+
+        try {
+            sampleAggregator = createSampleAggregator(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create sample aggregation " + context.getParameter(AGGREGATE_SAMPLES) + ", " +
+                    context.getParameter(AGGREGATE_WINDOW_MS), e);
+        }
+
+        try {
+            warmUp = createWarmUp(context);
+        } catch (IllegalArgumentException e) {
+            log.error("Unable to create warm-up " + context.getParameter(WARMUP_CONNECTIONS) + ", " +
+                    context.getParameter(WARMUP_SAMPLES), e);
+        }
+        String warmUpTarget = Optional.ofNullable(multiTarget)
+                .map(targets -> targets.getTargets().get(0))
+                .orElse(context.getParameter(SQS_QUEUE_NAME));
+        Optional.ofNullable(warmUp)
+                .ifPresent(w -> w.run("SQS Producer",
+                        () -> warmUpCredentials(credentials, SqsClient.SERVICE_NAME),
+                        multiRegion == null ? List.of(sqsClient) : multiRegion.getClients(),
+                        client -> client.getQueueUrl(r -> r.queueName(warmUpTarget))));
+
+        try {
+            requestTemplate = createRequestTemplate(context, true);
+            log.info("Request template with " + requestTemplate.getVariableFields() + " variable fields.");
+        } catch (JsonProcessingException | SdkException e) {
+            log.error("Unable to create request template, requests are built per sample", e);
+        }
     }
 
     /**
@@ -122,19 +241,220 @@ public abstract class SQSProducerSampler extends AWSSampler implements AWSClient
     @Override
     public void teardownTest(JavaSamplerContext context) {
         log.info("Close SQS Producer.");
+        Optional.ofNullable(multiTarget)
+                .ifPresent(targets -> {
+                    log.info("Sends per target: " + MultiTarget.getSends(MultiTarget.TARGET));
+                    targets.release();
+                });
         Optional.ofNullable(sqsClient)
                 .ifPresent(client -> client.close());
+        Optional.ofNullable(multiRegion)
+                .ifPresent(regions -> {
+                    log.info("Sends per region: " + MultiTarget.getSends(MultiTarget.REGION));
+                    regions.close(SqsClient::close);
+                });
+        Optional.ofNullable(payloadOffload)
+                .ifPresent(PayloadOffload::close);
+        Optional.ofNullable(payloadCompression)
+                .ifPresent(PayloadCompression::close);
+        teardownSampler();
+    }
+
+    /**
+     * Get SQS client of the region picked by multi-region mode, or of <code>aws_region</code>.
+     * @return SqsClient.
+     */
+    protected SqsClient getSqsClient() {
+        return multiRegion == null ? sqsClient : multiRegion.current();
     }
 
     /**
-     * Create request to publish message on SQS FIFO or Standard Queue.
+     * Create request to publish message on SQS FIFO or Standard Queue, from the request template, with the sequence
+     * stamp of its queue URL when <code>stamp_attribute</code> is set, so the same queue name in two regions counts
+     * as two streams.
      * @param context
      *        Arguments values on Java Sampler.
      * @return SendMessageRequest with message elements like body, attributes, deduplication id, group id and more.
      * @throws JsonProcessingException
      *         Exception when deserialize JSON to Object.
      */
-    public abstract SendMessageRequest createSendMessageRequest(final JavaSamplerContext context) throws JsonProcessingException;
+    public SendMessageRequest createSendMessageRequest(final JavaSamplerContext context)
+            throws JsonProcessingException {
+        SendMessageRequest request = requestTemplate != null ? requestTemplate.apply(context)
+                : createRequestTemplate(context, false).apply(context);
+        if (messageStamp == null) {
+            return request;
+        }
+        Map<String, MessageAttributeValue> msgAttributes = new HashMap<>(request.messageAttributes());
+        msgAttributes.put(messageStamp.getAttribute(), MessageAttributeValue.builder()
+                .dataType(MSG_ATTRIBUTE_TYPE_STR)
+                .stringValue(messageStamp.next(request.queueUrl()))
+                .build());
+        return request.toBuilder()
+                .messageAttributes(msgAttributes)
+                .build();
+    }
+
+    /**
+     * Create template of the request to publish message on SQS FIFO or Standard Queue.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @param precompile
+     *        Whether the fields of constant parameters are set on the template, otherwise all of them are filled
+     *        per sample.
+     * @return Request template.
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    public abstract RequestTemplate<SendMessageRequest, SendMessageRequest.Builder> createRequestTemplate(
+            final JavaSamplerContext context, boolean precompile) throws JsonProcessingException;
+
+    /**
+     * Start the template of the request to publish message on SQS queue.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Request template builder.
+     */
+    protected RequestTemplate.Builder<SendMessageRequest, SendMessageRequest.Builder> requestTemplateBuilder(
+            final JavaSamplerContext context) {
+        return RequestTemplate.builder(SendMessageRequest.builder(), SendMessageRequest::toBuilder,
+                SendMessageRequest.Builder::build, context);
+    }
+
+    /**
+     * Check whether the queue is the same on every sample, so its URL is resolved once.
+     * @return true when the queue name is constant and neither multi-target nor multi-region mode is set.
+     */
+    protected boolean isConstantQueue() {
+        return isConstant(SQS_QUEUE_NAME) && multiTarget == null && multiRegion == null;
+    }
+
+    /**
+     * Check whether the message body is the same on every sample.
+     * @return true when the body is constant, not compressed and not offloaded.
+     */
+    protected boolean isConstantBody() {
+        return isConstant(SQS_MSG_BODY) && payloadCompression != null && !payloadCompression.isEnabled() &&
+                payloadOffload == null;
+    }
+
+    /**
+     * Check whether the message attributes are the same on every sample.
+     * @return true when the attributes are constant, with no payload corpus and no offload.
+     */
+    protected boolean isConstantAttributes() {
+        return isConstant(SQS_MSG_ATTRIBUTES) && payloadCorpus == null && payloadOffload == null;
+    }
+
+    /**
+     * Get URL of the queue of the parameter.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Queue URL.
+     */
+    protected String getQueueUrl(final JavaSamplerContext context) {
+        return getSqsClient().getQueueUrl(GetQueueUrlRequest.builder()
+                        .queueName(context.getParameter(SQS_QUEUE_NAME))
+                        .build())
+                .queueUrl();
+    }
+
+    /**
+     * Message body of the parameter, compressed and encoded in Base64 when <code>compression</code> is set, and
+     * offloaded to S3 when bigger than <code>s3_offload_threshold</code>. Called before the message attributes.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Message body, or pointer to the S3 object when offloaded.
+     */
+    public String buildMessageBody(final JavaSamplerContext context) {
+        String body = payloadCompression.compressToBase64(context.getParameter(SQS_MSG_BODY));
+        return payloadOffload == null ? body : payloadOffload.offload(body);
+    }
+
+    /**
+     * Send message to SQS queue, timed as sub-result when the body was offloaded. The stamp of a message whose send
+     * fails is reported to the message stamp.
+     * @param request
+     *        SendMessageRequest built by the sampler.
+     * @return SendMessageResponse.
+     */
+    public SendMessageResponse sendMessage(final SendMessageRequest request) {
+        try {
+            if (payloadOffload == null) {
+                return getSqsClient().sendMessage(request);
+            }
+            return payloadOffload.send("SQS SendMessage", "Queue Url: " + request.queueUrl(),
+                    () -> getSqsClient().sendMessage(request));
+        } catch (RuntimeException e) {
+            Optional.ofNullable(messageStamp)
+                    .ifPresent(stamp -> stamp.failed(Optional.ofNullable(request.messageAttributes())
+                            .map(attributes -> attributes.get(stamp.getAttribute()))
+                            .map(MessageAttributeValue::stringValue)
+                            .orElse(null)));
+            throw e;
+        }
+    }
+
+    /**
+     * End the sample and add the S3 upload and SendMessage sub-results of offloaded messages.
+     * @param result
+     *        SampleResult mutable object to change.
+     * @param response
+     *        The successful result message, may be null.
+     */
+    @Override
+    protected void sampleResultSuccess(SampleResult result, String response) {
+        super.sampleResultSuccess(result, response);
+        Optional.ofNullable(payloadOffload)
+                .ifPresent(offload -> offload.addSubResults(result));
+    }
+
+    /**
+     * End the sample and add the S3 upload and SendMessage sub-results of offloaded messages.
+     * @param result
+     *        SampleResult mutable object to change.
+     * @param code
+     *        The failure code.
+     * @param response
+     *        The failure reason.
+     */
+    @Override
+    protected void sampleResultFail(SampleResult result, String code, String response) {
+        super.sampleResultFail(result, code, response);
+        Optional.ofNullable(payloadOffload)
+                .ifPresent(offload -> offload.addSubResults(result));
+    }
+
+
+    /**
+     * Build Map with message attributes of the parameter, the size of the body offloaded to S3 and, when
+     * <code>payload_file</code> is set, the next payload corpus record as Binary attribute, without copy.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Map with message attribute name and message Attribute Value.
+     * @throws JsonProcessingException
+     *         Exception when deserialize JSON to Object.
+     */
+    public Map<String, MessageAttributeValue> buildMessageAttributes(final JavaSamplerContext context)
+            throws JsonProcessingException {
+        Map<String, MessageAttributeValue> msgAttributes = buildMessageAttributes(context.getParameter(SQS_MSG_ATTRIBUTES));
+        Optional.ofNullable(payloadOffload)
+                .map(PayloadOffload::getExtendedPayloadSize)
+                .ifPresent(size -> msgAttributes.put(PayloadOffload.EXTENDED_PAYLOAD_SIZE,
+                        MessageAttributeValue.builder()
+                                .dataType(MSG_ATTRIBUTE_TYPE_NUM)
+                                .stringValue(String.valueOf(size))
+                                .build()));
+        if (payloadCorpus == null) {
+            return msgAttributes;
+        }
+        msgAttributes.put(context.getParameter(PAYLOAD_ATTRIBUTE, PAYLOAD_DEFAULT_ATTRIBUTE),
+                MessageAttributeValue.builder()
+                        .dataType(MSG_ATTRIBUTE_TYPE_BIN)
+                        .binaryValue(SdkBytes.fromByteBufferUnsafe(nextPayload(payloadCorpus, context)))
+                        .build());
+        return msgAttributes;
+    }
 
     /**
      * Build Map with message attributes of String, Number Binary and Custom type.
@@ -3,9 +3,10 @@ package org.apache.jmeter.protocol.aws.sqs;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.jmeter.config.Argument;
 import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.RequestTemplate;
 import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
 import org.apache.jmeter.samplers.SampleResult;
-import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 import software.amazon.awssdk.services.sqs.model.SqsException;
@@ -40,7 +41,10 @@ public class SQSProducerStandardQueue extends SQSProducerSampler{
     @Override
     public Arguments getDefaultParameters() {
         Arguments defaultParameters = new Arguments();
-        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, SQS_PARAMETERS)
+        defaultParameters.setArguments(Stream.of(AWS_PARAMETERS, SQS_PARAMETERS, MSG_PAYLOAD_PARAMETERS,
+                        COMPRESSION_PARAMETERS, OFFLOAD_PARAMETERS, TARGET_PARAMETERS,
+                        REGION_PARAMETERS, AGGREGATION_PARAMETERS,
+                        WARMUP_PARAMETERS, STAMP_PARAMETERS)
                 .flatMap(List::stream)
                 .collect(Collectors.toList()));
         return defaultParameters;
@@ -56,46 +60,87 @@ public class SQSProducerStandardQueue extends SQSProducerSampler{
     @Override
     public SampleResult runTest(JavaSamplerContext context) {
 
+        context = selectTarget(multiTarget, context, SQS_QUEUE_NAME, SQS_MSG_BODY);
+        selectRegion(multiRegion);
         SampleResult result = newSampleResult();
-        sampleResultStart(result, String.format("Queue Name: %s \nMsg Body : %s \nMsg Attribute: %s \nDelay sec: %s",
-                context.getParameter(SQS_QUEUE_NAME),
-                context.getParameter(SQS_MSG_BODY),
-                context.getParameter(SQS_MSG_ATTRIBUTES),
-                context.getIntParameter(SQS_DELAY_SECONDS)));
+        sampleResultStart(result, constantSamplerData != null ? constantSamplerData : formatSamplerData(context));
+
+        if (isMultiRegionMissing(multiRegion, context)) {
+            sampleResultFail(result, FAIL_CODE, "Regions not created: " + context.getParameter(AWS_REGIONS));
+            return result;
+        }
+        if (isMultiTargetMissing(multiTarget, context)) {
+            sampleResultFail(result, FAIL_CODE, "Targets not created: " + context.getParameter(TARGETS));
+            return result;
+        }
+        if (isPayloadCorpusMissing(payloadCorpus, context)) {
+            sampleResultFail(result, FAIL_CODE, "Payload corpus not mapped: " + context.getParameter(PAYLOAD_FILE));
+            return result;
+        }
+        if (payloadCompression == null) {
+            sampleResultFail(result, FAIL_CODE, "Payload compression not created: " +
+                    context.getParameter(COMPRESSION));
+            return result;
+        }
 
         try{
             log.info("Put Message on Queue");
-            SendMessageResponse msgRsp = sqsClient.sendMessage(createSendMessageRequest(context));
+            SendMessageResponse msgRsp = sendMessage(createSendMessageRequest(context));
 
-            sampleResultSuccess(result, String.format("Message id: %s",
-                    msgRsp.messageId()));
+            sampleResultSuccess(result, String.format("Message id: %s%s",
+                    msgRsp.messageId(),
+                    payloadCompression.getSummary()));
         }catch (SqsException exc){
             sampleResultFail(result, exc.awsErrorDetails().errorCode(), exc.awsErrorDetails().errorMessage());
+        } catch (SdkException exc) {
+            sampleResultFail(result, FAIL_CODE, exc.getMessage());
         } catch (JsonProcessingException exc) {
             sampleResultFail(result, FAIL_CODE, exc.getMessage());
+        } finally {
+            payloadCompression.release();
         }
 
         return result;
     }
 
     /**
-     * Create request to publish message on SQS Standard Queue.
+     * Create template of the request to publish message on SQS Standard Queue, with body, attributes and delay
+     * seconds, and precompile the sampler data when all its parameters are constant.
      * @param context
      *        Arguments values on Java Sampler.
-     * @return SendMessageRequest with message elements like body, attributes and delay seconds.
+     * @param precompile
+     *        Whether the fields of constant parameters are set on the template.
+     * @return Request template.
      * @throws JsonProcessingException
      *         Exception when deserialize JSON to Object.
      */
     @Override
-    public SendMessageRequest createSendMessageRequest(final JavaSamplerContext context) throws JsonProcessingException {
-        return SendMessageRequest.builder()
-                .queueUrl(sqsClient.getQueueUrl(GetQueueUrlRequest.builder()
-                        .queueName(context.getParameter(SQS_QUEUE_NAME))
-                        .build())
-                        .queueUrl())
-                .messageBody(context.getParameter(SQS_MSG_BODY))
-                .messageAttributes(buildMessageAttributes(context.getParameter(SQS_MSG_ATTRIBUTES)))
-                .delaySeconds(context.getIntParameter(SQS_DELAY_SECONDS))
+    public RequestTemplate<SendMessageRequest, SendMessageRequest.Builder> createRequestTemplate(
+            final JavaSamplerContext context, boolean precompile) throws JsonProcessingException {
+        if (precompile && isConstantQueue() && isConstant(SQS_MSG_BODY, SQS_MSG_ATTRIBUTES, SQS_DELAY_SECONDS)) {
+            constantSamplerData = formatSamplerData(context);
+        }
+        return requestTemplateBuilder(context)
+                .field(precompile && isConstantQueue(), (builder, c) -> builder.queueUrl(getQueueUrl(c)))
+                .field(precompile && isConstantBody(), (builder, c) -> builder.messageBody(buildMessageBody(c)))
+                .field(precompile && isConstantAttributes(),
+                        (builder, c) -> builder.messageAttributes(buildMessageAttributes(c)))
+                .field(precompile && isConstant(SQS_DELAY_SECONDS),
+                        (builder, c) -> builder.delaySeconds(c.getIntParameter(SQS_DELAY_SECONDS)))
                 .build();
     }
+
+    /**
+     * Format sampler data of the sample.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return Queue name, body, attributes and delay seconds.
+     */
+    private String formatSamplerData(final JavaSamplerContext context) {
+        return String.format("Queue Name: %s \nMsg Body : %s \nMsg Attribute: %s \nDelay sec: %s",
+                context.getParameter(SQS_QUEUE_NAME),
+                context.getParameter(SQS_MSG_BODY),
+                context.getParameter(SQS_MSG_ATTRIBUTES),
+                context.getIntParameter(SQS_DELAY_SECONDS));
+    }
 }
@@ -0,0 +1,173 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import org.apache.jmeter.config.Argument;
+import org.apache.jmeter.config.Arguments;
+import org.apache.jmeter.protocol.aws.AWSSampler;
+import org.apache.jmeter.protocol.java.sampler.JavaSamplerContext;
+import org.apache.jmeter.samplers.SampleResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * AWS Stub Sampler class to start and stop the in-process AWS stub server from a setUp or tearDown Thread Group.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class AWSStubSampler extends AWSSampler {
+
+    /**
+     * Log attribute.
+     */
+    protected static Logger log = LoggerFactory.getLogger(AWSStubSampler.class);
+
+    /**
+     * Action to perform, start or stop.
+     */
+    private static final String STUB_ACTION = "stub_action";
+
+    /**
+     * Start action.
+     */
+    private static final String STUB_ACTION_START = "start";
+
+    /**
+     * Stop action.
+     */
+    private static final String STUB_ACTION_STOP = "stop";
+
+    /**
+     * Port to listen.
+     */
+    private static final String STUB_PORT = "stub_port";
+
+    /**
+     * Fixed latency added to every response, milliseconds.
+     */
+    private static final String STUB_LATENCY_MS = "stub_latency_ms";
+
+    /**
+     * Random latency added to every response, milliseconds.
+     */
+    private static final String STUB_JITTER_MS = "stub_jitter_ms";
+
+    /**
+     * Fraction of requests (0 to 1) throttled.
+     */
+    private static final String STUB_THROTTLE_RATE = "stub_throttle_rate";
+
+    /**
+     * Fraction of requests (0 to 1) failed with HTTP 500.
+     */
+    private static final String STUB_ERROR_RATE = "stub_error_rate";
+
+    /**
+     * Requests per second accepted before throttling, 0 is unlimited.
+     */
+    private static final String STUB_MAX_TPS = "stub_max_tps";
+
+    /**
+     * Number of shards of every Kinesis stream.
+     */
+    private static final String STUB_KINESIS_SHARDS = "stub_kinesis_shards";
+
+    /**
+     * Set AWS Stub Server parameters.
+     */
+    private static final List<Argument> STUB_PARAMETERS = Stream.of(
+            new Argument(STUB_ACTION, STUB_ACTION_START),
+            new Argument(STUB_PORT, "4566"),
+            new Argument(STUB_LATENCY_MS, "0"),
+            new Argument(STUB_JITTER_MS, "0"),
+            new Argument(STUB_THROTTLE_RATE, "0"),
+            new Argument(STUB_ERROR_RATE, "0"),
+            new Argument(STUB_MAX_TPS, "0"),
+            new Argument(STUB_KINESIS_SHARDS, "4"))
+            .collect(Collectors.toList());
+
+    /**
+     * Initial values for test parameter. They are show in Java Request test sampler.
+     * @return Arguments to set as default on Java Request.
+     */
+    @Override
+    public Arguments getDefaultParameters() {
+        Arguments defaultParameters = new Arguments();
+        defaultParameters.setArguments(STUB_PARAMETERS);
+        return defaultParameters;
+    }
+
+    /**
+     * Nothing to initialize, the stub server is started by the first sample.
+     * @param context to get the arguments values on Java Sampler.
+     */
+    @Override
+    public void setupTest(JavaSamplerContext context) {
+        log.info("Setup AWS Stub Sampler.");
+    }
+
+    /**
+     * Start the stub server, when it isn't running yet, or stop it.
+     * @param context
+     *        Arguments values on Java Sampler.
+     * @return SampleResult, captures data such as whether the test was successful,
+     * the response code and message, any request or response data, and the test start/end times
+     */
+    @Override
+    public SampleResult runTest(JavaSamplerContext context) {
+
+        SampleResult result = newSampleResult();
+        sampleResultStart(result, String.format("Action: %s \nPort: %s \nLatency ms: %s \nJitter ms: %s " +
+                        "\nThrottle rate: %s \nError rate: %s \nMax TPS: %s \nKinesis shards: %s",
+                context.getParameter(STUB_ACTION),
+                context.getParameter(STUB_PORT),
+                context.getParameter(STUB_LATENCY_MS),
+                context.getParameter(STUB_JITTER_MS),
+                context.getParameter(STUB_THROTTLE_RATE),
+                context.getParameter(STUB_ERROR_RATE),
+                context.getParameter(STUB_MAX_TPS),
+                context.getParameter(STUB_KINESIS_SHARDS)));
+
+        int port = context.getIntParameter(STUB_PORT);
+        if (STUB_ACTION_STOP.equalsIgnoreCase(context.getParameter(STUB_ACTION))) {
+            log.info("Stop AWS stub server.");
+            sampleResultSuccess(result, AWSStubServer.stopShared(port)
+                    .map(AWSStubServer::getStats)
+                    .orElse("AWS stub server was not running on port " + port));
+            return result;
+        }
+
+        try {
+            log.info("Start AWS stub server.");
+            AWSStubServer stub = AWSStubServer.startShared(new AWSStubServer(port,
+                    context.getLongParameter(STUB_LATENCY_MS),
+                    context.getLongParameter(STUB_JITTER_MS),
+                    Double.parseDouble(context.getParameter(STUB_THROTTLE_RATE)),
+                    Double.parseDouble(context.getParameter(STUB_ERROR_RATE)),
+                    context.getLongParameter(STUB_MAX_TPS),
+                    context.getIntParameter(STUB_KINESIS_SHARDS)));
+            sampleResultSuccess(result, String.format("AWS stub server listening on port %s \n%s",
+                    stub.getPort(), stub.getStats()));
+        } catch (IOException | NumberFormatException e) {
+            log.error("Unable to start AWS stub server", e);
+            sampleResultFail(result, FAIL_CODE, e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * Stub server is shared by the JVM and stays up after the thread ends, stop it with <code>stub_action=stop</code>.
+     * @param context
+     *        Arguments values on Java Sampler.
+     */
+    @Override
+    public void teardownTest(JavaSamplerContext context) {
+        log.info("AWS stub server keeps running until stop action.");
+        teardownSampler();
+    }
+}
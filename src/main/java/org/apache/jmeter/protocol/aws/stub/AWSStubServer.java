@@ -0,0 +1,384 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-process HTTP stand-in of the AWS services used by awsmeter samplers (SQS, SNS, Kinesis, EventBridge,
+ * Cognito and S3). Point samplers to it with <code>aws_endpoint_custom=http://localhost:port</code> to measure injector
+ * capacity without network or AWS costs. Latency, throttling and server errors can be injected.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class AWSStubServer {
+
+    /**
+     * Log attribute.
+     */
+    private static final Logger log = LoggerFactory.getLogger(AWSStubServer.class);
+
+    /**
+     * Running servers by port, shared by all JMeter threads.
+     */
+    private static final Map<Integer, AWSStubServer> SERVERS = new ConcurrentHashMap<>();
+
+    /**
+     * SDK system property to disable CBOR on Kinesis client, the stub only speaks JSON.
+     */
+    private static final String CBOR_ENABLED_PROPERTY = "aws.cborEnabled";
+
+    /**
+     * HTTP status code when injected server error.
+     */
+    private static final int INTERNAL_ERROR = 500;
+
+    /**
+     * HTTP status code when request is not for a stub service.
+     */
+    private static final int BAD_REQUEST = 400;
+
+    /**
+     * HTTP status code when request is throttled.
+     */
+    private static final int THROTTLED = 400;
+
+    /**
+     * Port to listen.
+     */
+    private final int port;
+
+    /**
+     * Fixed latency added to every response, milliseconds.
+     */
+    private final long latencyMs;
+
+    /**
+     * Random latency between 0 and jitter added to every response, milliseconds.
+     */
+    private final long jitterMs;
+
+    /**
+     * Fraction of requests (0 to 1) rejected with the service throttling error.
+     */
+    private final double throttleRate;
+
+    /**
+     * Fraction of requests (0 to 1) rejected with HTTP 500.
+     */
+    private final double errorRate;
+
+    /**
+     * Requests per second accepted before throttling, 0 is unlimited.
+     */
+    private final long maxTps;
+
+    /**
+     * Stub services by SigV4 service name.
+     */
+    private final Map<String, StubService> services;
+
+    /**
+     * Stub services by X-Amz-Target prefix.
+     */
+    private final Map<String, StubService> targets;
+
+    /**
+     * Second of current throughput window.
+     */
+    private final AtomicLong windowSecond = new AtomicLong();
+
+    /**
+     * Requests received on current throughput window.
+     */
+    private final AtomicLong windowCount = new AtomicLong();
+
+    /**
+     * Total requests received.
+     */
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * Total requests throttled.
+     */
+    private final LongAdder throttled = new LongAdder();
+
+    /**
+     * Total requests failed with injected errors.
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * JDK HTTP server.
+     */
+    private HttpServer server;
+
+    /**
+     * Executor of HTTP exchanges, one virtual thread per request so injected latency doesn't hold platform threads.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Create stub server, call {@link #start()} to listen.
+     * @param port
+     *        Port to listen.
+     * @param latencyMs
+     *        Fixed latency added to every response, milliseconds.
+     * @param jitterMs
+     *        Random latency between 0 and jitter added to every response, milliseconds.
+     * @param throttleRate
+     *        Fraction of requests (0 to 1) rejected with the service throttling error.
+     * @param errorRate
+     *        Fraction of requests (0 to 1) rejected with HTTP 500.
+     * @param maxTps
+     *        Requests per second accepted before throttling, 0 is unlimited.
+     * @param shards
+     *        Number of shards of every Kinesis stream.
+     */
+    public AWSStubServer(int port, long latencyMs, long jitterMs, double throttleRate, double errorRate,
+                         long maxTps, int shards) {
+        this.port = port;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.throttleRate = throttleRate;
+        this.errorRate = errorRate;
+        this.maxTps = maxTps;
+        List<StubService> stubs = List.of(new SQSStubService(),
+                new SNSStubService(),
+                new KinesisStubService(shards),
+                new EventBridgeStubService(),
+                new CognitoStubService(),
+                new S3StubService());
+        this.services = stubs.stream()
+                .collect(Collectors.toMap(StubService::getServiceName, s -> s));
+        this.targets = stubs.stream()
+                .filter(s -> s.getTargetPrefix() != null)
+                .collect(Collectors.toMap(StubService::getTargetPrefix, s -> s));
+    }
+
+    /**
+     * Start stub server on the port, or return the one already running on it.
+     * @param stub
+     *        Stub server to start when port is free.
+     * @return Stub server listening on the port.
+     * @throws IOException
+     *         Exception when the port can't be bound.
+     */
+    public static synchronized AWSStubServer startShared(AWSStubServer stub) throws IOException {
+        AWSStubServer running = SERVERS.get(stub.port);
+        if (running != null) {
+            return running;
+        }
+        stub.start();
+        SERVERS.put(stub.port, stub);
+        return stub;
+    }
+
+    /**
+     * Stop the stub server running on the port, if any.
+     * @param port
+     *        Port of the stub server.
+     * @return Stub server stopped, empty when nothing was running.
+     */
+    public static synchronized Optional<AWSStubServer> stopShared(int port) {
+        Optional<AWSStubServer> running = Optional.ofNullable(SERVERS.remove(port));
+        running.ifPresent(AWSStubServer::stop);
+        return running;
+    }
+
+    /**
+     * Bind port and serve requests. Disables CBOR on Kinesis client unless it was configured explicitly.
+     * @throws IOException
+     *         Exception when the port can't be bound.
+     */
+    public void start() throws IOException {
+        if (System.getProperty(CBOR_ENABLED_PROPERTY) == null) {
+            System.setProperty(CBOR_ENABLED_PROPERTY, Boolean.FALSE.toString());
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::exchange);
+        server.start();
+        log.info("AWS stub server listening on port {}", port);
+    }
+
+    /**
+     * Stop serving requests.
+     */
+    public void stop() {
+        Optional.ofNullable(server).ifPresent(s -> s.stop(0));
+        Optional.ofNullable(executor).ifPresent(ExecutorService::shutdownNow);
+        log.info("AWS stub server stopped on port {}. {}", port, getStats());
+    }
+
+    /**
+     * Summary of requests served.
+     * @return Requests, throttled and errors count.
+     */
+    public String getStats() {
+        return String.format("Requests: %d \nThrottled: %d \nErrors: %d",
+                requests.sum(), throttled.sum(), errors.sum());
+    }
+
+    /**
+     * Get port the server listens.
+     * @return port.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Read HTTP exchange, route it to the stub service and write the response.
+     * @param exchange
+     *        HTTP request and response.
+     */
+    private void exchange(HttpExchange exchange) {
+        try {
+            Map<String, String> headers = new HashMap<>();
+            exchange.getRequestHeaders().forEach((name, values) ->
+                    headers.put(name.toLowerCase(), values.isEmpty() ? "" : values.get(0)));
+            StubRequest request = new StubRequest(exchange.getRequestMethod(),
+                    exchange.getRequestURI().getRawPath(),
+                    exchange.getRequestURI().getRawQuery(),
+                    headers,
+                    exchange.getRequestBody().readAllBytes());
+            write(exchange, dispatch(request));
+        } catch (IOException | RuntimeException e) {
+            log.error("AWS stub server failed to serve request", e);
+            try {
+                write(exchange, new StubResponse(INTERNAL_ERROR, "text/plain", String.valueOf(e.getMessage())));
+            } catch (IOException ignore) {
+                // Client already gone.
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Route request to the stub service, injecting latency, throttling and errors.
+     * @param request
+     *        Request received.
+     * @return Response to send.
+     * @throws IOException
+     *         Exception when the request body can't be read.
+     */
+    private StubResponse dispatch(StubRequest request) throws IOException {
+        requests.increment();
+        StubService service = Optional.ofNullable(request.getService())
+                .map(services::get)
+                .orElseGet(() -> Optional.ofNullable(request.getTarget())
+                        .map(target -> targets.get(target.substring(0, Math.max(0, target.indexOf('.')))))
+                        .orElse(null));
+        if (service == null) {
+            return new StubResponse(BAD_REQUEST, "text/plain", "Service not supported by awsmeter stub: " +
+                    Objects.toString(request.getService(), request.getTarget()));
+        }
+
+        injectLatency();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (isOverMaxTps() || random.nextDouble() < throttleRate) {
+            throttled.increment();
+            return service.error(request, THROTTLED, service.getThrottlingCode(), "Rate exceeded");
+        }
+        if (random.nextDouble() < errorRate) {
+            errors.increment();
+            return service.error(request, INTERNAL_ERROR, "InternalFailure", "Injected error");
+        }
+        return service.handle(request);
+    }
+
+    /**
+     * Sleep fixed latency plus random jitter.
+     */
+    private void injectLatency() {
+        long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Count request on the current one second window and check max requests per second.
+     * @return true when the request exceeds max requests per second.
+     */
+    private boolean isOverMaxTps() {
+        if (maxTps <= 0) {
+            return false;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        long current = windowSecond.get();
+        if (second != current && windowSecond.compareAndSet(current, second)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() > maxTps;
+    }
+
+    /**
+     * Write response status, headers and body.
+     * @param exchange
+     *        HTTP request and response.
+     * @param response
+     *        Stub response.
+     * @throws IOException
+     *         Exception when the client closed the connection.
+     */
+    private static void write(HttpExchange exchange, StubResponse response) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", response.getContentType());
+        response.getHeaders().forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        byte[] body = response.getBody();
+        exchange.sendResponseHeaders(response.getStatus(), body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Run stub server standalone, out of JMeter process.
+     * Arguments: port, latency ms, jitter ms, throttle rate, error rate, max tps and Kinesis shards.
+     * @param args
+     *        Command line arguments, all optional.
+     * @throws IOException
+     *         Exception when the port can't be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        String[] values = Stream.concat(Stream.of(args), Stream.of("4566", "0", "0", "0", "0", "0", "4").skip(args.length))
+                .toArray(String[]::new);
+        new AWSStubServer(Integer.parseInt(values[0]),
+                Long.parseLong(values[1]),
+                Long.parseLong(values[2]),
+                Double.parseDouble(values[3]),
+                Double.parseDouble(values[4]),
+                Long.parseLong(values[5]),
+                Integer.parseInt(values[6]))
+                .start();
+    }
+}
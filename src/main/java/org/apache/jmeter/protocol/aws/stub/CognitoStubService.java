@@ -0,0 +1,89 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Cognito Identity Provider stand-in. Supports AdminCreateUser, AdminSetUserPassword and AdminInitiateAuth on
+ * AWS JSON 1.1 protocol. Users are not stored, every login succeeds with random tokens.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class CognitoStubService extends StubService {
+
+    /**
+     * Token lifetime in seconds.
+     */
+    private static final int EXPIRES_IN = 3600;
+
+    @Override
+    public String getServiceName() {
+        return "cognito-idp";
+    }
+
+    @Override
+    public String getTargetPrefix() {
+        return "AWSCognitoIdentityProviderService";
+    }
+
+    @Override
+    public String getThrottlingCode() {
+        return "TooManyRequestsException";
+    }
+
+    @Override
+    public StubResponse handle(StubRequest request) throws IOException {
+        String operation = String.valueOf(request.getOperation());
+        switch (operation) {
+            case "AdminCreateUser":
+                return adminCreateUser(request);
+            case "AdminSetUserPassword":
+                return json(MAPPER.createObjectNode());
+            case "AdminInitiateAuth":
+                return adminInitiateAuth();
+            default:
+                return unknownOperation(request);
+        }
+    }
+
+    /**
+     * Reply with the user created with the requested username and attributes.
+     * @param request
+     *        Request received by stub server.
+     * @return AdminCreateUser response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse adminCreateUser(StubRequest request) throws IOException {
+        JsonNode json = readJson(request);
+        ObjectNode rsp = MAPPER.createObjectNode();
+        ObjectNode user = rsp.putObject("User")
+                .put("Username", json.path("Username").asText())
+                .put("Enabled", true)
+                .put("UserStatus", "FORCE_CHANGE_PASSWORD");
+        ArrayNode attributes = user.putArray("Attributes");
+        json.path("UserAttributes").forEach(attributes::add);
+        return json(rsp);
+    }
+
+    /**
+     * Reply with random access, id and refresh tokens.
+     * @return AdminInitiateAuth response.
+     */
+    private StubResponse adminInitiateAuth() {
+        ObjectNode rsp = MAPPER.createObjectNode();
+        rsp.putObject("ChallengeParameters");
+        rsp.putObject("AuthenticationResult")
+                .put("AccessToken", UUID.randomUUID().toString())
+                .put("IdToken", UUID.randomUUID().toString())
+                .put("RefreshToken", UUID.randomUUID().toString())
+                .put("ExpiresIn", EXPIRES_IN)
+                .put("TokenType", "Bearer");
+        return json(rsp);
+    }
+}
@@ -0,0 +1,78 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * EventBridge stand-in. Supports PutEvents and DescribeEventBus on AWS JSON 1.1 protocol; any event bus is accepted.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class EventBridgeStubService extends StubService {
+
+    @Override
+    public String getServiceName() {
+        return "events";
+    }
+
+    @Override
+    public String getTargetPrefix() {
+        return "AWSEvents";
+    }
+
+    @Override
+    public String getThrottlingCode() {
+        return "ThrottlingException";
+    }
+
+    @Override
+    public StubResponse handle(StubRequest request) throws IOException {
+        switch (String.valueOf(request.getOperation())) {
+            case "PutEvents":
+                return putEvents(request);
+            case "DescribeEventBus":
+                return describeEventBus(request);
+            default:
+                return unknownOperation(request);
+        }
+    }
+
+    /**
+     * Accept all entries and reply with one event id per entry.
+     * @param request
+     *        Request received by stub server.
+     * @return PutEvents response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse putEvents(StubRequest request) throws IOException {
+        JsonNode entries = readJson(request).path("Entries");
+        ObjectNode rsp = MAPPER.createObjectNode().put("FailedEntryCount", 0);
+        ArrayNode results = rsp.putArray("Entries");
+        for (int i = 0; i < entries.size(); i++) {
+            results.addObject().put("EventId", UUID.randomUUID().toString());
+        }
+        return json(rsp);
+    }
+
+    /**
+     * Reply with the name and ARN of the event bus, <code>default</code> when no name is given.
+     * @param request
+     *        Request received by stub server.
+     * @return DescribeEventBus response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse describeEventBus(StubRequest request) throws IOException {
+        String name = readJson(request).path("Name").asText("default");
+        String eventBusName = name.isEmpty() ? "default" : name.substring(name.lastIndexOf('/') + 1);
+        return json(MAPPER.createObjectNode()
+                .put("Name", eventBusName)
+                .put("Arn", String.format("arn:aws:events:us-east-1:%s:event-bus/%s", ACCOUNT_ID, eventBusName)));
+    }
+}
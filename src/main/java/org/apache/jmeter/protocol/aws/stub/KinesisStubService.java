@@ -0,0 +1,446 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Kinesis Data Stream stand-in. Supports PutRecord, ListShards, DescribeStreamSummary, GetShardIterator and
+ * GetRecords on AWS JSON 1.1 protocol; any stream name is accepted and records are routed to shards by the MD5 hash
+ * of the partition key, like Kinesis does. Records put are kept by stream and shard to be read, the oldest trimmed
+ * beyond {@value #MAX_RECORDS} per shard.
+ * The SDK must send JSON instead of CBOR, see {@link AWSStubServer#start()}.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class KinesisStubService extends StubService {
+
+    /**
+     * Content type of Kinesis CBOR protocol.
+     */
+    private static final String CBOR = "application/x-amz-cbor-1.1";
+
+    /**
+     * Size of Kinesis hash key space, 2^128.
+     */
+    private static final BigInteger HASH_KEY_SPACE = BigInteger.ONE.shiftLeft(128);
+
+    /**
+     * Max records kept by shard to be read.
+     */
+    static final int MAX_RECORDS = 10_000;
+
+    /**
+     * Max records read at once, as Kinesis allows.
+     */
+    private static final int MAX_LIMIT = 10_000;
+
+    /**
+     * Separator of stream name, shard and position on shard iterators.
+     */
+    private static final String ITERATOR_SEPARATOR = "|";
+
+    /**
+     * Starting hash key of each shard, shards split the hash key space evenly.
+     */
+    private final BigInteger[] startingHashKeys;
+
+    /**
+     * Records of each shard, by stream name.
+     */
+    private final Map<String, ShardRecords[]> streams = new ConcurrentHashMap<>();
+
+    /**
+     * Create Kinesis stand-in.
+     * @param shards
+     *        Number of shards of every stream.
+     */
+    public KinesisStubService(int shards) {
+        startingHashKeys = new BigInteger[Math.max(1, shards)];
+        for (int i = 0; i < startingHashKeys.length; i++) {
+            startingHashKeys[i] = HASH_KEY_SPACE.multiply(BigInteger.valueOf(i))
+                    .divide(BigInteger.valueOf(startingHashKeys.length));
+        }
+    }
+
+    @Override
+    public String getServiceName() {
+        return "kinesis";
+    }
+
+    @Override
+    public String getTargetPrefix() {
+        return "Kinesis_20131202";
+    }
+
+    @Override
+    public String getThrottlingCode() {
+        return "ProvisionedThroughputExceededException";
+    }
+
+    @Override
+    public StubResponse handle(StubRequest request) throws IOException {
+        if (String.valueOf(request.getHeader("content-type")).startsWith(CBOR)) {
+            return error(request, BAD_REQUEST, "SerializationException",
+                    "awsmeter stub only supports JSON, run JMeter with -Daws.cborEnabled=false");
+        }
+        switch (String.valueOf(request.getOperation())) {
+            case "PutRecord":
+                return putRecord(request);
+            case "ListShards":
+                return listShards();
+            case "DescribeStreamSummary":
+                return describeStreamSummary(request);
+            case "GetShardIterator":
+                return getShardIterator(request);
+            case "GetRecords":
+                return getRecords(request);
+            default:
+                return unknownOperation(request);
+        }
+    }
+
+    /**
+     * Reply with the shards of the stream and their hash key ranges, all shards are open.
+     * @return ListShards response.
+     */
+    private StubResponse listShards() {
+        ObjectNode response = MAPPER.createObjectNode();
+        ArrayNode shards = response.putArray("Shards");
+        for (int i = 0; i < startingHashKeys.length; i++) {
+            BigInteger ending = (i + 1 < startingHashKeys.length ? startingHashKeys[i + 1] : HASH_KEY_SPACE)
+                    .subtract(BigInteger.ONE);
+            ObjectNode shard = shards.addObject()
+                    .put("ShardId", shardId(i));
+            shard.putObject("HashKeyRange")
+                    .put("StartingHashKey", startingHashKeys[i].toString())
+                    .put("EndingHashKey", ending.toString());
+            shard.putObject("SequenceNumberRange")
+                    .put("StartingSequenceNumber", String.format("%056d", 0));
+        }
+        return json(response);
+    }
+
+    /**
+     * Reply with an active provisioned stream with all its shards open and no consumer.
+     * @param request
+     *        Request received by stub server.
+     * @return DescribeStreamSummary response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse describeStreamSummary(StubRequest request) throws IOException {
+        String streamName = readJson(request).path("StreamName").asText();
+        ObjectNode response = MAPPER.createObjectNode();
+        ObjectNode summary = response.putObject("StreamDescriptionSummary")
+                .put("StreamName", streamName)
+                .put("StreamARN", String.format("arn:aws:kinesis:us-east-1:%s:stream/%s", ACCOUNT_ID, streamName))
+                .put("StreamStatus", "ACTIVE")
+                .put("RetentionPeriodHours", 24)
+                .put("StreamCreationTimestamp", 0)
+                .put("EncryptionType", "NONE")
+                .put("OpenShardCount", startingHashKeys.length)
+                .put("ConsumerCount", 0);
+        summary.putObject("StreamModeDetails").put("StreamMode", "PROVISIONED");
+        summary.putArray("EnhancedMonitoring").addObject().putArray("ShardLevelMetrics");
+        return json(response);
+    }
+
+    /**
+     * Route record to its shard, keep it there and reply with shard id and sequence number.
+     * @param request
+     *        Request received by stub server.
+     * @return PutRecord response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse putRecord(StubRequest request) throws IOException {
+        JsonNode json = readJson(request);
+        BigInteger hashKey = json.hasNonNull("ExplicitHashKey")
+                ? new BigInteger(json.get("ExplicitHashKey").asText())
+                : new BigInteger(1, newMd5().digest(json.path("PartitionKey").asText().getBytes(StandardCharsets.UTF_8)));
+        int shard = shardOf(hashKey);
+        long sequence = shards(json.path("StreamName").asText())[shard]
+                .put(json.path("PartitionKey").asText(), json.path("Data").asText());
+        return json(MAPPER.createObjectNode()
+                .put("ShardId", shardId(shard))
+                .put("SequenceNumber", String.format("%056d", sequence))
+                .put("EncryptionType", "NONE"));
+    }
+
+    /**
+     * Reply with an iterator at the position of the iterator type on the shard. The iterator carries the stream,
+     * shard and sequence number of the next record to read.
+     * @param request
+     *        Request received by stub server.
+     * @return GetShardIterator response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse getShardIterator(StubRequest request) throws IOException {
+        JsonNode json = readJson(request);
+        String streamName = json.path("StreamName").asText();
+        int shard = parseShardId(json.path("ShardId").asText());
+        if (shard < 0) {
+            return error(request, BAD_REQUEST, "ResourceNotFoundException",
+                    "Shard " + json.path("ShardId").asText() + " in stream " + streamName + " not found");
+        }
+        ShardRecords records = shards(streamName)[shard];
+        long position;
+        try {
+            switch (json.path("ShardIteratorType").asText()) {
+                case "TRIM_HORIZON":
+                    position = 0;
+                    break;
+                case "LATEST":
+                    position = records.getLast() + 1;
+                    break;
+                case "AT_SEQUENCE_NUMBER":
+                    position = Long.parseLong(json.path("StartingSequenceNumber").asText());
+                    break;
+                case "AFTER_SEQUENCE_NUMBER":
+                    position = Long.parseLong(json.path("StartingSequenceNumber").asText()) + 1;
+                    break;
+                case "AT_TIMESTAMP":
+                    position = records.getAt((long) (json.path("Timestamp").asDouble() * 1000));
+                    break;
+                default:
+                    return error(request, BAD_REQUEST, "InvalidArgumentException",
+                            "Shard iterator type not supported: " + json.path("ShardIteratorType").asText());
+            }
+        } catch (NumberFormatException e) {
+            return error(request, BAD_REQUEST, "InvalidArgumentException",
+                    "Invalid sequence number: " + e.getMessage());
+        }
+        return json(MAPPER.createObjectNode().put("ShardIterator", iterator(streamName, shard, position)));
+    }
+
+    /**
+     * Reply with the records of the shard from the iterator position, up to the limit, the iterator of the next ones
+     * and how far behind the last record put the next record to read is.
+     * @param request
+     *        Request received by stub server.
+     * @return GetRecords response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse getRecords(StubRequest request) throws IOException {
+        JsonNode json = readJson(request);
+        String[] iterator;
+        int shard;
+        long position;
+        try {
+            iterator = new String(Base64.getUrlDecoder().decode(json.path("ShardIterator").asText()),
+                    StandardCharsets.UTF_8).split(Pattern.quote(ITERATOR_SEPARATOR), 3);
+            shard = Integer.parseInt(iterator[1]);
+            position = Long.parseLong(iterator[2]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return error(request, BAD_REQUEST, "InvalidArgumentException", "Invalid shard iterator");
+        }
+        if (shard < 0 || shard >= startingHashKeys.length) {
+            return error(request, BAD_REQUEST, "InvalidArgumentException", "Invalid shard iterator");
+        }
+
+        int limit = Math.min(Math.max(1, json.path("Limit").asInt(MAX_LIMIT)), MAX_LIMIT);
+        List<StubRecord> records = new ArrayList<>();
+        long millisBehind = shards(iterator[0])[shard].read(position, limit, records);
+        ObjectNode response = MAPPER.createObjectNode();
+        ArrayNode items = response.putArray("Records");
+        for (StubRecord record : records) {
+            items.addObject()
+                    .put("SequenceNumber", String.format("%056d", record.sequence))
+                    .put("ApproximateArrivalTimestamp", record.arrival / 1000d)
+                    .put("Data", record.data)
+                    .put("PartitionKey", record.partitionKey);
+        }
+        long next = records.isEmpty() ? position : records.get(records.size() - 1).sequence + 1;
+        return json(response.put("NextShardIterator", iterator(iterator[0], shard, next))
+                .put("MillisBehindLatest", millisBehind));
+    }
+
+    /**
+     * Records of the shards of a stream, created on the first use.
+     * @param streamName
+     *        Stream name.
+     * @return Records by shard index.
+     */
+    private ShardRecords[] shards(String streamName) {
+        return streams.computeIfAbsent(streamName, k -> {
+            ShardRecords[] shards = new ShardRecords[startingHashKeys.length];
+            Arrays.setAll(shards, i -> new ShardRecords());
+            return shards;
+        });
+    }
+
+    /**
+     * Encode a shard iterator.
+     * @param streamName
+     *        Stream name.
+     * @param shard
+     *        Shard index.
+     * @param position
+     *        Sequence number of the next record to read.
+     * @return Shard iterator.
+     */
+    private static String iterator(String streamName, int shard, long position) {
+        return Base64.getUrlEncoder().encodeToString(String.join(ITERATOR_SEPARATOR, streamName,
+                String.valueOf(shard), String.valueOf(position)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse shard index of a shard id, <code>shardId-000000000000</code>.
+     * @param shardId
+     *        Shard id.
+     * @return Shard index, -1 when the stream has no such shard.
+     */
+    private int parseShardId(String shardId) {
+        try {
+            int shard = Integer.parseInt(shardId.substring(shardId.lastIndexOf('-') + 1));
+            return shard < startingHashKeys.length ? shard : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Find the shard whose hash key range contains the hash key.
+     * @param hashKey
+     *        128 bits hash key.
+     * @return shard index.
+     */
+    int shardOf(BigInteger hashKey) {
+        int idx = Arrays.binarySearch(startingHashKeys, hashKey);
+        return idx >= 0 ? idx : -idx - 2;
+    }
+
+    /**
+     * Format shard id like Kinesis, <code>shardId-000000000000</code>.
+     * @param shard
+     *        Shard index.
+     * @return shard id.
+     */
+    static String shardId(int shard) {
+        return String.format("shardId-%012d", shard);
+    }
+
+    /**
+     * Records kept on a shard, by sequence number, guarded by itself.
+     */
+    private static final class ShardRecords {
+
+        /**
+         * Records by sequence number.
+         */
+        private final NavigableMap<Long, StubRecord> records = new TreeMap<>();
+
+        /**
+         * Last sequence number of the shard.
+         */
+        private long last;
+
+        /**
+         * Keep a record, trimming the oldest beyond the max.
+         * @param partitionKey
+         *        Partition key.
+         * @param data
+         *        Base64 data.
+         * @return Sequence number of the record.
+         */
+        private synchronized long put(String partitionKey, String data) {
+            last++;
+            records.put(last, new StubRecord(last, partitionKey, data));
+            if (records.size() > MAX_RECORDS) {
+                records.pollFirstEntry();
+            }
+            return last;
+        }
+
+        /**
+         * Last sequence number of the shard.
+         * @return Sequence number, 0 when no record was put.
+         */
+        private synchronized long getLast() {
+            return last;
+        }
+
+        /**
+         * Position of the first record put at or after a time.
+         * @param timestamp
+         *        Time, milliseconds.
+         * @return Sequence number of the record, the next one to put when there is none.
+         */
+        private synchronized long getAt(long timestamp) {
+            return records.values().stream()
+                    .filter(record -> record.arrival >= timestamp)
+                    .findFirst()
+                    .map(record -> record.sequence)
+                    .orElse(last + 1);
+        }
+
+        /**
+         * Read records from a position.
+         * @param position
+         *        Sequence number of the first record to read.
+         * @param limit
+         *        Max records to read.
+         * @param read
+         *        Records read.
+         * @return Milliseconds between the arrival of the next record to read and now, 0 when all were read.
+         */
+        private synchronized long read(long position, int limit, List<StubRecord> read) {
+            for (StubRecord record : records.tailMap(position, true).values()) {
+                if (read.size() == limit) {
+                    return System.currentTimeMillis() - record.arrival;
+                }
+                read.add(record);
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Record kept on its shard.
+     */
+    private static final class StubRecord {
+
+        /**
+         * Sequence number.
+         */
+        private final long sequence;
+
+        /**
+         * Partition key.
+         */
+        private final String partitionKey;
+
+        /**
+         * Base64 data, as put.
+         */
+        private final String data;
+
+        /**
+         * Time the record was put, milliseconds.
+         */
+        private final long arrival = System.currentTimeMillis();
+
+        private StubRecord(long sequence, String partitionKey, String data) {
+            this.sequence = sequence;
+            this.partitionKey = partitionKey;
+            this.data = data;
+        }
+    }
+}
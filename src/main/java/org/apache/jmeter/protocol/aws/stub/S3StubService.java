@@ -0,0 +1,224 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * S3 stand-in for payload offload and the S3 samplers. Supports PutObject, multipart upload (CreateMultipartUpload,
+ * UploadPart, CompleteMultipartUpload and AbortMultipartUpload) and GetObject with byte ranges on path style requests;
+ * any bucket is accepted and the objects are discarded, only their MD5 is returned as ETag because the SDK validates
+ * it, and their size is kept so GetObject returns zero bytes of the same size.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class S3StubService extends StubService {
+
+    /**
+     * S3 API XML namespace.
+     */
+    private static final String NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+    /**
+     * Prefix of <code>x-amz-content-sha256</code> when the body is sent with <code>aws-chunked</code> encoding.
+     */
+    private static final String STREAMING = "STREAMING-";
+
+    /**
+     * Object size by path, <code>/bucket/key</code>.
+     */
+    private final Map<String, Long> objects = new ConcurrentHashMap<>();
+
+    /**
+     * Bytes of the parts uploaded by multipart upload id.
+     */
+    private final Map<String, Long> uploads = new ConcurrentHashMap<>();
+
+    @Override
+    public String getServiceName() {
+        return "s3";
+    }
+
+    @Override
+    public String getTargetPrefix() {
+        return null;
+    }
+
+    @Override
+    public String getThrottlingCode() {
+        return "SlowDown";
+    }
+
+    @Override
+    public StubResponse handle(StubRequest request) {
+        String query = request.getQuery() == null ? "" : request.getQuery();
+        String uploadId = StubRequest.parseForm(query).get("uploadId");
+        switch (request.getMethod()) {
+            case "PUT":
+                byte[] object = decodeBody(request);
+                if (uploadId == null) {
+                    objects.put(request.getPath(), (long) object.length);
+                } else {
+                    uploads.merge(uploadId, (long) object.length, Long::sum);
+                }
+                return new StubResponse(200, XML, new byte[0])
+                        .withHeader("ETag", "\"" + md5Hex(object) + "\"")
+                        .withHeader("x-amz-request-id", UUID.randomUUID().toString());
+            case "POST":
+                if (query.startsWith("uploads")) {
+                    return s3Xml("InitiateMultipartUploadResult", String.format("%s<UploadId>%s</UploadId>",
+                            bucketAndKey(request), UUID.randomUUID()));
+                }
+                if (uploadId != null) {
+                    objects.put(request.getPath(), uploads.getOrDefault(uploadId, 0L));
+                    uploads.remove(uploadId);
+                    return s3Xml("CompleteMultipartUploadResult", String.format("%s<ETag>\"%s-1\"</ETag>",
+                            bucketAndKey(request), md5Hex(request.getBody())));
+                }
+                return unknownOperation(request);
+            case "GET":
+                return getObject(request);
+            case "DELETE":
+                if (uploadId == null) {
+                    objects.remove(request.getPath());
+                } else {
+                    uploads.remove(uploadId);
+                }
+                return new StubResponse(204, XML, new byte[0]);
+            default:
+                return unknownOperation(request);
+        }
+    }
+
+    /**
+     * Build error response in S3 REST XML format.
+     * @param request
+     *        Request received by stub server.
+     * @param status
+     *        HTTP status code.
+     * @param code
+     *        AWS error code.
+     * @param message
+     *        Error message.
+     * @return Error response.
+     */
+    @Override
+    public StubResponse error(StubRequest request, int status, String code, String message) {
+        String requestId = UUID.randomUUID().toString();
+        return new StubResponse(status, XML, String.format("<Error><Code>%s</Code><Message>%s</Message>" +
+                "<RequestId>%s</RequestId></Error>", code, escape(message), requestId))
+                .withHeader("x-amz-request-id", requestId);
+    }
+
+    /**
+     * GetObject of an object put before, whole or the byte range of the <code>Range: bytes=first-last</code> header.
+     * The body is zero bytes of the object size.
+     * @param request
+     *        Request received by stub server.
+     * @return Object response, NoSuchKey when the object wasn't put and InvalidRange when the range starts after the
+     * end of the object.
+     */
+    private StubResponse getObject(StubRequest request) {
+        Long size = objects.get(request.getPath());
+        if (size == null) {
+            return error(request, 404, "NoSuchKey", "The specified key does not exist.");
+        }
+        String range = request.getHeader("range");
+        if (range == null || !range.startsWith("bytes=")) {
+            byte[] object = new byte[Math.toIntExact(size)];
+            return new StubResponse(200, "application/octet-stream", object)
+                    .withHeader("ETag", "\"" + md5Hex(object) + "\"");
+        }
+        String[] bounds = range.substring("bytes=".length()).split("-", 2);
+        long first = Long.parseLong(bounds[0].trim());
+        long last = bounds.length < 2 || bounds[1].isBlank() ? size - 1
+                : Math.min(size - 1, Long.parseLong(bounds[1].trim()));
+        if (first >= size) {
+            return error(request, 416, "InvalidRange", "The requested range is not satisfiable");
+        }
+        return new StubResponse(206, "application/octet-stream", new byte[Math.toIntExact(last - first + 1)])
+                .withHeader("Content-Range", String.format("bytes %d-%d/%d", first, last, size))
+                .withHeader("ETag", "\"" + md5Hex(new byte[0]) + "\"");
+    }
+
+    /**
+     * Build S3 REST XML response.
+     * @param element
+     *        Root element name.
+     * @param content
+     *        XML elements inside the root element.
+     * @return Response with status 200.
+     */
+    private StubResponse s3Xml(String element, String content) {
+        return new StubResponse(200, XML, String.format("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<%1$s xmlns=\"%2$s\">%3$s</%1$s>", element, NAMESPACE, content))
+                .withHeader("x-amz-request-id", UUID.randomUUID().toString());
+    }
+
+    /**
+     * Bucket and key elements of the path style request, <code>/bucket/key</code>.
+     * @param request
+     *        Request received by stub server.
+     * @return Bucket and Key XML elements.
+     */
+    private static String bucketAndKey(StubRequest request) {
+        String path = request.getPath().startsWith("/") ? request.getPath().substring(1) : request.getPath();
+        int idx = path.indexOf('/');
+        return String.format("<Bucket>%s</Bucket><Key>%s</Key>",
+                escape(idx < 0 ? path : path.substring(0, idx)),
+                escape(idx < 0 ? "" : path.substring(idx + 1)));
+    }
+
+    /**
+     * Object bytes of the request, decoding <code>aws-chunked</code> encoding used by the SDK on plain HTTP:
+     * <code>size-hex[;chunk-signature=...]\r\ndata\r\n</code> chunks up to the zero size chunk.
+     * @param request
+     *        Request received by stub server.
+     * @return Object bytes.
+     */
+    static byte[] decodeBody(StubRequest request) {
+        String contentSha256 = request.getHeader("x-amz-content-sha256");
+        byte[] body = request.getBody();
+        if (contentSha256 == null || !contentSha256.startsWith(STREAMING)) {
+            return body;
+        }
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream(body.length);
+        int position = 0;
+        while (position < body.length) {
+            int lineEnd = indexOfCrLf(body, position);
+            if (lineEnd < 0) {
+                break;
+            }
+            String header = new String(body, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int extension = header.indexOf(';');
+            int size = Integer.parseInt((extension < 0 ? header : header.substring(0, extension)).trim(), 16);
+            if (size == 0) {
+                break;
+            }
+            int start = lineEnd + 2;
+            decoded.write(body, start, Math.min(size, body.length - start));
+            position = start + size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    /**
+     * Find next CRLF.
+     * @param bytes
+     *        Bytes to search.
+     * @param from
+     *        Start position.
+     * @return Position of CR, -1 when not found.
+     */
+    private static int indexOfCrLf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,85 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SNS stand-in. Supports Publish and GetTopicAttributes on AWS Query protocol; any topic ARN is accepted.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class SNSStubService extends StubService {
+
+    /**
+     * SNS API XML namespace.
+     */
+    private static final String NAMESPACE = "http://sns.amazonaws.com/doc/2010-03-31/";
+
+    /**
+     * FIFO topic name suffix.
+     */
+    private static final String FIFO_SUFFIX = ".fifo";
+
+    /**
+     * Sequence number of messages published on FIFO topics.
+     */
+    private final AtomicLong sequenceNumber = new AtomicLong();
+
+    @Override
+    public String getServiceName() {
+        return "sns";
+    }
+
+    @Override
+    public String getTargetPrefix() {
+        return null;
+    }
+
+    @Override
+    public String getThrottlingCode() {
+        return "Throttling";
+    }
+
+    @Override
+    public StubResponse handle(StubRequest request) {
+        switch (String.valueOf(request.getOperation())) {
+            case "Publish":
+                return publish(request);
+            case "GetTopicAttributes":
+                return getTopicAttributes(request);
+            default:
+                return unknownOperation(request);
+        }
+    }
+
+    /**
+     * Accept message and reply with message id and sequence number on FIFO topics.
+     * @param request
+     *        Request received by stub server.
+     * @return Publish response.
+     */
+    private StubResponse publish(StubRequest request) {
+        String topicArn = request.getParam("TopicArn");
+        String sequence = topicArn != null && topicArn.endsWith(FIFO_SUFFIX)
+                ? String.format("<SequenceNumber>%020d</SequenceNumber>", sequenceNumber.incrementAndGet())
+                : "";
+        return xml("Publish", NAMESPACE, String.format("<MessageId>%s</MessageId>%s",
+                UUID.randomUUID(), sequence));
+    }
+
+    /**
+     * Reply with the ARN, owner and FIFO flag of the topic.
+     * @param request
+     *        Request received by stub server.
+     * @return GetTopicAttributes response.
+     */
+    private StubResponse getTopicAttributes(StubRequest request) {
+        String topicArn = request.getParam("TopicArn");
+        return xml("GetTopicAttributes", NAMESPACE, String.format("<Attributes>" +
+                        "<entry><key>TopicArn</key><value>%s</value></entry>" +
+                        "<entry><key>Owner</key><value>%s</value></entry>" +
+                        "<entry><key>FifoTopic</key><value>%s</value></entry></Attributes>",
+                escape(topicArn), ACCOUNT_ID, topicArn != null && topicArn.endsWith(FIFO_SUFFIX)));
+    }
+}
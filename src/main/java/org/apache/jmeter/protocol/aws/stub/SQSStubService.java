@@ -0,0 +1,498 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQS stand-in. Supports GetQueueUrl, GetQueueAttributes, SendMessage, ReceiveMessage and DeleteMessageBatch on AWS
+ * JSON 1.0 and AWS Query protocols; any queue name is accepted. Message body and attributes MD5 are calculated like
+ * SQS does because the SDK validates them. Messages sent are kept by queue until received, the oldest dropped beyond
+ * {@value #MAX_MESSAGES} per queue; a message received is gone, there is no visibility timeout, so deleting it
+ * always succeeds.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class SQSStubService extends StubService {
+
+    /**
+     * SQS API XML namespace.
+     */
+    private static final String NAMESPACE = "http://queue.amazonaws.com/doc/2012-11-05/";
+
+    /**
+     * FIFO queue name suffix.
+     */
+    private static final String FIFO_SUFFIX = ".fifo";
+
+    /**
+     * Transport type of String and Number message attributes on MD5 calculation.
+     */
+    private static final byte STRING_TYPE_FIELD_INDEX = 1;
+
+    /**
+     * Transport type of Binary message attributes on MD5 calculation.
+     */
+    private static final byte BINARY_TYPE_FIELD_INDEX = 2;
+
+    /**
+     * Max messages kept by queue until received.
+     */
+    static final int MAX_MESSAGES = 10_000;
+
+    /**
+     * Max messages received at once, as SQS allows.
+     */
+    private static final int MAX_RECEIVE = 10;
+
+    /**
+     * Sequence number of messages published on FIFO queues.
+     */
+    private final AtomicLong sequenceNumber = new AtomicLong();
+
+    /**
+     * Messages sent and not received yet, by queue name.
+     */
+    private final Map<String, BlockingDeque<StubMessage>> queues = new ConcurrentHashMap<>();
+
+    @Override
+    public String getServiceName() {
+        return "sqs";
+    }
+
+    @Override
+    public String getTargetPrefix() {
+        return "AmazonSQS";
+    }
+
+    @Override
+    public String getThrottlingCode() {
+        return "RequestThrottled";
+    }
+
+    @Override
+    protected String getJsonContentType() {
+        return JSON_10;
+    }
+
+    @Override
+    public StubResponse handle(StubRequest request) throws IOException {
+        String operation = String.valueOf(request.getOperation());
+        switch (operation) {
+            case "GetQueueUrl":
+                return getQueueUrl(request);
+            case "SendMessage":
+                return sendMessage(request);
+            case "ReceiveMessage":
+                return receiveMessage(request);
+            case "DeleteMessageBatch":
+                return deleteMessageBatch(request);
+            case "GetQueueAttributes":
+                return getQueueAttributes(request);
+            default:
+                return unknownOperation(request);
+        }
+    }
+
+    /**
+     * Build queue URL from queue name and the host the client used.
+     * @param request
+     *        Request received by stub server.
+     * @return GetQueueUrl response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse getQueueUrl(StubRequest request) throws IOException {
+        String queueName = request.isJson() ? readJson(request).path("QueueName").asText() : request.getParam("QueueName");
+        String queueUrl = String.format("http://%s/%s/%s", request.getHeader("host"), ACCOUNT_ID, queueName);
+        if (request.isJson()) {
+            return json(MAPPER.createObjectNode().put("QueueUrl", queueUrl));
+        }
+        return xml("GetQueueUrl", NAMESPACE, String.format("<QueueUrl>%s</QueueUrl>", escape(queueUrl)));
+    }
+
+    /**
+     * Accept message, keep it on its queue and reply with message id, MD5 digests and sequence number on FIFO queues.
+     * @param request
+     *        Request received by stub server.
+     * @return SendMessage response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse sendMessage(StubRequest request) throws IOException {
+        String queueUrl;
+        String body;
+        String groupId;
+        Map<String, String[]> attributes = new TreeMap<>();
+        if (request.isJson()) {
+            JsonNode json = readJson(request);
+            queueUrl = json.path("QueueUrl").asText();
+            body = json.path("MessageBody").asText();
+            groupId = json.path("MessageGroupId").asText(null);
+            Iterator<Map.Entry<String, JsonNode>> fields = json.path("MessageAttributes").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                attributes.put(field.getKey(), new String[]{
+                        value.path("DataType").asText(),
+                        value.hasNonNull("StringValue") ? value.get("StringValue").asText() : null,
+                        value.hasNonNull("BinaryValue") ? value.get("BinaryValue").asText() : null});
+            }
+        } else {
+            queueUrl = request.getParam("QueueUrl");
+            body = request.getParam("MessageBody");
+            groupId = request.getParam("MessageGroupId");
+            for (int i = 1; request.getParam("MessageAttribute." + i + ".Name") != null; i++) {
+                String prefix = "MessageAttribute." + i + ".Value.";
+                attributes.put(request.getParam("MessageAttribute." + i + ".Name"), new String[]{
+                        request.getParam(prefix + "DataType"),
+                        request.getParam(prefix + "StringValue"),
+                        request.getParam(prefix + "BinaryValue")});
+            }
+        }
+
+        String messageId = UUID.randomUUID().toString();
+        String bodyMd5 = md5Hex(body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8));
+        String attributesMd5 = attributes.isEmpty() ? null : attributesMd5(attributes);
+        String sequence = queueUrl != null && queueUrl.endsWith(FIFO_SUFFIX)
+                ? String.format("%020d", sequenceNumber.incrementAndGet())
+                : null;
+        StubMessage message = new StubMessage(messageId, body, bodyMd5, attributes, attributesMd5, groupId, sequence);
+        BlockingDeque<StubMessage> queue = queue(queueUrl);
+        while (!queue.offerLast(message)) {
+            queue.pollFirst();
+        }
+
+        if (request.isJson()) {
+            ObjectNode rsp = MAPPER.createObjectNode()
+                    .put("MessageId", messageId)
+                    .put("MD5OfMessageBody", bodyMd5);
+            if (attributesMd5 != null) {
+                rsp.put("MD5OfMessageAttributes", attributesMd5);
+            }
+            if (sequence != null) {
+                rsp.put("SequenceNumber", sequence);
+            }
+            return json(rsp);
+        }
+        return xml("SendMessage", NAMESPACE, String.format("<MessageId>%s</MessageId><MD5OfMessageBody>%s</MD5OfMessageBody>%s%s",
+                messageId, bodyMd5,
+                attributesMd5 == null ? "" : "<MD5OfMessageAttributes>" + attributesMd5 + "</MD5OfMessageAttributes>",
+                sequence == null ? "" : "<SequenceNumber>" + sequence + "</SequenceNumber>"));
+    }
+
+    /**
+     * Reply with the messages of the queue, waiting up to the wait time for the first one, like long polling.
+     * @param request
+     *        Request received by stub server.
+     * @return ReceiveMessage response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse receiveMessage(StubRequest request) throws IOException {
+        String queueUrl;
+        int maxMessages;
+        int waitSeconds;
+        if (request.isJson()) {
+            JsonNode json = readJson(request);
+            queueUrl = json.path("QueueUrl").asText();
+            maxMessages = json.path("MaxNumberOfMessages").asInt(1);
+            waitSeconds = json.path("WaitTimeSeconds").asInt(0);
+        } else {
+            queueUrl = request.getParam("QueueUrl");
+            maxMessages = Integer.parseInt(Objects.requireNonNullElse(request.getParam("MaxNumberOfMessages"), "1"));
+            waitSeconds = Integer.parseInt(Objects.requireNonNullElse(request.getParam("WaitTimeSeconds"), "0"));
+        }
+
+        List<StubMessage> messages = new ArrayList<>();
+        BlockingDeque<StubMessage> queue = queue(queueUrl);
+        try {
+            StubMessage first = queue.pollFirst(Math.max(0, waitSeconds), TimeUnit.SECONDS);
+            if (first != null) {
+                messages.add(first);
+                queue.drainTo(messages, Math.min(Math.max(1, maxMessages), MAX_RECEIVE) - 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long received = System.currentTimeMillis();
+        if (request.isJson()) {
+            ObjectNode rsp = MAPPER.createObjectNode();
+            ArrayNode items = rsp.putArray("Messages");
+            messages.forEach(message -> message.toJson(items.addObject(), received));
+            return json(rsp);
+        }
+        StringBuilder result = new StringBuilder();
+        messages.forEach(message -> message.toXml(result, received));
+        return xml("ReceiveMessage", NAMESPACE, result.toString());
+    }
+
+    /**
+     * Reply every entry as deleted, messages received are already gone.
+     * @param request
+     *        Request received by stub server.
+     * @return DeleteMessageBatch response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse deleteMessageBatch(StubRequest request) throws IOException {
+        if (request.isJson()) {
+            ObjectNode rsp = MAPPER.createObjectNode();
+            ArrayNode successful = rsp.putArray("Successful");
+            readJson(request).path("Entries")
+                    .forEach(entry -> successful.addObject().put("Id", entry.path("Id").asText()));
+            rsp.putArray("Failed");
+            return json(rsp);
+        }
+        StringBuilder result = new StringBuilder();
+        for (int i = 1; request.getParam("DeleteMessageBatchRequestEntry." + i + ".Id") != null; i++) {
+            result.append("<DeleteMessageBatchResultEntry><Id>")
+                    .append(escape(request.getParam("DeleteMessageBatchRequestEntry." + i + ".Id")))
+                    .append("</Id></DeleteMessageBatchResultEntry>");
+        }
+        return xml("DeleteMessageBatch", NAMESPACE, result.toString());
+    }
+
+    /**
+     * Reply with the attributes requested among the queue ARN and the approximate number of messages, not visible
+     * and delayed, the messages kept are all visible.
+     * @param request
+     *        Request received by stub server.
+     * @return GetQueueAttributes response.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    private StubResponse getQueueAttributes(StubRequest request) throws IOException {
+        String queueUrl;
+        List<String> names = new ArrayList<>();
+        if (request.isJson()) {
+            JsonNode json = readJson(request);
+            queueUrl = json.path("QueueUrl").asText();
+            json.path("AttributeNames").forEach(name -> names.add(name.asText()));
+        } else {
+            queueUrl = request.getParam("QueueUrl");
+            for (int i = 1; request.getParam("AttributeName." + i) != null; i++) {
+                names.add(request.getParam("AttributeName." + i));
+            }
+        }
+
+        String queueName = String.valueOf(queueUrl).substring(String.valueOf(queueUrl).lastIndexOf('/') + 1);
+        Map<String, String> attributes = new TreeMap<>();
+        attributes.put("QueueArn", String.format("arn:aws:sqs:us-east-1:%s:%s", ACCOUNT_ID, queueName));
+        attributes.put("ApproximateNumberOfMessages", String.valueOf(queue(queueUrl).size()));
+        attributes.put("ApproximateNumberOfMessagesNotVisible", "0");
+        attributes.put("ApproximateNumberOfMessagesDelayed", "0");
+        if (!names.contains("All")) {
+            attributes.keySet().retainAll(names);
+        }
+
+        if (request.isJson()) {
+            ObjectNode rsp = MAPPER.createObjectNode();
+            ObjectNode values = rsp.putObject("Attributes");
+            attributes.forEach(values::put);
+            return json(rsp);
+        }
+        StringBuilder result = new StringBuilder();
+        attributes.forEach((name, value) -> result.append("<Attribute><Name>").append(name)
+                .append("</Name><Value>").append(escape(value)).append("</Value></Attribute>"));
+        return xml("GetQueueAttributes", NAMESPACE, result.toString());
+    }
+
+    /**
+     * Messages of a queue, created on the first use.
+     * @param queueUrl
+     *        Queue URL, the queue name is its last segment.
+     * @return Messages not received yet.
+     */
+    private BlockingDeque<StubMessage> queue(String queueUrl) {
+        String url = String.valueOf(queueUrl);
+        return queues.computeIfAbsent(url.substring(url.lastIndexOf('/') + 1),
+                k -> new LinkedBlockingDeque<>(MAX_MESSAGES));
+    }
+
+    /**
+     * MD5 of message attributes as SQS calculates it: attributes sorted by name, each field prefixed with its
+     * 4 bytes length, and a transport type byte before the value.
+     * @param attributes
+     *        Sorted map of attribute name and [data type, string value, base64 binary value].
+     * @return MD5 hex digest.
+     */
+    private String attributesMd5(Map<String, String[]> attributes) {
+        MessageDigest md5 = newMd5();
+        attributes.forEach((name, value) -> {
+            updateLengthAndBytes(md5, name.getBytes(StandardCharsets.UTF_8));
+            updateLengthAndBytes(md5, value[0].getBytes(StandardCharsets.UTF_8));
+            if (value[1] != null) {
+                md5.update(STRING_TYPE_FIELD_INDEX);
+                updateLengthAndBytes(md5, value[1].getBytes(StandardCharsets.UTF_8));
+            } else if (value[2] != null) {
+                md5.update(BINARY_TYPE_FIELD_INDEX);
+                updateLengthAndBytes(md5, Base64.getDecoder().decode(value[2]));
+            }
+        });
+        return toHex(md5.digest());
+    }
+
+    /**
+     * Update digest with 4 bytes big endian length followed by the bytes.
+     * @param md5
+     *        Message digest.
+     * @param bytes
+     *        Bytes to add.
+     */
+    private static void updateLengthAndBytes(MessageDigest md5, byte[] bytes) {
+        md5.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        md5.update(bytes);
+    }
+
+    /**
+     * Message kept on its queue until received.
+     */
+    private static final class StubMessage {
+
+        /**
+         * Message id.
+         */
+        private final String messageId;
+
+        /**
+         * Message body.
+         */
+        private final String body;
+
+        /**
+         * MD5 of the body.
+         */
+        private final String bodyMd5;
+
+        /**
+         * Message attributes, name and [data type, string value, base64 binary value].
+         */
+        private final Map<String, String[]> attributes;
+
+        /**
+         * MD5 of the attributes, null when there is none.
+         */
+        private final String attributesMd5;
+
+        /**
+         * Message group id of FIFO queues, null on standard queues.
+         */
+        private final String groupId;
+
+        /**
+         * Sequence number of FIFO queues, null on standard queues.
+         */
+        private final String sequence;
+
+        /**
+         * Time the message was sent, milliseconds.
+         */
+        private final long sent = System.currentTimeMillis();
+
+        private StubMessage(String messageId, String body, String bodyMd5, Map<String, String[]> attributes,
+                            String attributesMd5, String groupId, String sequence) {
+            this.messageId = messageId;
+            this.body = body;
+            this.bodyMd5 = bodyMd5;
+            this.attributes = attributes;
+            this.attributesMd5 = attributesMd5;
+            this.groupId = groupId;
+            this.sequence = sequence;
+        }
+
+        /**
+         * System attributes of the message as SQS returns them.
+         * @param received
+         *        Time the message was received, milliseconds.
+         * @return Attribute values by name.
+         */
+        private Map<String, String> getSystemAttributes(long received) {
+            Map<String, String> system = new TreeMap<>();
+            system.put("SentTimestamp", String.valueOf(sent));
+            system.put("ApproximateFirstReceiveTimestamp", String.valueOf(received));
+            system.put("ApproximateReceiveCount", "1");
+            system.put("SenderId", ACCOUNT_ID);
+            if (groupId != null) {
+                system.put("MessageGroupId", groupId);
+            }
+            if (sequence != null) {
+                system.put("SequenceNumber", sequence);
+            }
+            return system;
+        }
+
+        /**
+         * Write the message as AWS JSON protocol item of ReceiveMessage response.
+         * @param item
+         *        JSON object of the message.
+         * @param received
+         *        Time the message was received, milliseconds.
+         */
+        private void toJson(ObjectNode item, long received) {
+            item.put("MessageId", messageId)
+                    .put("ReceiptHandle", UUID.randomUUID().toString())
+                    .put("MD5OfBody", bodyMd5)
+                    .put("Body", body);
+            ObjectNode system = item.putObject("Attributes");
+            getSystemAttributes(received).forEach(system::put);
+            if (attributesMd5 == null) {
+                return;
+            }
+            item.put("MD5OfMessageAttributes", attributesMd5);
+            ObjectNode values = item.putObject("MessageAttributes");
+            attributes.forEach((name, value) -> {
+                ObjectNode attribute = values.putObject(name).put("DataType", value[0]);
+                if (value[1] != null) {
+                    attribute.put("StringValue", value[1]);
+                } else if (value[2] != null) {
+                    attribute.put("BinaryValue", value[2]);
+                }
+            });
+        }
+
+        /**
+         * Write the message as AWS Query protocol element of ReceiveMessage response.
+         * @param xml
+         *        Result elements.
+         * @param received
+         *        Time the message was received, milliseconds.
+         */
+        private void toXml(StringBuilder xml, long received) {
+            xml.append("<Message><MessageId>").append(messageId).append("</MessageId><ReceiptHandle>")
+                    .append(UUID.randomUUID()).append("</ReceiptHandle><MD5OfBody>").append(bodyMd5)
+                    .append("</MD5OfBody><Body>").append(escape(body)).append("</Body>");
+            getSystemAttributes(received).forEach((name, value) -> xml.append("<Attribute><Name>").append(name)
+                    .append("</Name><Value>").append(escape(value)).append("</Value></Attribute>"));
+            if (attributesMd5 != null) {
+                xml.append("<MD5OfMessageAttributes>").append(attributesMd5).append("</MD5OfMessageAttributes>");
+            }
+            attributes.forEach((name, value) -> xml.append("<MessageAttribute><Name>").append(escape(name))
+                    .append("</Name><Value>")
+                    .append(value[1] != null ? "<StringValue>" + escape(value[1]) + "</StringValue>" : "")
+                    .append(value[1] == null && value[2] != null ? "<BinaryValue>" + value[2] + "</BinaryValue>" : "")
+                    .append("<DataType>").append(escape(value[0])).append("</DataType></Value></MessageAttribute>"));
+            xml.append("</Message>");
+        }
+    }
+}
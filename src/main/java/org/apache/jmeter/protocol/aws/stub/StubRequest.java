@@ -0,0 +1,215 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP request received by the AWS stub server, with the AWS protocol details already extracted.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class StubRequest {
+
+    /**
+     * Service name from SigV4 credential scope, <code>Credential=AKID/date/region/service/aws4_request</code>.
+     */
+    private static final Pattern CREDENTIAL_SCOPE = Pattern.compile("Credential=[^/]+/[^/]+/[^/]+/([^/]+)/aws4_request");
+
+    /**
+     * Form URL encoded content type used by AWS Query protocol.
+     */
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+    /**
+     * HTTP method.
+     */
+    private final String method;
+
+    /**
+     * Request path.
+     */
+    private final String path;
+
+    /**
+     * Request query string, may be null.
+     */
+    private final String query;
+
+    /**
+     * Service name signed on the request, may be null.
+     */
+    private final String service;
+
+    /**
+     * Value of X-Amz-Target header (JSON protocols), may be null.
+     */
+    private final String target;
+
+    /**
+     * Request headers, one value per header.
+     */
+    private final Map<String, String> headers;
+
+    /**
+     * Raw request body.
+     */
+    private final byte[] body;
+
+    /**
+     * Form parameters (AWS Query protocol), empty for JSON protocols.
+     */
+    private final Map<String, String> params;
+
+    /**
+     * Create stub request.
+     * @param method
+     *        HTTP method.
+     * @param path
+     *        Request path.
+     * @param query
+     *        Request query string.
+     * @param headers
+     *        Request headers, keys in lower case.
+     * @param body
+     *        Raw request body.
+     */
+    public StubRequest(String method, String path, String query, Map<String, String> headers, byte[] body) {
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.headers = headers;
+        this.body = body;
+        this.target = headers.get("x-amz-target");
+        this.service = Optional.ofNullable(headers.get("authorization"))
+                .map(CREDENTIAL_SCOPE::matcher)
+                .filter(Matcher::find)
+                .map(m -> m.group(1))
+                .orElse(null);
+        this.params = Optional.ofNullable(headers.get("content-type"))
+                .filter(type -> type.startsWith(FORM_CONTENT_TYPE))
+                .map(type -> parseForm(new String(body, StandardCharsets.UTF_8)))
+                .orElse(Collections.emptyMap());
+    }
+
+    /**
+     * Decode <code>application/x-www-form-urlencoded</code> body.
+     * @param form
+     *        Form body.
+     * @return Map with parameter name and value.
+     */
+    static Map<String, String> parseForm(String form) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : form.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int idx = pair.indexOf('=');
+            String name = idx < 0 ? pair : pair.substring(0, idx);
+            String value = idx < 0 ? "" : pair.substring(idx + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    /**
+     * Operation name, from X-Amz-Target (<code>Prefix.Operation</code>) or from Query <code>Action</code> parameter.
+     * @return operation name or null.
+     */
+    public String getOperation() {
+        if (target != null) {
+            return target.substring(target.lastIndexOf('.') + 1);
+        }
+        return params.get("Action");
+    }
+
+    /**
+     * Check whether the request uses a JSON protocol (X-Amz-Target header) instead of AWS Query.
+     * @return true when request is JSON.
+     */
+    public boolean isJson() {
+        return target != null;
+    }
+
+    /**
+     * Get HTTP method.
+     * @return method.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Get request path.
+     * @return path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Get request query string.
+     * @return query string or null.
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Get service name signed on the request.
+     * @return service name or null.
+     */
+    public String getService() {
+        return service;
+    }
+
+    /**
+     * Get X-Amz-Target header.
+     * @return target or null.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Get request header.
+     * @param name
+     *        Header name, case insensitive.
+     * @return header value or null.
+     */
+    public String getHeader(String name) {
+        return headers.get(name.toLowerCase());
+    }
+
+    /**
+     * Get raw body.
+     * @return body.
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Get form parameter (AWS Query protocol).
+     * @param name
+     *        Parameter name.
+     * @return parameter value or null.
+     */
+    public String getParam(String name) {
+        return params.get(name);
+    }
+
+    /**
+     * Get all form parameters (AWS Query protocol).
+     * @return parameters map.
+     */
+    public Map<String, String> getParams() {
+        return params;
+    }
+}
@@ -0,0 +1,107 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HTTP response produced by an AWS stub service.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public class StubResponse {
+
+    /**
+     * HTTP status code.
+     */
+    private final int status;
+
+    /**
+     * Content type of body.
+     */
+    private final String contentType;
+
+    /**
+     * Response body.
+     */
+    private final byte[] body;
+
+    /**
+     * Extra response headers.
+     */
+    private final Map<String, String> headers = new LinkedHashMap<>();
+
+    /**
+     * Create stub response.
+     * @param status
+     *        HTTP status code.
+     * @param contentType
+     *        Content type of body.
+     * @param body
+     *        Response body.
+     */
+    public StubResponse(int status, String contentType, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    /**
+     * Create stub response with text body.
+     * @param status
+     *        HTTP status code.
+     * @param contentType
+     *        Content type of body.
+     * @param body
+     *        Response body encoded as UTF-8.
+     */
+    public StubResponse(int status, String contentType, String body) {
+        this(status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Add response header.
+     * @param name
+     *        Header name.
+     * @param value
+     *        Header value.
+     * @return this response.
+     */
+    public StubResponse withHeader(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    /**
+     * Get HTTP status code.
+     * @return status.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Get content type of body.
+     * @return content type.
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Get response body.
+     * @return body.
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Get extra response headers.
+     * @return headers map.
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+}
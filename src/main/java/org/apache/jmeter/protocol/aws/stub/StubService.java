@@ -0,0 +1,222 @@
+package org.apache.jmeter.protocol.aws.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * Base class of AWS service stand-ins served by {@link AWSStubServer}. Provides the response and error
+ * formats of AWS JSON and AWS Query protocols.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+public abstract class StubService {
+
+    /**
+     * JSON mapper shared by all stub services, thread safe once configured.
+     */
+    protected static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Content type of AWS JSON 1.0 protocol.
+     */
+    protected static final String JSON_10 = "application/x-amz-json-1.0";
+
+    /**
+     * Content type of AWS JSON 1.1 protocol.
+     */
+    protected static final String JSON_11 = "application/x-amz-json-1.1";
+
+    /**
+     * Content type of AWS Query protocol responses.
+     */
+    protected static final String XML = "text/xml";
+
+    /**
+     * HTTP status code for client errors.
+     */
+    protected static final int BAD_REQUEST = 400;
+
+    /**
+     * Fake AWS account id used on ARNs and URLs.
+     */
+    protected static final String ACCOUNT_ID = "000000000000";
+
+    /**
+     * Service name as signed on SigV4 credential scope, e.g. <code>sqs</code>.
+     * @return service name.
+     */
+    public abstract String getServiceName();
+
+    /**
+     * X-Amz-Target prefix of the service JSON protocol, used when the request is not signed.
+     * @return target prefix or null when service only uses AWS Query protocol.
+     */
+    public abstract String getTargetPrefix();
+
+    /**
+     * Handle request and build the service response.
+     * @param request
+     *        Request received by stub server.
+     * @return Response to send back.
+     * @throws IOException
+     *         Exception when the request body can't be read.
+     */
+    public abstract StubResponse handle(StubRequest request) throws IOException;
+
+    /**
+     * Error code the service returns when the request is throttled.
+     * @return throttling error code.
+     */
+    public abstract String getThrottlingCode();
+
+    /**
+     * Build error response in the protocol used by the request.
+     * @param request
+     *        Request received by stub server.
+     * @param status
+     *        HTTP status code.
+     * @param code
+     *        AWS error code.
+     * @param message
+     *        Error message.
+     * @return Error response.
+     */
+    public StubResponse error(StubRequest request, int status, String code, String message) {
+        String requestId = UUID.randomUUID().toString();
+        if (request.isJson()) {
+            ObjectNode body = MAPPER.createObjectNode()
+                    .put("__type", code)
+                    .put("message", message);
+            return new StubResponse(status, getJsonContentType(), body.toString())
+                    .withHeader("x-amzn-RequestId", requestId)
+                    .withHeader("x-amzn-ErrorType", code);
+        }
+        return new StubResponse(status, XML, String.format("<ErrorResponse><Error><Type>%s</Type><Code>%s</Code>" +
+                        "<Message>%s</Message></Error><RequestId>%s</RequestId></ErrorResponse>",
+                status < 500 ? "Sender" : "Receiver", code, escape(message), requestId))
+                .withHeader("x-amzn-RequestId", requestId);
+    }
+
+    /**
+     * Content type of JSON responses of the service.
+     * @return JSON content type.
+     */
+    protected String getJsonContentType() {
+        return JSON_11;
+    }
+
+    /**
+     * Build JSON response.
+     * @param body
+     *        JSON body.
+     * @return Response with status 200.
+     */
+    protected StubResponse json(JsonNode body) {
+        return new StubResponse(200, getJsonContentType(), body.toString())
+                .withHeader("x-amzn-RequestId", UUID.randomUUID().toString());
+    }
+
+    /**
+     * Build AWS Query XML response, <code>&lt;ActionResponse&gt;&lt;ActionResult&gt;...</code>.
+     * @param action
+     *        Query action name.
+     * @param namespace
+     *        XML namespace of the service API.
+     * @param result
+     *        XML elements inside the result element.
+     * @return Response with status 200.
+     */
+    protected StubResponse xml(String action, String namespace, String result) {
+        String requestId = UUID.randomUUID().toString();
+        return new StubResponse(200, XML, String.format("<%1$sResponse xmlns=\"%2$s\"><%1$sResult>%3$s</%1$sResult>" +
+                        "<ResponseMetadata><RequestId>%4$s</RequestId></ResponseMetadata></%1$sResponse>",
+                action, namespace, result, requestId))
+                .withHeader("x-amzn-RequestId", requestId);
+    }
+
+    /**
+     * Read JSON request body.
+     * @param request
+     *        Request received by stub server.
+     * @return JSON tree, empty object when body is empty.
+     * @throws IOException
+     *         Exception when body is not valid JSON.
+     */
+    protected JsonNode readJson(StubRequest request) throws IOException {
+        if (request.getBody().length == 0) {
+            return MAPPER.createObjectNode();
+        }
+        return MAPPER.readTree(request.getBody());
+    }
+
+    /**
+     * Error response for operations the stub doesn't implement.
+     * @param request
+     *        Request received by stub server.
+     * @return Error response.
+     */
+    protected StubResponse unknownOperation(StubRequest request) {
+        return error(request, BAD_REQUEST, request.isJson() ? "UnknownOperationException" : "InvalidAction",
+                "Operation not supported by awsmeter stub: " + request.getOperation());
+    }
+
+    /**
+     * MD5 hex digest.
+     * @param bytes
+     *        Bytes to digest.
+     * @return Lower case hex digest.
+     */
+    protected static String md5Hex(byte[] bytes) {
+        return toHex(newMd5().digest(bytes));
+    }
+
+    /**
+     * Create MD5 message digest.
+     * @return MessageDigest.
+     */
+    protected static MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Convert bytes to lower case hex.
+     * @param bytes
+     *        Bytes to convert.
+     * @return Hex string.
+     */
+    protected static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Escape XML special characters.
+     * @param value
+     *        Text value.
+     * @return Escaped value, empty when value is null.
+     */
+    protected static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,86 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the missing, duplicated and failed counts of {@link DeliveryTracker}. Streams are shared by the JVM, so
+ * each test records its own streams.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+class DeliveryTrackerTest {
+
+    @Test
+    void countsCountersBelowTheHighestNeverReceivedAsMissing() {
+        for (long counter : new long[]{0, 1, 2, 5, 6, 9}) {
+            assertTrue(DeliveryTracker.record("node/gaps:" + counter));
+        }
+        assertEquals("received 6, duplicates 0, missing 4, failed sends 0, gaps 3..4, 7..8",
+                DeliveryTracker.getReport().get("node/gaps"));
+    }
+
+    @Test
+    void countsCountersReceivedTwiceAsDuplicates() {
+        assertTrue(DeliveryTracker.record("node/duplicates:0"));
+        assertTrue(DeliveryTracker.record("node/duplicates:1"));
+        assertFalse(DeliveryTracker.record("node/duplicates:1"));
+        assertEquals("received 2, duplicates 1, missing 0, failed sends 0",
+                DeliveryTracker.getReport().get("node/duplicates"));
+    }
+
+    @Test
+    void excludesFailedSendsFromMissing() {
+        DeliveryTracker.exclude("node/failed:1");
+        DeliveryTracker.exclude("node/failed:2");
+        DeliveryTracker.record("node/failed:0");
+        DeliveryTracker.record("node/failed:3");
+        DeliveryTracker.record("node/failed:5");
+        assertEquals("received 3, duplicates 0, missing 1, failed sends 2, gaps 4",
+                DeliveryTracker.getReport().get("node/failed"));
+    }
+
+    @Test
+    void countsFailedSendsReceivedAnywayOnce() {
+        DeliveryTracker.exclude("node/retried:1");
+        DeliveryTracker.record("node/retried:0");
+        DeliveryTracker.record("node/retried:1");
+        DeliveryTracker.record("node/retried:2");
+        assertEquals("received 3, duplicates 0, missing 0, failed sends 1",
+                DeliveryTracker.getReport().get("node/retried"));
+    }
+
+    @Test
+    void ignoresFailedSendsAboveTheHighestReceived() {
+        DeliveryTracker.exclude("node/ahead:10");
+        DeliveryTracker.record("node/ahead:0");
+        DeliveryTracker.record("node/ahead:2");
+        assertEquals("received 2, duplicates 0, missing 1, failed sends 1, gaps 1",
+                DeliveryTracker.getReport().get("node/ahead"));
+    }
+
+    @Test
+    void keepsQueueUrlsAsStreamNames() {
+        DeliveryTracker.record("node/https://sqs.us-east-1.amazonaws.com/123456789012/orders:0");
+        DeliveryTracker.record("node/https://sqs.eu-west-1.amazonaws.com/123456789012/orders:1");
+        assertEquals("received 1, duplicates 0, missing 0, failed sends 0",
+                DeliveryTracker.getReport().get("node/https://sqs.us-east-1.amazonaws.com/123456789012/orders"));
+        assertEquals("received 1, duplicates 0, missing 1, failed sends 0, gaps 0",
+                DeliveryTracker.getReport().get("node/https://sqs.eu-west-1.amazonaws.com/123456789012/orders"));
+    }
+
+    @Test
+    void rejectsInvalidStamps() {
+        assertFalse(DeliveryTracker.record(null));
+        assertFalse(DeliveryTracker.record("node/invalid"));
+        assertFalse(DeliveryTracker.record("node/invalid:counter"));
+        assertFalse(DeliveryTracker.record("node/invalid:-1"));
+        assertFalse(DeliveryTracker.record("node/invalid:4294967296"));
+        assertNull(DeliveryTracker.getReport().get("node/invalid"));
+    }
+}
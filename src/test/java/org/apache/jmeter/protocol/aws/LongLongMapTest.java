@@ -0,0 +1,113 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests of the open addressing of {@link LongLongMap}: linear probing over colliding keys, the key 0 kept apart and
+ * the keys put again when the capacity doubles.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+class LongLongMapTest {
+
+    /**
+     * Initial capacity of a map of one expected key.
+     */
+    private static final int CAPACITY = 16;
+
+    @Test
+    void returnsMissingValueForKeysNotSet() {
+        LongLongMap map = new LongLongMap(16);
+        assertEquals(-1, map.get(42, -1));
+        assertEquals(-1, map.get(0, -1));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void keepsKeyZeroApartFromEmptySlots() {
+        LongLongMap map = new LongLongMap(16);
+        map.put(0, 7);
+        map.put(16, 8);
+        assertEquals(7, map.get(0, -1));
+        assertEquals(8, map.get(16, -1));
+        map.put(0, 9);
+        assertEquals(9, map.get(0, -1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void probesPastCollidingKeysAndWrapsAround() {
+        LongLongMap map = new LongLongMap(1);
+        long[] keys = keysOfHomeSlot(CAPACITY - 1, 8);
+        for (long key : keys) {
+            map.put(key, key);
+        }
+        for (long key : keys) {
+            map.put(key, -key);
+        }
+        for (long key : keys) {
+            assertEquals(-key, map.get(key, 0), "key " + key);
+        }
+        assertEquals(0, map.get(keysOfHomeSlot(CAPACITY - 1, 9)[8], 0));
+        assertEquals(keys.length, map.size());
+    }
+
+    @Test
+    void keepsExtremeKeys() {
+        LongLongMap map = new LongLongMap(16);
+        map.put(Long.MIN_VALUE, 1);
+        map.put(Long.MAX_VALUE, 2);
+        map.put(-1, 3);
+        assertEquals(1, map.get(Long.MIN_VALUE, 0));
+        assertEquals(2, map.get(Long.MAX_VALUE, 0));
+        assertEquals(3, map.get(-1, 0));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void keepsKeysWhenCapacityDoubles() {
+        LongLongMap map = new LongLongMap(1);
+        int keys = 100_000;
+        for (int i = 0; i < keys; i++) {
+            map.put(LongLongMap.hash("key-" + i), i);
+        }
+        for (int i = 0; i < keys; i += 2) {
+            map.put(LongLongMap.hash("key-" + i), -i);
+        }
+        assertEquals(keys, map.size());
+        for (int i = 0; i < keys; i++) {
+            assertEquals(i % 2 == 0 ? -i : i, map.get(LongLongMap.hash("key-" + i), Long.MIN_VALUE), "key-" + i);
+        }
+    }
+
+    @Test
+    void hashesTextsApart() {
+        assertEquals(LongLongMap.hash("orders"), LongLongMap.hash("orders"));
+        assertNotEquals(LongLongMap.hash("orders"), LongLongMap.hash("orderz"));
+        assertNotEquals(LongLongMap.hash("ab"), LongLongMap.hash("ba"));
+    }
+
+    /**
+     * Keys of the same home slot, the mix of {@link LongLongMap} on the initial capacity.
+     * @param slot
+     *        Home slot.
+     * @param count
+     *        Number of keys.
+     * @return Keys.
+     */
+    private static long[] keysOfHomeSlot(int slot, int count) {
+        long[] keys = new long[count];
+        int found = 0;
+        for (long key = 1; found < count; key++) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            if (((int) (h ^ (h >>> 32)) & (CAPACITY - 1)) == slot) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,131 @@
+package org.apache.jmeter.protocol.aws;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the out of order, concurrent, redelivered and gap counts of {@link OrderVerifier}. Counts are shared by the
+ * JVM, so each test checks the counts it added, on keys of its own.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+class OrderVerifierTest {
+
+    @Test
+    void acceptsSequencesInOrder() {
+        Map<String, Long> before = counts();
+        for (int sequence = 0; sequence < 5; sequence++) {
+            assertTrue(OrderVerifier.verify("in-order", "node/queue:" + sequence));
+        }
+        assertEquals(1, added(before, "Ordered keys"));
+        assertEquals(5, added(before, "Ordered records"));
+        assertEquals(0, added(before, "Out of order") + added(before, "Sequence gaps") +
+                added(before, "Redelivered"));
+    }
+
+    @Test
+    void countsSkippedSequencesAsGaps() {
+        Map<String, Long> before = counts();
+        assertTrue(OrderVerifier.verify("gaps", "node/queue:0"));
+        assertTrue(OrderVerifier.verify("gaps", "node/queue:3"));
+        assertEquals(2, added(before, "Sequence gaps"));
+    }
+
+    @Test
+    void countsLastSequenceAgainAsRedelivered() {
+        Map<String, Long> before = counts();
+        assertTrue(OrderVerifier.verify("redelivered", "node/queue:0"));
+        assertTrue(OrderVerifier.verify("redelivered", "node/queue:0"));
+        assertEquals(1, added(before, "Redelivered"));
+    }
+
+    @Test
+    void failsLowerSequences() {
+        Map<String, Long> before = counts();
+        assertTrue(OrderVerifier.verify("out-of-order", "node/queue:0"));
+        assertTrue(OrderVerifier.verify("out-of-order", "node/queue:2"));
+        assertFalse(OrderVerifier.verify("out-of-order", "node/queue:1"));
+        assertTrue(OrderVerifier.verify("out-of-order", "node/queue:3"));
+        assertEquals(1, added(before, "Out of order"));
+        assertEquals(1, added(before, "Sequence gaps"));
+    }
+
+    @Test
+    void countsLowerSequencesSentConcurrentlyApart() {
+        Map<String, Long> before = counts();
+        assertTrue(OrderVerifier.verify("concurrent", "node/queue:0"));
+        assertTrue(OrderVerifier.verify("concurrent", "node/queue:2" + OrderStamp.CONCURRENT));
+        assertTrue(OrderVerifier.verify("concurrent", "node/queue:1"));
+        assertTrue(OrderVerifier.verify("concurrent", "node/queue:4"));
+        assertTrue(OrderVerifier.verify("concurrent", "node/queue:3" + OrderStamp.CONCURRENT));
+        assertEquals(2, added(before, "Concurrent sends reordered"));
+        assertEquals(0, added(before, "Out of order"));
+    }
+
+    @Test
+    void keepsKeysOfEachTargetApart() {
+        Map<String, Long> before = counts();
+        assertTrue(OrderVerifier.verify("group", "node/us-east-1/stream:5"));
+        assertTrue(OrderVerifier.verify("group", "node/eu-west-1/stream:0"));
+        assertTrue(OrderVerifier.verify("group", "node/us-east-1/stream:6"));
+        assertTrue(OrderVerifier.verify(null, "node/us-east-1/stream:0"));
+        assertEquals(3, added(before, "Ordered keys"));
+        assertEquals(0, added(before, "Out of order") + added(before, "Sequence gaps"));
+    }
+
+    @Test
+    void keepsMillionsOfKeysApart() {
+        Map<String, Long> before = counts();
+        int keys = 200_000;
+        for (int sequence = 0; sequence < 2; sequence++) {
+            for (int key = 0; key < keys; key++) {
+                OrderVerifier.verify("many-" + key, "node/stream:" + sequence);
+            }
+        }
+        assertEquals(keys, added(before, "Ordered keys"));
+        assertEquals(0, added(before, "Out of order") + added(before, "Sequence gaps") +
+                added(before, "Redelivered"));
+    }
+
+    @Test
+    void rejectsInvalidStamps() {
+        Map<String, Long> before = counts();
+        assertFalse(OrderVerifier.verify("invalid", null));
+        assertFalse(OrderVerifier.verify("invalid", "node/queue"));
+        assertFalse(OrderVerifier.verify("invalid", "node/queue:sequence"));
+        assertEquals(3, added(before, "Invalid order stamps"));
+        assertEquals(0, added(before, "Ordered records"));
+    }
+
+    /**
+     * Counts of the summary of the verifier.
+     * @return Count by name.
+     */
+    private static Map<String, Long> counts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (String line : OrderVerifier.getSummary().split("\n")) {
+            int idx = line.lastIndexOf(':');
+            counts.put(line.substring(0, idx).trim(), Long.parseLong(line.substring(idx + 1).trim()));
+        }
+        return counts;
+    }
+
+    /**
+     * Count added to the summary of the verifier.
+     * @param before
+     *        Counts before.
+     * @param name
+     *        Count name.
+     * @return Count added.
+     */
+    private static long added(Map<String, Long> before, String name) {
+        return counts().get(name) - before.get(name);
+    }
+}
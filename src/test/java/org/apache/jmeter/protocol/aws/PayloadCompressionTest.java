@@ -0,0 +1,167 @@
+package org.apache.jmeter.protocol.aws;
+
+import com.github.luben.zstd.Zstd;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the frames built by hand by {@link PayloadCompression}, read back with the standard decoders of each
+ * format: {@link GZIPInputStream}, which checks the CRC32 and size of the trailer, {@link LZ4FrameInputStream}, which
+ * checks the header checksum, and Zstandard.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+class PayloadCompressionTest {
+
+    /**
+     * Text payload, compressible.
+     */
+    private static final byte[] TEXT = "{\"orderId\": 42, \"status\": \"shipped\", \"items\": [1, 2, 3]}\n"
+            .repeat(2_000).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void gzipRoundTrip() throws IOException {
+        PayloadCompression gzip = PayloadCompression.of(PayloadCompression.GZIP, PayloadCompression.DEFAULT_LEVEL);
+        for (byte[] payload : payloads()) {
+            assertArrayEquals(payload, gunzip(compress(gzip, payload)));
+        }
+        gzip.close();
+    }
+
+    @Test
+    void lz4RoundTrip() throws IOException {
+        PayloadCompression lz4 = PayloadCompression.of(PayloadCompression.LZ4, PayloadCompression.DEFAULT_LEVEL);
+        for (byte[] payload : payloads()) {
+            assertArrayEquals(payload, unlz4(compress(lz4, payload)));
+        }
+        lz4.close();
+    }
+
+    @Test
+    void lz4RoundTripOfManyBlocks() throws IOException {
+        PayloadCompression lz4 = PayloadCompression.of(PayloadCompression.LZ4, PayloadCompression.DEFAULT_LEVEL);
+        byte[] payload = random(9 * 1024 * 1024 + 17);
+        System.arraycopy(TEXT, 0, payload, 4 * 1024 * 1024, TEXT.length);
+        assertArrayEquals(payload, unlz4(compress(lz4, payload)));
+        lz4.close();
+    }
+
+    @Test
+    void zstdRoundTrip() {
+        PayloadCompression zstd = PayloadCompression.of(PayloadCompression.ZSTD, 3);
+        for (byte[] payload : payloads()) {
+            assertArrayEquals(payload, Zstd.decompress(compress(zstd, payload), payload.length));
+        }
+        zstd.close();
+    }
+
+    @Test
+    void reusesBuffersOfTheThreadForSmallerPayloads() throws IOException {
+        PayloadCompression gzip = PayloadCompression.of(PayloadCompression.GZIP, 9);
+        byte[] large = random(200_000);
+        byte[] small = "small".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(large, gunzip(compress(gzip, large)));
+        assertArrayEquals(small, gunzip(compress(gzip, small)));
+        gzip.close();
+    }
+
+    @Test
+    void encodesCompressedTextInBase64() throws IOException {
+        PayloadCompression gzip = PayloadCompression.of(PayloadCompression.GZIP, PayloadCompression.DEFAULT_LEVEL);
+        String text = new String(TEXT, StandardCharsets.UTF_8);
+        String encoded = gzip.compressToBase64(text);
+        byte[] compressed = Base64.getDecoder().decode(encoded);
+        assertEquals(text, new String(gunzip(compressed), StandardCharsets.UTF_8));
+        assertEquals(String.format(" \nCompression: gzip \nRaw bytes: %d \nCompressed bytes: %d \nSent bytes: %d",
+                TEXT.length, compressed.length, encoded.length()), gzip.getSummary());
+        gzip.release();
+        assertEquals("", gzip.getSummary());
+        gzip.close();
+    }
+
+    @Test
+    void keepsPayloadAsIsWithNone() {
+        PayloadCompression none = PayloadCompression.of("", PayloadCompression.DEFAULT_LEVEL);
+        ByteBuffer payload = ByteBuffer.wrap(TEXT);
+        assertEquals(payload, none.compress(payload));
+        assertEquals("text", none.compressToBase64("text"));
+        assertEquals("", none.getSummary());
+    }
+
+    /**
+     * Payloads of the round trips: empty, one byte, text and random bytes that don't compress.
+     * @return Payloads.
+     */
+    private static byte[][] payloads() {
+        return new byte[][]{new byte[0], new byte[]{42}, TEXT, random(100_000)};
+    }
+
+    /**
+     * Random bytes, the same on every run.
+     * @param size
+     *        Number of bytes.
+     * @return Bytes.
+     */
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Compress a payload and copy it out of the buffers of the thread, which are released.
+     * @param compression
+     *        Payload compression.
+     * @param payload
+     *        Raw payload.
+     * @return Compressed payload.
+     */
+    private static byte[] compress(PayloadCompression compression, byte[] payload) {
+        ByteBuffer compressed = compression.compress(ByteBuffer.wrap(payload));
+        byte[] bytes = new byte[compressed.remaining()];
+        compressed.get(bytes);
+        compression.release();
+        return bytes;
+    }
+
+    /**
+     * Decompress a GZIP member.
+     * @param compressed
+     *        GZIP member.
+     * @return Raw payload.
+     * @throws IOException
+     *         Exception when the member is not valid.
+     */
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Decompress an LZ4 frame.
+     * @param compressed
+     *        LZ4 frame.
+     * @return Raw payload.
+     * @throws IOException
+     *         Exception when the frame is not valid.
+     */
+    private static byte[] unlz4(byte[] compressed) throws IOException {
+        try (InputStream in = new LZ4FrameInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
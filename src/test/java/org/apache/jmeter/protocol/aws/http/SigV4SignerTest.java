@@ -0,0 +1,153 @@
+package org.apache.jmeter.protocol.aws.http;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of {@link SigV4Signer} with the requests of the AWS Signature Version 4 test suite, signed on 2015-08-30 for
+ * <code>us-east-1</code> and the <code>service</code> signing name.
+ * @author JoseLuisSR
+ * @since 10/19/2026
+ * @see "https://github.com/JoseLuisSR/awsmeter"
+ */
+class SigV4SignerTest {
+
+    /**
+     * Credentials of the test suite.
+     */
+    private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("AKIDEXAMPLE",
+            "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+    /**
+     * Signing time of the test suite.
+     */
+    private static final Instant NOW = Instant.parse("2015-08-30T12:36:00Z");
+
+    /**
+     * Signer of the test suite.
+     */
+    private final SigV4Signer signer = new SigV4Signer("us-east-1", "service");
+
+    @Test
+    void getVanilla() {
+        URI uri = URI.create("https://example.amazonaws.com/");
+        assertEquals("GET\n/\n\nhost:example.amazonaws.com\nx-amz-date:20150830T123600Z\n\nhost;x-amz-date\n" +
+                SigV4Signer.EMPTY_PAYLOAD_HASH, signer.canonicalRequest("GET", uri, headers(Map.of()),
+                SigV4Signer.EMPTY_PAYLOAD_HASH));
+        assertEquals(authorization("host;x-amz-date",
+                        "5fa00fa31553b73ebf1942676e86291e8372ff2a2260956d9b8aae1d763fbf31"),
+                sign("GET", uri, Map.of(), SigV4Signer.EMPTY_PAYLOAD_HASH));
+    }
+
+    @Test
+    void getVanillaQueryOrderKeyCase() {
+        URI uri = URI.create("https://example.amazonaws.com/?Param2=value2&Param1=value1");
+        assertEquals("GET\n/\nParam1=value1&Param2=value2\nhost:example.amazonaws.com\n" +
+                "x-amz-date:20150830T123600Z\n\nhost;x-amz-date\n" + SigV4Signer.EMPTY_PAYLOAD_HASH,
+                signer.canonicalRequest("GET", uri, headers(Map.of()), SigV4Signer.EMPTY_PAYLOAD_HASH));
+        assertEquals(authorization("host;x-amz-date",
+                        "b97d918cfa904a5beff61c982a1b6f458b799221646efd99d3219ec94cdf2500"),
+                sign("GET", uri, Map.of(), SigV4Signer.EMPTY_PAYLOAD_HASH));
+    }
+
+    @Test
+    void getUtf8() {
+        URI uri = URI.create("https://example.amazonaws.com/\u1234");
+        assertEquals("GET\n/%E1%88%B4\n\nhost:example.amazonaws.com\nx-amz-date:20150830T123600Z\n\n" +
+                "host;x-amz-date\n" + SigV4Signer.EMPTY_PAYLOAD_HASH,
+                signer.canonicalRequest("GET", uri, headers(Map.of()), SigV4Signer.EMPTY_PAYLOAD_HASH));
+        assertEquals(authorization("host;x-amz-date",
+                        "8318018e0b0f223aa2bbf98705b62bb787dc9c0e678f255a891fd03141be5d85"),
+                sign("GET", uri, Map.of(), SigV4Signer.EMPTY_PAYLOAD_HASH));
+    }
+
+    @Test
+    void getHeaderValueTrim() {
+        URI uri = URI.create("https://example.amazonaws.com/");
+        Map<String, String> headers = Map.of("My-Header1", " value1", "My-Header2", " \"a   b   c\"");
+        assertEquals("GET\n/\n\nhost:example.amazonaws.com\nmy-header1:value1\nmy-header2:\"a b c\"\n" +
+                "x-amz-date:20150830T123600Z\n\nhost;my-header1;my-header2;x-amz-date\n" +
+                SigV4Signer.EMPTY_PAYLOAD_HASH, signer.canonicalRequest("GET", uri, headers(headers),
+                SigV4Signer.EMPTY_PAYLOAD_HASH));
+        assertEquals(authorization("host;my-header1;my-header2;x-amz-date",
+                        "acc3ed3afb60bb290fc8d2dd0098b9911fcaa05412b367055dee359757a9c736"),
+                sign("GET", uri, headers, SigV4Signer.EMPTY_PAYLOAD_HASH));
+    }
+
+    @Test
+    void postXWwwFormUrlencoded() {
+        URI uri = URI.create("https://example.amazonaws.com/");
+        Map<String, String> headers = Map.of("Content-Type", "application/x-www-form-urlencoded");
+        String payloadHash = SigV4Signer.hash("Param1=value1".getBytes(StandardCharsets.UTF_8));
+        assertEquals("9095672bbd1f56dfc5b65f3e153adc8731a4a654192329106275f4c7b24d0b6e", payloadHash);
+        assertEquals("POST\n/\n\ncontent-type:application/x-www-form-urlencoded\nhost:example.amazonaws.com\n" +
+                "x-amz-date:20150830T123600Z\n\ncontent-type;host;x-amz-date\n" + payloadHash,
+                signer.canonicalRequest("POST", uri, headers(headers), payloadHash));
+        assertEquals(authorization("content-type;host;x-amz-date",
+                        "ff11897932ad3f4e8b18135d722051e5ac45fc38421b1da7b9d196a0fe09473a"),
+                sign("POST", uri, headers, payloadHash));
+    }
+
+    @Test
+    void signingKeyDerivedOncePerDay() {
+        URI uri = URI.create("https://example.amazonaws.com/");
+        SigV4Signer other = new SigV4Signer("eu-west-3", "service");
+        long derived = SigV4Signer.getDerivedKeys();
+        other.sign("GET", uri, Map.of(), SigV4Signer.EMPTY_PAYLOAD_HASH, CREDENTIALS, NOW);
+        other.sign("GET", uri, Map.of(), SigV4Signer.EMPTY_PAYLOAD_HASH, CREDENTIALS, NOW.plusSeconds(60));
+        assertEquals(derived + 1, SigV4Signer.getDerivedKeys());
+    }
+
+    /**
+     * Headers signed by the signer for the request headers, with the host and date of the test suite.
+     * @param headers
+     *        Request headers.
+     * @return Headers to sign, with lowercase names and trimmed values.
+     */
+    private static SortedMap<String, String> headers(Map<String, String> headers) {
+        SortedMap<String, String> signed = new TreeMap<>();
+        headers.forEach((name, value) -> signed.put(name.toLowerCase(), value.trim().replaceAll(" +", " ")));
+        signed.put("host", "example.amazonaws.com");
+        signed.put("x-amz-date", "20150830T123600Z");
+        return signed;
+    }
+
+    /**
+     * Sign a request of the test suite.
+     * @param method
+     *        HTTP method.
+     * @param uri
+     *        Request URI.
+     * @param headers
+     *        Request headers, without host and date.
+     * @param payloadHash
+     *        Lowercase hex SHA-256 of the body.
+     * @return Authorization header.
+     */
+    private String sign(String method, URI uri, Map<String, String> headers, String payloadHash) {
+        return signer.sign(method, uri, headers, payloadHash, CREDENTIALS, NOW).get("authorization");
+    }
+
+    /**
+     * Expected authorization header of the test suite.
+     * @param signedHeaders
+     *        Signed header names.
+     * @param signature
+     *        Signature of the test suite.
+     * @return Authorization header.
+     */
+    private static String authorization(String signedHeaders, String signature) {
+        return "AWS4-HMAC-SHA256 Credential=AKIDEXAMPLE/20150830/us-east-1/service/aws4_request, SignedHeaders=" +
+                signedHeaders + ", Signature=" + signature;
+    }
+}